@@ -0,0 +1,123 @@
+package bench;
+
+import logic.MatrizDispersa;
+
+import java.util.Random;
+
+/**
+ * Generadores de sistemas de prueba para los benchmarks. Con la misma
+ * semilla se obtiene siempre la misma matriz.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class Entradas {
+
+    /** Anchos de banda (kl = ku) de la forma {@link Forma#BANDA}. */
+    public static final int ANCHO_BANDA = 4;
+
+    private Entradas() {}
+
+    /**
+     * Formas de matriz que se miden.
+     */
+    public enum Forma {
+        /** Elementos aleatorios uniformes en [-1, 1). */
+        DENSA,
+        /** Densa con diagonal estrictamente dominante (el pivote nunca cambia de fila). */
+        DOMINANTE,
+        /** En banda con kl = ku = {@link #ANCHO_BANDA}. */
+        BANDA,
+        /**
+         * Densa con filas escaladas en [10⁻⁴, 10⁴] y columnas en [10⁻³, 10³]:
+         * número de condición del orden de 10¹⁴ sin llegar a ser singular.
+         */
+        MAL_CONDICIONADA
+    }
+
+    /**
+     * Genera la matriz A (n x n) de la forma indicada.
+     */
+    public static double[][] matriz(Forma forma, int n, long semilla) {
+        Random r = new Random(semilla);
+        double[][] A = new double[n][n];
+        switch (forma) {
+            case DENSA -> {
+                for (double[] fila : A) {
+                    for (int j = 0; j < n; j++) {
+                        fila[j] = r.nextDouble() * 2 - 1;
+                    }
+                }
+            }
+            case DOMINANTE -> {
+                for (int i = 0; i < n; i++) {
+                    double suma = 0;
+                    for (int j = 0; j < n; j++) {
+                        A[i][j] = r.nextDouble() * 2 - 1;
+                        suma += Math.abs(A[i][j]);
+                    }
+                    A[i][i] = suma + 1;
+                }
+            }
+            case BANDA -> {
+                for (int i = 0; i < n; i++) {
+                    int hasta = Math.min(n - 1, i + ANCHO_BANDA);
+                    for (int j = Math.max(0, i - ANCHO_BANDA); j <= hasta; j++) {
+                        A[i][j] = r.nextDouble() * 2 - 1;
+                    }
+                }
+            }
+            case MAL_CONDICIONADA -> {
+                double[] columna = new double[n];
+                for (int j = 0; j < n; j++) {
+                    columna[j] = Math.pow(10, r.nextDouble() * 6 - 3);
+                }
+                for (double[] fila : A) {
+                    double escala = Math.pow(10, r.nextDouble() * 8 - 4);
+                    for (int j = 0; j < n; j++) {
+                        fila[j] = (r.nextDouble() * 2 - 1) * escala * columna[j];
+                    }
+                }
+            }
+        }
+        return A;
+    }
+
+    /**
+     * Término independiente b = A·1, de modo que la solución exacta es x = 1.
+     */
+    public static double[] terminoIndependiente(double[][] A) {
+        double[] b = new double[A.length];
+        for (int i = 0; i < A.length; i++) {
+            double suma = 0;
+            for (double a : A[i]) {
+                suma += a;
+            }
+            b[i] = suma;
+        }
+        return b;
+    }
+
+    /**
+     * Operador de 5 puntos con convección (no simétrico) sobre una malla m x m:
+     * n = m² incógnitas y unos 5 no nulos por fila.
+     */
+    public static MatrizDispersa malla(int m) {
+        int n = m * m;
+        int[] fi = new int[5 * n];
+        int[] cj = new int[5 * n];
+        double[] v = new double[5 * n];
+        int t = 0;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) {
+                int k = i * m + j;
+                fi[t] = k; cj[t] = k; v[t++] = 4.0;
+                if (j > 0)     { fi[t] = k; cj[t] = k - 1; v[t++] = -1.3; }
+                if (j < m - 1) { fi[t] = k; cj[t] = k + 1; v[t++] = -0.7; }
+                if (i > 0)     { fi[t] = k; cj[t] = k - m; v[t++] = -1.0; }
+                if (i < m - 1) { fi[t] = k; cj[t] = k + m; v[t++] = -1.0; }
+            }
+        }
+        return MatrizDispersa.desdeTripletas(n, n, fi, cj, v, t);
+    }
+}
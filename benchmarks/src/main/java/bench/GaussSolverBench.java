@@ -0,0 +1,68 @@
+package bench;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.MotorEliminacion;
+import logic.ResultadoGauss;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link GaussSolver#solveGaussian(double[][], double[], MotorEliminacion)}
+ * por tamaño, forma de la matriz y motor de eliminación.
+ *
+ * Mide el rendimiento (operaciones por segundo) y la distribución de la
+ * latencia (percentiles de {@link Mode#SampleTime}). La tasa de asignación se
+ * obtiene añadiendo {@code -prof gc}. La matriz completa de parámetros es
+ * grande; lo normal es acotarla, por ejemplo:
+ * {@code gradle :benchmarks:jmh -PjmhArgs="GaussSolverBench -p n=64,512 -p motor=clasico -prof gc"}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx6g"})
+public class GaussSolverBench {
+
+    @Param({"4", "8", "16", "32", "64", "128", "256", "512", "1024", "2048", "4096", "8192"})
+    public int n;
+
+    @Param({"DENSA", "DOMINANTE", "BANDA", "MAL_CONDICIONADA"})
+    public Entradas.Forma forma;
+
+    /** Nombre registrado en {@link Motores}. */
+    @Param({"clasico", "bloques", "paralelo"})
+    public String motor;
+
+    private double[][] A;
+    private double[] b;
+    private MotorEliminacion eliminacion;
+
+    @Setup
+    public void preparar() {
+        A = Entradas.matriz(forma, n, 42L + n);
+        b = Entradas.terminoIndependiente(A);
+        eliminacion = Motores.crear(motor);
+    }
+
+    @Benchmark
+    public ResultadoGauss solveGaussian() throws MatrixException {
+        return GaussSolver.solveGaussian(A, b, eliminacion);
+    }
+}
@@ -0,0 +1,128 @@
+package bench;
+
+import exception.InputException;
+import io.ImportadorTexto;
+import logic.Sistema;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de {@link ImportadorTexto#importar(Path)}: velocidad de lectura de
+ * ficheros CSV y MatrixMarket (coordinate) con valores de 17 cifras
+ * significativas, como los que escribe {@link Double#toString(double)}.
+ *
+ * Además de los ficheros por segundo, el contador auxiliar {@code megabytes}
+ * da la velocidad en MB/s (10⁶ bytes por segundo). El análisis se reparte
+ * entre los hilos del pool común; para medir con menos núcleos, por ejemplo:
+ * {@code gradle :benchmarks:jmh -PjmhArgs="ImportadorTextoBench -p n=2000
+ * -jvmArgsAppend -Djava.util.concurrent.ForkJoinPool.common.parallelism=1"}.
+ *
+ * Los ficheros se generan en el directorio temporal al preparar cada
+ * combinación de parámetros y se borran al terminar.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx6g"})
+public class ImportadorTextoBench {
+
+    /** Incógnitas: el CSV de n x (n+1) ocupa unos 24·n² bytes (24 MB con n = 1000). */
+    @Param({"500", "2000", "4000"})
+    public int n;
+
+    @Param({"CSV", "MATRIX_MARKET"})
+    public ImportadorTexto.Formato formato;
+
+    private Path fichero;
+    private long bytes;
+
+    /**
+     * Bytes leídos, que JMH publica como velocidad (MB/s).
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Leidos {
+        public double megabytes;
+    }
+
+    @Setup(Level.Trial)
+    public void preparar() throws IOException {
+        fichero = Files.createTempFile("importador-", formato == ImportadorTexto.Formato.CSV ? ".csv" : ".mtx");
+        Random r = new Random(42L + n);
+        try (BufferedWriter w = Files.newBufferedWriter(fichero, StandardCharsets.US_ASCII)) {
+            if (formato == ImportadorTexto.Formato.CSV) {
+                escribirCsv(w, r);
+            } else {
+                escribirCoordenadas(w, r);
+            }
+        }
+        bytes = Files.size(fichero);
+    }
+
+    @TearDown(Level.Trial)
+    public void borrar() throws IOException {
+        Files.deleteIfExists(fichero);
+    }
+
+    private void escribirCsv(BufferedWriter w, Random r) throws IOException {
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= n; j++) {
+                if (j > 0) {
+                    w.write(',');
+                }
+                w.write(Double.toString(r.nextDouble() * 2 - 1));
+            }
+            w.newLine();
+        }
+    }
+
+    /**
+     * Matriz aumentada n x (n+1) completa en formato coordinate, para comparar
+     * con el CSV a igualdad de valores.
+     */
+    private void escribirCoordenadas(BufferedWriter w, Random r) throws IOException {
+        w.write("%%MatrixMarket matrix coordinate real general");
+        w.newLine();
+        w.write(n + " " + (n + 1) + " " + (long) n * (n + 1));
+        w.newLine();
+        for (int i = 1; i <= n; i++) {
+            for (int j = 1; j <= n + 1; j++) {
+                w.write(i + " " + j + " " + (r.nextDouble() * 2 - 1));
+                w.newLine();
+            }
+        }
+    }
+
+    @Benchmark
+    public Sistema importar(Leidos leidos) throws IOException, InputException {
+        Sistema s = ImportadorTexto.importar(fichero);
+        leidos.megabytes += bytes / 1e6;
+        return s;
+    }
+}
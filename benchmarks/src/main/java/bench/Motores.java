@@ -0,0 +1,47 @@
+package bench;
+
+import logic.EliminacionClasica;
+import logic.EliminacionParalela;
+import logic.EliminacionPorBloques;
+import logic.MotorEliminacion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registro de los motores de eliminación que se miden en los benchmarks.
+ *
+ * Para medir un motor nuevo basta con registrarlo aquí y añadir su nombre al
+ * {@code @Param("motor")} de {@link GaussSolverBench} (o pasarlo en la línea
+ * de comandos con {@code -p motor=nombre}).
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class Motores {
+
+    private static final Map<String, Supplier<MotorEliminacion>> REGISTRO = new LinkedHashMap<>();
+
+    static {
+        REGISTRO.put("clasico", EliminacionClasica::new);
+        REGISTRO.put("bloques", EliminacionPorBloques::new);
+        REGISTRO.put("paralelo", EliminacionParalela::new);
+    }
+
+    private Motores() {}
+
+    /**
+     * Crea el motor registrado con ese nombre.
+     *
+     * @throws IllegalArgumentException Si no hay ningún motor con ese nombre.
+     */
+    public static MotorEliminacion crear(String nombre) {
+        Supplier<MotorEliminacion> fabrica = REGISTRO.get(nombre);
+        if (fabrica == null) {
+            throw new IllegalArgumentException(
+                    "Motor desconocido: " + nombre + ". Disponibles: " + REGISTRO.keySet());
+        }
+        return fabrica.get();
+    }
+}
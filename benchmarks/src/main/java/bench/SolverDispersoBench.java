@@ -0,0 +1,99 @@
+package bench;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.MatrizDispersa;
+import logic.ResultadoGauss;
+import logic.SistemaDisperso;
+import logic.SolverDisperso;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Comparación de la LU dispersa frente a la eliminación densa sobre mallas
+ * m x m con el operador de 5 puntos ({@link Entradas#malla(int)}).
+ *
+ * {@code denso} y {@code disperso} usan la misma malla pequeña; la vía densa
+ * cuesta O(n³) y no se mide con mallas mayores. {@code dispersoGrande} llega a
+ * n = 102400 y compara el orden natural con la ordenación de grado mínimo.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules=jdk.incubator.vector", "-Xmx4g"})
+public class SolverDispersoBench {
+
+    @State(Scope.Benchmark)
+    public static class MallaPequena {
+
+        @Param({"10", "20", "40"})
+        public int m;
+
+        SistemaDisperso sistema;
+        Matriz densa;
+        double[] b;
+
+        @Setup
+        public void preparar() {
+            MatrizDispersa A = Entradas.malla(m);
+            b = new double[A.getFilas()];
+            Arrays.fill(b, 1.0);
+            sistema = new SistemaDisperso(A, b);
+            densa = A.toDensa();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class MallaGrande {
+
+        @Param({"80", "160", "320"})
+        public int mGrande;
+
+        /** Con {@code false} se elimina en el orden natural de la malla (banda de ancho m). */
+        @Param({"true", "false"})
+        public boolean reordenar;
+
+        SistemaDisperso sistema;
+
+        @Setup
+        public void preparar() {
+            MatrizDispersa A = Entradas.malla(mGrande);
+            double[] b = new double[A.getFilas()];
+            Arrays.fill(b, 1.0);
+            sistema = new SistemaDisperso(A, b);
+        }
+    }
+
+    @Benchmark
+    public ResultadoGauss denso(MallaPequena malla) throws MatrixException {
+        return GaussSolver.solveGaussian(malla.densa, malla.b);
+    }
+
+    @Benchmark
+    public ResultadoGauss disperso(MallaPequena malla) throws MatrixException {
+        return SolverDisperso.solve(malla.sistema);
+    }
+
+    @Benchmark
+    public ResultadoGauss dispersoGrande(MallaGrande malla) throws MatrixException {
+        return SolverDisperso.solve(malla.sistema, SolverDisperso.UMBRAL_POR_DEFECTO, malla.reordenar);
+    }
+}
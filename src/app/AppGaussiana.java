@@ -1,41 +1,42 @@
 package app;
 
-import java.awt.event.WindowAdapter;
-import java.awt.event.WindowEvent;
-
-import javax.swing.SwingUtilities;
 import config.LoggerFichero;
-import controller.GaussController;
-import view.VentanaPrincipal;
+import metricas.MetricasSolver;
 
 /**
  * Clase principal para iniciar la aplicación de matrices gaussianas.
- * Ejecuta la interfaz gráfica y el controlador.
+ * Sin argumentos ejecuta la interfaz gráfica y el controlador; con
+ * {@code --batch} resuelve ficheros sin interfaz ({@link ModoBatch}) y con
+ * {@code --servidor} atiende peticiones HTTP ({@link ModoServidor}).
+ * Las métricas del solver se publican por JMX en los modos de larga duración.
  * Realiza el cierre del log al cerrar la ventana.
  *
  * @author Anabel Diaz
- * @version 1.0 - 22/11/2025
+ * @version 1.3 - 17/10/2026
  */
 public class AppGaussiana {
 
 	private static final LoggerFichero log = LoggerFichero.getInstance();
-	
+
     public static void main(String[] args) {
 
+        if (ModoBatch.esModoBatch(args)) {
+            int codigo = ModoBatch.ejecutar(args, System.in, System.out, System.err);
+            log.closeLog();
+            System.exit(codigo);
+        }
+        if (ModoServidor.esModoServidor(args)) {
+            if (ModoServidor.ejecutar(args, System.out, System.err) == null) {
+                log.closeLog();
+                System.exit(ModoBatch.USO_INCORRECTO);
+            }
+            return;
+        }
+
         try {
             log.info("Inicio del sistema");
-            SwingUtilities.invokeLater(() -> {
-                VentanaPrincipal vista = new VentanaPrincipal();
-                new GaussController(vista);
-                vista.addWindowListener(new WindowAdapter() {
-                    @Override
-                    public void windowClosing(WindowEvent e) {
-                        log.info("Cierre de la aplicación - cerrando log");
-                        log.closeLog();
-                    }
-                });
-                vista.setVisible(true);
-            });
+            MetricasSolver.registrarJmx();
+            ModoGrafico.iniciar();
         } catch (Exception e) {
             log.error("Error al inicializar el sistema", e);
             try {
@@ -0,0 +1,355 @@
+package app;
+
+import config.LoggerFichero;
+import exception.InputException;
+import exception.MatrixException;
+import io.EscritorBinario;
+import io.ImportadorTexto;
+import io.LectorBinario;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.ResultadoGauss;
+import logic.Sistema;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Modo sin interfaz gráfica: resuelve los sistemas de un directorio (o el
+ * de la entrada estándar) con un pool de hilos y escribe cada solución en
+ * cuanto termina, junto con una línea de tiempos por fichero.
+ *
+ * <pre>
+ * --batch &lt;entrada&gt; &lt;salida&gt; [--hilos N] [--formato csv|binario]
+ * </pre>
+ * La entrada es un directorio o un fichero, o {@code -} para leer un sistema
+ * de la entrada estándar; los formatos se reconocen por el contenido (binario,
+ * MatrixMarket o CSV, ver {@link ImportadorTexto}). La salida es un directorio,
+ * donde cada {@code nombre.ext} produce {@code nombre.sol.csv} (X, una fila por
+ * incógnita) o {@code nombre.sol.gaus} (resultado completo en
+ * {@link io.FormatoBinario}), o {@code -} para escribir X en CSV por la salida
+ * estándar, precedida de {@code # nombre}. Los tiempos se escriben en la salida
+ * estándar, o en la de errores si la estándar lleva las soluciones.
+ *
+ * Este modo no usa ninguna clase de {@code java.desktop}.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public final class ModoBatch {
+
+    static final String OPCION = "--batch";
+    static final String ESTANDAR = "-";
+
+    /** Códigos de salida: todo correcto, algún fichero con error, uso incorrecto. */
+    public static final int OK = 0;
+    public static final int CON_ERRORES = 1;
+    public static final int USO_INCORRECTO = 2;
+
+    private static final LoggerFichero log = LoggerFichero.getInstance();
+
+    private static final String USO = """
+            Uso: --batch <entrada> <salida> [--hilos N] [--formato csv|binario]
+              entrada   directorio o fichero con sistemas (binario, MatrixMarket o CSV), o - para stdin
+              salida    directorio para las soluciones, o - para escribirlas en stdout (CSV)
+              --hilos   ficheros resueltos a la vez (por defecto, el número de procesadores)
+              --formato csv: nombre.sol.csv con X; binario: nombre.sol.gaus con U, B~ y X""";
+
+    /**
+     * Formato de los ficheros de solución.
+     */
+    public enum FormatoSalida {
+        CSV(".sol.csv"),
+        BINARIO(".sol.gaus");
+
+        private final String extension;
+
+        FormatoSalida(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * Opciones de la línea de órdenes.
+     *
+     * @param salida Directorio de salida, o null para la salida estándar.
+     */
+    record Opciones(String entrada, Path salida, int hilos, FormatoSalida formato) {}
+
+    /**
+     * Resultado de procesar un fichero: dimensiones, tiempos en nanosegundos
+     * y, si se escribe por la salida estándar, la solución en CSV.
+     */
+    private record Informe(String nombre, int n, int k, long leer, long resolver, long escribir,
+                           String solucion, String error) {}
+
+    private ModoBatch() {}
+
+    /**
+     * Indica si los argumentos piden el modo batch.
+     */
+    public static boolean esModoBatch(String[] args) {
+        return args.length > 0 && args[0].equals(OPCION);
+    }
+
+    /**
+     * Ejecuta el modo batch.
+     *
+     * @param args Argumentos, empezando por {@code --batch}.
+     * @param in Entrada estándar (para la entrada {@code -}).
+     * @param out Salida estándar.
+     * @param err Salida de errores.
+     * @return {@link #OK}, {@link #CON_ERRORES} o {@link #USO_INCORRECTO}.
+     */
+    public static int ejecutar(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        System.setProperty("java.awt.headless", "true");
+        Opciones op;
+        try {
+            op = leerOpciones(args);
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USO);
+            return USO_INCORRECTO;
+        }
+
+        Path temporal = null;
+        try {
+            List<Path> ficheros;
+            if (op.entrada().equals(ESTANDAR)) {
+                temporal = Files.createTempFile("gaussiana-stdin", ".tmp");
+                Files.copy(in, temporal, StandardCopyOption.REPLACE_EXISTING);
+                ficheros = List.of(temporal);
+            } else {
+                ficheros = listar(Path.of(op.entrada()));
+            }
+            if (op.salida() != null) {
+                Files.createDirectories(op.salida());
+            }
+            log.info("Modo batch: {} ficheros con {} hilos", ficheros.size(), op.hilos());
+            PrintStream tiempos = op.salida() == null ? err : out;
+            return resolver(ficheros, temporal != null, op, out, tiempos);
+        } catch (IOException ex) {
+            log.error("Error en el modo batch", ex);
+            err.println("Error: " + ex.getMessage());
+            return CON_ERRORES;
+        } finally {
+            if (temporal != null) {
+                try {
+                    Files.deleteIfExists(temporal);
+                } catch (IOException ex) {
+                    log.warn("No se pudo borrar el fichero temporal {}", temporal);
+                }
+            }
+        }
+    }
+
+    static Opciones leerOpciones(String[] args) {
+        List<String> posicionales = new ArrayList<>();
+        int hilos = Runtime.getRuntime().availableProcessors();
+        FormatoSalida formato = FormatoSalida.CSV;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--hilos" -> {
+                    String valor = valor(args, ++i, "--hilos");
+                    try {
+                        hilos = Integer.parseInt(valor);
+                    } catch (NumberFormatException ex) {
+                        hilos = 0;
+                    }
+                    if (hilos < 1) {
+                        throw new IllegalArgumentException("Número de hilos no válido: " + valor);
+                    }
+                }
+                case "--formato" -> {
+                    String valor = valor(args, ++i, "--formato");
+                    formato = switch (valor.toLowerCase(Locale.ROOT)) {
+                        case "csv" -> FormatoSalida.CSV;
+                        case "binario" -> FormatoSalida.BINARIO;
+                        default -> throw new IllegalArgumentException("Formato de salida desconocido: " + valor);
+                    };
+                }
+                default -> {
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Opción desconocida: " + args[i]);
+                    }
+                    posicionales.add(args[i]);
+                }
+            }
+        }
+        if (posicionales.size() != 2) {
+            throw new IllegalArgumentException("Se esperaban una entrada y una salida.");
+        }
+        Path salida = posicionales.get(1).equals(ESTANDAR) ? null : Path.of(posicionales.get(1));
+        if (salida == null && formato == FormatoSalida.BINARIO) {
+            throw new IllegalArgumentException("La salida estándar solo admite el formato csv.");
+        }
+        return new Opciones(posicionales.get(0), salida, hilos, formato);
+    }
+
+    private static String valor(String[] args, int i, String opcion) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Falta el valor de " + opcion + ".");
+        }
+        return args[i];
+    }
+
+    /**
+     * Ficheros regulares no ocultos de un directorio, por nombre, o el propio fichero.
+     */
+    private static List<Path> listar(Path entrada) throws IOException {
+        if (!Files.isDirectory(entrada)) {
+            if (!Files.isRegularFile(entrada)) {
+                throw new IOException("No existe la entrada " + entrada);
+            }
+            return List.of(entrada);
+        }
+        try (Stream<Path> s = Files.list(entrada)) {
+            return s.filter(Files::isRegularFile)
+                    .filter(f -> !f.getFileName().toString().startsWith("."))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Reparte los ficheros en el pool y escribe cada informe según termina.
+     */
+    private static int resolver(List<Path> ficheros, boolean desdeEstandar, Opciones op,
+                                PrintStream out, PrintStream tiempos) {
+        long inicio = System.nanoTime();
+        int errores = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(op.hilos(), hilos())) {
+            CompletionService<Informe> cs = new ExecutorCompletionService<>(pool);
+            for (Path f : ficheros) {
+                String nombre = desdeEstandar ? "stdin" : f.getFileName().toString();
+                cs.submit(() -> procesar(f, nombre, op));
+            }
+            for (int i = 0; i < ficheros.size(); i++) {
+                Informe inf = cs.take().get();
+                if (inf.error() != null) {
+                    errores++;
+                    tiempos.println("ERROR " + inf.nombre() + ": " + inf.error());
+                    continue;
+                }
+                if (inf.solucion() != null) {
+                    out.println("# " + inf.nombre());
+                    out.print(inf.solucion());
+                    out.flush();
+                }
+                tiempos.println(String.format(Locale.ROOT,
+                        "OK    %s  n=%d k=%d  leer %.1f ms  resolver %.1f ms  escribir %.1f ms",
+                        inf.nombre(), inf.n(), inf.k(), ms(inf.leer()), ms(inf.resolver()), ms(inf.escribir())));
+                tiempos.flush();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            tiempos.println("Modo batch interrumpido.");
+            return CON_ERRORES;
+        } catch (ExecutionException ex) {
+            log.error("Error inesperado en el modo batch", ex);
+            tiempos.println("Error inesperado: " + ex.getCause());
+            return CON_ERRORES;
+        }
+        tiempos.println(String.format(Locale.ROOT, "%d ficheros, %d con errores, %.1f ms",
+                ficheros.size(), errores, ms(System.nanoTime() - inicio)));
+        log.info("Modo batch terminado: {} ficheros, {} con errores", ficheros.size(), errores);
+        return errores == 0 ? OK : CON_ERRORES;
+    }
+
+    /**
+     * Lee, resuelve y escribe un fichero. Los sistemas densos (binario y CSV)
+     * se leen como matriz aumentada y se resuelven sobre ella sin copias.
+     */
+    private static Informe procesar(Path fichero, String nombre, Opciones op) {
+        try {
+            long t0 = System.nanoTime();
+            ResultadoGauss r;
+            long t1;
+            ImportadorTexto.Formato formato = ImportadorTexto.detectar(fichero);
+            if (formato == ImportadorTexto.Formato.MATRIX_MARKET) {
+                Sistema sistema = ImportadorTexto.leerMatrixMarket(fichero);
+                t1 = System.nanoTime();
+                r = GaussSolver.solve(sistema);
+            } else {
+                Matriz M = formato == ImportadorTexto.Formato.BINARIO
+                        ? LectorBinario.leerAumentada(fichero)
+                        : ImportadorTexto.leerCsvAumentada(fichero);
+                t1 = System.nanoTime();
+                r = GaussSolver.solveInPlace(M);
+            }
+            long t2 = System.nanoTime();
+
+            Matriz X = r.getMatrizX();
+            String solucion = null;
+            if (op.salida() == null) {
+                StringBuilder sb = new StringBuilder();
+                escribirCsv(X, sb);
+                solucion = sb.toString();
+            } else {
+                Path destino = op.salida().resolve(base(nombre) + op.formato().extension);
+                if (op.formato() == FormatoSalida.BINARIO) {
+                    EscritorBinario.escribir(destino, r);
+                } else {
+                    try (Writer w = Files.newBufferedWriter(destino, StandardCharsets.US_ASCII)) {
+                        escribirCsv(X, w);
+                    }
+                }
+            }
+            long t3 = System.nanoTime();
+            return new Informe(nombre, X.getFilas(), X.getColumnas(), t1 - t0, t2 - t1, t3 - t2, solucion, null);
+        } catch (IOException | InputException | MatrixException | RuntimeException ex) {
+            log.error("Error al resolver {} en modo batch", nombre, ex);
+            return new Informe(nombre, 0, 0, 0, 0, 0, null, ex.getMessage());
+        }
+    }
+
+    /**
+     * Escribe X en CSV, una fila por incógnita y una columna por término independiente.
+     */
+    private static void escribirCsv(Matriz X, Appendable a) throws IOException {
+        for (int i = 0; i < X.getFilas(); i++) {
+            for (int j = 0; j < X.getColumnas(); j++) {
+                if (j > 0) {
+                    a.append(',');
+                }
+                a.append(Double.toString(X.get(i, j)));
+            }
+            a.append('\n');
+        }
+    }
+
+    private static String base(String nombre) {
+        int punto = nombre.lastIndexOf('.');
+        return punto > 0 ? nombre.substring(0, punto) : nombre;
+    }
+
+    private static double ms(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static ThreadFactory hilos() {
+        AtomicInteger contador = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "gauss-batch-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
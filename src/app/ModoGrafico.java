@@ -0,0 +1,41 @@
+package app;
+
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+
+import javax.swing.SwingUtilities;
+import config.LoggerFichero;
+import controller.GaussController;
+import view.VentanaPrincipal;
+
+/**
+ * Arranque de la interfaz gráfica: crea la ventana y el controlador y
+ * cierra el log al cerrar la ventana.
+ *
+ * Está separada de {@link AppGaussiana} para que el modo batch no cargue
+ * ninguna clase de AWT ni de Swing.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class ModoGrafico {
+
+	private static final LoggerFichero log = LoggerFichero.getInstance();
+
+    private ModoGrafico() {}
+
+    static void iniciar() {
+        SwingUtilities.invokeLater(() -> {
+            VentanaPrincipal vista = new VentanaPrincipal();
+            new GaussController(vista);
+            vista.addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowClosing(WindowEvent e) {
+                    log.info("Cierre de la aplicación - cerrando log");
+                    log.closeLog();
+                }
+            });
+            vista.setVisible(true);
+        });
+    }
+}
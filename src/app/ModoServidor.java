@@ -0,0 +1,133 @@
+package app;
+
+import config.LoggerFichero;
+import metricas.MetricasSolver;
+import servidor.ServidorGauss;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+
+/**
+ * Modo servicio: arranca {@link ServidorGauss} y atiende peticiones hasta que
+ * se detiene el proceso. Como el modo batch, no usa {@code java.desktop}.
+ * Las métricas del solver se publican también por JMX.
+ *
+ * <pre>
+ * --servidor [--puerto N] [--host H] [--concurrentes N] [--max-mb N] [--espera-ms N] [--lectura-ms N]
+ * </pre>
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+public final class ModoServidor {
+
+    static final String OPCION = "--servidor";
+
+    private static final LoggerFichero log = LoggerFichero.getInstance();
+
+    private static final String USO = """
+            Uso: --servidor [--puerto N] [--host H] [--concurrentes N] [--max-mb N] [--espera-ms N] [--lectura-ms N]
+              --puerto        puerto de escucha (por defecto 8080; 0 elige uno libre)
+              --host          interfaz de escucha (por defecto, solo la local)
+              --concurrentes  peticiones resueltas a la vez (por defecto, 2 por procesador
+                              si caben en la memoria)
+              --max-mb        tamaño máximo del cuerpo de una petición en MB (por defecto,
+                              hasta 64 según la memoria)
+              --espera-ms     espera por un turno antes de responder 503 (por defecto 100)
+              --lectura-ms    tiempo para recibir el cuerpo antes de responder 408
+                              (por defecto 30000)""";
+
+    private ModoServidor() {}
+
+    /**
+     * Indica si los argumentos piden el modo servidor.
+     */
+    public static boolean esModoServidor(String[] args) {
+        return args.length > 0 && args[0].equals(OPCION);
+    }
+
+    /**
+     * Arranca el servidor y vuelve; los hilos del servidor mantienen vivo el
+     * proceso. Al terminar el proceso se detiene el servidor y se cierra el log.
+     *
+     * @return El servidor arrancado, o null si los argumentos no son válidos o
+     *         no se pudo abrir el puerto (el motivo se escribe en err).
+     */
+    public static ServidorGauss ejecutar(String[] args, PrintStream out, PrintStream err) {
+        System.setProperty("java.awt.headless", "true");
+        ServidorGauss.Configuracion conf;
+        try {
+            conf = leerOpciones(args);
+        } catch (IllegalArgumentException ex) {
+            err.println(ex.getMessage());
+            err.println(USO);
+            return null;
+        }
+        try {
+            ServidorGauss servidor = ServidorGauss.iniciar(conf);
+            MetricasSolver.registrarJmx();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                servidor.detener(2);
+                log.closeLog();
+            }, "gauss-servidor-parada"));
+            out.println("Servidor escuchando en http://" + conf.direccion().getHostString() + ":"
+                    + servidor.getPuerto() + " (POST /solve, POST /solveBatch, GET /metrics)");
+            return servidor;
+        } catch (IOException ex) {
+            log.error("No se pudo arrancar el servidor", ex);
+            err.println("Error: no se pudo arrancar el servidor: " + ex.getMessage());
+            return null;
+        }
+    }
+
+    static ServidorGauss.Configuracion leerOpciones(String[] args) {
+        ServidorGauss.Configuracion def = ServidorGauss.Configuracion.porDefecto(8080);
+        String host = def.direccion().getHostString();
+        int puerto = def.direccion().getPort();
+        int concurrentes = def.maxConcurrentes();
+        long maxBytes = def.maxBytes();
+        long esperaMs = def.esperaMs();
+        long lecturaMs = def.lecturaMs();
+        for (int i = 1; i < args.length; i++) {
+            String opcion = args[i];
+            switch (opcion) {
+                case "--host" -> host = valor(args, ++i, opcion);
+                case "--puerto" -> {
+                    long v = numero(args, ++i, opcion);
+                    if (v > 65535) {
+                        throw new IllegalArgumentException("Puerto no válido: " + v);
+                    }
+                    puerto = (int) v;
+                }
+                case "--concurrentes" -> concurrentes = (int) Math.min(Math.max(1, numero(args, ++i, opcion)), 1 << 16);
+                case "--max-mb" -> maxBytes = Math.min(Math.max(1, numero(args, ++i, opcion)), 2047) << 20;
+                case "--espera-ms" -> esperaMs = numero(args, ++i, opcion);
+                case "--lectura-ms" -> lecturaMs = Math.max(1, numero(args, ++i, opcion));
+                default -> throw new IllegalArgumentException("Opción desconocida: " + opcion);
+            }
+        }
+        return new ServidorGauss.Configuracion(new InetSocketAddress(host, puerto), concurrentes, maxBytes, esperaMs,
+                lecturaMs);
+    }
+
+    private static String valor(String[] args, int i, String opcion) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Falta el valor de " + opcion + ".");
+        }
+        return args[i];
+    }
+
+    private static long numero(String[] args, int i, String opcion) {
+        String valor = valor(args, i, opcion);
+        try {
+            long v = Long.parseLong(valor);
+            if (v >= 0) {
+                return v;
+            }
+        } catch (NumberFormatException ex) {
+            // se informa abajo
+        }
+        throw new IllegalArgumentException("Valor no válido para " + opcion + ": " + valor);
+    }
+}
@@ -0,0 +1,127 @@
+package config;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Cola acotada sin bloqueos para varios productores y un único consumidor
+ * (MPSC), sobre un anillo de tamaño potencia de dos.
+ *
+ * Cada posición lleva un número de secuencia que indica si está libre para el
+ * productor de la vuelta actual o ya contiene un elemento para el consumidor.
+ * Los productores reservan posición con un CAS sobre la cola; el consumidor
+ * avanza la cabeza sin sincronización porque es el único que la modifica.
+ *
+ * @param <T> Tipo de los elementos.
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class AnilloMPSC<T> {
+
+    private final Object[] elementos;
+    private final AtomicLongArray secuencia;
+    private final int mascara;
+    private final AtomicLong cola = new AtomicLong();   // siguiente posición a escribir
+    private volatile long cabeza;                       // siguiente posición a leer (solo el consumidor)
+
+    /**
+     * Crea el anillo con la capacidad indicada, redondeada a la siguiente
+     * potencia de dos.
+     *
+     * @param capacidad Número mínimo de elementos (mayor que cero).
+     */
+    public AnilloMPSC(int capacidad) {
+        if (capacidad <= 0 || capacidad > (1 << 30)) {
+            throw new IllegalArgumentException("Capacidad no válida: " + capacidad);
+        }
+        int tam = Integer.highestOneBit(capacidad);
+        if (tam < capacidad) {
+            tam <<= 1;
+        }
+        this.elementos = new Object[tam];
+        this.secuencia = new AtomicLongArray(tam);
+        this.mascara = tam - 1;
+        for (int i = 0; i < tam; i++) {
+            secuencia.set(i, i);
+        }
+    }
+
+    /**
+     * Añade un elemento si hay sitio. Puede llamarse desde cualquier hilo.
+     *
+     * @param e El elemento (no nulo).
+     * @return false si el anillo está lleno.
+     */
+    public boolean offer(T e) {
+        long pos = cola.get();
+        while (true) {
+            int idx = (int) pos & mascara;
+            long dif = secuencia.get(idx) - pos;
+            if (dif == 0) {
+                if (cola.compareAndSet(pos, pos + 1)) {
+                    elementos[idx] = e;
+                    secuencia.set(idx, pos + 1);   // publica el elemento
+                    return true;
+                }
+                pos = cola.get();
+            } else if (dif < 0) {
+                return false;   // la posición aún no la ha liberado el consumidor
+            } else {
+                pos = cola.get();   // otro productor se adelantó
+            }
+        }
+    }
+
+    /**
+     * Extrae el elemento más antiguo. Solo debe llamarlo el hilo consumidor.
+     *
+     * @return El elemento, o null si no hay ninguno publicado.
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long pos = cabeza;
+        int idx = (int) pos & mascara;
+        if (secuencia.get(idx) != pos + 1) {
+            return null;
+        }
+        T e = (T) elementos[idx];
+        elementos[idx] = null;
+        secuencia.lazySet(idx, pos + elementos.length);   // libre para la siguiente vuelta
+        cabeza = pos + 1;
+        return e;
+    }
+
+    /**
+     * Extrae hasta {@code max} elementos y los pasa a {@code destino}.
+     * Solo debe llamarlo el hilo consumidor.
+     *
+     * @return El número de elementos extraídos.
+     */
+    public int drenar(Consumer<? super T> destino, int max) {
+        int n = 0;
+        T e;
+        while (n < max && (e = poll()) != null) {
+            destino.accept(e);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Número aproximado de elementos en el anillo (exacto si no hay
+     * operaciones concurrentes).
+     */
+    public int size() {
+        long n = cola.get() - cabeza;
+        return (int) Math.max(0, Math.min(n, elementos.length));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacidad() {
+        return elementos.length;
+    }
+}
@@ -0,0 +1,48 @@
+package config;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * Formateador de marcas de tiempo para el log con el formato de
+ * {@link LocalDateTime#toString()} a milisegundos ({@code 2026-10-17T10:15:30.123}).
+ *
+ * La parte hasta los segundos se calcula una vez por segundo y se reutiliza;
+ * los milisegundos se escriben a mano. No es seguro entre hilos: cada
+ * escritor usa el suyo.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class FormatoFecha {
+
+    private final ZoneId zona = ZoneId.systemDefault();
+    private long segundoCacheado = Long.MIN_VALUE;
+    private String prefijo = "";   // "yyyy-MM-ddTHH:mm:ss" del segundo cacheado
+
+    /**
+     * Añade a sb la marca de tiempo del instante dado en milisegundos desde la época.
+     */
+    void formatear(long epochMillis, StringBuilder sb) {
+        long segundo = Math.floorDiv(epochMillis, 1000);
+        if (segundo != segundoCacheado) {
+            ZoneOffset desfase = zona.getRules().getOffset(Instant.ofEpochSecond(segundo));
+            LocalDateTime t = LocalDateTime.ofEpochSecond(segundo, 0, desfase);
+            // toString() omite los segundos cuando son cero
+            prefijo = String.format("%04d-%02d-%02dT%02d:%02d:%02d", t.getYear(), t.getMonthValue(),
+                    t.getDayOfMonth(), t.getHour(), t.getMinute(), t.getSecond());
+            segundoCacheado = segundo;
+        }
+        int ms = Math.floorMod(epochMillis, 1000);
+        sb.append(prefijo).append('.');
+        if (ms < 100) {
+            sb.append('0');
+        }
+        if (ms < 10) {
+            sb.append('0');
+        }
+        sb.append(ms);
+    }
+}
@@ -4,19 +4,88 @@ package config;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.io.IOException;
-import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
 
 
 /**
- * Clase que implementa un logger en un fichero de texto
-
+ * Clase que implementa un logger en un fichero de texto.
+ *
+ * En modo asíncrono (el modo por defecto) las llamadas a info/warn/error solo
+ * dejan la línea en un {@link AnilloMPSC}; un hilo escritor la vuelca al fichero
+ * por lotes y hace flush cada {@code lote} líneas o cada {@code intervalo}
+ * milisegundos, de modo que el hilo que registra no hace llamadas al sistema.
+ * Si la cola se llena, según la política la línea se descarta o el hilo espera
+ * a que haya sitio. En modo síncrono se escribe y se hace flush en cada línea.
+ *
+ * Solo se registran los mensajes de nivel igual o superior al configurado; el
+ * resto se descarta con una única comprobación. Para que un mensaje desactivado
+ * no cueste nada se puede pasar como {@link Supplier} o como plantilla con
+ * {@code {}} y argumentos. En modo asíncrono la plantilla se rellena más tarde,
+ * en el hilo escritor: un argumento mutable aparece con el estado que tenga al
+ * escribirse, no al registrarse, así que los argumentos no deben modificarse
+ * después de la llamada. Si el {@code toString()} de un argumento lanza una
+ * excepción, se escribe la plantilla con una marca en lugar de los argumentos
+ * y el escritor sigue con las líneas siguientes.
+ *
+ * La configuración se lee de las propiedades del sistema:
+ * <ul>
+ *   <li>{@code gaussiana.log.nivel}: {@code debug}, {@code info} (por defecto),
+ *       {@code warn}, {@code error} u {@code off}.</li>
+ *   <li>{@code gaussiana.log.modo}: {@code asincrono} o {@code sincrono}.</li>
+ *   <li>{@code gaussiana.log.capacidad}: líneas en cola (por defecto 8192).</li>
+ *   <li>{@code gaussiana.log.politica}: {@code bloquear} o {@code descartar}.</li>
+ *   <li>{@code gaussiana.log.lote}: líneas por flush (por defecto 256).</li>
+ *   <li>{@code gaussiana.log.intervaloMs}: tiempo máximo sin flush (por defecto 200).</li>
+ * </ul>
+ *
  * @author Anabel Diaz
- * @version 2.0 - 22/11/2025
+ * @version 3.5 - 17/10/2026
  */
 public class LoggerFichero {
-    
-    private static LoggerFichero log ;
+
+    /** Niveles de log, de menor a mayor gravedad. OFF no registra nada. */
+    public enum Nivel { DEBUG, INFO, WARN, ERROR, OFF }
+
+    /** Modo de escritura. */
+    public enum Modo { SINCRONO, ASINCRONO }
+
+    /** Qué hacer cuando la cola del modo asíncrono está llena. */
+    public enum PoliticaLlena { DESCARTAR, BLOQUEAR }
+
+    private static final int CAPACIDAD_POR_DEFECTO = 8192;
+    private static final int LOTE_POR_DEFECTO = 256;
+    private static final long INTERVALO_POR_DEFECTO_MS = 200;
+
+    /** Inicialización perezosa y segura entre hilos (idiom del holder). */
+    private static final class Holder {
+        private static final LoggerFichero INSTANCIA = new LoggerFichero();
+    }
+
     private BufferedWriter buffer;
+    private final Modo modo;
+    private final PoliticaLlena politica;
+    private final int lote;
+    private final long intervaloNanos;
+    private final AnilloMPSC<Entrada> cola;
+    private final Thread escritor;
+    private final AtomicLong descartadas = new AtomicLong();
+    private final FormatoFecha formatoFecha = new FormatoFecha();
+    private final StringBuilder linea = new StringBuilder(256);   // solo el hilo que escribe
+    private char[] caracteres = new char[256];
+    private volatile Nivel nivel;
+    private volatile boolean activo = true;
+    private volatile boolean escritorEsperando;
+
+    /**
+     * Línea pendiente de escribir. La marca de tiempo se toma al registrarla;
+     * la plantilla se rellena con args (si los hay) y el mensaje de la
+     * excepción al escribirla.
+     */
+    private record Entrada(long instante, Nivel nivel, String msg, Object[] args, Exception error) {}
 
     private LoggerFichero() {
         try {
@@ -26,44 +95,366 @@ public class LoggerFichero {
         } catch (IOException ex) {
             System.err.println("Error al crear el fichero de log: " + ex.getMessage());
         }
+
+        nivel = leerNivel(System.getProperty("gaussiana.log.nivel"));
+        modo = "sincrono".equalsIgnoreCase(System.getProperty("gaussiana.log.modo"))
+                ? Modo.SINCRONO : Modo.ASINCRONO;
+        politica = "descartar".equalsIgnoreCase(System.getProperty("gaussiana.log.politica"))
+                ? PoliticaLlena.DESCARTAR : PoliticaLlena.BLOQUEAR;
+        lote = Math.max(1, Integer.getInteger("gaussiana.log.lote", LOTE_POR_DEFECTO));
+        intervaloNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.max(1, Long.getLong("gaussiana.log.intervaloMs", INTERVALO_POR_DEFECTO_MS)));
+
+        if (modo == Modo.ASINCRONO) {
+            cola = new AnilloMPSC<>(Math.max(lote,
+                    Integer.getInteger("gaussiana.log.capacidad", CAPACIDAD_POR_DEFECTO)));
+            escritor = new Thread(this::bucleEscritor, "LoggerFichero-escritor");
+            escritor.setDaemon(true);
+            escritor.start();
+            // Lo que quede en la cola se escribe aunque nadie llame a closeLog
+            Runtime.getRuntime().addShutdownHook(new Thread(this::closeLog, "LoggerFichero-cierre"));
+        } else {
+            cola = null;
+            escritor = null;
+        }
     }
 
 
     public static LoggerFichero getInstance() {
-        if(null == log) {
-            log = new LoggerFichero();
+        return Holder.INSTANCIA;
+    }
+
+    public void debug(String msg) {
+        log(Nivel.DEBUG, msg, null, null);
+    }
+
+    public void debug(Supplier<String> msg) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, msg.get(), null, null);
         }
-        return log;
+    }
+
+    public void debug(String plantilla, Object arg) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, plantilla, new Object[]{arg}, null);
+        }
+    }
+
+    public void debug(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, plantilla, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    public void debug(String plantilla, Object... args) {
+        log(Nivel.DEBUG, plantilla, args, null);
     }
 
     public void info(String msg) {
-        writeLog("INFO", msg);
+        log(Nivel.INFO, msg, null, null);
+    }
+
+    public void info(Supplier<String> msg) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, msg.get(), null, null);
+        }
+    }
+
+    public void info(String plantilla, Object arg) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, plantilla, new Object[]{arg}, null);
+        }
+    }
+
+    public void info(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, plantilla, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    public void info(String plantilla, Object... args) {
+        log(Nivel.INFO, plantilla, args, null);
+    }
+
+    public void warn(String msg) {
+    	log(Nivel.WARN, msg, null, null);
+    }
+
+    public void warn(Supplier<String> msg) {
+        if (isEnabled(Nivel.WARN)) {
+            log(Nivel.WARN, msg.get(), null, null);
+        }
+    }
+
+    public void warn(String plantilla, Object arg) {
+        if (isEnabled(Nivel.WARN)) {
+            log(Nivel.WARN, plantilla, new Object[]{arg}, null);
+        }
+    }
+
+    public void warn(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.WARN)) {
+            log(Nivel.WARN, plantilla, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    public void warn(String plantilla, Object... args) {
+        log(Nivel.WARN, plantilla, args, null);
     }
 
     public void error(String msg) {
-        writeLog("ERROR", msg);
+        log(Nivel.ERROR, msg, null, null);
     }
 
     public void error(String msg, Exception e) {
-        writeLog("ERROR", msg + " - " + e.getMessage());
+        log(Nivel.ERROR, msg, null, e);
     }
-    
-    public void warn(String msg) {
-    	writeLog("WARN", msg);
+
+    public void error(String plantilla, Object arg, Exception e) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, plantilla, new Object[]{arg}, e);
+        }
+    }
+
+    public void error(Supplier<String> msg) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, msg.get(), null, null);
+        }
+    }
+
+    public void error(String plantilla, Object arg) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, plantilla, new Object[]{arg}, null);
+        }
+    }
+
+    public void error(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, plantilla, new Object[]{arg1, arg2}, null);
+        }
+    }
+
+    public void error(String plantilla, Object... args) {
+        log(Nivel.ERROR, plantilla, args, null);
     }
 
-    private void writeLog(String level, String msg) {
-        String linea = LocalDateTime.now() + " [" + level + "] " + msg;
+    /**
+     * Indica si se registran los mensajes del nivel dado.
+     */
+    public boolean isEnabled(Nivel n) {
+        return n.compareTo(nivel) >= 0 && n != Nivel.OFF;
+    }
+
+    public Nivel getNivel() {
+        return nivel;
+    }
+
+    /**
+     * Cambia el nivel mínimo que se registra (efecto inmediato en todos los hilos).
+     */
+    public void setNivel(Nivel nivel) {
+        this.nivel = nivel == null ? Nivel.INFO : nivel;
+    }
+
+    public Modo getModo() {
+        return modo;
+    }
+
+    /**
+     * Líneas descartadas por tener la cola llena (política DESCARTAR) o por
+     * registrarse después de cerrar el log.
+     */
+    public long getDescartadas() {
+        return descartadas.get();
+    }
+
+    private void log(Nivel n, String msg, Object[] args, Exception error) {
+        if (!isEnabled(n)) {
+            return;
+        }
+        Entrada entrada = new Entrada(System.currentTimeMillis(), n, msg, args, error);
+        if (cola == null) {
+            synchronized (this) {
+                escribir(entrada);
+                flush();
+            }
+            return;
+        }
+        encolar(entrada);
+    }
+
+    /**
+     * Deja la entrada en la cola aplicando la política de cola llena.
+     */
+    private void encolar(Entrada entrada) {
+        if (!activo) {
+            descartadas.incrementAndGet();
+            return;
+        }
+        int intentos = 0;
+        while (!cola.offer(entrada)) {
+            if (politica == PoliticaLlena.DESCARTAR || !activo) {
+                descartadas.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(escritor);
+            if (++intentos < 64) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(50_000);
+            }
+        }
+        // Solo se despierta al escritor cuando hay un lote completo
+        if (escritorEsperando && cola.size() >= lote) {
+            LockSupport.unpark(escritor);
+        }
+    }
+
+    /**
+     * Hilo escritor: vacía la cola por lotes y hace flush por tamaño o por tiempo.
+     */
+    private void bucleEscritor() {
+        int pendientes = 0;
+        long ultimoFlush = System.nanoTime();
+        while (activo || !cola.isEmpty()) {
+            int escritas = cola.drenar(this::escribir, lote);
+            pendientes += escritas;
+
+            long ahora = System.nanoTime();
+            if (pendientes >= lote || (pendientes > 0 && ahora - ultimoFlush >= intervaloNanos)) {
+                flush();
+                pendientes = 0;
+                ultimoFlush = ahora;
+            }
+
+            if (escritas == 0) {
+                escritorEsperando = true;
+                if (cola.isEmpty() && activo) {
+                    long espera = pendientes > 0 ? intervaloNanos - (ahora - ultimoFlush) : intervaloNanos;
+                    LockSupport.parkNanos(this, Math.max(espera, 1));
+                }
+                escritorEsperando = false;
+            }
+        }
+        // Solo el escritor toca el buffer en modo asíncrono, así que lo cierra él
+        // al terminar, aunque closeLog haya dejado de esperarlo
+        cerrarBuffer();
+    }
+
+    /**
+     * Escribe la entrada en el buffer. Solo lo llama un hilo a la vez (el
+     * escritor, o el llamador con el monitor en modo síncrono). Una excepción
+     * al formatear los argumentos o el error no sale de aquí: el escritor no
+     * puede morir por un {@code toString()} ajeno.
+     */
+    private void escribir(Entrada e) {
+        if (buffer == null) {
+            return;
+        }
+        StringBuilder sb = linea;
+        sb.setLength(0);
+        formatoFecha.formatear(e.instante(), sb);
+        sb.append(" [").append(e.nivel().name()).append("] ");
+        int inicioMensaje = sb.length();
+        try {
+            if (e.args() == null) {
+                sb.append(e.msg());
+            } else {
+                rellenar(sb, e.msg(), e.args());
+            }
+            if (e.error() != null) {
+                sb.append(" - ").append(e.error().getMessage());
+            }
+        } catch (RuntimeException ex) {
+            sb.setLength(inicioMensaje);
+            sb.append(e.msg()).append(" [no se pudo formatear: ").append(ex.getClass().getName()).append(']');
+        }
+
+        int len = sb.length();
+        if (caracteres.length < len) {
+            caracteres = new char[Math.max(len, 2 * caracteres.length)];
+        }
+        sb.getChars(0, len, caracteres, 0);
         try {
-            buffer.write(linea);
+            buffer.write(caracteres, 0, len);
             buffer.newLine();
+        } catch (IOException ex) {
+            System.err.println("Error al escribir en el fichero de log: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Sustituye cada {@code {}} de la plantilla por el siguiente argumento.
+     * Los huecos sin argumento se dejan tal cual.
+     */
+    private static void rellenar(StringBuilder sb, String plantilla, Object[] args) {
+        if (plantilla == null) {
+            sb.append((String) null);
+            return;
+        }
+        int desde = 0;
+        int a = 0;
+        int hueco;
+        while (a < args.length && (hueco = plantilla.indexOf("{}", desde)) >= 0) {
+            sb.append(plantilla, desde, hueco).append(args[a++]);
+            desde = hueco + 2;
+        }
+        sb.append(plantilla, desde, plantilla.length());
+    }
+
+    private static Nivel leerNivel(String valor) {
+        if (valor == null) {
+            return Nivel.INFO;
+        }
+        try {
+            return Nivel.valueOf(valor.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            System.err.println("Nivel de log desconocido: " + valor + ". Se usa INFO.");
+            return Nivel.INFO;
+        }
+    }
+
+    private void flush() {
+        if (buffer == null) {
+            return;
+        }
+        try {
             buffer.flush();
         } catch (IOException ex) {
             System.err.println("Error al escribir en el fichero de log: " + ex.getMessage());
         }
     }
-    
+
+    /**
+     * Cierra el log. En modo asíncrono espera hasta 5 s a que el escritor vacíe
+     * la cola y cierre el fichero; si no termina a tiempo, lo cerrará él al
+     * acabar. Las líneas registradas después del cierre se descartan, también
+     * las que llegan a la cola cuando el escritor ya ha salido.
+     */
     public void closeLog() {
+        if (escritor == null) {
+            synchronized (this) {
+                cerrarBuffer();
+            }
+            return;
+        }
+        activo = false;
+        LockSupport.unpark(escritor);
+        if (Thread.currentThread() == escritor) {
+            return;
+        }
+        try {
+            escritor.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (!escritor.isAlive()) {
+            // Sin escritor, este hilo es el único consumidor de la cola
+            descartadas.addAndGet(cola.drenar(e -> {}, Integer.MAX_VALUE));
+        }
+    }
+
+    private void cerrarBuffer() {
         try {
             if (buffer != null) {
                 buffer.close();
@@ -73,4 +464,3 @@ public class LoggerFichero {
         }
     }
 }
-
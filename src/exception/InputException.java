@@ -4,11 +4,40 @@ package exception;
  * Excepción personalizada para errores relacionados con la entrada de datos.
  *
  * @author Anabel Diaz
- * @version 1.0 - 22/11/2025
+ * @version 1.1 - 17/10/2026
  */
 public class InputException extends Exception {
 
+    private final long linea;
+    private final int columna;
+
 	public InputException(String message) {
         super(message);
+        this.linea = -1;
+        this.columna = -1;
+    }
+
+    /**
+     * Error en una posición de un fichero de texto. El mensaje empieza por la
+     * línea y la columna, ambas contadas desde 1.
+     */
+    public InputException(String message, long linea, int columna) {
+        super("Línea " + linea + ", columna " + columna + ": " + message);
+        this.linea = linea;
+        this.columna = columna;
+    }
+
+    /**
+     * Línea del fichero donde está el error (desde 1), o -1 si no se conoce.
+     */
+    public long getLinea() {
+        return linea;
+    }
+
+    /**
+     * Columna (carácter desde 1) donde empieza el dato erróneo, o -1 si no se conoce.
+     */
+    public int getColumna() {
+        return columna;
     }
 }
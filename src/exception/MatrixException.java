@@ -2,14 +2,42 @@ package exception;
 
 /**
  * Excepción personalizada para errores relacionados con matrices.
+ * Lleva la causa del fallo para poder contarlos por tipo.
  *
  * @author Anabel Diaz
- * @version 1.0 - 22/11/2025
+ * @version 1.1 - 17/10/2026
  */
 public class MatrixException extends Exception {
-	
+
+    /** Motivo del fallo. */
+    public enum Causa {
+        /** Datos nulos, vacíos o de dimensiones incompatibles. */
+        DATOS_NO_VALIDOS,
+        /** Una fila de A es completamente nula (factor de escala 0). */
+        FILA_NULA,
+        /** Un pivote casi nulo durante la eliminación. */
+        PIVOTE_NULO,
+        /** U tiene una fila nula con término independiente nulo: infinitas soluciones. */
+        SINGULAR,
+        /** U tiene una fila nula con término independiente no nulo: sin solución. */
+        INCOMPATIBLE
+    }
+
+    private final Causa causa;
+
     public MatrixException(String message) {
+        this(message, Causa.DATOS_NO_VALIDOS);
+    }
+
+    public MatrixException(String message, Causa causa) {
         super(message);
+        this.causa = causa;
+    }
+
+    /**
+     * Motivo del fallo.
+     */
+    public Causa getCausa() {
+        return causa;
     }
-    
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package io;
+
+import logic.Matriz;
+import logic.ResultadoGauss;
+import logic.Sistema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Escritura de sistemas y resultados en {@link FormatoBinario}, en el orden
+ * de bytes de la máquina. El fichero se proyecta en memoria y cada fila se
+ * copia en bloque desde las matrices.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public final class EscritorBinario {
+
+    private EscritorBinario() {}
+
+    /**
+     * Escribe el sistema como [A | B]. Un sistema sin términos independientes
+     * se escribe con k = 0.
+     */
+    public static void escribir(Path ruta, Sistema sistema) throws IOException {
+        Matriz A = sistema.getMatriz();
+        Matriz B = sistema.getMatrizB();
+        if (B == null) {
+            escribir(ruta, FormatoBinario.CONTENIDO_SISTEMA, 0, A);
+        } else {
+            escribir(ruta, FormatoBinario.CONTENIDO_SISTEMA, B.getColumnas(), A, B);
+        }
+    }
+
+    /**
+     * Escribe el resultado como [U | B̃ | X].
+     */
+    public static void escribir(Path ruta, ResultadoGauss resultado) throws IOException {
+        escribir(ruta, FormatoBinario.CONTENIDO_RESULTADO, resultado.getNumTerminos(),
+                resultado.getMatrizU(), resultado.getMatrizBMod(), resultado.getMatrizX());
+    }
+
+    /**
+     * Escribe el resultado como [U | B̃ | X] en un flujo (por ejemplo, la
+     * respuesta de una petición), fila a fila. No cierra el flujo.
+     */
+    public static void escribir(OutputStream out, ResultadoGauss resultado) throws IOException {
+        Matriz[] bloques = {resultado.getMatrizU(), resultado.getMatrizBMod(), resultado.getMatrizX()};
+        int n = bloques[0].getFilas();
+        FormatoBinario.Cabecera c = new FormatoBinario.Cabecera(n, resultado.getNumTerminos(),
+                FormatoBinario.CONTENIDO_RESULTADO, ByteOrder.nativeOrder());
+
+        ByteBuffer cabecera = ByteBuffer.allocate(FormatoBinario.TAM_CABECERA);
+        FormatoBinario.escribirCabecera(cabecera, c);
+        out.write(cabecera.array());
+
+        ByteBuffer fila = ByteBuffer.allocate((int) (c.columnas() * Double.BYTES)).order(c.orden());
+        DoubleBuffer d = fila.asDoubleBuffer();
+        for (int i = 0; i < n; i++) {
+            d.clear();
+            for (Matriz b : bloques) {
+                d.put(b.getDatos(), i * b.getLd(), b.getColumnas());
+            }
+            out.write(fila.array());
+        }
+    }
+
+    /**
+     * Escribe la cabecera y, fila a fila, las filas de cada bloque una tras otra.
+     */
+    private static void escribir(Path ruta, byte contenido, int k, Matriz... bloques) throws IOException {
+        int n = bloques[0].getFilas();
+        for (Matriz b : bloques) {
+            if (b.getFilas() != n) {
+                throw new IllegalArgumentException("Todos los bloques deben tener " + n + " filas.");
+            }
+        }
+        FormatoBinario.Cabecera c = new FormatoBinario.Cabecera(n, k, contenido, ByteOrder.nativeOrder());
+        long bytesFila = c.columnas() * Double.BYTES;
+        int filasPorTrozo = (int) Math.max(1, LectorBinario.TROZO / bytesFila);
+
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+
+            ByteBuffer cabecera = ByteBuffer.allocate(FormatoBinario.TAM_CABECERA);
+            FormatoBinario.escribirCabecera(cabecera, c);
+            while (cabecera.hasRemaining()) {
+                ch.write(cabecera, cabecera.position());
+            }
+
+            for (int desde = 0; desde < n; desde += filasPorTrozo) {
+                int hasta = Math.min(n, desde + filasPorTrozo);
+                MappedByteBuffer trozo = ch.map(FileChannel.MapMode.READ_WRITE,
+                        FormatoBinario.TAM_CABECERA + desde * bytesFila, (hasta - desde) * bytesFila);
+                DoubleBuffer d = trozo.order(c.orden()).asDoubleBuffer();
+                for (int i = desde; i < hasta; i++) {
+                    for (Matriz b : bloques) {
+                        d.put(b.getDatos(), i * b.getLd(), b.getColumnas());
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package io;
+
+import exception.InputException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Formato binario para sistemas y resultados.
+ *
+ * Un fichero consta de una cabecera de {@value #TAM_CABECERA} bytes seguida de
+ * los datos como doubles IEEE 754 por filas, sin separadores:
+ * <pre>
+ *  0  magia "GAUS"
+ *  4  versión (1 byte)
+ *  5  orden de bytes: 'L' (little endian) o 'B' (big endian)
+ *  6  tipo de dato: bytes por elemento (8 = double)
+ *  7  contenido: 0 = sistema [A | B], 1 = resultado [U | B̃ | X]
+ *  8  n (int32 en el orden de bytes del fichero)
+ * 12  k, número de términos independientes (int32)
+ * 16  reservado (ceros)
+ * </pre>
+ * Un sistema ocupa n x (n + k) doubles, con la misma disposición que la matriz
+ * aumentada de la eliminación; un resultado, n x (n + 2k).
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class FormatoBinario {
+
+    public static final int TAM_CABECERA = 32;
+    public static final int VERSION = 1;
+    public static final byte TIPO_DOUBLE = 8;
+    public static final byte CONTENIDO_SISTEMA = 0;
+    public static final byte CONTENIDO_RESULTADO = 1;
+
+    private static final byte[] MAGIA = {'G', 'A', 'U', 'S'};
+
+    private FormatoBinario() {}
+
+    /**
+     * Datos de la cabecera de un fichero.
+     *
+     * @param n Número de incógnitas.
+     * @param k Número de términos independientes.
+     * @param contenido {@link #CONTENIDO_SISTEMA} o {@link #CONTENIDO_RESULTADO}.
+     * @param orden Orden de bytes de los datos.
+     */
+    public record Cabecera(int n, int k, byte contenido, ByteOrder orden) {
+
+        /** Columnas por fila de datos. */
+        public long columnas() {
+            return (long) n + (contenido == CONTENIDO_RESULTADO ? 2L * k : k);
+        }
+
+        /** Tamaño total esperado del fichero en bytes. */
+        public long tamFichero() {
+            return TAM_CABECERA + (long) n * columnas() * Double.BYTES;
+        }
+    }
+
+    /**
+     * Escribe la cabecera al principio de buf (que queda en el orden de bytes de la cabecera).
+     */
+    static void escribirCabecera(ByteBuffer buf, Cabecera c) {
+        buf.order(c.orden());
+        buf.put(0, MAGIA);
+        buf.put(4, (byte) VERSION);
+        buf.put(5, (byte) (c.orden() == ByteOrder.LITTLE_ENDIAN ? 'L' : 'B'));
+        buf.put(6, TIPO_DOUBLE);
+        buf.put(7, c.contenido());
+        buf.putInt(8, c.n());
+        buf.putInt(12, c.k());
+        for (int i = 16; i < TAM_CABECERA; i++) {
+            buf.put(i, (byte) 0);
+        }
+    }
+
+    /**
+     * Lee y valida la cabecera de los primeros {@value #TAM_CABECERA} bytes de buf.
+     *
+     * @param tamFichero Tamaño real del fichero, para comprobar que está completo.
+     * @throws InputException Si el fichero no tiene el formato esperado.
+     */
+    static Cabecera leerCabecera(ByteBuffer buf, long tamFichero) throws InputException {
+        if (tamFichero < TAM_CABECERA) {
+            throw new InputException("Fichero binario demasiado corto: " + tamFichero + " bytes.");
+        }
+        for (int i = 0; i < MAGIA.length; i++) {
+            if (buf.get(i) != MAGIA[i]) {
+                throw new InputException("El fichero no es un sistema binario (firma incorrecta).");
+            }
+        }
+        int version = buf.get(4);
+        if (version != VERSION) {
+            throw new InputException("Versión de formato binario no soportada: " + version);
+        }
+        ByteOrder orden = switch (buf.get(5)) {
+            case 'L' -> ByteOrder.LITTLE_ENDIAN;
+            case 'B' -> ByteOrder.BIG_ENDIAN;
+            default -> throw new InputException("Orden de bytes desconocido en la cabecera: " + buf.get(5));
+        };
+        if (buf.get(6) != TIPO_DOUBLE) {
+            throw new InputException("Tipo de dato no soportado: " + buf.get(6) + " bytes por elemento.");
+        }
+        byte contenido = buf.get(7);
+        if (contenido != CONTENIDO_SISTEMA && contenido != CONTENIDO_RESULTADO) {
+            throw new InputException("Contenido desconocido en la cabecera: " + contenido);
+        }
+
+        buf.order(orden);
+        int n = buf.getInt(8);
+        int k = buf.getInt(12);
+        if (n <= 0 || k < 0) {
+            throw new InputException("Dimensiones no válidas en la cabecera: n = " + n + ", k = " + k);
+        }
+        Cabecera c = new Cabecera(n, k, contenido, orden);
+        if ((long) n * c.columnas() > Integer.MAX_VALUE - 8) {
+            throw new InputException("Sistema demasiado grande: " + n + "x" + c.columnas());
+        }
+        if (c.tamFichero() != tamFichero) {
+            throw new InputException("Tamaño de fichero incorrecto: se esperaban "
+                    + c.tamFichero() + " bytes y hay " + tamFichero + ".");
+        }
+        return c;
+    }
+}
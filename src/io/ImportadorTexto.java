@@ -0,0 +1,841 @@
+package io;
+
+import exception.InputException;
+import logic.Matriz;
+import logic.MatrizDispersa;
+import logic.Sistema;
+import logic.SistemaDisperso;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Importación de sistemas desde ficheros de texto CSV y MatrixMarket.
+ *
+ * El fichero se proyecta en memoria y se parte en trozos que terminan en un
+ * salto de línea; cada trozo se analiza en un hilo del pool común, leyendo
+ * los números directamente de los bytes con {@link ParserDouble}, y los
+ * resultados parciales se juntan en orden. Los errores indican la línea y la
+ * columna del dato erróneo ({@link InputException#getLinea()}).
+ *
+ * <ul>
+ * <li>CSV: cada línea es una fila de la matriz aumentada [A | B], con n filas
+ * y n + k valores por fila. Los valores se separan con comas, puntos y coma,
+ * espacios o tabuladores; se ignoran las líneas vacías y las que empiezan por '#'.</li>
+ * <li>MatrixMarket ({@code %%MatrixMarket matrix ...}): formato coordinate
+ * (se obtiene un {@link SistemaDisperso}) o array (sistema denso), con valores
+ * real, integer o pattern y simetría general, symmetric o skew-symmetric. Una
+ * matriz de n x (n + k) se interpreta también como aumentada.</li>
+ * </ul>
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class ImportadorTexto {
+
+    /** Tamaño mínimo de un trozo analizado en paralelo. */
+    static final long TROZO_MIN = 1L << 20;
+    /** Tamaño máximo de un trozo (sin contar la línea que lo completa). */
+    static final long TROZO_MAX = 1L << 28;
+
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final String FIRMA_MM = "%%MatrixMarket";
+
+    /**
+     * Formatos de fichero de sistema que se reconocen por su contenido.
+     */
+    public enum Formato {
+        /** {@link FormatoBinario}. */
+        BINARIO,
+        /** MatrixMarket, coordinate o array. */
+        MATRIX_MARKET,
+        /** Texto con una fila de la matriz aumentada por línea. */
+        CSV
+    }
+
+    private ImportadorTexto() {}
+
+    /**
+     * Reconoce el formato de un fichero por sus primeros bytes.
+     */
+    public static Formato detectar(Path ruta) throws IOException {
+        byte[] inicio;
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            inicio = leerInicio(ch, FIRMA_MM.length());
+        }
+        String firma = new String(inicio, StandardCharsets.US_ASCII);
+        if (firma.startsWith("GAUS")) {
+            return Formato.BINARIO;
+        }
+        if (firma.equalsIgnoreCase(FIRMA_MM)) {
+            return Formato.MATRIX_MARKET;
+        }
+        return Formato.CSV;
+    }
+
+    /**
+     * Lee un sistema reconociendo el formato por el contenido: binario
+     * ({@link LectorBinario}), MatrixMarket o CSV.
+     */
+    public static Sistema importar(Path ruta) throws IOException, InputException {
+        return switch (detectar(ruta)) {
+            case BINARIO -> LectorBinario.leerSistema(ruta);
+            case MATRIX_MARKET -> leerMatrixMarket(ruta);
+            case CSV -> leerCsv(ruta);
+        };
+    }
+
+    /**
+     * Lee un CSV como sistema: A es una vista sobre los datos leídos y B una
+     * copia de las k últimas columnas (con k = 0 no hay términos independientes).
+     *
+     * @throws InputException Si hay un valor no válido, las filas no tienen
+     *         todas el mismo número de valores o no forman una matriz aumentada.
+     */
+    public static Sistema leerCsv(Path ruta) throws IOException, InputException {
+        return LectorBinario.separar(leerCsvAumentada(ruta));
+    }
+
+    /**
+     * Lee un CSV como matriz aumentada [A | B] de n x (n+k), lista para
+     * {@link logic.GaussSolver#solveInPlace}.
+     *
+     * @throws InputException Si el fichero no es una matriz aumentada válida.
+     */
+    public static Matriz leerCsvAumentada(Path ruta) throws IOException, InputException {
+        Matriz M;
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            M = leerCsv(ch, ruta);
+        }
+        comprobarAumentada(M.getFilas(), M.getColumnas());
+        return M;
+    }
+
+    /**
+     * Lee un fichero MatrixMarket. En formato coordinate devuelve un
+     * {@link SistemaDisperso}; en formato array, un sistema denso.
+     *
+     * @throws InputException Si el fichero no es válido o la matriz no es
+     *         cuadrada ni aumentada.
+     */
+    public static Sistema leerMatrixMarket(Path ruta) throws IOException, InputException {
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            CabeceraMM c = leerCabeceraMM(ch);
+            comprobarAumentada(c.filas(), c.columnas());
+            if (c.coordenadas()) {
+                return separar(leerCoordenadas(ch, c));
+            }
+            return LectorBinario.separar(leerArray(ch, c));
+        }
+    }
+
+    /**
+     * Lee la matriz A de un fichero MatrixMarket y los términos independientes
+     * de otro fichero (MatrixMarket o CSV) con n filas y k columnas.
+     *
+     * @throws InputException Si alguno de los ficheros no es válido, A no es
+     *         cuadrada o B no tiene n filas.
+     */
+    public static Sistema leerMatrixMarket(Path ruta, Path terminos) throws IOException, InputException {
+        Matriz B = leerDensa(terminos);
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            CabeceraMM c = leerCabeceraMM(ch);
+            if (c.filas() != c.columnas()) {
+                throw new InputException("La matriz de " + ruta + " no es cuadrada: "
+                        + c.filas() + "x" + c.columnas() + ".");
+            }
+            if (B.getFilas() != c.filas()) {
+                throw new InputException("Los términos independientes tienen " + B.getFilas()
+                        + " filas y la matriz " + c.filas() + ".");
+            }
+            if (c.coordenadas()) {
+                return new SistemaDisperso(leerCoordenadas(ch, c), B);
+            }
+            return new Sistema(leerArray(ch, c), B);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // CSV
+
+    private static Matriz leerCsv(FileChannel ch, Path ruta) throws IOException, InputException {
+        byte[] inicio = leerInicio(ch, BOM.length);
+        long desde = Arrays.equals(inicio, BOM) ? BOM.length : 0;
+
+        List<TrozoCsv> trozos = new ArrayList<>();
+        for (Tramo t : partir(ch, desde)) {
+            trozos.add(new TrozoCsv(ch, t));
+        }
+        analizar(trozos, 0);
+
+        int columnas = -1;
+        long filas = 0;
+        for (TrozoCsv t : trozos) {
+            if (t.filas == 0) {
+                continue;
+            }
+            if (columnas < 0) {
+                columnas = t.columnas;
+            } else if (t.columnas != columnas) {
+                throw new InputException("Se esperaban " + columnas + " valores y hay " + t.columnas + ".",
+                        t.lineaBase + t.lineaColumnas + 1, 1);
+            }
+            filas += t.filas;
+        }
+        if (filas == 0) {
+            throw new InputException("El fichero " + ruta + " no contiene datos.");
+        }
+        comprobarTamano(filas, columnas);
+
+        double[] datos = new double[(int) (filas * columnas)];
+        int pos = 0;
+        for (TrozoCsv t : trozos) {
+            System.arraycopy(t.valores, 0, datos, pos, t.usados);
+            pos += t.usados;
+            t.valores = null;
+        }
+        return new Matriz((int) filas, columnas, columnas, datos);
+    }
+
+    /**
+     * Filas de una matriz aumentada: valores separados por comas, puntos y coma o blancos.
+     */
+    private static final class TrozoCsv extends Trozo {
+
+        double[] valores;
+        int usados;
+        int filas;
+        int columnas = -1;
+        long lineaColumnas;      // línea local de la primera fila
+
+        TrozoCsv(FileChannel ch, Tramo t) throws InputException {
+            super(ch, t, (byte) '#');
+            valores = new double[(int) Math.max(16, longitud() / 16)];
+        }
+
+        @Override
+        boolean linea(ByteBuffer buf, int inicioLinea, int p, int fin) {
+            int campos = 0;
+            while (true) {
+                int r = parser.parse(buf, p, fin);
+                if (r < 0 || (r < fin && !ParserDouble.esSeparador(buf.get(r)))) {
+                    return error(inicioLinea, p, "Número no válido «" + token(buf, p, fin) + "».");
+                }
+                if (usados == valores.length) {
+                    valores = Arrays.copyOf(valores, crecer(valores.length));
+                }
+                valores[usados++] = parser.valor();
+                campos++;
+
+                p = saltarBlancos(buf, r, fin);
+                if (p == fin) {
+                    break;
+                }
+                if (buf.get(p) == ',' || buf.get(p) == ';') {
+                    p = saltarBlancos(buf, p + 1, fin);
+                    if (p == fin || buf.get(p) == ',' || buf.get(p) == ';') {
+                        return error(inicioLinea, p, "Falta un valor tras el separador.");
+                    }
+                }
+            }
+            if (columnas < 0) {
+                columnas = campos;
+                lineaColumnas = lineas;
+            } else if (campos != columnas) {
+                return error(inicioLinea, inicioLinea,
+                        "Se esperaban " + columnas + " valores y hay " + campos + ".");
+            }
+            filas++;
+            return true;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // MatrixMarket
+
+    /**
+     * Datos de la cabecera y la línea de dimensiones de un fichero MatrixMarket.
+     *
+     * @param simetria 0 general, 1 symmetric, -1 skew-symmetric.
+     * @param inicioDatos Posición del primer byte tras la línea de dimensiones.
+     * @param lineas Líneas hasta la de dimensiones incluida.
+     */
+    private record CabeceraMM(boolean coordenadas, boolean patron, int simetria, int filas, int columnas,
+                              long entradas, long inicioDatos, long lineas) {}
+
+    private static CabeceraMM leerCabeceraMM(FileChannel ch) throws IOException, InputException {
+        long tam = ch.size();
+        MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(tam, TROZO_MAX));
+        int len = buf.limit();
+        boolean coordenadas = false;
+        boolean patron = false;
+        int simetria = 0;
+        int p = 0;
+        long linea = 0;
+        while (p < len) {
+            int finLinea = finDeLinea(buf, p, len);
+            byte[] bytes = new byte[finLinea - p];
+            buf.get(p, bytes);
+            String texto = new String(bytes, StandardCharsets.US_ASCII).strip();
+            p = finLinea + 1;
+            linea++;
+
+            if (linea == 1) {
+                String[] palabras = texto.toLowerCase(Locale.ROOT).split("\\s+");
+                if (palabras.length != 5 || !palabras[0].equals("%%matrixmarket") || !palabras[1].equals("matrix")) {
+                    throw new InputException("Cabecera MatrixMarket no válida: «" + texto + "».", 1, 1);
+                }
+                coordenadas = switch (palabras[2]) {
+                    case "coordinate" -> true;
+                    case "array" -> false;
+                    default -> throw noSoportado("Formato", palabras[2], texto);
+                };
+                patron = switch (palabras[3]) {
+                    case "real", "double", "integer" -> false;
+                    case "pattern" -> {
+                        if (!coordenadas) {
+                            throw noSoportado("Tipo", palabras[3], texto);
+                        }
+                        yield true;
+                    }
+                    default -> throw noSoportado("Tipo", palabras[3], texto);
+                };
+                simetria = switch (palabras[4]) {
+                    case "general" -> 0;
+                    case "symmetric" -> 1;
+                    case "skew-symmetric" -> -1;
+                    default -> throw noSoportado("Simetría", palabras[4], texto);
+                };
+            } else if (!texto.isEmpty() && texto.charAt(0) != '%') {
+                String[] partes = texto.split("\\s+");
+                if (partes.length != (coordenadas ? 3 : 2)) {
+                    throw new InputException("Se esperaban " + (coordenadas ? "filas, columnas y entradas" : "filas y columnas")
+                            + " en la línea de dimensiones.", linea, 1);
+                }
+                long[] dim = new long[partes.length];
+                for (int i = 0; i < partes.length; i++) {
+                    try {
+                        dim[i] = Long.parseLong(partes[i]);
+                    } catch (NumberFormatException ex) {
+                        dim[i] = -1;
+                    }
+                    if (dim[i] < 0 || (i < 2 && (dim[i] == 0 || dim[i] > Integer.MAX_VALUE))) {
+                        throw new InputException("Dimensión no válida «" + partes[i] + "».",
+                                linea, texto.indexOf(partes[i]) + 1);
+                    }
+                }
+                if (simetria != 0 && dim[0] != dim[1]) {
+                    throw new InputException("Una matriz simétrica debe ser cuadrada.", linea, 1);
+                }
+                long entradas = coordenadas ? dim[2] : entradasArray((int) dim[0], (int) dim[1], simetria);
+                return new CabeceraMM(coordenadas, patron, simetria, (int) dim[0], (int) dim[1],
+                        entradas, Math.min(p, tam), linea);
+            }
+        }
+        throw new InputException("Fichero MatrixMarket sin línea de dimensiones.");
+    }
+
+    private static InputException noSoportado(String que, String valor, String cabecera) {
+        return new InputException(que + " MatrixMarket no soportado: " + valor + ".", 1,
+                cabecera.toLowerCase(Locale.ROOT).indexOf(valor) + 1);
+    }
+
+    /** Valores que contiene un fichero array: la matriz entera o su triángulo inferior. */
+    private static long entradasArray(int filas, int columnas, int simetria) {
+        long n = columnas;
+        return switch (simetria) {
+            case 1 -> n * (n + 1) / 2;
+            case -1 -> n * (n - 1) / 2;
+            default -> (long) filas * columnas;
+        };
+    }
+
+    private static MatrizDispersa leerCoordenadas(FileChannel ch, CabeceraMM c) throws IOException, InputException {
+        List<TrozoCoordenadas> trozos = new ArrayList<>();
+        for (Tramo t : partir(ch, c.inicioDatos())) {
+            trozos.add(new TrozoCoordenadas(ch, t, c));
+        }
+        analizar(trozos, c.lineas());
+
+        long entradas = 0;
+        long nnz = 0;
+        for (TrozoCoordenadas t : trozos) {
+            entradas += t.entradas;
+            nnz += t.usados;
+        }
+        if (entradas != c.entradas()) {
+            throw new InputException("Se declararon " + c.entradas() + " entradas y hay " + entradas + ".");
+        }
+        if (nnz > Integer.MAX_VALUE - 8) {
+            throw new InputException("Matriz demasiado grande: " + nnz + " elementos no nulos.");
+        }
+        int[] fi = new int[(int) nnz];
+        int[] cj = new int[(int) nnz];
+        double[] v = new double[(int) nnz];
+        int pos = 0;
+        for (TrozoCoordenadas t : trozos) {
+            System.arraycopy(t.fi, 0, fi, pos, t.usados);
+            System.arraycopy(t.cj, 0, cj, pos, t.usados);
+            System.arraycopy(t.v, 0, v, pos, t.usados);
+            pos += t.usados;
+        }
+        return MatrizDispersa.desdeTripletas(c.filas(), c.columnas(), fi, cj, v, pos);
+    }
+
+    /**
+     * Sistema disperso a partir de [A | B] en CSR: las columnas a partir de la
+     * n-ésima pasan a B densa.
+     */
+    private static SistemaDisperso separar(MatrizDispersa M) {
+        int n = M.getFilas();
+        int k = M.getColumnas() - n;
+        if (k == 0) {
+            return new SistemaDisperso(M, (Matriz) null);
+        }
+        int[] ptr = M.getFilaPtr();
+        int[] col = M.getIndicesColumna();
+        double[] val = M.getValores();
+        int[] ptrA = new int[n + 1];
+        int[] colA = new int[M.getNnz()];
+        double[] valA = new double[M.getNnz()];
+        Matriz B = new Matriz(n, k);
+        int nnz = 0;
+        for (int i = 0; i < n; i++) {
+            for (int p = ptr[i]; p < ptr[i + 1]; p++) {
+                if (col[p] < n) {
+                    colA[nnz] = col[p];
+                    valA[nnz++] = val[p];
+                } else {
+                    B.set(i, col[p] - n, val[p]);
+                }
+            }
+            ptrA[i + 1] = nnz;
+        }
+        MatrizDispersa A = new MatrizDispersa(n, n, ptrA, Arrays.copyOf(colA, nnz), Arrays.copyOf(valA, nnz));
+        return new SistemaDisperso(A, B);
+    }
+
+    /**
+     * Entradas "i j [valor]" con índices desde 1. En las matrices simétricas
+     * se añade también la entrada traspuesta.
+     */
+    private static final class TrozoCoordenadas extends Trozo {
+
+        private final CabeceraMM c;
+        int[] fi;
+        int[] cj;
+        double[] v;
+        int usados;
+        long entradas;
+
+        TrozoCoordenadas(FileChannel ch, Tramo t, CabeceraMM c) throws InputException {
+            super(ch, t, (byte) '%');
+            this.c = c;
+            int cap = (int) Math.max(16, longitud() / (c.patron() ? 8 : 20));
+            fi = new int[cap];
+            cj = new int[cap];
+            v = new double[cap];
+        }
+
+        @Override
+        boolean linea(ByteBuffer buf, int inicioLinea, int p, int fin) {
+            int r = leerEntero(buf, p, fin);
+            if (r < 0 || entero < 1 || entero > c.filas()) {
+                return error(inicioLinea, p, "Índice de fila no válido «" + token(buf, p, fin)
+                        + "» (1.." + c.filas() + ").");
+            }
+            int i = entero - 1;
+            p = saltarBlancos(buf, r, fin);
+            r = leerEntero(buf, p, fin);
+            if (r < 0 || entero < 1 || entero > c.columnas()) {
+                return error(inicioLinea, p, "Índice de columna no válido «" + token(buf, p, fin)
+                        + "» (1.." + c.columnas() + ").");
+            }
+            int j = entero - 1;
+            p = saltarBlancos(buf, r, fin);
+            double valor = 1.0;
+            if (!c.patron()) {
+                r = parser.parse(buf, p, fin);
+                if (r < 0 || !finDeCampo(buf, r, fin)) {
+                    return error(inicioLinea, p, "Número no válido «" + token(buf, p, fin) + "».");
+                }
+                valor = parser.valor();
+                p = saltarBlancos(buf, r, fin);
+            }
+            if (p != fin) {
+                return error(inicioLinea, p, "Sobran datos al final de la línea.");
+            }
+            entradas++;
+            añadir(i, j, valor);
+            if (c.simetria() != 0 && i != j) {
+                añadir(j, i, c.simetria() * valor);
+            }
+            return true;
+        }
+
+        private void añadir(int i, int j, double valor) {
+            if (usados == fi.length) {
+                int cap = crecer(usados);
+                fi = Arrays.copyOf(fi, cap);
+                cj = Arrays.copyOf(cj, cap);
+                v = Arrays.copyOf(v, cap);
+            }
+            fi[usados] = i;
+            cj[usados] = j;
+            v[usados++] = valor;
+        }
+    }
+
+    /**
+     * Lee un fichero array: valores por columnas (solo el triángulo inferior
+     * si es simétrica) en una matriz densa por filas.
+     */
+    private static Matriz leerArray(FileChannel ch, CabeceraMM c) throws IOException, InputException {
+        comprobarTamano(c.filas(), c.columnas());
+        List<TrozoArray> trozos = new ArrayList<>();
+        for (Tramo t : partir(ch, c.inicioDatos())) {
+            trozos.add(new TrozoArray(ch, t));
+        }
+        analizar(trozos, c.lineas());
+
+        long valores = 0;
+        for (TrozoArray t : trozos) {
+            valores += t.usados;
+        }
+        if (valores != c.entradas()) {
+            throw new InputException("Se esperaban " + c.entradas() + " valores y hay " + valores + ".");
+        }
+
+        int m = c.filas();
+        int n = c.columnas();
+        double[] datos = new double[m * n];
+        // Primera fila de cada columna: 0, la diagonal o la de debajo (antisimétrica)
+        int desde = c.simetria() == 0 ? -1 : (c.simetria() == 1 ? 0 : 1);
+        int i = Math.max(desde, 0);
+        int j = 0;
+        for (TrozoArray t : trozos) {
+            for (int p = 0; p < t.usados; p++) {
+                double x = t.valores[p];
+                datos[i * n + j] = x;
+                if (c.simetria() != 0) {
+                    datos[j * n + i] = c.simetria() * x;
+                }
+                if (++i == m) {
+                    j++;
+                    i = desde < 0 ? 0 : j + desde;
+                }
+            }
+            t.valores = null;
+        }
+        return new Matriz(m, n, n, datos);
+    }
+
+    /**
+     * Valores separados por blancos, en orden.
+     */
+    private static final class TrozoArray extends Trozo {
+
+        double[] valores;
+        int usados;
+
+        TrozoArray(FileChannel ch, Tramo t) throws InputException {
+            super(ch, t, (byte) '%');
+            valores = new double[(int) Math.max(16, longitud() / 16)];
+        }
+
+        @Override
+        boolean linea(ByteBuffer buf, int inicioLinea, int p, int fin) {
+            while (p < fin) {
+                int r = parser.parse(buf, p, fin);
+                if (r < 0 || !finDeCampo(buf, r, fin)) {
+                    return error(inicioLinea, p, "Número no válido «" + token(buf, p, fin) + "».");
+                }
+                if (usados == valores.length) {
+                    valores = Arrays.copyOf(valores, crecer(usados));
+                }
+                valores[usados++] = parser.valor();
+                p = saltarBlancos(buf, r, fin);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Lee una matriz densa de un fichero MatrixMarket o CSV, sin exigir que sea cuadrada.
+     */
+    private static Matriz leerDensa(Path ruta) throws IOException, InputException {
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            String firma = new String(leerInicio(ch, FIRMA_MM.length()), StandardCharsets.US_ASCII);
+            if (!firma.equalsIgnoreCase(FIRMA_MM)) {
+                return leerCsv(ch, ruta);
+            }
+            CabeceraMM c = leerCabeceraMM(ch);
+            if (c.coordenadas()) {
+                comprobarTamano(c.filas(), c.columnas());
+                return leerCoordenadas(ch, c).toDensa();
+            }
+            return leerArray(ch, c);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Reparto en trozos y análisis en paralelo
+
+    /** Rango de bytes [inicio, fin) del fichero que empieza al principio de una línea. */
+    private record Tramo(long inicio, long fin) {}
+
+    /**
+     * Parte el fichero desde la posición dada en tramos de líneas completas.
+     */
+    private static List<Tramo> partir(FileChannel ch, long desde) throws IOException {
+        long tam = ch.size();
+        int hilos = ForkJoinPool.commonPool().getParallelism();
+        long objetivo = Math.clamp((tam - desde) / (4L * hilos), TROZO_MIN, TROZO_MAX);
+        List<Tramo> tramos = new ArrayList<>();
+        long inicio = desde;
+        while (inicio < tam) {
+            long fin = inicio + objetivo >= tam ? tam : siguienteLinea(ch, inicio + objetivo);
+            tramos.add(new Tramo(inicio, fin));
+            inicio = fin;
+        }
+        return tramos;
+    }
+
+    /**
+     * Posición siguiente al primer salto de línea a partir de p, o el final del fichero.
+     */
+    private static long siguienteLinea(FileChannel ch, long p) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(1 << 16);
+        long tam = ch.size();
+        while (p < tam) {
+            buf.clear();
+            int leidos = ch.read(buf, p);
+            if (leidos <= 0) {
+                break;
+            }
+            for (int i = 0; i < leidos; i++) {
+                if (buf.get(i) == '\n') {
+                    return p + i + 1;
+                }
+            }
+            p += leidos;
+        }
+        return tam;
+    }
+
+    /**
+     * Analiza los trozos en paralelo y lanza el primer error en orden del
+     * fichero, con su línea absoluta. Deja en cada trozo la línea en que empieza.
+     *
+     * @param lineaBase Líneas del fichero anteriores al primer trozo.
+     */
+    private static void analizar(List<? extends Trozo> trozos, long lineaBase) throws IOException, InputException {
+        List<Future<Void>> resultados = ForkJoinPool.commonPool().invokeAll(trozos);
+        try {
+            for (Future<Void> f : resultados) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Lectura interrumpida.");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            if (ex.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(ex.getCause());
+        }
+
+        long linea = lineaBase;
+        for (Trozo t : trozos) {
+            t.lineaBase = linea;
+            if (t.mensajeError != null) {
+                throw new InputException(t.mensajeError, linea + t.lineaError + 1, t.columnaError);
+            }
+            linea += t.lineas;
+        }
+    }
+
+    /**
+     * Análisis de un tramo del fichero línea a línea. Las subclases interpretan
+     * cada línea con datos; el primer error se guarda y detiene el análisis.
+     */
+    private abstract static class Trozo implements Callable<Void> {
+
+        private final FileChannel ch;
+        private final Tramo tramo;
+        private final byte comentario;
+        final ParserDouble parser = new ParserDouble();
+
+        long lineas;             // líneas recorridas (locales al trozo)
+        long lineaBase;          // líneas del fichero anteriores al trozo
+        int entero;              // último entero leído con leerEntero
+
+        long lineaError;
+        int columnaError;
+        String mensajeError;
+
+        Trozo(FileChannel ch, Tramo tramo, byte comentario) throws InputException {
+            if (tramo.fin() - tramo.inicio() > Integer.MAX_VALUE) {
+                throw new InputException("Línea demasiado larga a partir del byte " + tramo.inicio() + ".");
+            }
+            this.ch = ch;
+            this.tramo = tramo;
+            this.comentario = comentario;
+        }
+
+        final long longitud() {
+            return tramo.fin() - tramo.inicio();
+        }
+
+        @Override
+        public Void call() {
+            MappedByteBuffer buf;
+            try {
+                buf = ch.map(FileChannel.MapMode.READ_ONLY, tramo.inicio(), longitud());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            buf.order(ByteOrder.LITTLE_ENDIAN);   // lecturas de 8 cifras con getLong
+            int len = (int) longitud();
+            int p = 0;
+            while (p < len) {
+                int finLinea = finDeLinea(buf, p, len);
+                int fin = finLinea > p && buf.get(finLinea - 1) == '\r' ? finLinea - 1 : finLinea;
+                int q = saltarBlancos(buf, p, fin);
+                if (q < fin && buf.get(q) != comentario && !linea(buf, p, q, fin)) {
+                    return null;
+                }
+                lineas++;
+                p = finLinea + 1;
+            }
+            return null;
+        }
+
+        /**
+         * Interpreta una línea con datos.
+         *
+         * @param inicioLinea Posición del primer carácter de la línea.
+         * @param p Posición del primer carácter no blanco.
+         * @param fin Posición del final de la línea (sin salto de línea).
+         * @return false si hay un error (registrado con {@link #error}).
+         */
+        abstract boolean linea(ByteBuffer buf, int inicioLinea, int p, int fin);
+
+        final boolean error(int inicioLinea, int p, String mensaje) {
+            lineaError = lineas;
+            columnaError = p - inicioLinea + 1;
+            mensajeError = mensaje;
+            return false;
+        }
+
+        /**
+         * Lee un entero sin signo de como mucho 10 cifras en {@link #entero}.
+         *
+         * @return La posición siguiente, o -1 si no hay un entero seguido de un blanco o el fin de línea.
+         */
+        final int leerEntero(ByteBuffer buf, int p, int fin) {
+            long valor = 0;
+            int inicio = p;
+            int c;
+            while (p < fin && (c = buf.get(p) - '0') >= 0 && c <= 9 && p - inicio < 10) {
+                valor = valor * 10 + c;
+                p++;
+            }
+            if (p == inicio || valor > Integer.MAX_VALUE || !finDeCampo(buf, p, fin)) {
+                return -1;
+            }
+            entero = (int) valor;
+            return p;
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Utilidades
+
+    private static int finDeLinea(ByteBuffer buf, int p, int len) {
+        // De 8 en 8 bytes mientras ninguno sea '\n' (detección de byte nulo en v ^ '\n'...)
+        while (p + 8 <= len) {
+            long v = buf.getLong(p) ^ 0x0A0A0A0A0A0A0A0AL;
+            if (((v - 0x0101010101010101L) & ~v & 0x8080808080808080L) != 0) {
+                break;
+            }
+            p += 8;
+        }
+        while (p < len && buf.get(p) != '\n') {
+            p++;
+        }
+        return p;
+    }
+
+    private static int saltarBlancos(ByteBuffer buf, int p, int fin) {
+        while (p < fin && (buf.get(p) == ' ' || buf.get(p) == '\t')) {
+            p++;
+        }
+        return p;
+    }
+
+    private static boolean finDeCampo(ByteBuffer buf, int p, int fin) {
+        return p == fin || buf.get(p) == ' ' || buf.get(p) == '\t';
+    }
+
+    /**
+     * Texto del dato que empieza en p, hasta el siguiente separador (como mucho 32 caracteres).
+     */
+    private static String token(ByteBuffer buf, int p, int fin) {
+        int q = p;
+        while (q < fin && q - p < 32 && !ParserDouble.esSeparador(buf.get(q))) {
+            q++;
+        }
+        if (q == p) {
+            return q < fin ? String.valueOf((char) buf.get(q)) : "";
+        }
+        byte[] bytes = new byte[q - p];
+        buf.get(p, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private static int crecer(int capacidad) {
+        long nueva = capacidad + (capacidad >> 1) + 16L;
+        return (int) Math.min(nueva, Integer.MAX_VALUE - 8);
+    }
+
+    private static byte[] leerInicio(FileChannel ch, int bytes) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(bytes);
+        while (buf.hasRemaining() && ch.read(buf, buf.position()) > 0) {
+            // lectura de los primeros bytes
+        }
+        return Arrays.copyOf(buf.array(), buf.position());
+    }
+
+    private static void comprobarAumentada(int filas, int columnas) throws InputException {
+        if (columnas < filas) {
+            throw new InputException("Se esperaba una matriz aumentada de " + filas
+                    + " filas con al menos " + filas + " columnas y hay " + columnas + ".");
+        }
+    }
+
+    private static void comprobarTamano(long filas, long columnas) throws InputException {
+        if (filas * columnas > Integer.MAX_VALUE - 8) {
+            throw new InputException("Sistema demasiado grande: " + filas + "x" + columnas);
+        }
+    }
+}
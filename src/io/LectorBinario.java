@@ -0,0 +1,151 @@
+package io;
+
+import exception.InputException;
+import logic.Matriz;
+import logic.ResultadoGauss;
+import logic.Sistema;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lectura de sistemas y resultados en {@link FormatoBinario}.
+ *
+ * Los datos se proyectan en memoria con {@link FileChannel#map} y se copian en
+ * bloque al array de la {@link Matriz}, sin interpretar texto ni recorrer los
+ * elementos uno a uno (si el orden de bytes del fichero es el de la máquina, la
+ * copia es un simple volcado de memoria). Como el fichero de un sistema tiene
+ * la disposición de la matriz aumentada, {@link #leerAumentada(Path)} devuelve
+ * directamente el almacenamiento que usa {@link logic.GaussSolver#solveInPlace}.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public final class LectorBinario {
+
+    /** Bytes que se proyectan de una vez (múltiplo de 8). */
+    static final long TROZO = 1L << 30;
+
+    private LectorBinario() {}
+
+    /**
+     * Lee solo la cabecera del fichero.
+     */
+    public static FormatoBinario.Cabecera leerCabecera(Path ruta) throws IOException, InputException {
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            return leerCabecera(ch);
+        }
+    }
+
+    /**
+     * Lee un sistema como matriz aumentada [A | B] (n x (n+k)), lista para
+     * {@link logic.GaussSolver#solveInPlace}.
+     *
+     * @throws InputException Si el fichero no es un sistema válido.
+     */
+    public static Matriz leerAumentada(Path ruta) throws IOException, InputException {
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            FormatoBinario.Cabecera c = leerCabecera(ch);
+            if (c.contenido() != FormatoBinario.CONTENIDO_SISTEMA) {
+                throw new InputException("El fichero " + ruta + " no contiene un sistema.");
+            }
+            int columnas = (int) c.columnas();
+            return new Matriz(c.n(), columnas, columnas, leerDatos(ch, c));
+        }
+    }
+
+    /**
+     * Igual que {@link #leerAumentada(Path)} sobre un mensaje completo en
+     * memoria (cabecera y datos), por ejemplo el cuerpo de una petición.
+     *
+     * @throws InputException Si los bytes no son un sistema válido.
+     */
+    public static Matriz leerAumentada(ByteBuffer mensaje) throws InputException {
+        ByteBuffer buf = mensaje.slice();
+        FormatoBinario.Cabecera c = FormatoBinario.leerCabecera(buf, buf.remaining());
+        if (c.contenido() != FormatoBinario.CONTENIDO_SISTEMA) {
+            throw new InputException("El mensaje no contiene un sistema.");
+        }
+        int columnas = (int) c.columnas();
+        double[] datos = new double[(int) (c.n() * c.columnas())];
+        buf.position(FormatoBinario.TAM_CABECERA);
+        buf.order(c.orden()).asDoubleBuffer().get(datos);
+        return new Matriz(c.n(), columnas, columnas, datos);
+    }
+
+    /**
+     * Lee un sistema. A es una vista sobre los datos leídos (sin copia) y B
+     * una copia de las k últimas columnas; con k = 0 el sistema no tiene
+     * términos independientes.
+     *
+     * @throws InputException Si el fichero no es un sistema válido.
+     */
+    public static Sistema leerSistema(Path ruta) throws IOException, InputException {
+        return separar(leerAumentada(ruta));
+    }
+
+    /**
+     * Sistema a partir de una matriz aumentada [A | B] de n x (n+k): A es una
+     * vista sobre M y B una copia de sus k últimas columnas.
+     */
+    static Sistema separar(Matriz M) {
+        int n = M.getFilas();
+        int k = M.getColumnas() - n;
+        Matriz A = new Matriz(n, n, M.getLd(), M.getDatos());
+        if (k == 0) {
+            return new Sistema(A, (Matriz) null);
+        }
+        return new Sistema(A, M.copiarColumnas(n, k));
+    }
+
+    /**
+     * Lee un resultado escrito con {@link EscritorBinario#escribir(Path, ResultadoGauss)}.
+     *
+     * @throws InputException Si el fichero no es un resultado válido.
+     */
+    public static ResultadoGauss leerResultado(Path ruta) throws IOException, InputException {
+        try (FileChannel ch = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            FormatoBinario.Cabecera c = leerCabecera(ch);
+            if (c.contenido() != FormatoBinario.CONTENIDO_RESULTADO || c.k() == 0) {
+                throw new InputException("El fichero " + ruta + " no contiene un resultado.");
+            }
+            int n = c.n();
+            int k = c.k();
+            int columnas = (int) c.columnas();
+            Matriz R = new Matriz(n, columnas, columnas, leerDatos(ch, c));
+            return new ResultadoGauss(R.copiarColumnas(0, n), R.copiarColumnas(n, k),
+                    R.copiarColumnas(n + k, k));
+        }
+    }
+
+    private static FormatoBinario.Cabecera leerCabecera(FileChannel ch) throws IOException, InputException {
+        ByteBuffer buf = ByteBuffer.allocate(FormatoBinario.TAM_CABECERA);
+        while (buf.hasRemaining() && ch.read(buf, buf.position()) >= 0) {
+            // lectura completa de la cabecera
+        }
+        return FormatoBinario.leerCabecera(buf, ch.size());
+    }
+
+    /**
+     * Copia en bloque los datos del fichero, proyectándolo por trozos.
+     */
+    private static double[] leerDatos(FileChannel ch, FormatoBinario.Cabecera c) throws IOException {
+        long total = c.n() * c.columnas();
+        double[] datos = new double[(int) total];
+        long posicion = FormatoBinario.TAM_CABECERA;
+        int copiados = 0;
+        while (copiados < total) {
+            long bytes = Math.min(TROZO, (total - copiados) * Double.BYTES);
+            MappedByteBuffer trozo = ch.map(FileChannel.MapMode.READ_ONLY, posicion, bytes);
+            int elementos = (int) (bytes / Double.BYTES);
+            trozo.order(c.orden()).asDoubleBuffer().get(datos, copiados, elementos);
+            copiados += elementos;
+            posicion += bytes;
+        }
+        return datos;
+    }
+}
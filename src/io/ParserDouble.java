@@ -0,0 +1,280 @@
+package io;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Conversión de texto ASCII a double directamente sobre los bytes del
+ * fichero, sin crear objetos {@code String}.
+ *
+ * La mantisa decimal (hasta 19 cifras significativas) y el exponente se leen
+ * a un {@code long} y un {@code int}; el valor se obtiene con el algoritmo de
+ * Eisel-Lemire (producto de 128 bits por una potencia de 5 precalculada), que
+ * da el double correctamente redondeado. Los casos poco frecuentes (más de 19
+ * cifras, subnormales, desbordamiento, NaN o Infinity) se delegan en
+ * {@link Double#parseDouble}, que da el mismo resultado.
+ *
+ * Un objeto guarda el último valor leído y no es seguro entre hilos.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class ParserDouble {
+
+    private static final int Q_MIN = -342;
+    private static final int Q_MAX = 308;
+    private static final int MAX_CIFRAS = 19;
+
+    /** 5^q normalizado a 128 bits, para q en [Q_MIN, Q_MAX]: parte alta y baja. */
+    private static final long[] POT5_ALTA = new long[Q_MAX - Q_MIN + 1];
+    private static final long[] POT5_BAJA = new long[Q_MAX - Q_MIN + 1];
+
+    /** Potencias exactas de 10 para la vía rápida de Clinger. */
+    private static final double[] POT10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    static {
+        BigInteger dos128 = BigInteger.ONE.shiftLeft(128);
+        BigInteger mascara = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        for (int q = Q_MIN; q <= Q_MAX; q++) {
+            BigInteger c;
+            if (q < 0) {
+                // 2^b / 5^-q redondeado por exceso y truncado a 128 bits
+                BigInteger pot5 = BigInteger.valueOf(5).pow(-q);
+                int z = pot5.bitLength();
+                if (BigInteger.ONE.shiftLeft(z - 1).equals(pot5)) {
+                    z--;
+                }
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(pot5).add(BigInteger.ONE);
+                while (c.compareTo(dos128) >= 0) {
+                    c = c.shiftRight(1);
+                }
+            } else {
+                // 5^q con el bit más significativo en la posición 127, truncado
+                c = BigInteger.valueOf(5).pow(q);
+                int bits = c.bitLength();
+                c = bits <= 128 ? c.shiftLeft(128 - bits) : c.shiftRight(bits - 128);
+            }
+            POT5_ALTA[q - Q_MIN] = c.shiftRight(64).longValue();
+            POT5_BAJA[q - Q_MIN] = c.and(mascara).longValue();
+        }
+    }
+
+    private double valor;
+
+    /**
+     * Último valor leído.
+     */
+    double valor() {
+        return valor;
+    }
+
+    /**
+     * Lee un número que empieza en {@code p} y termina antes de {@code fin}
+     * o del primer carácter que no puede formar parte de él.
+     *
+     * @return La posición siguiente al número, o -1 si en p no hay un número válido.
+     */
+    int parse(ByteBuffer buf, int p, int fin) {
+        int inicio = p;
+        boolean negativo = false;
+        if (p < fin && (buf.get(p) == '-' || buf.get(p) == '+')) {
+            negativo = buf.get(p) == '-';
+            p++;
+        }
+
+        long mantisa = 0;
+        int cifras = 0;          // cifras significativas acumuladas
+        int exp10 = 0;
+        boolean hayCifras = false;
+        boolean truncado = false;
+        int c;
+        while (p < fin && (c = buf.get(p) - '0') >= 0 && c <= 9) {
+            hayCifras = true;
+            if (cifras < MAX_CIFRAS) {
+                mantisa = mantisa * 10 + c;
+                if (mantisa != 0) {
+                    cifras++;
+                }
+            } else {
+                exp10++;
+                truncado |= c != 0;
+            }
+            p++;
+        }
+        if (p < fin && buf.get(p) == '.') {
+            p++;
+            // Bloques de 8 cifras decimales de una vez
+            while (p + 8 <= fin && cifras + 8 <= MAX_CIFRAS) {
+                long ocho = buf.getLong(p);
+                if (buf.order() == ByteOrder.BIG_ENDIAN) {
+                    ocho = Long.reverseBytes(ocho);
+                }
+                if (!sonOchoCifras(ocho)) {
+                    break;
+                }
+                mantisa = mantisa * 100_000_000L + ochoCifras(ocho);
+                exp10 -= 8;
+                if (mantisa != 0) {
+                    cifras += 8;
+                }
+                hayCifras = true;
+                p += 8;
+            }
+            while (p < fin && (c = buf.get(p) - '0') >= 0 && c <= 9) {
+                hayCifras = true;
+                if (cifras < MAX_CIFRAS) {
+                    mantisa = mantisa * 10 + c;
+                    exp10--;
+                    if (mantisa != 0) {
+                        cifras++;
+                    }
+                } else {
+                    truncado |= c != 0;
+                }
+                p++;
+            }
+        }
+        if (!hayCifras) {
+            return porTexto(buf, inicio, fin);
+        }
+        if (p < fin && (buf.get(p) == 'e' || buf.get(p) == 'E')) {
+            int q = p + 1;
+            boolean expNegativo = false;
+            if (q < fin && (buf.get(q) == '-' || buf.get(q) == '+')) {
+                expNegativo = buf.get(q) == '-';
+                q++;
+            }
+            if (q >= fin || (c = buf.get(q) - '0') < 0 || c > 9) {
+                return -1;
+            }
+            int e = 0;
+            while (q < fin && (c = buf.get(q) - '0') >= 0 && c <= 9) {
+                if (e < 100_000) {
+                    e = e * 10 + c;
+                }
+                q++;
+            }
+            exp10 += expNegativo ? -e : e;
+            p = q;
+        }
+
+        if (truncado) {
+            return porTexto(buf, inicio, p);
+        }
+        double v = convertir(mantisa, exp10);
+        if (Double.isNaN(v)) {
+            return porTexto(buf, inicio, p);
+        }
+        valor = negativo ? -v : v;
+        return p;
+    }
+
+    /**
+     * Indica si los 8 bytes (el primero en el byte bajo) son cifras ASCII.
+     */
+    private static boolean sonOchoCifras(long v) {
+        return ((v & 0xF0F0F0F0F0F0F0F0L) | (((v + 0x0606060606060606L) & 0xF0F0F0F0F0F0F0F0L) >>> 4))
+                == 0x3333333333333333L;
+    }
+
+    /**
+     * Valor de 8 cifras ASCII (la primera en el byte bajo) con tres multiplicaciones.
+     */
+    private static long ochoCifras(long v) {
+        v -= 0x3030303030303030L;
+        v = v * 10 + (v >>> 8);
+        return (((v & 0x000000FF000000FFL) * (100 + (1_000_000L << 32)))
+                + (((v >>> 16) & 0x000000FF000000FFL) * (1 + (10_000L << 32)))) >>> 32;
+    }
+
+    /**
+     * mantisa·10^exp10 correctamente redondeado, o NaN si hay que usar la vía lenta.
+     */
+    static double convertir(long mantisa, int exp10) {
+        if (mantisa == 0 || exp10 < Q_MIN) {
+            return exp10 < Q_MIN && mantisa != 0 ? Double.NaN : 0.0;
+        }
+        // Vía rápida: mantisa y potencia de 10 exactas en double
+        if (mantisa >= 0 && mantisa <= (1L << 53) && exp10 >= -22 && exp10 <= 22) {
+            return exp10 >= 0 ? mantisa * POT10[exp10] : mantisa / POT10[-exp10];
+        }
+        if (exp10 > Q_MAX) {
+            return Double.NaN;
+        }
+        return eiselLemire(mantisa, exp10);
+    }
+
+    private static double eiselLemire(long w, int q) {
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+        int idx = q - Q_MIN;
+        long alta = POT5_ALTA[idx];
+        long baja = POT5_BAJA[idx];
+
+        long prodBajo = w * alta;
+        long prodAlto = Math.unsignedMultiplyHigh(w, alta);
+        if ((prodAlto & 0x1FF) == 0x1FF) {
+            long segundoAlto = Math.unsignedMultiplyHigh(w, baja);
+            long suma = prodBajo + segundoAlto;
+            if (Long.compareUnsigned(segundoAlto, suma) > 0) {
+                prodAlto++;
+            }
+            prodBajo = suma;
+        }
+
+        int bitAlto = (int) (prodAlto >>> 63);
+        long m = prodAlto >>> (bitAlto + 9);
+        int pot2 = (((152170 + 65536) * q) >> 16) + 63 + bitAlto - lz + 1023;
+        if (pot2 <= 0) {
+            return Double.NaN;   // subnormal
+        }
+        // Justo en el punto medio entre dos doubles: redondeo al par
+        if (Long.compareUnsigned(prodBajo, 1) <= 0 && q >= -4 && q <= 23 && (m & 3) == 1
+                && (m << (bitAlto + 9)) == prodAlto) {
+            m &= ~1L;
+        }
+        m += m & 1;
+        m >>>= 1;
+        if (m >= (2L << 52)) {
+            m = 1L << 52;
+            pot2++;
+        }
+        m &= ~(1L << 52);
+        if (pot2 >= 0x7FF) {
+            return Double.NaN;   // desbordamiento
+        }
+        return Double.longBitsToDouble(m | ((long) pot2 << 52));
+    }
+
+    /**
+     * Vía lenta: interpreta el token [inicio, fin) con {@link Double#parseDouble}.
+     * El token se corta en el primer separador.
+     */
+    private int porTexto(ByteBuffer buf, int inicio, int fin) {
+        int p = inicio;
+        while (p < fin && !esSeparador(buf.get(p))) {
+            p++;
+        }
+        if (p == inicio) {
+            return -1;
+        }
+        byte[] token = new byte[p - inicio];
+        buf.get(inicio, token);
+        try {
+            valor = Double.parseDouble(new String(token, StandardCharsets.US_ASCII));
+            return p;
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    static boolean esSeparador(byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+}
@@ -0,0 +1,361 @@
+package logic;
+
+import exception.MatrixException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caché opcional delante de {@link GaussSolver#solve(Sistema)} para cargas que
+ * repiten la misma matriz de coeficientes.
+ *
+ * Cada A se identifica por una huella de 128 bits (MurmurHash3 x64 sobre los
+ * bits de sus elementos, junto con sus dimensiones) y se guarda su
+ * {@link Factorizacion}: un sistema repetido cuesta la huella y una sustitución,
+ * O(n²), en lugar de la eliminación completa, O(n³). Con {@code incluirTerminos}
+ * se guarda además cada {@link ResultadoGauss} bajo la huella de A y B, de modo
+ * que un sistema idéntico solo cuesta la huella.
+ *
+ * Las entradas se expulsan por antigüedad de uso (LRU) cuando su tamaño
+ * estimado supera el máximo en bytes. El mapa se protege con un cerrojo que
+ * solo se retiene para consultar o insertar; la factorización se calcula fuera,
+ * así que dos hilos que fallan a la vez con la misma A la calculan ambos.
+ * No se comparan los datos al acertar: una colisión de la huella es
+ * despreciable para datos no construidos a propósito.
+ *
+ * Los sistemas dispersos y en banda se resuelven sin caché, porque sus solvers
+ * son más baratos que una sustitución densa.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public final class CacheSoluciones {
+
+    private final long maxBytes;
+    private final boolean incluirTerminos;
+
+    private final LinkedHashMap<Clave, Entrada> entradas = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;     // protegido por entradas
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder expulsiones = new LongAdder();
+
+    /**
+     * Huella de 128 bits y dimensiones; k = 0 para una factorización de A.
+     */
+    private record Clave(long alto, long bajo, int n, int k) {}
+
+    private record Entrada(Object valor, long bytes) {}
+
+    /**
+     * Contadores de la caché en un instante dado. Cada resolución cuenta como
+     * acierto si evitó la eliminación (por su resultado o por la factorización
+     * de A) y como fallo si no.
+     */
+    public record Estadisticas(long aciertos, long fallos, long expulsiones, int entradas, long bytes) {
+
+        /**
+         * Fracción de consultas que acertaron (0 si no ha habido ninguna).
+         */
+        public double tasaAciertos() {
+            long total = aciertos + fallos;
+            return total == 0 ? 0.0 : (double) aciertos / total;
+        }
+    }
+
+    /**
+     * Caché de factorizaciones de A de como mucho {@code maxBytes} bytes.
+     */
+    public CacheSoluciones(long maxBytes) {
+        this(maxBytes, false);
+    }
+
+    /**
+     * @param maxBytes Tamaño máximo estimado de lo guardado, en bytes.
+     * @param incluirTerminos Si se guardan también los resultados de cada
+     *                        par (A, B) además de la factorización de A.
+     */
+    public CacheSoluciones(long maxBytes, boolean incluirTerminos) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("El tamaño máximo debe ser positivo: " + maxBytes);
+        }
+        this.maxBytes = maxBytes;
+        this.incluirTerminos = incluirTerminos;
+    }
+
+    /**
+     * Resuelve el sistema como {@link GaussSolver#solve(Sistema)}, reutilizando
+     * la factorización de A si ya se calculó. Los errores no se guardan.
+     *
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public ResultadoGauss solve(Sistema sistema) throws MatrixException {
+        if (sistema instanceof SistemaDisperso || sistema.getNumTerminos() == 0) {
+            return GaussSolver.solve(sistema);
+        }
+        Huella hA = Huella.de(sistema);
+        Matriz B = sistema.getMatrizB();
+        if (B.getFilas() != hA.n) {
+            return GaussSolver.solve(sistema);
+        }
+        Clave claveA = hA.clave(0);
+
+        Clave claveAB = null;
+        if (incluirTerminos) {
+            Huella hAB = hA.copiar();
+            hAB.mezclar(B.getColumnas());
+            hAB.mezclar(B);
+            claveAB = hAB.clave(B.getColumnas());
+            if (buscar(claveAB) instanceof ResultadoGauss r) {
+                aciertos.increment();
+                return r;
+            }
+        }
+
+        Factorizacion f = (Factorizacion) buscar(claveA);
+        if (f != null) {
+            aciertos.increment();
+        } else {
+            fallos.increment();
+            if (SolverBanda.detectarBanda(sistema) != null) {
+                return GaussSolver.solve(sistema);
+            }
+            f = factorizarSiRegular(sistema);
+            if (f == null) {
+                // A es singular o no es cuadrada: GaussSolver informa del motivo exacto
+                return GaussSolver.solve(sistema);
+            }
+            guardar(claveA, f, f.bytes());
+        }
+
+        ResultadoGauss r = f.resolver(B);
+        if (claveAB != null) {
+            long n = f.getN();
+            guardar(claveAB, r, f.bytes() + 16 * n * B.getColumnas());
+        }
+        return r;
+    }
+
+    /**
+     * Devuelve la factorización de A, calculándola y guardándola si no estaba.
+     *
+     * @throws MatrixException Si A no es cuadrada o es singular.
+     */
+    public Factorizacion factorizar(Sistema sistema) throws MatrixException {
+        Clave clave = Huella.de(sistema).clave(0);
+        Factorizacion f = (Factorizacion) buscar(clave);
+        if (f != null) {
+            aciertos.increment();
+        } else {
+            fallos.increment();
+            f = GaussSolver.factorizar(sistema);
+            guardar(clave, f, f.bytes());
+        }
+        return f;
+    }
+
+    /**
+     * Copia de los contadores actuales.
+     */
+    public Estadisticas getEstadisticas() {
+        synchronized (entradas) {
+            return new Estadisticas(aciertos.sum(), fallos.sum(), expulsiones.sum(), entradas.size(), bytes);
+        }
+    }
+
+    /**
+     * Vacía la caché (los contadores se conservan).
+     */
+    public void limpiar() {
+        synchronized (entradas) {
+            entradas.clear();
+            bytes = 0;
+        }
+    }
+
+    private static Factorizacion factorizarSiRegular(Sistema sistema) {
+        try {
+            return GaussSolver.factorizar(sistema);
+        } catch (MatrixException ex) {
+            return null;
+        }
+    }
+
+    private Object buscar(Clave clave) {
+        Entrada e;
+        synchronized (entradas) {
+            e = entradas.get(clave);
+        }
+        return e == null ? null : e.valor();
+    }
+
+    private void guardar(Clave clave, Object valor, long tam) {
+        if (tam > maxBytes) {
+            return;
+        }
+        synchronized (entradas) {
+            Entrada anterior = entradas.put(clave, new Entrada(valor, tam));
+            bytes += tam - (anterior == null ? 0 : anterior.bytes());
+            Iterator<Map.Entry<Clave, Entrada>> it = entradas.entrySet().iterator();
+            while (bytes > maxBytes && it.hasNext()) {
+                Map.Entry<Clave, Entrada> e = it.next();
+                if (e.getKey().equals(clave)) {
+                    continue;
+                }
+                bytes -= e.getValue().bytes();
+                it.remove();
+                expulsiones.increment();
+            }
+        }
+    }
+
+    /**
+     * MurmurHash3 x64 de 128 bits sobre una secuencia de {@code long}, que se
+     * consumen de dos en dos.
+     */
+    private static final class Huella {
+
+        private static final long C1 = 0x87c37b91114253d5L;
+        private static final long C2 = 0x4cf5ad432745937fL;
+
+        private long h1;
+        private long h2;
+        private long pendiente;
+        private boolean hayPendiente;
+        private long longitud;
+        private int n;
+
+        /**
+         * Huella de A: dimensiones y elementos por filas, igual para una
+         * {@link Matriz} que para el {@code double[][]} equivalente.
+         */
+        static Huella de(Sistema sistema) {
+            Huella h = new Huella();
+            if (sistema.isContigua()) {
+                Matriz A = sistema.getMatriz();
+                h.n = A.getFilas();
+                h.mezclar(A.getFilas());
+                h.mezclar(A.getColumnas());
+                h.mezclar(A);
+            } else {
+                double[][] A = sistema.getA();
+                h.n = A == null ? 0 : A.length;
+                h.mezclar(h.n);
+                int columnas = h.n == 0 || A[0] == null ? 0 : A[0].length;
+                h.mezclar(columnas);
+                for (int i = 0; i < h.n; i++) {
+                    double[] fila = A[i];
+                    if (fila == null || fila.length != columnas) {
+                        // filas irregulares: el solver las rechazará, pero no deben coincidir
+                        h.mezclar(-1 - (fila == null ? 0 : fila.length));
+                    }
+                    if (fila != null) {
+                        h.mezclar(fila, 0, fila.length);
+                    }
+                }
+            }
+            return h;
+        }
+
+        Huella copiar() {
+            Huella c = new Huella();
+            c.h1 = h1;
+            c.h2 = h2;
+            c.pendiente = pendiente;
+            c.hayPendiente = hayPendiente;
+            c.longitud = longitud;
+            c.n = n;
+            return c;
+        }
+
+        void mezclar(Matriz M) {
+            int filas = M.getFilas();
+            int columnas = M.getColumnas();
+            double[] d = M.getDatos();
+            int ld = M.getLd();
+            for (int i = 0; i < filas; i++) {
+                mezclar(d, i * ld, columnas);
+            }
+        }
+
+        /**
+         * Mezcla d[desde, desde + len) con el estado en variables locales.
+         */
+        void mezclar(double[] d, int desde, int len) {
+            int j = desde;
+            int fin = desde + len;
+            if (hayPendiente && j < fin) {
+                mezclar(Double.doubleToLongBits(d[j++]));
+            }
+            int inicio = j;
+            long a = h1;
+            long b = h2;
+            for (; j + 1 < fin; j += 2) {
+                a ^= mezclarK1(Double.doubleToLongBits(d[j]));
+                a = Long.rotateLeft(a, 27) + b;
+                a = a * 5 + 0x52dce729;
+                b ^= Long.rotateLeft(Double.doubleToLongBits(d[j + 1]) * C2, 33) * C1;
+                b = Long.rotateLeft(b, 31) + a;
+                b = b * 5 + 0x38495ab5;
+            }
+            h1 = a;
+            h2 = b;
+            longitud += j - inicio;
+            if (j < fin) {
+                mezclar(Double.doubleToLongBits(d[j]));
+            }
+        }
+
+        void mezclar(long v) {
+            longitud++;
+            if (!hayPendiente) {
+                pendiente = v;
+                hayPendiente = true;
+                return;
+            }
+            hayPendiente = false;
+            h1 ^= mezclarK1(pendiente);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            long k2 = v * C2;
+            k2 = Long.rotateLeft(k2, 33) * C1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        Clave clave(int k) {
+            long a = h1;
+            long b = h2;
+            if (hayPendiente) {
+                a ^= mezclarK1(pendiente);
+            }
+            a ^= longitud;
+            b ^= longitud;
+            a += b;
+            b += a;
+            a = fmix(a);
+            b = fmix(b);
+            a += b;
+            b += a;
+            return new Clave(a, b, n, k);
+        }
+
+        private static long mezclarK1(long k1) {
+            k1 *= C1;
+            return Long.rotateLeft(k1, 31) * C2;
+        }
+
+        private static long fmix(long k) {
+            k ^= k >>> 33;
+            k *= 0xff51afd7ed558ccdL;
+            k ^= k >>> 33;
+            k *= 0xc4ceb9fe1a85ec53L;
+            k ^= k >>> 33;
+            return k;
+        }
+    }
+}
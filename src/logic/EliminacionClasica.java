@@ -0,0 +1,23 @@
+package logic;
+
+import exception.MatrixException;
+
+/**
+ * Motor clásico: actualización de rango 1 columna a columna
+ * (el algoritmo de libro de texto). Es el motor por defecto de {@link GaussSolver}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public class EliminacionClasica implements MotorEliminacion {
+
+    @Override
+    public void eliminar(Matriz M, double[] s, int[] perm) throws MatrixException {
+        GaussSolver.eliminationWithScaledPartialPivoting(M, s, perm);
+    }
+
+    @Override
+    public String toString() {
+        return "clasico";
+    }
+}
@@ -0,0 +1,223 @@
+package logic;
+
+import exception.MatrixException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Motor de eliminación paralelo basado en fork/join.
+ *
+ * Para cada columna k, la búsqueda del pivote escalado y la actualización de
+ * las filas k+1..n-1 se reparten en tareas sobre bloques de filas, ya que cada
+ * fila se actualiza de forma independiente. Por debajo de {@code umbral}
+ * incógnitas (o cuando la submatriz restante es pequeña) se trabaja en secuencial
+ * para no pagar el coste de sincronización.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public class EliminacionParalela implements MotorEliminacion {
+
+    public static final int UMBRAL_POR_DEFECTO = 256;
+
+    /** Número mínimo de elementos a actualizar por tarea. */
+    private static final int GRANO = 16 * 1024;
+
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+
+    private final ForkJoinPool pool;
+    private final int umbral;
+
+    /**
+     * Motor paralelo sobre el pool común con el umbral por defecto.
+     */
+    public EliminacionParalela() {
+        this(ForkJoinPool.commonPool(), UMBRAL_POR_DEFECTO);
+    }
+
+    /**
+     * @param pool El pool donde se ejecutan las tareas.
+     * @param umbral Tamaño n a partir del cual se paraleliza.
+     */
+    public EliminacionParalela(ForkJoinPool pool, int umbral) {
+        if (pool == null) {
+            throw new IllegalArgumentException("El pool no puede ser nulo.");
+        }
+        if (umbral < 1) {
+            throw new IllegalArgumentException("El umbral debe ser positivo: " + umbral);
+        }
+        this.pool = pool;
+        this.umbral = umbral;
+    }
+
+    public int getUmbral() {
+        return umbral;
+    }
+
+    @Override
+    public void eliminar(Matriz M, double[] s, int[] perm) throws MatrixException {
+        if (M.getFilas() < umbral || pool.getParallelism() < 2) {
+            GaussSolver.eliminationWithScaledPartialPivoting(M, s, perm);
+            return;
+        }
+
+        Eliminacion tarea = new Eliminacion(M, s, perm);
+        pool.invoke(tarea);
+        if (tarea.error != null) {
+            throw tarea.error;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "paralelo(" + pool.getParallelism() + " hilos, umbral " + umbral + ")";
+    }
+
+    /**
+     * Tarea raíz: recorre las columnas dentro del pool y lanza las subtareas.
+     */
+    private static final class Eliminacion extends RecursiveAction {
+
+        private final Matriz M;
+        private final double[] s;
+        private final int[] perm;
+        private MatrixException error;
+
+        Eliminacion(Matriz M, double[] s, int[] perm) {
+            this.M = M;
+            this.s = s;
+            this.perm = perm;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                eliminar();
+            } catch (MatrixException ex) {
+                error = ex;
+            }
+        }
+
+        private void eliminar() throws MatrixException {
+            int n = M.getFilas();
+            int cols = M.getColumnas();
+            double[] m = M.getDatos();
+            int ld = M.getLd();
+            double umbralNulo = GaussSolver.umbralNulo(s, n);
+
+            for (int k = 0; k < n - 1; k++) {
+
+                // 1 Seleccionar fila pivote usando los factores de escala
+                int pivotRow = new BusquedaPivote(m, ld, s, k, k, n).compute();
+
+                // 2 Comprobar pivote casi nulo
+                GaussSolver.checkPivot(m[pivotRow * ld + k], umbralNulo, k);
+
+                // 3 Intercambiar filas en M, s y perm si es necesario
+                if (pivotRow != k) {
+                    GaussSolver.swap(M, s, perm, k, pivotRow);
+                }
+
+                // 4 Eliminación por debajo del pivote, repartida por filas
+                new ActualizacionFilas(m, ld, cols, k, k + 1, n).compute();
+            }
+        }
+    }
+
+    /**
+     * Devuelve la fila con mayor |a_ik| / s[i] en [desde, hasta). En caso de
+     * empate se queda con la primera, igual que el recorrido secuencial.
+     */
+    private static final class BusquedaPivote extends RecursiveTask<Integer> {
+
+        private final double[] m;
+        private final int ld;
+        private final double[] s;
+        private final int k;
+        private final int desde;
+        private final int hasta;
+
+        BusquedaPivote(double[] m, int ld, double[] s, int k, int desde, int hasta) {
+            this.m = m;
+            this.ld = ld;
+            this.s = s;
+            this.k = k;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (hasta - desde <= GRANO / 16) {
+                int pivotRow = desde;
+                double maxRatio = Math.abs(m[desde * ld + k]) / s[desde];
+                for (int i = desde + 1; i < hasta; i++) {
+                    double ratio = Math.abs(m[i * ld + k]) / s[i];
+                    if (ratio > maxRatio) {
+                        maxRatio = ratio;
+                        pivotRow = i;
+                    }
+                }
+                return pivotRow;
+            }
+
+            int mitad = (desde + hasta) >>> 1;
+            BusquedaPivote derecha = new BusquedaPivote(m, ld, s, k, mitad, hasta);
+            derecha.fork();
+            int izq = new BusquedaPivote(m, ld, s, k, desde, mitad).compute();
+            int der = derecha.join();
+
+            double ratioDer = Math.abs(m[der * ld + k]) / s[der];
+            double ratioIzq = Math.abs(m[izq * ld + k]) / s[izq];
+            return ratioDer > ratioIzq ? der : izq;
+        }
+    }
+
+    /**
+     * Actualiza las filas [desde, hasta) con la fila pivote k, guardando el multiplicador.
+     */
+    private static final class ActualizacionFilas extends RecursiveAction {
+
+        private final double[] m;
+        private final int ld;
+        private final int cols;
+        private final int k;
+        private final int desde;
+        private final int hasta;
+
+        ActualizacionFilas(double[] m, int ld, int cols, int k, int desde, int hasta) {
+            this.m = m;
+            this.ld = ld;
+            this.cols = cols;
+            this.k = k;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected void compute() {
+            long trabajo = (long) (hasta - desde) * (cols - k);
+            if (trabajo <= GRANO || hasta - desde < 2) {
+                actualizar();
+                return;
+            }
+            int mitad = (desde + hasta) >>> 1;
+            invokeAll(new ActualizacionFilas(m, ld, cols, k, desde, mitad),
+                    new ActualizacionFilas(m, ld, cols, k, mitad, hasta));
+        }
+
+        private void actualizar() {
+            int filaK = k * ld;
+            double pivote = m[filaK + k];
+            for (int i = desde; i < hasta; i++) {
+                int filaI = i * ld;
+                double factor = m[filaI + k] / pivote;
+                m[filaI + k] = factor;
+
+                NUCLEOS.axpy(factor, m, filaK + k + 1, m, filaI + k + 1, cols - k - 1);
+            }
+        }
+    }
+}
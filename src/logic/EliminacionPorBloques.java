@@ -0,0 +1,156 @@
+package logic;
+
+import exception.MatrixException;
+
+/**
+ * Motor de factorización LU por bloques (right-looking) con pivotaje parcial escalado.
+ *
+ * Para cada panel de {@code tamBloque} columnas:
+ * <ol>
+ *   <li>Se factoriza el panel columna a columna, eligiendo el pivote con
+ *       |a_ik| / s[i] e intercambiando filas completas de M y de s.</li>
+ *   <li>Se resuelve el bloque U12 con L11 (triangular inferior unitaria).</li>
+ *   <li>Se actualiza la submatriz restante A22 -= L21 * U12 como un producto
+ *       de matrices por teselas, de modo que U12 permanece en caché L1/L2.</li>
+ * </ol>
+ * Las decisiones de pivotaje son las mismas que las del motor clásico, ya que
+ * las columnas del panel están completamente actualizadas cuando se buscan.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public class EliminacionPorBloques implements MotorEliminacion {
+
+    public static final int BLOQUE_POR_DEFECTO = 64;
+
+    /** Ancho de las teselas de columnas en la actualización de la submatriz restante. */
+    private static final int TESELA_COLUMNAS = 256;
+
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+
+    private final int tamBloque;
+
+    public EliminacionPorBloques() {
+        this(BLOQUE_POR_DEFECTO);
+    }
+
+    /**
+     * @param tamBloque Número de columnas de cada panel (mayor que cero).
+     */
+    public EliminacionPorBloques(int tamBloque) {
+        if (tamBloque <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo: " + tamBloque);
+        }
+        this.tamBloque = tamBloque;
+    }
+
+    public int getTamBloque() {
+        return tamBloque;
+    }
+
+    @Override
+    public void eliminar(Matriz M, double[] s, int[] perm) throws MatrixException {
+        int n = M.getFilas();
+        double umbralNulo = GaussSolver.umbralNulo(s, n);
+
+        for (int k0 = 0; k0 < n - 1; k0 += tamBloque) {
+            int k1 = Math.min(k0 + tamBloque, n);
+
+            factorizarPanel(M, s, perm, umbralNulo, k0, k1);
+            resolverBloqueU(M, k0, k1);
+            actualizarRestante(M, k0, k1);
+        }
+    }
+
+    /**
+     * Factoriza las columnas [k0, k1) guardando los multiplicadores bajo la diagonal.
+     * Los intercambios de filas afectan a la fila completa.
+     */
+    private static void factorizarPanel(Matriz M, double[] s, int[] perm, double umbralNulo, int k0, int k1)
+            throws MatrixException {
+
+        int n = M.getFilas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+
+        for (int k = k0; k < k1 && k < n - 1; k++) {
+            int filaK = k * ld;
+
+            // 1 Seleccionar fila pivote usando los factores de escala
+            int pivotRow = k;
+            double maxRatio = Math.abs(m[filaK + k]) / s[k];
+            for (int i = k + 1; i < n; i++) {
+                double ratio = Math.abs(m[i * ld + k]) / s[i];
+                if (ratio > maxRatio) {
+                    maxRatio = ratio;
+                    pivotRow = i;
+                }
+            }
+
+            // 2 Comprobar pivote casi nulo
+            GaussSolver.checkPivot(m[pivotRow * ld + k], umbralNulo, k);
+
+            // 3 Intercambiar filas completas en M, s y perm
+            if (pivotRow != k) {
+                GaussSolver.swap(M, s, perm, k, pivotRow);
+            }
+
+            // 4 Multiplicadores y actualización dentro del panel
+            double pivote = m[filaK + k];
+            for (int i = k + 1; i < n; i++) {
+                int filaI = i * ld;
+                double factor = m[filaI + k] / pivote;
+                m[filaI + k] = factor;
+                NUCLEOS.axpy(factor, m, filaK + k + 1, m, filaI + k + 1, k1 - k - 1);
+            }
+        }
+    }
+
+    /**
+     * U12 = L11^-1 * A12 sobre las filas del panel y las columnas a la derecha
+     * (incluidas las de términos independientes).
+     */
+    private static void resolverBloqueU(Matriz M, int k0, int k1) {
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        int cols = M.getColumnas();
+
+        for (int k = k0; k < k1; k++) {
+            int filaK = k * ld;
+            for (int i = k + 1; i < k1; i++) {
+                int filaI = i * ld;
+                NUCLEOS.axpy(m[filaI + k], m, filaK + k1, m, filaI + k1, cols - k1);
+            }
+        }
+    }
+
+    /**
+     * A22 -= L21 * U12, recorriendo A22 por teselas de columnas para que
+     * la tesela de U12 correspondiente se reutilice desde caché en cada fila.
+     */
+    private static void actualizarRestante(Matriz M, int k0, int k1) {
+        int n = M.getFilas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        int cols = M.getColumnas();
+
+        for (int j0 = k1; j0 < cols; j0 += TESELA_COLUMNAS) {
+            int j1 = Math.min(j0 + TESELA_COLUMNAS, cols);
+            for (int i = k1; i < n; i++) {
+                int filaI = i * ld;
+                for (int p = k0; p < k1; p++) {
+                    double factor = m[filaI + p];
+                    if (factor == 0.0) {
+                        continue;
+                    }
+                    NUCLEOS.axpy(factor, m, p * ld + j0, m, filaI + j0, j1 - j0);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "bloques(" + tamBloque + ")";
+    }
+}
@@ -0,0 +1,163 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Estimación de ‖A⁻¹‖₁ a partir de una factorización PA = LU ya calculada,
+ * con el algoritmo de Hager en la versión de Higham (la de LAPACK, xLACN2).
+ *
+ * Cada paso resuelve un sistema con A y otro con Aᵀ, en O(n²); el algoritmo
+ * suele converger en dos o tres pasos y nunca hace más de cinco, más una
+ * resolución final con un vector alternativo que protege de los casos en que
+ * el gradiente engaña. El resultado es una cota inferior de ‖A⁻¹‖₁ que en la
+ * práctica casi siempre está dentro de un factor 3 del valor exacto.
+ *
+ * La permutación no hace falta: A⁻¹ = U⁻¹L⁻¹P y permutar las columnas no cambia
+ * la norma 1, así que ‖A⁻¹‖₁ = ‖(LU)⁻¹‖₁.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class EstimadorCondicion {
+
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+    private static final int MAX_PASOS = 5;
+
+    private EstimadorCondicion() {}
+
+    /**
+     * Estima ‖A⁻¹‖₁ con los factores guardados en las n primeras columnas de
+     * LU (U en la parte superior, multiplicadores de L debajo).
+     */
+    static double normaInversa(Matriz LU) {
+        int n = LU.getFilas();
+        double[] m = LU.getDatos();
+        int ld = LU.getLd();
+
+        double[] x = new double[n];
+        Arrays.fill(x, 1.0 / n);
+        resolver(m, ld, n, x);
+        if (n == 1) {
+            return Math.abs(x[0]);
+        }
+        double estimacion = norma1(x);
+        double[] signos = signos(x, new double[n]);
+        System.arraycopy(signos, 0, x, 0, n);
+        resolverTraspuesta(m, ld, n, x);
+        int j = indiceMaximo(x);
+
+        for (int paso = 2; paso <= MAX_PASOS; paso++) {
+            Arrays.fill(x, 0.0);
+            x[j] = 1.0;
+            resolver(m, ld, n, x);
+            double anterior = estimacion;
+            estimacion = Math.max(anterior, norma1(x));
+            if (mismosSignos(x, signos) || estimacion <= anterior) {
+                break;
+            }
+            signos(x, signos);
+            System.arraycopy(signos, 0, x, 0, n);
+            resolverTraspuesta(m, ld, n, x);
+            int anteriorJ = j;
+            j = indiceMaximo(x);
+            if (Math.abs(x[anteriorJ]) == Math.abs(x[j])) {
+                break;
+            }
+        }
+
+        // Vector alternativo x_i = (-1)^i (1 + i/(n-1))
+        for (int i = 0; i < n; i++) {
+            x[i] = (i % 2 == 0 ? 1.0 : -1.0) * (1.0 + (double) i / (n - 1));
+        }
+        resolver(m, ld, n, x);
+        return Math.max(estimacion, 2.0 * norma1(x) / (3.0 * n));
+    }
+
+    /**
+     * Calcula ‖LU‖₁ con los factores guardados en LU, que coincide con ‖A‖₁
+     * salvo redondeo porque PA = LU y permutar filas no cambia la norma 1.
+     * Cuesta O(n³): es para sistemas pequeños.
+     */
+    static double normaProducto(Matriz LU) {
+        int n = LU.getFilas();
+        double[] m = LU.getDatos();
+        int ld = LU.getLd();
+        double max = 0.0;
+        for (int j = 0; j < n; j++) {
+            double suma = 0.0;
+            for (int i = 0; i < n; i++) {
+                // (LU)_ij = Σ_{k ≤ min(i, j)} l_ik·u_kj, con l_ii = 1
+                int fila = i * ld;
+                double v = i <= j ? m[fila + j] : 0.0;
+                for (int k = 0; k < Math.min(i, j + 1); k++) {
+                    v += m[fila + k] * m[k * ld + j];
+                }
+                suma += Math.abs(v);
+            }
+            max = Math.max(max, suma);
+        }
+        return max;
+    }
+
+    /**
+     * x = (LU)⁻¹ x: sustitución progresiva con L y regresiva con U.
+     */
+    private static void resolver(double[] m, int ld, int n, double[] x) {
+        for (int i = 1; i < n; i++) {
+            x[i] -= NUCLEOS.dot(m, i * ld, x, 0, i);
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int fila = i * ld;
+            x[i] = (x[i] - NUCLEOS.dot(m, fila + i + 1, x, i + 1, n - i - 1)) / m[fila + i];
+        }
+    }
+
+    /**
+     * x = (LU)⁻ᵀ x: progresiva con Uᵀ y regresiva con Lᵀ, recorriendo las
+     * filas de U y L como columnas de sus traspuestas.
+     */
+    private static void resolverTraspuesta(double[] m, int ld, int n, double[] x) {
+        for (int j = 0; j < n; j++) {
+            int fila = j * ld;
+            x[j] /= m[fila + j];
+            NUCLEOS.axpy(x[j], m, fila + j + 1, x, j + 1, n - j - 1);
+        }
+        for (int j = n - 1; j > 0; j--) {
+            NUCLEOS.axpy(x[j], m, j * ld, x, 0, j);
+        }
+    }
+
+    private static double norma1(double[] x) {
+        double suma = 0.0;
+        for (double v : x) {
+            suma += Math.abs(v);
+        }
+        return suma;
+    }
+
+    private static double[] signos(double[] x, double[] signos) {
+        for (int i = 0; i < x.length; i++) {
+            signos[i] = x[i] >= 0.0 ? 1.0 : -1.0;
+        }
+        return signos;
+    }
+
+    private static boolean mismosSignos(double[] x, double[] signos) {
+        for (int i = 0; i < x.length; i++) {
+            if ((x[i] >= 0.0 ? 1.0 : -1.0) != signos[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int indiceMaximo(double[] x) {
+        int j = 0;
+        for (int i = 1; i < x.length; i++) {
+            if (Math.abs(x[i]) > Math.abs(x[j])) {
+                j = i;
+            }
+        }
+        return j;
+    }
+}
@@ -0,0 +1,247 @@
+package logic;
+
+import exception.MatrixException;
+import exception.MatrixException.Causa;
+
+/**
+ * Factorización PA = LU obtenida con pivotaje parcial escalado.
+ *
+ * Se calcula una sola vez con {@link GaussSolver#factorizar(Sistema)} y permite
+ * resolver cualquier número de términos independientes mediante sustitución
+ * progresiva y regresiva, en O(n²) por vector y sin repetir la eliminación.
+ * Es inmutable y puede compartirse entre hilos.
+ *
+ * @author Anabel Diaz
+ * @version 1.4 - 17/10/2026
+ */
+public final class Factorizacion {
+
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+
+    private final Matriz LU;     // U en la parte superior, multiplicadores de L debajo
+    private final int[] perm;    // perm[i] = fila original que ocupa la posición i
+    private final double[] s;    // factores de escala, en el orden final de las filas
+    private final double normaA; // ‖A‖₁
+    private volatile double condicion;    // 0 hasta calcularla
+
+    Factorizacion(Matriz LU, int[] perm, double[] s, double normaA) {
+        this.LU = LU;
+        this.perm = perm;
+        this.s = s;
+        this.normaA = normaA;
+    }
+
+    /**
+     * Número de incógnitas.
+     */
+    public int getN() {
+        return LU.getFilas();
+    }
+
+    /**
+     * Devuelve una copia de la matriz combinada L\U.
+     */
+    public Matriz getLU() {
+        return LU.copiar();
+    }
+
+    /**
+     * Devuelve una copia de la permutación de filas.
+     */
+    public int[] getPermutacion() {
+        return perm.clone();
+    }
+
+    /**
+     * Devuelve una copia de los factores de escala (en el orden de la permutación).
+     */
+    public double[] getEscalas() {
+        return s.clone();
+    }
+
+    /**
+     * Estimación del número de condición κ₁(A), como
+     * {@link ResultadoGauss#getCondicion()}; se calcula la primera vez en O(n²).
+     */
+    public double getCondicion() {
+        double c = condicion;
+        if (c == 0.0) {
+            c = normaA * EstimadorCondicion.normaInversa(LU);
+            condicion = c;
+        }
+        return c;
+    }
+
+    /**
+     * Resuelve Ax = b con la factorización ya calculada.
+     *
+     * @param b El vector de términos independientes.
+     * @return El vector solución x.
+     * @throws MatrixException Si la longitud de b no coincide con n.
+     */
+    public double[] solve(double[] b) throws MatrixException {
+        int n = getN();
+        if (b == null || b.length != n) {
+            throw GaussSolver.fallo(
+                    "Dimensiones incompatibles: A es de " + n + "x" + n +
+                            " pero b tiene longitud " + (b == null ? 0 : b.length) + ".", Causa.DATOS_NO_VALIDOS);
+        }
+
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = b[perm[i]];
+        }
+        sustituirProgresiva(x, 1);
+        sustituirRegresiva(x, 1);
+        return x;
+    }
+
+    /**
+     * Resuelve AX = B para una matriz B de n filas y k columnas
+     * (cada columna es un término independiente).
+     *
+     * @param B Los términos independientes, B[i][c] para la ecuación i y la columna c.
+     * @return La matriz solución X, de n filas y k columnas.
+     * @throws MatrixException Si B no tiene n filas de igual longitud.
+     */
+    public double[][] solve(double[][] B) throws MatrixException {
+        int n = getN();
+        if (B == null || B.length != n) {
+            throw GaussSolver.fallo(
+                    "Dimensiones incompatibles: A es de " + n + "x" + n +
+                            " pero B tiene " + (B == null ? 0 : B.length) + " filas.", Causa.DATOS_NO_VALIDOS);
+        }
+        if (B[0] == null) {
+            throw GaussSolver.fallo("Todas las filas de B deben existir.", Causa.DATOS_NO_VALIDOS);
+        }
+        int k = B[0].length;
+        for (int i = 0; i < n; i++) {
+            if (B[i] == null || B[i].length != k) {
+                throw GaussSolver.fallo("Todas las filas de B deben tener " + k + " columnas.",
+                        Causa.DATOS_NO_VALIDOS);
+            }
+        }
+
+        // Trabajamos por filas de X para recorrer memoria contigua
+        double[] x = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(B[perm[i]], 0, x, i * k, k);
+        }
+        sustituirProgresiva(x, k);
+        sustituirRegresiva(x, k);
+
+        return new Matriz(n, k, k, x).toArray();
+    }
+
+    /**
+     * Resuelve AX = B conservando también B̃ = L⁻¹PB, de modo que el resultado
+     * es el mismo que daría la eliminación completa sobre [A | B].
+     *
+     * @param B Los términos independientes (n x k), que no se modifican.
+     */
+    ResultadoGauss resolver(Matriz B) {
+        int n = getN();
+        int k = B.getColumnas();
+        double[] b = B.getDatos();
+        int ldB = B.getLd();
+        double[] y = new double[n * k];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(b, perm[i] * ldB, y, i * k, k);
+        }
+        sustituirProgresiva(y, k);
+        double[] x = y.clone();
+        sustituirRegresiva(x, k);
+        return new ResultadoGauss(new Sustitucion(LU, new Matriz(n, k, k, y)), new Matriz(n, k, k, x), normaA);
+    }
+
+    /**
+     * Memoria aproximada que ocupa la factorización, en bytes.
+     */
+    long bytes() {
+        return 64 + 8L * LU.getDatos().length + 12L * perm.length;
+    }
+
+    /**
+     * Sustitución progresiva con L (diagonal unitaria) sobre x, de n filas y k
+     * columnas, cuyas filas ya están en el orden de la permutación.
+     */
+    private void sustituirProgresiva(double[] x, int k) {
+        double[] m = LU.getDatos();
+        int ld = LU.getLd();
+        if (k == 1) {
+            // Un solo término: producto escalar por filas de L
+            for (int i = 1; i < getN(); i++) {
+                x[i] -= NUCLEOS.dot(m, i * ld, x, 0, i);
+            }
+            return;
+        }
+        for (int i = 1; i < getN(); i++) {
+            int fila = i * ld;
+            for (int j = 0; j < i; j++) {
+                double l = m[fila + j];
+                if (l != 0.0) {
+                    NUCLEOS.axpy(l, x, j * k, x, i * k, k);
+                }
+            }
+        }
+    }
+
+    /**
+     * Sustitución regresiva con U sobre x, de n filas y k columnas.
+     */
+    private void sustituirRegresiva(double[] x, int k) {
+        double[] m = LU.getDatos();
+        int ld = LU.getLd();
+        int n = getN();
+        if (k == 1) {
+            for (int i = n - 1; i >= 0; i--) {
+                int fila = i * ld;
+                x[i] = (x[i] - NUCLEOS.dot(m, fila + i + 1, x, i + 1, n - i - 1)) / m[fila + i];
+            }
+            return;
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            int fila = i * ld;
+            for (int j = i + 1; j < n; j++) {
+                double u = m[fila + j];
+                if (u != 0.0) {
+                    NUCLEOS.axpy(u, x, j * k, x, i * k, k);
+                }
+            }
+            double pivote = m[fila + i];
+            for (int c = 0; c < k; c++) {
+                x[i * k + c] /= pivote;
+            }
+        }
+    }
+
+    /**
+     * U y B̃ de una resolución con la factorización: U sale de la parte
+     * superior de L\U, que se comparte sin copiar.
+     */
+    private static final class Sustitucion implements FuenteTriangular {
+
+        private final Matriz LU;
+        private final Matriz Y;
+
+        Sustitucion(Matriz LU, Matriz Y) {
+            this.LU = LU;
+            this.Y = Y;
+        }
+
+        @Override
+        public Matriz extraerU() {
+            return GaussSolver.extractUpperMatrix(LU);
+        }
+
+        @Override
+        public Matriz extraerBMod() {
+            return Y.copiar();
+        }
+
+        @Override
+        public double estimarNormaInversa() {
+            return EstimadorCondicion.normaInversa(LU);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package logic;
+
+/**
+ * Origen de los datos de una eliminación ya terminada, del que
+ * {@link ResultadoGauss} construye U y B̃ solo cuando se piden.
+ * Las implementaciones no deben modificar sus datos una vez creadas.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+interface FuenteTriangular {
+
+    /**
+     * Construye la matriz triangular superior U (n x n), copia nueva.
+     */
+    Matriz extraerU();
+
+    /**
+     * Construye los términos independientes transformados B̃ (n x k), copia nueva.
+     */
+    Matriz extraerBMod();
+
+    /**
+     * Estima ‖A⁻¹‖₁ con los factores de la eliminación, en O(n²), o devuelve
+     * NaN si el origen no conserva L.
+     */
+    default double estimarNormaInversa() {
+        return Double.NaN;
+    }
+
+    /**
+     * Calcula ‖LU‖₁ = ‖PA‖₁ = ‖A‖₁ con los factores, en O(n³), o devuelve NaN
+     * si el origen no conserva L.
+     */
+    default double normaProducto() {
+        return Double.NaN;
+    }
+}
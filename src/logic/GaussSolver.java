@@ -2,6 +2,14 @@ package logic;
 
 import config.LoggerFichero;
 import exception.MatrixException;
+import exception.MatrixException.Causa;
+import metricas.EventoFase;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+import metricas.MetricasSolver.Fase;
+
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Clase para resolver sistemas de ecuaciones lineales utilizando
@@ -13,15 +21,58 @@ import exception.MatrixException;
 public class GaussSolver {
 
     private static final LoggerFichero log = LoggerFichero.getInstance();
-    private static final double EPS = 1e-12;
+    private static final MotorEliminacion MOTOR_POR_DEFECTO = new EliminacionClasica();
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    /** Columnas de X que se procesan juntas en la sustitución regresiva con varios términos. */
+    private static final int BLOQUE_TERMINOS = 64;
+
+    /** Umbral de singularidad por defecto, relativo al mayor |a_ij| de A. */
+    public static final double UMBRAL_SINGULARIDAD = 1e-12;
+
+    /**
+     * Umbral de singularidad relativo vigente; se fija al arrancar con
+     * {@code -Dgaussiana.umbralSingularidad} o con {@link #setUmbralSingularidad}.
+     */
+    private static volatile double umbralSingularidad = leerUmbralSingularidad();
 
     /**
      * Resuelve el sistema de ecuaciones dado (envoltorio sobre solveGaussian).
+     * Los sistemas de hasta {@value SolverPequeno#N_MAX} incógnitas con un único
+     * término se resuelven con los núcleos desenrollados de {@link SolverPequeno}.
+     * Si A es una matriz en banda suficientemente estrecha, se resuelve con
+     * {@link SolverBanda} en O(n·bw²) en lugar de por la vía densa; si es un
+     * {@link SistemaDisperso}, con la LU dispersa de {@link SolverDisperso}.
      */
     public static ResultadoGauss solve(Sistema sistema) throws MatrixException {
-        double[][] A = sistema.getA();
+        if (sistema instanceof SistemaDisperso disperso) {
+            return SolverDisperso.solve(disperso);
+        }
+        int[] banda = SolverBanda.detectarBanda(sistema);
+        if (banda != null) {
+            return SolverBanda.solve(sistema, banda[0], banda[1]);
+        }
+        return solve(sistema, MOTOR_POR_DEFECTO);
+    }
+
+    /**
+     * Resuelve el sistema de ecuaciones dado con el motor de eliminación indicado.
+     *
+     * @param sistema El sistema a resolver.
+     * @param motor El motor de eliminación (clásico, por bloques...).
+     * @return El resultado de la eliminación.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static ResultadoGauss solve(Sistema sistema, MotorEliminacion motor) throws MatrixException {
+        if (sistema.getNumTerminos() > 1) {
+            return solveGaussian(matrizCuadrada(sistema), sistema.getMatrizB(), motor);
+        }
         double[] b = sistema.getB();
-        return solveGaussian(A, b);
+        if (sistema.isContigua()) {
+            return solveGaussian(sistema.getMatriz(), b, motor);
+        }
+        return solveGaussian(sistema.getA(), b, motor);
     }
 
     /**
@@ -34,28 +85,371 @@ public class GaussSolver {
      * @throws MatrixException Si el sistema es singular o no tiene solución única.
      */
     public static ResultadoGauss solveGaussian(double[][] A, double[] b) throws MatrixException {
+        return solveGaussian(A, b, MOTOR_POR_DEFECTO);
+    }
 
+    /**
+     * Igual que {@link #solveGaussian(double[][], double[])} pero con el motor indicado.
+     */
+    public static ResultadoGauss solveGaussian(double[][] A, double[] b, MotorEliminacion motor)
+            throws MatrixException {
 
         validateDimensions(A, b);
 
+        return solveAugmented(buildAugmentedMatrix(A, b), motor);
+    }
+
+    /**
+     * Implementa el método de eliminación gaussiana sobre una matriz A contigua.
+     *
+     * @param A La matriz de coeficientes en almacenamiento contiguo.
+     * @param b El vector de términos independientes.
+     * @return Un objeto ResultadoGauss con U, b̃ y la solución.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static ResultadoGauss solveGaussian(Matriz A, double[] b) throws MatrixException {
+        return solveGaussian(A, b, MOTOR_POR_DEFECTO);
+    }
+
+    /**
+     * Igual que {@link #solveGaussian(Matriz, double[])} pero con el motor indicado.
+     */
+    public static ResultadoGauss solveGaussian(Matriz A, double[] b, MotorEliminacion motor)
+            throws MatrixException {
+
+        validateDimensions(A, b);
+
+        return solveAugmented(buildAugmentedMatrix(A, b), motor);
+    }
+
+    /**
+     * Resuelve AX = B para k términos independientes a la vez. La matriz aumentada
+     * [A | B] se elimina en una sola pasada, de modo que el coste O(n³) se
+     * reparte entre las k columnas.
+     *
+     * @param A La matriz de coeficientes (n x n).
+     * @param B Los términos independientes (n x k), una columna por sistema.
+     * @param motor El motor de eliminación.
+     * @return Un ResultadoGauss con U, B̃ y la solución X (n x k).
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static ResultadoGauss solveGaussian(Matriz A, Matriz B, MotorEliminacion motor)
+            throws MatrixException {
+
+        validateDimensions(A, B);
+
+        return solveAugmented(buildAugmentedMatrix(A, B), motor);
+    }
+
+    /**
+     * Igual que {@link #solveGaussian(Matriz, Matriz, MotorEliminacion)} con
+     * matrices {@code double[][]} y el motor por defecto.
+     */
+    public static ResultadoGauss solveGaussian(double[][] A, double[][] B) throws MatrixException {
+        if (A == null || B == null) {
+            throw fallo("La matriz A y el vector b no pueden ser nulos.");
+        }
+        validateDimensions(A, new double[A.length]);
+        for (double[] fila : B) {
+            if (fila == null || fila.length != B[0].length) {
+                throw fallo("Todas las filas de B deben tener la misma longitud.");
+            }
+        }
+        return solveGaussian(Matriz.desde(A), Matriz.desde(B), MOTOR_POR_DEFECTO);
+    }
+
+    /**
+     * Resuelve el sistema sobre una matriz aumentada M = [A | B] (n x (n+k))
+     * que ya tiene la disposición con la que trabaja la eliminación, por ejemplo
+     * la leída de un fichero binario. No se copia: M se sobrescribe con U, B̃ y
+     * los multiplicadores de L y pasa a ser el almacenamiento del resultado.
+     *
+     * @param M La matriz aumentada; el llamador no debe usarla después.
+     * @param motor El motor de eliminación.
+     * @return El resultado de la eliminación.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static ResultadoGauss solveInPlace(Matriz M, MotorEliminacion motor) throws MatrixException {
+        if (M == null) {
+            throw fallo("La matriz A y el vector b no pueden ser nulos.");
+        }
+        int n = M.getFilas();
+        if (n == 0) {
+            throw fallo("La matriz A no puede estar vacía.");
+        }
+        if (M.getColumnas() <= n) {
+            throw fallo(
+                    "La matriz aumentada debe tener más columnas que filas: es de "
+                            + n + "x" + M.getColumnas() + "."
+            );
+        }
+        return solveAugmented(M, motor);
+    }
+
+    /**
+     * Igual que {@link #solveInPlace(Matriz, MotorEliminacion)} con el motor por defecto.
+     */
+    public static ResultadoGauss solveInPlace(Matriz M) throws MatrixException {
+        return solveInPlace(M, MOTOR_POR_DEFECTO);
+    }
+
+    /**
+     * Resuelve el sistema a partir de la matriz aumentada ya construida.
+     */
+    private static ResultadoGauss solveAugmented(Matriz M, MotorEliminacion motor)
+            throws MatrixException {
+
+        int n = M.getFilas();
+        int k = M.getColumnas() - n;
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+        try {
+            // Sistemas pequeños: eliminación desenrollada con el mismo resultado
+            // (‖A‖₁ se reconstruye de los factores solo si se pide κ₁(A))
+            if (motor == MOTOR_POR_DEFECTO && SolverPequeno.aplicable(M)) {
+                double[] x = new double[n];
+                int intercambios = SolverPequeno.resolver(M, x, new double[n]);
+                METRICAS.resuelto(n, t0);
+                evento.terminar(n, k, SolverPequeno.class, intercambios);
+                return new ResultadoGauss(M, new Matriz(n, 1, 1, x), ResultadoGauss.NORMA_DE_FACTORES);
+            }
+
+            // ‖A‖₁ antes de que la eliminación sobrescriba A, para estimar κ₁(A)
+            double normaA = norma1(M);
+
+            int[] perm = identityPermutation(n);
+            EventoFase fase = EventoFase.empezar();
+            double[] s = computeScalingFactors(M);
+            long t = METRICAS.fase(Fase.ESCALADO, t0);
+            fase = fase.siguiente(Fase.ESCALADO, n);
+
+            motor.eliminar(M, s, perm);
+            t = METRICAS.fase(Fase.ELIMINACION, t);
+            fase = fase.siguiente(Fase.ELIMINACION, n);
+
+            checkSingularityInUpperMatrix(M, umbralNulo(s, n));
+            t = METRICAS.fase(Fase.SINGULARIDAD, t);
+            fase = fase.siguiente(Fase.SINGULARIDAD, n);
+
+            Matriz X = backSubstitution(M);
+            METRICAS.fase(Fase.SUSTITUCION, t);
+            fase.terminar(Fase.SUSTITUCION, n);
+            METRICAS.resuelto(n, t0);
+            evento.terminar(n, k, motor.getClass(), perm);
+
+            // U y B̃ se extraen de M solo si el llamador los pide
+            return new ResultadoGauss(M, X, normaA);
+        } catch (MatrixException ex) {
+            evento.fallar(n, k, motor.getClass(), ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Resuelve un lote de sistemas con {@link SolverLote}: los pequeños se
+     * eliminan intercalados y en paralelo. Un sistema que falla no detiene el
+     * lote; su error queda en el resultado.
+     */
+    public static ResultadoLote solveBatch(List<Sistema> sistemas) {
+        return SolverLote.solve(sistemas);
+    }
+
+    /**
+     * Resuelve count sistemas de n incógnitas empaquetados uno tras otro
+     * (A por filas en packedA[s·n² ..], b en packedB[s·n ..]).
+     *
+     * @throws MatrixException Si las dimensiones del lote no son coherentes.
+     */
+    public static ResultadoLote solveBatch(double[] packedA, double[] packedB, int n, int count)
+            throws MatrixException {
+        return SolverLote.solve(packedA, packedB, n, count);
+    }
+
+    /**
+     * Resuelve el sistema en precisión mixta con {@link SolverMixto}: A se
+     * factoriza en {@code float} y la solución se refina con residuos en
+     * {@code double}; si el refinamiento se estanca, se resuelve en doble.
+     */
+    public static ResultadoMixto solveMixto(Sistema sistema) throws MatrixException {
+        return SolverMixto.solve(sistema);
+    }
+
+    /**
+     * Resuelve Ax = b sin reservar memoria: la eliminación se hace en los buffers
+     * del espacio de trabajo y la solución se escribe en x. No se calculan U ni b̃.
+     *
+     * @param A La matriz de coeficientes.
+     * @param b El vector de términos independientes.
+     * @param x El vector donde se escribe la solución (longitud n).
+     * @param ws El espacio de trabajo, con capacidad al menos n.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static void solveInto(double[][] A, double[] b, double[] x, SolverWorkspace ws)
+            throws MatrixException {
+
+        validateDimensions(A, b);
         int n = A.length;
+        validateOutput(x, n, ws);
+
+        Matriz M = ws.matriz(n);
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A[i], 0, m, i * ld, n);
+            m[i * ld + n] = b[i];
+        }
+
+        solveInto(M, x, ws);
+    }
+
+    /**
+     * Igual que {@link #solveInto(double[][], double[], double[], SolverWorkspace)}
+     * con A en almacenamiento contiguo.
+     */
+    public static void solveInto(Matriz A, double[] b, double[] x, SolverWorkspace ws)
+            throws MatrixException {
 
-        double[][] M = buildAugmentedMatrix(A, b);
+        validateDimensions(A, b);
+        int n = A.getFilas();
+        validateOutput(x, n, ws);
+
+        Matriz M = ws.matriz(n);
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        double[] a = A.getDatos();
+        int lda = A.getLd();
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(a, i * lda, m, i * ld, n);
+            m[i * ld + n] = b[i];
+        }
 
-        double[] s = computeScalingFactors(M);
+        solveInto(M, x, ws);
+    }
 
-        eliminationWithScaledPartialPivoting(M, s);
+    /**
+     * Elimina la matriz aumentada del espacio de trabajo y sustituye hacia atrás en x.
+     */
+    private static void solveInto(Matriz M, double[] x, SolverWorkspace ws) throws MatrixException {
+        int n = M.getFilas();
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+        try {
+            if (SolverPequeno.aplicable(M)) {
+                int intercambios = SolverPequeno.resolver(M, x, ws.escalas());
+                METRICAS.resuelto(n, t0);
+                evento.terminar(n, 1, SolverPequeno.class, intercambios);
+                return;
+            }
 
-        checkSingularityInUpperMatrix(M);
+            int[] perm = identityPermutation(ws.permutacion(), n);
+            EventoFase fase = EventoFase.empezar();
+            double[] s = computeScalingFactors(M, ws.escalas());
+            long t = METRICAS.fase(Fase.ESCALADO, t0);
+            fase = fase.siguiente(Fase.ESCALADO, n);
 
-        double[] x = backSubstitution(M);
+            eliminationWithScaledPartialPivoting(M, s, perm);
+            t = METRICAS.fase(Fase.ELIMINACION, t);
+            fase = fase.siguiente(Fase.ELIMINACION, n);
 
-        double[][] U = extractUpperMatrix(M);
-        double[] bMod = extractModifiedRHS(M);
+            checkSingularityInUpperMatrix(M, umbralNulo(s, n));
+            t = METRICAS.fase(Fase.SINGULARIDAD, t);
+            fase = fase.siguiente(Fase.SINGULARIDAD, n);
 
-        return new ResultadoGauss(U, bMod, x);
+            backSubstitutionVector(M, x);
+            METRICAS.fase(Fase.SUSTITUCION, t);
+            fase.terminar(Fase.SUSTITUCION, n);
+            METRICAS.resuelto(n, t0);
+            evento.terminar(n, 1, EliminacionClasica.class, perm);
+        } catch (MatrixException ex) {
+            evento.fallar(n, 1, EliminacionClasica.class, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Comprueba el vector de salida y la capacidad del espacio de trabajo.
+     */
+    private static void validateOutput(double[] x, int n, SolverWorkspace ws) throws MatrixException {
+        if (x == null || x.length != n) {
+            throw fallo("El vector solución debe tener longitud " + n + ".");
+        }
+        if (ws == null || ws.getCapacidad() < n) {
+            throw fallo("El espacio de trabajo no tiene capacidad para " + n + " incógnitas.");
+        }
+    }
+
+    /**
+     * Factoriza A una sola vez (PA = LU) para poder resolver después
+     * tantos términos independientes como se quiera sin volver a eliminar.
+     * El vector b del sistema, si lo hay, se ignora.
+     *
+     * @param sistema El sistema cuya matriz de coeficientes se factoriza.
+     * @return La factorización LU con la permutación y los factores de escala.
+     * @throws MatrixException Si A no es cuadrada o es singular.
+     */
+    public static Factorizacion factorizar(Sistema sistema) throws MatrixException {
+        return factorizar(sistema, MOTOR_POR_DEFECTO);
+    }
+
+    /**
+     * Igual que {@link #factorizar(Sistema)} pero con el motor indicado.
+     */
+    public static Factorizacion factorizar(Sistema sistema, MotorEliminacion motor)
+            throws MatrixException {
+
+        Matriz A = matrizCuadrada(sistema);
+        int n = A.getFilas();
+
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+        try {
+            EventoFase fase = EventoFase.empezar();
+            Matriz LU = A.copiar(n, n);
+            double normaA = norma1(LU);
+            double[] s = computeScalingFactors(LU);
+            int[] perm = identityPermutation(n);
+            long t = METRICAS.fase(Fase.ESCALADO, t0);
+            fase = fase.siguiente(Fase.ESCALADO, n);
+
+            motor.eliminar(LU, s, perm);
+            t = METRICAS.fase(Fase.ELIMINACION, t);
+            fase = fase.siguiente(Fase.ELIMINACION, n);
+
+            checkSingularityInUpperMatrix(LU, umbralNulo(s, n));
+            METRICAS.fase(Fase.SINGULARIDAD, t);
+            fase.terminar(Fase.SINGULARIDAD, n);
+            evento.terminar(n, 0, motor.getClass(), perm);
+
+            return new Factorizacion(LU, perm, s, normaA);
+        } catch (MatrixException ex) {
+            evento.fallar(n, 0, motor.getClass(), ex);
+            throw ex;
+        }
     }
 
+    /**
+     * Devuelve A en almacenamiento contiguo comprobando que es cuadrada. Si el
+     * sistema la guarda como {@code double[][]}, se comprueban todas sus filas
+     * antes de convertirla, para que una fila de otra longitud o nula se
+     * rechace en lugar de recortarse o fallar al copiarla.
+     *
+     * @throws MatrixException Si A es nula, está vacía o no es cuadrada.
+     */
+    static Matriz matrizCuadrada(Sistema sistema) throws MatrixException {
+        if (!sistema.isContigua()) {
+            double[][] A = sistema.getA();
+            if (A == null) {
+                throw fallo("La matriz A no puede ser nula.");
+            }
+            validateDimensions(A, new double[A.length]);
+        }
+        Matriz A = sistema.getMatriz();
+        if (A == null) {
+            throw fallo("La matriz A no puede ser nula.");
+        }
+        validateDimensions(A, new double[A.getFilas()]);
+        return A;
+    }
 
     /**
      * Valida dimensiones básicas de A y b.
@@ -66,23 +460,23 @@ public class GaussSolver {
      */
     private static void validateDimensions(double[][] A, double[] b) throws MatrixException {
         if (A == null || b == null) {
-            throw new MatrixException("La matriz A y el vector b no pueden ser nulos.");
+            throw fallo("La matriz A y el vector b no pueden ser nulos.");
         }
 
         int n = A.length;
         if (n == 0) {
-            throw new MatrixException("La matriz A no puede estar vacía.");
+            throw fallo("La matriz A no puede estar vacía.");
         }
 
         // Comprobamos que todas las filas existen y tienen longitud n
         for (int i = 0; i < n; i++) {
             if (A[i] == null || A[i].length != n) {
-                throw new MatrixException("La matriz A debe ser cuadrada de tamaño " + n + "x" + n + ".");
+                throw fallo("La matriz A debe ser cuadrada de tamaño " + n + "x" + n + ".");
             }
         }
 
         if (b.length != n) {
-            throw new MatrixException(
+            throw fallo(
                     "Dimensiones incompatibles: A es de " + n + "x" + n +
                             " pero b tiene longitud " + b.length + "."
             );
@@ -90,19 +484,121 @@ public class GaussSolver {
     }
 
     /**
-     * Construye la matriz aumentada M = [A | b].
+     * Valida dimensiones básicas de A (contigua) y b.
      *
      * @param A La matriz de coeficientes.
      * @param b El vector de términos independientes.
-     * @return La matriz aumentada M.
+     * @throws MatrixException Si A no es cuadrada o las dimensiones no coinciden.
      */
-    private static double[][] buildAugmentedMatrix(double[][] A, double[] b) {
+    private static void validateDimensions(Matriz A, double[] b) throws MatrixException {
+        if (A == null || b == null) {
+            throw fallo("La matriz A y el vector b no pueden ser nulos.");
+        }
+
+        int n = A.getFilas();
+        if (n == 0) {
+            throw fallo("La matriz A no puede estar vacía.");
+        }
+
+        if (A.getColumnas() != n) {
+            throw fallo("La matriz A debe ser cuadrada de tamaño " + n + "x" + n + ".");
+        }
+
+        if (b.length != n) {
+            throw fallo(
+                    "Dimensiones incompatibles: A es de " + n + "x" + n +
+                            " pero b tiene longitud " + b.length + "."
+            );
+        }
+    }
+
+    /**
+     * Valida dimensiones de A (contigua) y de la matriz de términos B.
+     *
+     * @param A La matriz de coeficientes.
+     * @param B Los términos independientes (n x k).
+     * @throws MatrixException Si A no es cuadrada o B no tiene n filas.
+     */
+    private static void validateDimensions(Matriz A, Matriz B) throws MatrixException {
+        if (A == null || B == null) {
+            throw fallo("La matriz A y el vector b no pueden ser nulos.");
+        }
+        validateDimensions(A, new double[A.getFilas()]);
+
+        int n = A.getFilas();
+        if (B.getFilas() != n || B.getColumnas() == 0) {
+            throw fallo(
+                    "Dimensiones incompatibles: A es de " + n + "x" + n +
+                            " pero B es de " + B.getFilas() + "x" + B.getColumnas() + "."
+            );
+        }
+    }
+
+    /**
+     * Construye la matriz aumentada M = [A | b] en almacenamiento contiguo.
+     *
+     * @param A La matriz de coeficientes.
+     * @param b El vector de términos independientes.
+     * @return La matriz aumentada M (n x (n+1)).
+     */
+    private static Matriz buildAugmentedMatrix(double[][] A, double[] b) {
         int n = A.length;
-        double[][] M = new double[n][n + 1];
+        int ld = n + 1;
+        Matriz M = new Matriz(n, ld);
+        double[] m = M.getDatos();
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(A[i], 0, m, i * ld, n);
+            m[i * ld + n] = b[i];
+        }
+
+        return M;
+    }
+
+    /**
+     * Construye la matriz aumentada M = [A | b] a partir de A contigua.
+     *
+     * @param A La matriz de coeficientes.
+     * @param b El vector de términos independientes.
+     * @return La matriz aumentada M (n x (n+1)).
+     */
+    private static Matriz buildAugmentedMatrix(Matriz A, double[] b) {
+        int n = A.getFilas();
+        int ld = n + 1;
+        Matriz M = new Matriz(n, ld);
+        double[] m = M.getDatos();
+        double[] a = A.getDatos();
+        int lda = A.getLd();
 
         for (int i = 0; i < n; i++) {
-            System.arraycopy(A[i], 0, M[i], 0, n);
-            M[i][n] = b[i];
+            System.arraycopy(a, i * lda, m, i * ld, n);
+            m[i * ld + n] = b[i];
+        }
+
+        return M;
+    }
+
+    /**
+     * Construye la matriz aumentada M = [A | B] con k columnas de términos independientes.
+     *
+     * @param A La matriz de coeficientes.
+     * @param B Los términos independientes (n x k).
+     * @return La matriz aumentada M (n x (n+k)).
+     */
+    private static Matriz buildAugmentedMatrix(Matriz A, Matriz B) {
+        int n = A.getFilas();
+        int k = B.getColumnas();
+        int ld = n + k;
+        Matriz M = new Matriz(n, ld);
+        double[] m = M.getDatos();
+        double[] a = A.getDatos();
+        double[] bb = B.getDatos();
+        int lda = A.getLd();
+        int ldb = B.getLd();
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(a, i * lda, m, i * ld, n);
+            System.arraycopy(bb, i * ldb, m, i * ld + n, k);
         }
 
         return M;
@@ -115,48 +611,115 @@ public class GaussSolver {
      * @return El vector de factores de escala.
      * @throws MatrixException Si alguna fila es completamente nula.
      */
-    private static double[] computeScalingFactors(double[][] M) throws MatrixException {
-        int n = M.length;
-        double[] s = new double[n];
+    private static double[] computeScalingFactors(Matriz M) throws MatrixException {
+        return computeScalingFactors(M, new double[M.getFilas()]);
+    }
+
+    /**
+     * Igual que {@link #computeScalingFactors(Matriz)} pero escribiendo en s.
+     *
+     * @param M La matriz aumentada.
+     * @param s El vector donde se guardan los factores (longitud al menos n).
+     * @return El propio vector s.
+     * @throws MatrixException Si alguna fila es completamente nula.
+     */
+    private static double[] computeScalingFactors(Matriz M, double[] s) throws MatrixException {
+        int n = M.getFilas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
 
         for (int i = 0; i < n; i++) {
             double max = 0.0;
+            int fila = i * ld;
             for (int j = 0; j < n; j++) {   // solo columnas de A, no la de b
-                double abs = Math.abs(M[i][j]);
+                double abs = Math.abs(m[fila + j]);
                 if (abs > max) {
                     max = abs;
                 }
             }
-            if (max == 0.0) {
-                log.error("Fila " + i + " es completamente nula. Sistema singular.");
-                throw new MatrixException("Fila " + i + " es completamente nula. Sistema singular.");
-            }
+            checkScalingFactor(max, i);
             s[i] = max;
         }
         return s;
     }
 
+    /**
+     * Norma 1 (máxima suma por columnas) de las n primeras columnas de M,
+     * recorriendo M por filas.
+     */
+    private static double norma1(Matriz M) {
+        int n = M.getFilas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        double[] columnas = new double[n];
+        for (int i = 0; i < n; i++) {
+            int fila = i * ld;
+            for (int j = 0; j < n; j++) {
+                columnas[j] += Math.abs(m[fila + j]);
+            }
+        }
+        double max = 0.0;
+        for (double c : columnas) {
+            max = Math.max(max, c);
+        }
+        return max;
+    }
+
+    /**
+     * Crea la excepción de un fallo y la cuenta en las métricas. También la
+     * usa {@link Factorizacion} para sus errores de dimensiones.
+     */
+    static MatrixException fallo(String mensaje, Causa causa) {
+        return METRICAS.fallo(new MatrixException(mensaje, causa));
+    }
+
+    private static MatrixException fallo(String mensaje) {
+        return fallo(mensaje, Causa.DATOS_NO_VALIDOS);
+    }
+
+    /**
+     * Comprueba que el factor de escala de la fila i no es nulo.
+     *
+     * @param max El máximo |a_ij| de la fila.
+     * @param i La fila.
+     * @throws MatrixException Si la fila es completamente nula.
+     */
+    static void checkScalingFactor(double max, int i) throws MatrixException {
+        if (max == 0.0) {
+            log.error("Fila {} es completamente nula. Sistema singular.", i);
+            throw fallo("Fila " + i + " es completamente nula. Sistema singular.", Causa.FILA_NULA);
+        }
+    }
+
     /**
      * Realiza la eliminación hacia forma triangular superior usando
-     * pivotaje parcial escalado sobre la matriz aumentada M.
+     * pivotaje parcial escalado sobre la matriz aumentada M. Los multiplicadores
+     * se guardan bajo la diagonal (factor L).
      *
      * @param M La matriz aumentada.
      * @param s El vector de factores de escala.
+     * @param perm La permutación de filas, que se actualiza con cada intercambio.
      * @throws MatrixException Si se encuentra un pivote casi nulo.
      */
-    private static void eliminationWithScaledPartialPivoting(double[][] M, double[] s)
+    static void eliminationWithScaledPartialPivoting(Matriz M, double[] s, int[] perm)
             throws MatrixException {
 
-        int n = M.length;
+        int n = M.getFilas();
+        int cols = M.getColumnas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        double umbralNulo = umbralNulo(s, n);
 
         for (int k = 0; k < n - 1; k++) {
 
+            int filaK = k * ld;
+
             // 1 Seleccionar fila pivote usando los factores de escala
             int pivotRow = k;
-            double maxRatio = Math.abs(M[k][k]) / s[k];
+            double maxRatio = Math.abs(m[filaK + k]) / s[k];
 
             for (int i = k + 1; i < n; i++) {
-                double ratio = Math.abs(M[i][k]) / s[i];
+                double ratio = Math.abs(m[i * ld + k]) / s[i];
                 if (ratio > maxRatio) {
                     maxRatio = ratio;
                     pivotRow = i;
@@ -164,128 +727,339 @@ public class GaussSolver {
             }
 
             // 2 Comprobar pivote casi nulo
-            if (Math.abs(M[pivotRow][k]) < EPS) {
-                log.error("Pivote casi nulo en la columna " + k +
-                        ". Sistema singular o mal condicionado.");
-                throw new MatrixException("Pivote casi nulo en la columna " + k +
-                        ". Sistema singular o mal condicionado.");
-            }
+            checkPivot(m[pivotRow * ld + k], umbralNulo, k);
 
-            // 3 Intercambiar filas en M y en s si es necesario
+            // 3 Intercambiar filas en M, s y perm si es necesario
             if (pivotRow != k) {
-                double[] tmpRow = M[k];
-                M[k] = M[pivotRow];
-                M[pivotRow] = tmpRow;
-
-                double tmpS = s[k];
-                s[k] = s[pivotRow];
-                s[pivotRow] = tmpS;
+                swap(M, s, perm, k, pivotRow);
             }
 
             // 4 Eliminación por debajo del pivote
+            double pivote = m[filaK + k];
             for (int i = k + 1; i < n; i++) {
-                double factor = M[i][k] / M[k][k];
-                M[i][k] = 0.0;
+                int filaI = i * ld;
+                double factor = m[filaI + k] / pivote;
+                m[filaI + k] = factor;
 
-                for (int j = k + 1; j <= n; j++) {
-                    M[i][j] -= factor * M[k][j];
+                // M[i][j] -= factor * M[k][j] para j = k+1 .. cols-1
+                NUCLEOS.axpy(factor, m, filaK + k + 1, m, filaI + k + 1, cols - k - 1);
+            }
+        }
+    }
+
+    /**
+     * Intercambia las filas k y p de M junto con sus factores de escala
+     * y su entrada en la permutación.
+     */
+    static void swap(Matriz M, double[] s, int[] perm, int k, int p) {
+        METRICAS.intercambio();
+        M.swapRows(k, p);
+
+        double tmpS = s[k];
+        s[k] = s[p];
+        s[p] = tmpS;
+
+        int tmpP = perm[k];
+        perm[k] = perm[p];
+        perm[p] = tmpP;
+    }
+
+    /**
+     * Devuelve la permutación identidad de tamaño n.
+     */
+    static int[] identityPermutation(int n) {
+        return identityPermutation(new int[n], n);
+    }
+
+    /**
+     * Escribe la permutación identidad en las n primeras posiciones de perm.
+     */
+    private static int[] identityPermutation(int[] perm, int n) {
+        for (int i = 0; i < n; i++) {
+            perm[i] = i;
+        }
+        return perm;
+    }
+
+    /**
+     * Devuelve el umbral de singularidad relativo vigente.
+     */
+    public static double getUmbralSingularidad() {
+        return umbralSingularidad;
+    }
+
+    /**
+     * Fija el umbral de singularidad relativo para todas las resoluciones: un
+     * pivote o un elemento de U se considera nulo si su valor absoluto no
+     * supera umbral·max|a_ij|, de modo que el criterio no depende de la escala
+     * de A. Con 0 solo se rechazan los pivotes exactamente nulos.
+     *
+     * @param umbral Umbral relativo, en [0, 1).
+     * @throws IllegalArgumentException Si el umbral está fuera de rango.
+     */
+    public static void setUmbralSingularidad(double umbral) {
+        if (!(umbral >= 0.0 && umbral < 1.0)) {
+            throw new IllegalArgumentException("El umbral de singularidad debe estar en [0, 1): " + umbral);
+        }
+        umbralSingularidad = umbral;
+    }
+
+    private static double leerUmbralSingularidad() {
+        String valor = System.getProperty("gaussiana.umbralSingularidad");
+        if (valor != null) {
+            try {
+                double umbral = Double.parseDouble(valor);
+                if (umbral >= 0.0 && umbral < 1.0) {
+                    return umbral;
                 }
+            } catch (NumberFormatException ex) {
+                // se avisa abajo
             }
+            log.warn("Umbral de singularidad no válido: {}. Se usa {}.", valor, UMBRAL_SINGULARIDAD);
+        }
+        return UMBRAL_SINGULARIDAD;
+    }
+
+    /**
+     * Umbral absoluto de singularidad para una matriz cuyo mayor |a_ij| es max.
+     */
+    static double umbralNulo(double max) {
+        return umbralSingularidad * max;
+    }
+
+    /**
+     * Umbral absoluto de singularidad a partir de los n factores de escala de
+     * A, cuyo máximo es el mayor |a_ij|.
+     */
+    static double umbralNulo(double[] s, int n) {
+        double max = 0.0;
+        for (int i = 0; i < n; i++) {
+            max = Math.max(max, s[i]);
+        }
+        return umbralNulo(max);
+    }
+
+    /**
+     * Comprueba que el pivote elegido para la columna k no es casi nulo.
+     *
+     * @param pivote El valor del pivote elegido.
+     * @param umbralNulo El umbral absoluto de singularidad ({@link #umbralNulo}).
+     * @param k La columna que se está eliminando.
+     * @throws MatrixException Si el pivote es casi nulo.
+     */
+    static void checkPivot(double pivote, double umbralNulo, int k) throws MatrixException {
+        if (Math.abs(pivote) <= umbralNulo) {
+            log.error("Pivote casi nulo en la columna {}. Sistema singular o mal condicionado.", k);
+            throw fallo("Pivote casi nulo en la columna " + k +
+                    ". Sistema singular o mal condicionado.", Causa.PIVOTE_NULO);
         }
     }
 
     /**
-     * Comprueba si la matriz triangular superior resultante es singular
+     * Comprueba si la matriz triangular superior resultante es singular.
+     * Solo se examina la parte superior de cada fila (bajo la diagonal están
+     * los multiplicadores de L). Si M no tiene columna de términos independientes
+     * (factorización pura), una fila nula se considera singular.
      *
      * @param M La matriz aumentada ya triangular.
+     * @param umbralNulo El umbral absoluto de singularidad.
      * @throws MatrixException Si el sistema es singular o no tiene solución única.
      */
-    private static void checkSingularityInUpperMatrix(double[][] M) throws MatrixException {
-        int n = M.length;
+    private static void checkSingularityInUpperMatrix(Matriz M, double umbralNulo) throws MatrixException {
+        int n = M.getFilas();
+        int cols = M.getColumnas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
 
         // Comprobar filas nulas en U
         for (int i = 0; i < n; i++) {
+            int fila = i * ld;
             boolean filaNula = true;
-            for (int j = 0; j < n; j++) { // solo parte de A, no la columna de b
-                if (Math.abs(M[i][j]) > EPS) {
+            for (int j = i; j < n; j++) { // solo parte de U, no la columna de b
+                if (!isNegligible(m[fila + j], umbralNulo)) {
                     filaNula = false;
                     break;
                 }
             }
 
             if (filaNula) {
-                if (Math.abs(M[i][n]) > EPS) {
-                    // sistema incompatible
-                    throw new MatrixException(
-                            "Sistema incompatible: la fila " + (i + 1) +
-                                    " es nula en A pero el término independiente es " + M[i][n]
-                    );
-                } else {
-                    // infinitas soluciones (singular)
-                    throw new MatrixException(
-                            "Sistema singular: la fila " + (i + 1) +
-                                    " es completamente nula. No hay solución única."
-                    );
+                int c = n;  // primer término independiente no nulo de la fila, si lo hay
+                while (c < cols && isNegligible(m[fila + c], umbralNulo)) {
+                    c++;
                 }
+                reportNullRow(i, c < cols ? m[fila + c] : 0.0, umbralNulo);
             }
         }
 
         // Comprobar último pivote
-        if (Math.abs(M[n - 1][n - 1]) < EPS) {
+        checkLastPivot(m[(n - 1) * ld + n - 1], umbralNulo);
+    }
+
+    /**
+     * Indica si un valor de U o de B̃ se considera nulo en la comprobación de singularidad.
+     */
+    static boolean isNegligible(double valor, double umbralNulo) {
+        return Math.abs(valor) <= umbralNulo;
+    }
+
+    /**
+     * Informa de una fila nula en U: incompatible si su término independiente
+     * no es nulo, singular (infinitas soluciones) en otro caso.
+     *
+     * @param i La fila nula (base 0).
+     * @param termino El primer término independiente no nulo de la fila, o 0.
+     * @param umbralNulo El umbral absoluto de singularidad.
+     * @throws MatrixException Siempre.
+     */
+    static void reportNullRow(int i, double termino, double umbralNulo) throws MatrixException {
+        if (!isNegligible(termino, umbralNulo)) {
+            // sistema incompatible
+            throw fallo(
+                    "Sistema incompatible: la fila " + (i + 1) +
+                            " es nula en A pero el término independiente es " + termino,
+                    Causa.INCOMPATIBLE
+            );
+        } else {
+            // infinitas soluciones (singular)
+            throw fallo(
+                    "Sistema singular: la fila " + (i + 1) +
+                            " es completamente nula. No hay solución única.",
+                    Causa.SINGULAR
+            );
+        }
+    }
+
+    /**
+     * Comprueba el último pivote de U.
+     *
+     * @param pivote El elemento U[n-1][n-1].
+     * @param umbralNulo El umbral absoluto de singularidad.
+     * @throws MatrixException Si es casi nulo.
+     */
+    static void checkLastPivot(double pivote, double umbralNulo) throws MatrixException {
+        if (Math.abs(pivote) <= umbralNulo) {
             log.error("Último pivote casi nulo. Sistema singular o sin solución única.");
-            throw new MatrixException("Último pivote casi nulo. Sistema singular o sin solución única.");
+            throw fallo("Último pivote casi nulo. Sistema singular o sin solución única.", Causa.PIVOTE_NULO);
         }
     }
 
     /**
      * Sustitución hacia atrás sobre la matriz aumentada M ya triangular.
+     * Con un único término independiente se usa el producto escalar por filas;
+     * con varios, se procesa X por bloques de columnas.
+     *
+     * @param M La matriz aumentada triangular.
+     * @return La solución X (n x k); con k = 1 envuelve el vector x sin copia.
+     */
+    private static Matriz backSubstitution(Matriz M) {
+        int n = M.getFilas();
+        int k = M.getColumnas() - n;
+        if (k == 1) {
+            return new Matriz(n, 1, 1, backSubstitutionVector(M, new double[n]));
+        }
+        return backSubstitutionBlocked(M, k);
+    }
+
+    /**
+     * Sustitución hacia atrás para un único término independiente (columna n de M).
      *
      * @param M La matriz aumentada triangular.
-     * @return El vector solución x.
+     * @param x El vector donde se escribe la solución (longitud al menos n).
+     * @return El propio vector x.
      */
-    private static double[] backSubstitution(double[][] M) {
-        int n = M.length;
-        double[] x = new double[n];
+    private static double[] backSubstitutionVector(Matriz M, double[] x) {
+        int n = M.getFilas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
 
         for (int i = n - 1; i >= 0; i--) {
-            double suma = M[i][n]; // término independiente ya transformado
-            for (int j = i + 1; j < n; j++) {
-                suma -= M[i][j] * x[j];
-            }
-            x[i] = suma / M[i][i];
+            int fila = i * ld;
+            double suma = m[fila + n]; // término independiente ya transformado
+            suma -= NUCLEOS.dot(m, fila + i + 1, x, i + 1, n - i - 1);
+            x[i] = suma / m[fila + i];
         }
         return x;
     }
 
     /**
-     * Extrae la matriz triangular superior U desde M.
+     * Sustitución hacia atrás para k términos independientes. Para cada bloque de
+     * columnas, las filas ya resueltas de X se restan como actualizaciones axpy
+     * contiguas, que reutilizan la fila de U mientras recorren el bloque.
+     *
+     * @param M La matriz aumentada triangular (n x (n+k)).
+     * @param k Número de términos independientes.
+     * @return La solución X (n x k).
+     */
+    private static Matriz backSubstitutionBlocked(Matriz M, int k) {
+        int n = M.getFilas();
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        Matriz X = new Matriz(n, k);
+        double[] x = X.getDatos();
+
+        for (int c0 = 0; c0 < k; c0 += BLOQUE_TERMINOS) {
+            int c1 = Math.min(c0 + BLOQUE_TERMINOS, k);
+
+            for (int i = n - 1; i >= 0; i--) {
+                int fila = i * ld;
+                int filaX = i * k;
+                System.arraycopy(m, fila + n + c0, x, filaX + c0, c1 - c0);
+
+                for (int j = i + 1; j < n; j++) {
+                    double u = m[fila + j];
+                    if (u == 0.0) {
+                        continue;
+                    }
+                    NUCLEOS.axpy(u, x, j * k + c0, x, filaX + c0, c1 - c0);
+                }
+
+                double pivote = m[fila + i];
+                for (int c = c0; c < c1; c++) {
+                    x[filaX + c] /= pivote;
+                }
+            }
+        }
+        return X;
+    }
+
+    /**
+     * Extrae la matriz triangular superior U desde M (sin los multiplicadores de L).
      *
      * @param M La matriz aumentada.
-     * @return La matriz U.
+     * @return La matriz U (contigua, n x n).
      */
-    private static double[][] extractUpperMatrix(double[][] M) {
-        int n = M.length;
-        double[][] U = new double[n][n];
+    static Matriz extractUpperMatrix(Matriz M) {
+        int n = M.getFilas();
+        long t = METRICAS.inicio(n);
+        Matriz U = M.copiar(n, n);
+        double[] u = U.getDatos();
 
-        for (int i = 0; i < n; i++) {
-            System.arraycopy(M[i], 0, U[i], 0, n);
+        for (int i = 1; i < n; i++) {
+            Arrays.fill(u, i * n, i * n + i, 0.0);
         }
+        METRICAS.fase(Fase.EXTRACCION, t);
         return U;
     }
 
     /**
-     * Extrae el vector de términos independientes transformado b̃ desde M.
+     * Extrae los términos independientes transformados B̃ desde M.
      *
      * @param M La matriz aumentada.
-     * @return El vector b̃.
+     * @return La matriz B̃ (n x k); con k = 1 es el vector b̃.
      */
-    private static double[] extractModifiedRHS(double[][] M) {
-        int n = M.length;
-        double[] bMod = new double[n];
+    static Matriz extractModifiedRHS(Matriz M) {
+        int n = M.getFilas();
+        int k = M.getColumnas() - n;
+        double[] m = M.getDatos();
+        int ld = M.getLd();
+        Matriz bMod = new Matriz(n, k);
+        double[] r = bMod.getDatos();
 
+        long t = METRICAS.inicio(n);
         for (int i = 0; i < n; i++) {
-            bMod[i] = M[i][n];
+            System.arraycopy(m, i * ld + n, r, i * k, k);
         }
+        METRICAS.fase(Fase.EXTRACCION, t);
         return bMod;
     }
 }
\ No newline at end of file
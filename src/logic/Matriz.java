@@ -0,0 +1,169 @@
+package logic;
+
+/**
+ * Matriz densa almacenada de forma contigua por filas (row-major) en un único
+ * {@code double[]}, con dimensión principal {@code ld} (leading dimension).
+ * El elemento (i, j) se encuentra en {@code datos[i * ld + j]}.
+ *
+ * A diferencia de un {@code double[][]}, las filas están consecutivas en memoria,
+ * lo que mejora la localidad de caché en la eliminación y permite vectorizar
+ * los bucles internos.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public final class Matriz {
+
+    private final double[] datos;
+    private final int filas;
+    private final int columnas;
+    private final int ld;
+
+    /**
+     * Crea una matriz de ceros de tamaño filas x columnas.
+     *
+     * @param filas Número de filas.
+     * @param columnas Número de columnas.
+     */
+    public Matriz(int filas, int columnas) {
+        this(filas, columnas, columnas, new double[Math.multiplyExact(filas, columnas)]);
+    }
+
+    /**
+     * Envuelve un array ya existente sin copiarlo.
+     *
+     * @param filas Número de filas.
+     * @param columnas Número de columnas.
+     * @param ld Distancia entre el inicio de dos filas consecutivas (ld >= columnas).
+     * @param datos Almacenamiento por filas.
+     */
+    public Matriz(int filas, int columnas, int ld, double[] datos) {
+        if (filas < 0 || columnas < 0 || ld < columnas) {
+            throw new IllegalArgumentException(
+                    "Dimensiones no válidas: " + filas + "x" + columnas + " con ld " + ld);
+        }
+        if (filas > 0 && (long) (filas - 1) * ld + columnas > datos.length) {
+            throw new IllegalArgumentException(
+                    "El array de datos es demasiado pequeño para " + filas + "x" + columnas);
+        }
+        this.datos = datos;
+        this.filas = filas;
+        this.columnas = columnas;
+        this.ld = ld;
+    }
+
+    /**
+     * Copia una matriz escalonada {@code double[][]} en almacenamiento contiguo.
+     *
+     * @param A La matriz origen (todas las filas con la misma longitud).
+     * @return Una nueva matriz con los mismos valores.
+     * @throws IllegalArgumentException Si alguna fila es nula o de otra longitud.
+     */
+    public static Matriz desde(double[][] A) {
+        int m = A.length;
+        int c = m == 0 || A[0] == null ? 0 : A[0].length;
+        for (int i = 0; i < m; i++) {
+            if (A[i] == null || A[i].length != c) {
+                throw new IllegalArgumentException("Todas las filas deben existir y tener " + c
+                        + " elementos; la fila " + i + " no los tiene.");
+            }
+        }
+        Matriz r = new Matriz(m, c);
+        for (int i = 0; i < m; i++) {
+            System.arraycopy(A[i], 0, r.datos, i * c, c);
+        }
+        return r;
+    }
+
+    public int getFilas() {
+        return filas;
+    }
+
+    public int getColumnas() {
+        return columnas;
+    }
+
+    public int getLd() {
+        return ld;
+    }
+
+    /**
+     * Devuelve el array subyacente (sin copia). Pensado para los núcleos de cálculo.
+     */
+    public double[] getDatos() {
+        return datos;
+    }
+
+    public double get(int i, int j) {
+        return datos[i * ld + j];
+    }
+
+    public void set(int i, int j, double valor) {
+        datos[i * ld + j] = valor;
+    }
+
+    /**
+     * Intercambia físicamente las filas i y k.
+     */
+    public void swapRows(int i, int k) {
+        if (i == k) {
+            return;
+        }
+        int oi = i * ld;
+        int ok = k * ld;
+        for (int j = 0; j < columnas; j++) {
+            double tmp = datos[oi + j];
+            datos[oi + j] = datos[ok + j];
+            datos[ok + j] = tmp;
+        }
+    }
+
+    /**
+     * Copia las primeras {@code c} columnas en una matriz compacta nueva.
+     *
+     * @param f Número de filas a copiar.
+     * @param c Número de columnas a copiar.
+     * @return La submatriz superior izquierda f x c.
+     */
+    public Matriz copiar(int f, int c) {
+        Matriz r = new Matriz(f, c);
+        for (int i = 0; i < f; i++) {
+            System.arraycopy(datos, i * ld, r.datos, i * c, c);
+        }
+        return r;
+    }
+
+    public Matriz copiar() {
+        return copiar(filas, columnas);
+    }
+
+    /**
+     * Copia las columnas [desde, desde + c) de todas las filas.
+     *
+     * @param desde Primera columna.
+     * @param c Número de columnas a copiar.
+     * @return Una nueva matriz filas x c.
+     */
+    public Matriz copiarColumnas(int desde, int c) {
+        if (desde < 0 || c < 0 || desde + c > columnas) {
+            throw new IndexOutOfBoundsException(
+                    "Columnas [" + desde + ", " + (desde + c) + ") fuera de 0.." + columnas);
+        }
+        Matriz r = new Matriz(filas, c);
+        for (int i = 0; i < filas; i++) {
+            System.arraycopy(datos, i * ld + desde, r.datos, i * c, c);
+        }
+        return r;
+    }
+
+    /**
+     * Convierte a {@code double[][]} (copia). Solo para compatibilidad con la vista.
+     */
+    public double[][] toArray() {
+        double[][] r = new double[filas][columnas];
+        for (int i = 0; i < filas; i++) {
+            System.arraycopy(datos, i * ld, r[i], 0, columnas);
+        }
+        return r;
+    }
+}
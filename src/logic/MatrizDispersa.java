@@ -0,0 +1,241 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Matriz dispersa en formato CSR (compressed sparse row).
+ *
+ * Los elementos no nulos de la fila i son {@code valores[p]} en la columna
+ * {@code columnas[p]}, para p en [filaPtr[i], filaPtr[i+1]). Dentro de cada fila
+ * las columnas están ordenadas y no se repiten. La misma estructura, leída por
+ * columnas, sirve como CSC de la traspuesta.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class MatrizDispersa {
+
+    private final int filas;
+    private final int cols;
+    private final int[] filaPtr;
+    private final int[] columnas;
+    private final double[] valores;
+
+    /**
+     * Envuelve los arrays CSR ya construidos (sin copiarlos).
+     *
+     * @param filas Número de filas.
+     * @param cols Número de columnas.
+     * @param filaPtr Inicio de cada fila (longitud filas + 1).
+     * @param columnas Índices de columna, ordenados dentro de cada fila.
+     * @param valores Valores no nulos.
+     */
+    public MatrizDispersa(int filas, int cols, int[] filaPtr, int[] columnas, double[] valores) {
+        if (filaPtr.length != filas + 1 || filaPtr[0] != 0
+                || columnas.length < filaPtr[filas] || valores.length < filaPtr[filas]) {
+            throw new IllegalArgumentException("Estructura CSR no válida.");
+        }
+        this.filas = filas;
+        this.cols = cols;
+        this.filaPtr = filaPtr;
+        this.columnas = columnas;
+        this.valores = valores;
+    }
+
+    /**
+     * Construye la matriz a partir de tripletas (i, j, valor). Las tripletas
+     * repetidas se suman y los ceros explícitos se descartan.
+     *
+     * @param filas Número de filas.
+     * @param cols Número de columnas.
+     * @param fi Filas de cada tripleta.
+     * @param cj Columnas de cada tripleta.
+     * @param v Valores de cada tripleta.
+     * @param nnz Número de tripletas a leer.
+     * @return La matriz en CSR.
+     */
+    public static MatrizDispersa desdeTripletas(int filas, int cols, int[] fi, int[] cj, double[] v, int nnz) {
+        int[] ptr = new int[filas + 1];
+        for (int t = 0; t < nnz; t++) {
+            if (fi[t] < 0 || fi[t] >= filas || cj[t] < 0 || cj[t] >= cols) {
+                throw new IllegalArgumentException(
+                        "Tripleta fuera de rango: (" + fi[t] + ", " + cj[t] + ")");
+            }
+            ptr[fi[t] + 1]++;
+        }
+        for (int i = 0; i < filas; i++) {
+            ptr[i + 1] += ptr[i];
+        }
+
+        // Reparto por filas
+        int[] siguiente = Arrays.copyOf(ptr, filas);
+        int[] col = new int[nnz];
+        double[] val = new double[nnz];
+        for (int t = 0; t < nnz; t++) {
+            int p = siguiente[fi[t]]++;
+            col[p] = cj[t];
+            val[p] = v[t];
+        }
+
+        // Ordenar cada fila por columna, sumar repetidas y quitar ceros
+        int[] nuevoPtr = new int[filas + 1];
+        int escrito = 0;
+        for (int i = 0; i < filas; i++) {
+            int desde = ptr[i];
+            int hasta = ptr[i + 1];
+            ordenarFila(col, val, desde, hasta);
+            int inicio = escrito;
+            for (int p = desde; p < hasta; p++) {
+                if (escrito > inicio && col[escrito - 1] == col[p]) {
+                    val[escrito - 1] += val[p];
+                } else {
+                    col[escrito] = col[p];
+                    val[escrito] = val[p];
+                    escrito++;
+                }
+            }
+            int w = inicio;
+            for (int p = inicio; p < escrito; p++) {
+                if (val[p] != 0.0) {
+                    col[w] = col[p];
+                    val[w] = val[p];
+                    w++;
+                }
+            }
+            escrito = w;
+            nuevoPtr[i + 1] = escrito;
+        }
+        return new MatrizDispersa(filas, cols, nuevoPtr,
+                Arrays.copyOf(col, escrito), Arrays.copyOf(val, escrito));
+    }
+
+    /**
+     * Convierte una matriz densa a CSR, guardando solo los elementos no nulos.
+     */
+    public static MatrizDispersa desde(Matriz A) {
+        int m = A.getFilas();
+        int c = A.getColumnas();
+        int[] ptr = new int[m + 1];
+        int nnz = 0;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < c; j++) {
+                if (A.get(i, j) != 0.0) {
+                    nnz++;
+                }
+            }
+            ptr[i + 1] = nnz;
+        }
+        int[] col = new int[nnz];
+        double[] val = new double[nnz];
+        int p = 0;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < c; j++) {
+                double a = A.get(i, j);
+                if (a != 0.0) {
+                    col[p] = j;
+                    val[p++] = a;
+                }
+            }
+        }
+        return new MatrizDispersa(m, c, ptr, col, val);
+    }
+
+    public int getFilas() {
+        return filas;
+    }
+
+    public int getColumnas() {
+        return cols;
+    }
+
+    public int getNnz() {
+        return filaPtr[filas];
+    }
+
+    /** Array de inicio de filas (sin copia). */
+    public int[] getFilaPtr() {
+        return filaPtr;
+    }
+
+    /** Índices de columna (sin copia). */
+    public int[] getIndicesColumna() {
+        return columnas;
+    }
+
+    /** Valores no nulos (sin copia). */
+    public double[] getValores() {
+        return valores;
+    }
+
+    /**
+     * Devuelve la traspuesta, también en CSR. Equivale a ver esta matriz en CSC.
+     */
+    public MatrizDispersa traspuesta() {
+        int nnz = getNnz();
+        int[] ptr = new int[cols + 1];
+        for (int p = 0; p < nnz; p++) {
+            ptr[columnas[p] + 1]++;
+        }
+        for (int j = 0; j < cols; j++) {
+            ptr[j + 1] += ptr[j];
+        }
+        int[] siguiente = Arrays.copyOf(ptr, cols);
+        int[] fil = new int[nnz];
+        double[] val = new double[nnz];
+        for (int i = 0; i < filas; i++) {
+            for (int p = filaPtr[i]; p < filaPtr[i + 1]; p++) {
+                int q = siguiente[columnas[p]]++;
+                fil[q] = i;
+                val[q] = valores[p];
+            }
+        }
+        return new MatrizDispersa(cols, filas, ptr, fil, val);
+    }
+
+    /**
+     * Calcula y = A·x.
+     */
+    public double[] multiplicar(double[] x) {
+        double[] y = new double[filas];
+        for (int i = 0; i < filas; i++) {
+            double suma = 0.0;
+            for (int p = filaPtr[i]; p < filaPtr[i + 1]; p++) {
+                suma += valores[p] * x[columnas[p]];
+            }
+            y[i] = suma;
+        }
+        return y;
+    }
+
+    /**
+     * Convierte a matriz densa (copia).
+     */
+    public Matriz toDensa() {
+        Matriz A = new Matriz(filas, cols);
+        for (int i = 0; i < filas; i++) {
+            for (int p = filaPtr[i]; p < filaPtr[i + 1]; p++) {
+                A.set(i, columnas[p], valores[p]);
+            }
+        }
+        return A;
+    }
+
+    /**
+     * Ordenación por inserción de un tramo de fila (las filas suelen ser cortas
+     * y casi ordenadas).
+     */
+    private static void ordenarFila(int[] col, double[] val, int desde, int hasta) {
+        for (int p = desde + 1; p < hasta; p++) {
+            int c = col[p];
+            double v = val[p];
+            int q = p - 1;
+            while (q >= desde && col[q] > c) {
+                col[q + 1] = col[q];
+                val[q + 1] = val[q];
+                q--;
+            }
+            col[q + 1] = c;
+            val[q + 1] = v;
+        }
+    }
+}
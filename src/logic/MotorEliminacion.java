@@ -0,0 +1,29 @@
+package logic;
+
+import exception.MatrixException;
+
+/**
+ * Motor de eliminación hacia forma triangular superior con pivotaje parcial
+ * escalado. Cada implementación organiza el cálculo de forma distinta
+ * (clásica, por bloques...) pero todas respetan las mismas reglas de pivotaje:
+ * se elige la fila con mayor |a_ik| / s[i] y se intercambian filas de M y s.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public interface MotorEliminacion {
+
+    /**
+     * Factoriza in-place la matriz aumentada M (n filas, al menos n columnas).
+     * Las columnas a partir de la n (términos independientes) se actualizan igual
+     * que las de A. Al terminar, la parte triangular superior de M contiene U y
+     * bajo la diagonal quedan los multiplicadores de L (diagonal unitaria implícita).
+     *
+     * @param M La matriz aumentada.
+     * @param s El vector de factores de escala (se permuta junto con las filas).
+     * @param perm Permutación de filas (se permuta junto con las filas); al terminar
+     *             perm[i] es la fila original que ocupa la posición i.
+     * @throws MatrixException Si se encuentra un pivote casi nulo.
+     */
+    void eliminar(Matriz M, double[] s, int[] perm) throws MatrixException;
+}
@@ -0,0 +1,74 @@
+package logic;
+
+/**
+ * Núcleos de cálculo de los bucles más costosos del solver: la actualización
+ * axpy de filas en la eliminación, el producto escalar de la sustitución regresiva
+ * y la actualización por carriles de los lotes de sistemas intercalados. Los
+ * dos primeros tienen también versión en {@code float} para la factorización
+ * en precisión simple de {@link SolverMixto}.
+ *
+ * Al arrancar se elige una implementación SIMD (API Vector de
+ * {@code jdk.incubator.vector}) si el módulo está presente en la JVM, y la
+ * escalar en caso contrario. Puede forzarse la escalar con
+ * {@code -Dgaussiana.simd=false}.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+interface NucleosCalculo {
+
+    /** Implementación elegida al cargar la clase. */
+    NucleosCalculo ACTIVOS = Seleccion.elegir();
+
+    /**
+     * y[oy .. oy+len) -= a * x[ox .. ox+len)
+     */
+    void axpy(double a, double[] x, int ox, double[] y, int oy, int len);
+
+    /**
+     * Devuelve la suma de x[ox+i] * y[oy+i] para i en [0, len).
+     */
+    double dot(double[] x, int ox, double[] y, int oy, int len);
+
+    /**
+     * Actualización axpy con un factor distinto por carril, sobre datos
+     * intercalados de {@code ancho} sistemas:
+     * y[oy + b·ancho + t] -= a[oa + t] * x[ox + b·ancho + t]
+     * para cada bloque b en [0, bloques) y carril t en [0, ancho).
+     */
+    void axpyIntercalado(double[] a, int oa, double[] x, int ox, double[] y, int oy, int bloques, int ancho);
+
+    /**
+     * Igual que {@link #axpy(double, double[], int, double[], int, int)} en precisión simple.
+     */
+    void axpy(float a, float[] x, int ox, float[] y, int oy, int len);
+
+    /**
+     * Igual que {@link #dot(double[], int, double[], int, int)} en precisión simple.
+     */
+    float dot(float[] x, int ox, float[] y, int oy, int len);
+
+    /**
+     * Elección de la implementación en tiempo de arranque.
+     */
+    final class Seleccion {
+
+        private static final String MODULO_VECTOR = "jdk.incubator.vector";
+
+        private Seleccion() {}
+
+        static NucleosCalculo elegir() {
+            if (!Boolean.parseBoolean(System.getProperty("gaussiana.simd", "true"))
+                    || ModuleLayer.boot().findModule(MODULO_VECTOR).isEmpty()) {
+                return new NucleosEscalares();
+            }
+            try {
+                // Se carga por nombre para no enlazar la clase SIMD si el módulo falta
+                Class<?> c = Class.forName("logic.NucleosVectoriales");
+                return (NucleosCalculo) c.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError ex) {
+                return new NucleosEscalares();
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package logic;
+
+/**
+ * Núcleos escalares: implementación de referencia, usada cuando la API Vector
+ * no está disponible.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+final class NucleosEscalares implements NucleosCalculo {
+
+    @Override
+    public void axpy(double a, double[] x, int ox, double[] y, int oy, int len) {
+        for (int i = 0; i < len; i++) {
+            y[oy + i] -= a * x[ox + i];
+        }
+    }
+
+    @Override
+    public double dot(double[] x, int ox, double[] y, int oy, int len) {
+        double suma = 0.0;
+        for (int i = 0; i < len; i++) {
+            suma += x[ox + i] * y[oy + i];
+        }
+        return suma;
+    }
+
+    @Override
+    public void axpyIntercalado(double[] a, int oa, double[] x, int ox, double[] y, int oy, int bloques, int ancho) {
+        for (int b = 0; b < bloques; b++) {
+            int base = b * ancho;
+            for (int t = 0; t < ancho; t++) {
+                y[oy + base + t] -= a[oa + t] * x[ox + base + t];
+            }
+        }
+    }
+
+    @Override
+    public void axpy(float a, float[] x, int ox, float[] y, int oy, int len) {
+        for (int i = 0; i < len; i++) {
+            y[oy + i] -= a * x[ox + i];
+        }
+    }
+
+    @Override
+    public float dot(float[] x, int ox, float[] y, int oy, int len) {
+        float suma = 0.0f;
+        for (int i = 0; i < len; i++) {
+            suma += x[ox + i] * y[oy + i];
+        }
+        return suma;
+    }
+
+    @Override
+    public String toString() {
+        return "escalar";
+    }
+}
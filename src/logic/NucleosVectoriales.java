@@ -0,0 +1,123 @@
+package logic;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Núcleos SIMD basados en {@link DoubleVector} (y {@link FloatVector}, con el
+ * doble de carriles, para precisión simple) con FMA. Para longitudes cortas
+ * (menos de dos vectores) se usa el bucle escalar, que es más rápido y no
+ * crea objetos intermedios.
+ *
+ * Solo se instancia desde {@link NucleosCalculo.Seleccion} cuando el módulo
+ * {@code jdk.incubator.vector} está presente.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+final class NucleosVectoriales implements NucleosCalculo {
+
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+    private static final int ANCHO = ESPECIE.length();
+    private static final VectorSpecies<Float> ESPECIE_F = FloatVector.SPECIES_PREFERRED;
+    private static final int ANCHO_F = ESPECIE_F.length();
+
+    @Override
+    public void axpy(double a, double[] x, int ox, double[] y, int oy, int len) {
+        int i = 0;
+        if (len >= 2 * ANCHO) {
+            DoubleVector va = DoubleVector.broadcast(ESPECIE, -a);
+            int limite = ESPECIE.loopBound(len);
+            for (; i < limite; i += ANCHO) {
+                DoubleVector vx = DoubleVector.fromArray(ESPECIE, x, ox + i);
+                DoubleVector vy = DoubleVector.fromArray(ESPECIE, y, oy + i);
+                vx.fma(va, vy).intoArray(y, oy + i);
+            }
+        }
+        for (; i < len; i++) {
+            y[oy + i] -= a * x[ox + i];
+        }
+    }
+
+    @Override
+    public double dot(double[] x, int ox, double[] y, int oy, int len) {
+        int i = 0;
+        double suma = 0.0;
+        if (len >= 2 * ANCHO) {
+            DoubleVector acc = DoubleVector.zero(ESPECIE);
+            int limite = ESPECIE.loopBound(len);
+            for (; i < limite; i += ANCHO) {
+                DoubleVector vx = DoubleVector.fromArray(ESPECIE, x, ox + i);
+                DoubleVector vy = DoubleVector.fromArray(ESPECIE, y, oy + i);
+                acc = vx.fma(vy, acc);
+            }
+            suma = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < len; i++) {
+            suma += x[ox + i] * y[oy + i];
+        }
+        return suma;
+    }
+
+    @Override
+    public void axpyIntercalado(double[] a, int oa, double[] x, int ox, double[] y, int oy, int bloques, int ancho) {
+        int limite = ESPECIE.loopBound(ancho);
+        for (int b = 0; b < bloques; b++) {
+            int base = b * ancho;
+            int t = 0;
+            for (; t < limite; t += ANCHO) {
+                DoubleVector va = DoubleVector.fromArray(ESPECIE, a, oa + t).neg();
+                DoubleVector vx = DoubleVector.fromArray(ESPECIE, x, ox + base + t);
+                DoubleVector vy = DoubleVector.fromArray(ESPECIE, y, oy + base + t);
+                vx.fma(va, vy).intoArray(y, oy + base + t);
+            }
+            for (; t < ancho; t++) {
+                y[oy + base + t] -= a[oa + t] * x[ox + base + t];
+            }
+        }
+    }
+
+    @Override
+    public void axpy(float a, float[] x, int ox, float[] y, int oy, int len) {
+        int i = 0;
+        if (len >= 2 * ANCHO_F) {
+            FloatVector va = FloatVector.broadcast(ESPECIE_F, -a);
+            int limite = ESPECIE_F.loopBound(len);
+            for (; i < limite; i += ANCHO_F) {
+                FloatVector vx = FloatVector.fromArray(ESPECIE_F, x, ox + i);
+                FloatVector vy = FloatVector.fromArray(ESPECIE_F, y, oy + i);
+                vx.fma(va, vy).intoArray(y, oy + i);
+            }
+        }
+        for (; i < len; i++) {
+            y[oy + i] -= a * x[ox + i];
+        }
+    }
+
+    @Override
+    public float dot(float[] x, int ox, float[] y, int oy, int len) {
+        int i = 0;
+        float suma = 0.0f;
+        if (len >= 2 * ANCHO_F) {
+            FloatVector acc = FloatVector.zero(ESPECIE_F);
+            int limite = ESPECIE_F.loopBound(len);
+            for (; i < limite; i += ANCHO_F) {
+                FloatVector vx = FloatVector.fromArray(ESPECIE_F, x, ox + i);
+                FloatVector vy = FloatVector.fromArray(ESPECIE_F, y, oy + i);
+                acc = vx.fma(vy, acc);
+            }
+            suma = acc.reduceLanes(VectorOperators.ADD);
+        }
+        for (; i < len; i++) {
+            suma += x[ox + i] * y[oy + i];
+        }
+        return suma;
+    }
+
+    @Override
+    public String toString() {
+        return "simd(" + ANCHO + " x double)";
+    }
+}
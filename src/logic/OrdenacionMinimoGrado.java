@@ -0,0 +1,253 @@
+package logic;
+
+import java.util.Arrays;
+
+/**
+ * Ordenación de grado mínimo aproximado (al estilo de AMD) para reducir el
+ * relleno de la factorización LU dispersa.
+ *
+ * Trabaja sobre el patrón simétrico de A + Aᵀ con un grafo cociente: cada
+ * variable eliminada se convierte en un «elemento» que agrupa a sus vecinas, en
+ * lugar de añadir explícitamente todas las aristas de relleno. El grado de una
+ * variable se aproxima por exceso (como en AMD) con sus vecinas directas, el
+ * tamaño del elemento recién formado y, de cada uno de sus otros elementos,
+ * las variables que no están en el recién formado; en cada paso se elimina la de
+ * menor grado. Los elementos contenidos por completo en el nuevo se absorben.
+ * A diferencia de AMD no se detectan supervariables.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class OrdenacionMinimoGrado {
+
+    private final int n;
+    private final int[][] vecinos;    // variables adyacentes (aún no cubiertas por un elemento)
+    private final int[] nVecinos;
+    private final int[][] elementos;  // elementos a los que pertenece cada variable
+    private final int[] nElementos;
+    private final int[][] miembros;   // variables de cada elemento (solo nodos eliminados)
+    private final int[] nMiembros;
+    private final boolean[] eliminado;
+    private final boolean[] absorbido;
+    private final int[] grado;
+
+    // Listas doblemente enlazadas de variables por grado
+    private final int[] cabeza;
+    private final int[] siguiente;
+    private final int[] anterior;
+    private int gradoMinimo;
+
+    private final int[] marca;
+    private final int[] externo;       // |Le \ Lp| durante la eliminación de p
+    private final int[] selloExterno;
+    private int sello;
+
+    private OrdenacionMinimoGrado(int n) {
+        this.n = n;
+        this.vecinos = new int[n][];
+        this.nVecinos = new int[n];
+        this.elementos = new int[n][];
+        this.nElementos = new int[n];
+        this.miembros = new int[n][];
+        this.nMiembros = new int[n];
+        this.eliminado = new boolean[n];
+        this.absorbido = new boolean[n];
+        this.grado = new int[n];
+        this.cabeza = new int[n];
+        this.siguiente = new int[n];
+        this.anterior = new int[n];
+        this.marca = new int[n];
+        this.externo = new int[n];
+        this.selloExterno = new int[n];
+    }
+
+    /**
+     * Calcula la ordenación de las columnas de A (cuadrada).
+     *
+     * @param A Matriz en CSR.
+     * @return q tal que en el paso k se elimina la columna q[k].
+     */
+    static int[] ordenar(MatrizDispersa A) {
+        OrdenacionMinimoGrado o = new OrdenacionMinimoGrado(A.getFilas());
+        o.construirPatronSimetrico(A, A.traspuesta());
+        return o.eliminarTodo();
+    }
+
+    /**
+     * Adyacencia de A + Aᵀ sin la diagonal: la fila i de A unida a la fila i de Aᵀ.
+     */
+    private void construirPatronSimetrico(MatrizDispersa A, MatrizDispersa At) {
+        int[] ap = A.getFilaPtr();
+        int[] ai = A.getIndicesColumna();
+        int[] tp = At.getFilaPtr();
+        int[] ti = At.getIndicesColumna();
+
+        int[] buffer = new int[n];
+        for (int i = 0; i < n; i++) {
+            sello++;
+            marca[i] = sello;
+            int cuenta = 0;
+            for (int p = ap[i]; p < ap[i + 1]; p++) {
+                int j = ai[p];
+                if (marca[j] != sello) {
+                    marca[j] = sello;
+                    buffer[cuenta++] = j;
+                }
+            }
+            for (int p = tp[i]; p < tp[i + 1]; p++) {
+                int j = ti[p];
+                if (marca[j] != sello) {
+                    marca[j] = sello;
+                    buffer[cuenta++] = j;
+                }
+            }
+            vecinos[i] = Arrays.copyOf(buffer, cuenta);
+            nVecinos[i] = cuenta;
+            elementos[i] = new int[2];
+            grado[i] = cuenta;
+        }
+    }
+
+    private int[] eliminarTodo() {
+        Arrays.fill(cabeza, -1);
+        gradoMinimo = n;
+        for (int i = 0; i < n; i++) {
+            insertar(i);
+        }
+
+        int[] orden = new int[n];
+        int[] nuevo = new int[n];
+        for (int k = 0; k < n; k++) {
+            while (cabeza[gradoMinimo] < 0) {
+                gradoMinimo++;
+            }
+            int p = cabeza[gradoMinimo];
+            quitar(p);
+            orden[k] = p;
+            eliminar(p, nuevo, n - k - 1);
+        }
+        return orden;
+    }
+
+    /**
+     * Elimina la variable p: forma el elemento p con sus vecinas (directas y
+     * a través de elementos), absorbe los elementos de p y actualiza los grados.
+     */
+    private void eliminar(int p, int[] nuevo, int restantes) {
+        eliminado[p] = true;
+
+        // Variables del nuevo elemento
+        sello++;
+        int cuenta = 0;
+        for (int t = 0; t < nVecinos[p]; t++) {
+            int v = vecinos[p][t];
+            if (!eliminado[v] && marca[v] != sello) {
+                marca[v] = sello;
+                nuevo[cuenta++] = v;
+            }
+        }
+        for (int t = 0; t < nElementos[p]; t++) {
+            int e = elementos[p][t];
+            for (int u = 0; u < nMiembros[e]; u++) {
+                int v = miembros[e][u];
+                if (!eliminado[v] && marca[v] != sello) {
+                    marca[v] = sello;
+                    nuevo[cuenta++] = v;
+                }
+            }
+            absorbido[e] = true;
+            miembros[e] = null;
+            nMiembros[e] = 0;
+        }
+        miembros[p] = Arrays.copyOf(nuevo, cuenta);
+        nMiembros[p] = cuenta;
+        vecinos[p] = null;
+        elementos[p] = null;
+
+        // |Le \ Lp| para cada elemento e que comparte variables con Lp
+        for (int t = 0; t < cuenta; t++) {
+            int i = nuevo[t];
+            for (int u = 0; u < nElementos[i]; u++) {
+                int e = elementos[i][u];
+                if (absorbido[e]) {
+                    continue;
+                }
+                if (selloExterno[e] != sello) {
+                    selloExterno[e] = sello;
+                    externo[e] = nMiembros[e];
+                }
+                externo[e]--;
+            }
+        }
+
+        // Actualizar las variables del elemento
+        for (int t = 0; t < cuenta; t++) {
+            int i = nuevo[t];
+            quitar(i);
+
+            // Los elementos contenidos en Lp quedan absorbidos por p
+            int[] el = elementos[i];
+            int ne = 0;
+            long g = cuenta - 1L;
+            for (int u = 0; u < nElementos[i]; u++) {
+                int e = el[u];
+                if (absorbido[e]) {
+                    continue;
+                }
+                if (externo[e] == 0) {
+                    absorbido[e] = true;
+                    miembros[e] = null;
+                    nMiembros[e] = 0;
+                    continue;
+                }
+                g += externo[e];
+                el[ne++] = e;
+            }
+            if (ne == el.length) {
+                el = Arrays.copyOf(el, 2 * ne + 2);
+                elementos[i] = el;
+            }
+            el[ne++] = p;
+            nElementos[i] = ne;
+
+            // Las vecinas que ya están en el elemento p se alcanzan a través de él
+            int[] ve = vecinos[i];
+            int nv = 0;
+            for (int u = 0; u < nVecinos[i]; u++) {
+                int v = ve[u];
+                if (!eliminado[v] && marca[v] != sello) {
+                    ve[nv++] = v;
+                }
+            }
+            nVecinos[i] = nv;
+            g += nv;
+
+            grado[i] = (int) Math.min(g, restantes - 1L);
+            insertar(i);
+        }
+    }
+
+    private void insertar(int i) {
+        int g = grado[i];
+        siguiente[i] = cabeza[g];
+        anterior[i] = -1;
+        if (cabeza[g] >= 0) {
+            anterior[cabeza[g]] = i;
+        }
+        cabeza[g] = i;
+        if (g < gradoMinimo) {
+            gradoMinimo = g;
+        }
+    }
+
+    private void quitar(int i) {
+        if (anterior[i] >= 0) {
+            siguiente[anterior[i]] = siguiente[i];
+        } else {
+            cabeza[grado[i]] = siguiente[i];
+        }
+        if (siguiente[i] >= 0) {
+            anterior[siguiente[i]] = anterior[i];
+        }
+    }
+}
@@ -2,32 +2,277 @@ package logic;
 
 /**
  * Clase que representa el resultado del método de eliminación gaussiana.
+ * Con varios términos independientes, B̃ y X tienen una columna por término.
+ *
+ * El resultado conserva los datos de la eliminación (la matriz aumentada densa
+ * o la factorización en banda) y solo construye U y B̃ cuando se piden, de modo
+ * que quien únicamente necesita X no paga su copia. Es inmutable: esos datos no
+ * se modifican después de construir el resultado y todos los getters devuelven
+ * copias, así que puede compartirse entre hilos.
+ *
+ * Como diagnóstico de la precisión de X ofrece una estimación del número de
+ * condición κ₁(A), que reutiliza los factores de la eliminación en O(n²), y el
+ * residuo ‖B - AX‖∞ frente al sistema original, que se calcula solo si se pide.
  *
  * @author Anabel Diaz
- * @version 1.0 - 22/11/2025
+ * @version 1.4 - 17/10/2026
  */
 public class ResultadoGauss {
 
-    private final double[][] U;   // matriz triangular superior
-    private final double[] bMod;  // terminos independientes tras la eliminación
-    private final double[] x;     // solucion por sustitución regresiva
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+
+    /**
+     * Valor de ‖A‖₁ que indica que se calcule como ‖LU‖₁ = ‖PA‖₁ a partir de los
+     * factores, en O(n³): solo para los sistemas pequeños, en los que calcularla
+     * antes de eliminar encarecería cada resolución.
+     */
+    static final double NORMA_DE_FACTORES = -1.0;
+
+    private final FuenteTriangular fuente;  // de donde se extraen U y B̃
+    private final Matriz X;                 // solucion por sustitución regresiva (n x k)
+    private final double normaA;            // ‖A‖₁, NaN si no se conoce o NORMA_DE_FACTORES
+    private volatile double condicion;      // estimación de κ₁(A) (≥ 1), 0 hasta calcularla
 
     public ResultadoGauss(double[][] U, double[] bMod, double[] x) {
-        this.U = U;
-        this.bMod = bMod;
-        this.x = x;
+        this(Matriz.desde(U), bMod, x);
+    }
+
+    public ResultadoGauss(Matriz U, double[] bMod, double[] x) {
+        this(U, new Matriz(bMod.length, 1, 1, bMod), new Matriz(x.length, 1, 1, x));
+    }
+
+    public ResultadoGauss(Matriz U, Matriz bMod, Matriz X) {
+        this(new Aumentada(aumentar(U, bMod), false), X.copiar());
+    }
+
+    /**
+     * Resultado sobre la matriz aumentada que deja la eliminación, sin copiarla.
+     * El llamador cede M y X y no debe modificarlas después.
+     */
+    ResultadoGauss(Matriz M, Matriz X) {
+        this(new Aumentada(M, true), X);
+    }
+
+    /**
+     * Igual que {@link #ResultadoGauss(Matriz, Matriz)} conociendo ‖A‖₁, lo que
+     * permite estimar el número de condición.
+     */
+    ResultadoGauss(Matriz M, Matriz X, double normaA) {
+        this(new Aumentada(M, true), X, normaA);
     }
 
+    /**
+     * Resultado sobre cualquier origen de U y B̃. El llamador cede X.
+     */
+    ResultadoGauss(FuenteTriangular fuente, Matriz X) {
+        this(fuente, X, Double.NaN);
+    }
+
+    /**
+     * Resultado sobre cualquier origen de U y B̃ con ‖A‖₁ (NaN si no se conoce).
+     */
+    ResultadoGauss(FuenteTriangular fuente, Matriz X, double normaA) {
+        this.fuente = fuente;
+        this.X = X;
+        this.normaA = normaA;
+    }
+
+    /**
+     * Devuelve U como {@code double[][]} (copia para la vista).
+     */
     public double[][] getU() {
-        return U;
+        return getMatrizU().toArray();
+    }
+
+    /**
+     * Construye U en almacenamiento contiguo (copia nueva en cada llamada).
+     */
+    public Matriz getMatrizU() {
+        return fuente.extraerU();
     }
 
+    /**
+     * Devuelve b̃ (la primera columna de B̃ si hay varios términos).
+     */
     public double[] getbMod() {
-        return bMod;
+        return columna(fuente.extraerBMod(), 0);
     }
 
+    /**
+     * Construye B̃ (n x k) en almacenamiento contiguo (copia nueva en cada llamada).
+     */
+    public Matriz getMatrizBMod() {
+        return fuente.extraerBMod();
+    }
+
+    /**
+     * Devuelve la solución x (la primera columna de X si hay varios términos).
+     */
     public double[] getX() {
-        return x;
+        return columna(X, 0);
+    }
+
+    /**
+     * Devuelve la solución completa X (n x k) como {@code double[][]}.
+     */
+    public double[][] getSoluciones() {
+        return X.toArray();
     }
-}
 
+    /**
+     * Devuelve una copia de la solución completa X (n x k).
+     */
+    public Matriz getMatrizX() {
+        return X.copiar();
+    }
+
+    /**
+     * Número de términos independientes resueltos.
+     */
+    public int getNumTerminos() {
+        return X.getColumnas();
+    }
+
+    /**
+     * Estimación del número de condición κ₁(A) = ‖A‖₁·‖A⁻¹‖₁ (Hager/Higham),
+     * calculada la primera vez que se pide en O(n²) con los factores de la
+     * eliminación. Es una cota inferior, casi siempre dentro de un factor 3 del
+     * valor exacto; X pierde del orden de log₁₀ κ dígitos correctos.
+     *
+     * @return La estimación, o NaN si el resultado no conserva la factorización
+     *         (sistemas en banda o dispersos, o resultados construidos desde U).
+     */
+    public double getCondicion() {
+        double c = condicion;
+        if (c == 0.0) {
+            double norma = normaA == NORMA_DE_FACTORES ? fuente.normaProducto() : normaA;
+            c = Double.isNaN(norma) ? Double.NaN : norma * fuente.estimarNormaInversa();
+            condicion = c;
+        }
+        return c;
+    }
+
+    /**
+     * Calcula el residuo ‖B - AX‖∞ (el mayor valor absoluto de B - AX) frente al
+     * sistema que se resolvió, en O(n²·k). Dividido entre ‖A‖∞·‖X‖∞ + ‖B‖∞ da el
+     * error inverso normalizado, del orden del épsilon de la máquina si la
+     * eliminación ha sido estable.
+     *
+     * @param sistema El sistema original; no sirve el de {@code solveInPlace},
+     *                cuya matriz sobrescribe la eliminación.
+     * @return El residuo.
+     * @throws IllegalArgumentException Si las dimensiones del sistema no son las del resultado.
+     */
+    public double getResiduo(Sistema sistema) {
+        int n = X.getFilas();
+        int k = X.getColumnas();
+        Matriz B = sistema.getMatrizB();
+        if (B == null || B.getFilas() != n || B.getColumnas() != k) {
+            throw new IllegalArgumentException("El sistema no corresponde a este resultado.");
+        }
+
+        double max = 0.0;
+        for (int c = 0; c < k; c++) {
+            double[] x = columna(X, c);
+            double[] ax;
+            if (sistema instanceof SistemaDisperso disperso) {
+                ax = disperso.getMatrizDispersa().multiplicar(x);
+            } else {
+                ax = multiplicar(sistema, x);
+            }
+            for (int i = 0; i < n; i++) {
+                max = Math.max(max, Math.abs(B.get(i, c) - ax[i]));
+            }
+        }
+        return max;
+    }
+
+    /**
+     * A·x con la A densa del sistema, sin copiarla si es contigua.
+     */
+    private static double[] multiplicar(Sistema sistema, double[] x) {
+        int n = x.length;
+        double[] ax = new double[n];
+        if (sistema.isContigua()) {
+            Matriz A = sistema.getMatriz();
+            double[] a = A.getDatos();
+            int ld = A.getLd();
+            for (int i = 0; i < n; i++) {
+                ax[i] = NUCLEOS.dot(a, i * ld, x, 0, n);
+            }
+        } else {
+            double[][] A = sistema.getA();
+            for (int i = 0; i < n; i++) {
+                ax[i] = NUCLEOS.dot(A[i], 0, x, 0, n);
+            }
+        }
+        return ax;
+    }
+
+    /**
+     * Copia de la columna c de R.
+     */
+    private static double[] columna(Matriz R, int c) {
+        int n = R.getFilas();
+        double[] col = new double[n];
+        double[] r = R.getDatos();
+        int ld = R.getLd();
+        for (int i = 0; i < n; i++) {
+            col[i] = r[i * ld + c];
+        }
+        return col;
+    }
+
+    /**
+     * Matriz aumentada densa [U | B̃] tal como la deja la eliminación.
+     */
+    private static final class Aumentada implements FuenteTriangular {
+
+        private final Matriz M;       // (n x (n+k)), no se modifica
+        private final boolean conL;   // si bajo la diagonal quedan multiplicadores de L
+
+        Aumentada(Matriz M, boolean conL) {
+            this.M = M;
+            this.conL = conL;
+        }
+
+        @Override
+        public Matriz extraerU() {
+            int n = M.getFilas();
+            return conL ? GaussSolver.extractUpperMatrix(M) : M.copiar(n, n);
+        }
+
+        @Override
+        public Matriz extraerBMod() {
+            return GaussSolver.extractModifiedRHS(M);
+        }
+
+        @Override
+        public double estimarNormaInversa() {
+            return conL ? EstimadorCondicion.normaInversa(M) : Double.NaN;
+        }
+
+        @Override
+        public double normaProducto() {
+            return conL ? EstimadorCondicion.normaProducto(M) : Double.NaN;
+        }
+    }
+
+    /**
+     * Construye [U | B̃] a partir de sus partes.
+     */
+    private static Matriz aumentar(Matriz U, Matriz bMod) {
+        int n = U.getFilas();
+        int k = bMod.getColumnas();
+        Matriz M = new Matriz(n, n + k);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                M.set(i, j, U.get(i, j));
+            }
+            for (int c = 0; c < k; c++) {
+                M.set(i, n + c, bMod.get(i, c));
+            }
+        }
+        return M;
+    }
+}
@@ -0,0 +1,106 @@
+package logic;
+
+import exception.MatrixException;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de resolver un lote de sistemas con {@link SolverLote}.
+ *
+ * Las soluciones se guardan empaquetadas una tras otra en un único array;
+ * los sistemas que no se han podido resolver conservan su
+ * {@link MatrixException} y tienen su solución a NaN, sin que el resto del
+ * lote se vea afectado.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class ResultadoLote {
+
+    private final int[] inicio;          // solución del sistema s en x[inicio[s] .. inicio[s+1])
+    private final double[] x;
+    private final MatrixException[] errores;
+    private final int fallidos;
+
+    /**
+     * @param inicio Posición de cada solución en x (longitud count + 1).
+     * @param x Soluciones empaquetadas.
+     * @param errores Error de cada sistema, o null si se resolvió.
+     */
+    ResultadoLote(int[] inicio, double[] x, MatrixException[] errores) {
+        this.inicio = inicio;
+        this.x = x;
+        this.errores = errores;
+        int f = 0;
+        for (MatrixException e : errores) {
+            if (e != null) {
+                f++;
+            }
+        }
+        this.fallidos = f;
+    }
+
+    /**
+     * Lote de count sistemas de n incógnitas: la solución s ocupa x[s·n .. (s+1)·n).
+     */
+    static ResultadoLote uniforme(int n, double[] x, MatrixException[] errores) {
+        int[] inicio = new int[errores.length + 1];
+        for (int s = 0; s <= errores.length; s++) {
+            inicio[s] = s * n;
+        }
+        return new ResultadoLote(inicio, x, errores);
+    }
+
+    public int getNumSistemas() {
+        return errores.length;
+    }
+
+    /**
+     * Número de sistemas que no se han podido resolver.
+     */
+    public int getNumFallidos() {
+        return fallidos;
+    }
+
+    /**
+     * Indica si el sistema s se ha resuelto.
+     */
+    public boolean isResuelto(int s) {
+        return errores[s] == null;
+    }
+
+    /**
+     * Devuelve el error del sistema s, o null si se resolvió.
+     */
+    public MatrixException getError(int s) {
+        return errores[s];
+    }
+
+    /**
+     * Devuelve una copia de la solución del sistema s. Con varios términos
+     * independientes, X (n x k) por filas.
+     *
+     * @throws MatrixException El error del sistema si no se pudo resolver.
+     */
+    public double[] getSolucion(int s) throws MatrixException {
+        if (errores[s] != null) {
+            throw errores[s];
+        }
+        return Arrays.copyOfRange(x, inicio[s], inicio[s + 1]);
+    }
+
+    /**
+     * Devuelve todas las soluciones empaquetadas (sin copia). En un lote
+     * uniforme de sistemas de n incógnitas, la del sistema s empieza en s·n.
+     */
+    public double[] getSoluciones() {
+        return x;
+    }
+
+    /**
+     * Posición de la solución del sistema s en {@link #getSoluciones()}.
+     */
+    public int getInicio(int s) {
+        return inicio[s];
+    }
+}
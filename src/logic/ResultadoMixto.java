@@ -0,0 +1,57 @@
+package logic;
+
+/**
+ * Resultado de una resolución en precisión mixta con {@link SolverMixto}.
+ *
+ * Además de la solución, indica cuántos pasos de refinamiento hicieron falta,
+ * el error inverso final y si hubo que recurrir a la factorización en
+ * precisión doble.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class ResultadoMixto {
+
+    private final double[] x;
+    private final int iteraciones;
+    private final double errorInverso;
+    private final boolean precisionDoble;
+
+    ResultadoMixto(double[] x, int iteraciones, double errorInverso, boolean precisionDoble) {
+        this.x = x;
+        this.iteraciones = iteraciones;
+        this.errorInverso = errorInverso;
+        this.precisionDoble = precisionDoble;
+    }
+
+    /**
+     * Devuelve una copia de la solución.
+     */
+    public double[] getX() {
+        return x.clone();
+    }
+
+    /**
+     * Pasos de refinamiento hechos con la factorización en precisión simple,
+     * también cuando después se recurrió a la doble.
+     */
+    public int getIteraciones() {
+        return iteraciones;
+    }
+
+    /**
+     * Error inverso normalizado de la solución,
+     * ‖b - Ax‖∞ / (‖A‖∞·‖x‖∞ + ‖b‖∞).
+     */
+    public double getErrorInverso() {
+        return errorInverso;
+    }
+
+    /**
+     * Indica si el refinamiento se estancó y la solución viene de la
+     * eliminación en precisión doble.
+     */
+    public boolean isPrecisionDoble() {
+        return precisionDoble;
+    }
+}
@@ -1,27 +1,128 @@
 package logic;
 
 /**
- * Clase que representa un sistema de ecuaciones lineales Ax = b.
+ * Clase que representa un sistema de ecuaciones lineales Ax = b,
+ * o AX = B cuando hay varios términos independientes (una columna de B por cada uno).
+ * La matriz A puede proporcionarse como {@code double[][]} o como {@link Matriz}
+ * contigua; el solver trabaja directamente con la representación recibida.
  *
  * @author Anabel Diaz
- * @version 1.0 - 22/11/2025
+ * @version 1.3 - 17/10/2026
  */
 public class Sistema {
 
     private final double[][] A;
+    private final Matriz matriz;
     private final double[] b;
+    private final Matriz B;
 
     public Sistema(double[][] A, double[] b) {
         this.A = A;
+        this.matriz = null;
         this.b = b;
+        this.B = null;
     }
 
+    public Sistema(Matriz A, double[] b) {
+        this.A = null;
+        this.matriz = A;
+        this.b = b;
+        this.B = null;
+    }
+
+    /**
+     * Sistema con varios términos independientes: B[i][c] es el término
+     * de la ecuación i en la columna c. B se copia en almacenamiento contiguo.
+     *
+     * @throws IllegalArgumentException Si alguna fila de B es nula o de otra longitud.
+     */
+    public Sistema(double[][] A, double[][] B) {
+        this.A = A;
+        this.matriz = null;
+        this.b = null;
+        this.B = B == null ? null : Matriz.desde(B);
+    }
+
+    /**
+     * Sistema con varios términos independientes en almacenamiento contiguo (n x k).
+     */
+    public Sistema(Matriz A, Matriz B) {
+        this.A = null;
+        this.matriz = A;
+        this.b = null;
+        this.B = B;
+    }
+
+    /**
+     * Sistema sin términos independientes, para factorizar solo A.
+     */
+    public Sistema(double[][] A) {
+        this(A, (double[]) null);
+    }
+
+    /**
+     * Devuelve A como {@code double[][]}. Si el sistema se creó con una
+     * {@link Matriz}, se devuelve una copia.
+     */
     public double[][] getA() {
+        if (A == null && matriz != null) {
+            return matriz.toArray();
+        }
         return A;
     }
 
+    /**
+     * Devuelve A en almacenamiento contiguo. Si el sistema se creó con un
+     * {@code double[][]}, se devuelve una copia.
+     */
+    public Matriz getMatriz() {
+        if (matriz == null && A != null) {
+            return Matriz.desde(A);
+        }
+        return matriz;
+    }
+
+    /**
+     * Indica si A se almacena de forma contigua (sin necesidad de conversión).
+     */
+    public boolean isContigua() {
+        return matriz != null;
+    }
+
+    /**
+     * Devuelve el término independiente. Con varios términos, devuelve
+     * una copia de la primera columna de B.
+     */
     public double[] getB() {
+        if (b == null && B != null) {
+            int n = B.getFilas();
+            double[] col = new double[n];
+            for (int i = 0; i < n; i++) {
+                col[i] = B.get(i, 0);
+            }
+            return col;
+        }
         return b;
     }
-}
 
+    /**
+     * Devuelve los términos independientes como matriz n x k. Con un único
+     * vector b se envuelve sin copia como matriz n x 1.
+     */
+    public Matriz getMatrizB() {
+        if (B == null && b != null) {
+            return new Matriz(b.length, 1, 1, b);
+        }
+        return B;
+    }
+
+    /**
+     * Número de términos independientes (columnas de B).
+     */
+    public int getNumTerminos() {
+        if (B != null) {
+            return B.getColumnas();
+        }
+        return b == null ? 0 : 1;
+    }
+}
@@ -0,0 +1,57 @@
+package logic;
+
+/**
+ * Sistema de ecuaciones Ax = b (o AX = B) con A dispersa en formato CSR.
+ *
+ * {@link GaussSolver#solve(Sistema)} lo resuelve con {@link SolverDisperso}.
+ * Los métodos heredados que devuelven A densa construyen una copia n x n,
+ * así que solo deben usarse con sistemas pequeños.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public class SistemaDisperso extends Sistema {
+
+    private final MatrizDispersa dispersa;
+
+    public SistemaDisperso(MatrizDispersa A, double[] b) {
+        super((Matriz) null, b);
+        this.dispersa = A;
+    }
+
+    /**
+     * Sistema disperso con varios términos independientes (n x k).
+     */
+    public SistemaDisperso(MatrizDispersa A, Matriz B) {
+        super((Matriz) null, B);
+        this.dispersa = A;
+    }
+
+    /**
+     * Devuelve A en CSR (sin copia).
+     */
+    public MatrizDispersa getMatrizDispersa() {
+        return dispersa;
+    }
+
+    /**
+     * Devuelve una copia densa de A.
+     */
+    @Override
+    public double[][] getA() {
+        return dispersa == null ? null : dispersa.toDensa().toArray();
+    }
+
+    /**
+     * Devuelve una copia densa y contigua de A.
+     */
+    @Override
+    public Matriz getMatriz() {
+        return dispersa == null ? null : dispersa.toDensa();
+    }
+
+    @Override
+    public boolean isContigua() {
+        return false;
+    }
+}
@@ -0,0 +1,445 @@
+package logic;
+
+import exception.MatrixException;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+
+/**
+ * Resolución de sistemas en banda con pivotaje parcial escalado.
+ *
+ * Una matriz tiene anchos de banda (kl, ku) si a_ij = 0 cuando i - j > kl o
+ * j - i > ku. Con pivotaje, U puede crecer hasta kl + ku diagonales por encima de
+ * la principal, así que cada fila se guarda en formato banda compacto con
+ * w = 2·kl + ku + 1 posiciones: el elemento (i, j) está en {@code a[i * w + j - i + kl]}.
+ * La eliminación cuesta O(n·kl·(kl+ku)) y la memoria O(n·w).
+ *
+ * Los sistemas tridiagonales con diagonal estrictamente dominante se resuelven
+ * con el algoritmo de Thomas (sin búsqueda de pivote, que no es necesaria en ese caso).
+ *
+ * {@link GaussSolver#solve(Sistema)} detecta la banda y usa esta clase cuando compensa.
+ *
+ * @author Anabel Diaz
+ * @version 1.4 - 17/10/2026
+ */
+public final class SolverBanda {
+
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    /** Tamaño mínimo a partir del cual merece la pena detectar la banda. */
+    static final int N_MINIMO = 32;
+
+    private SolverBanda() {}
+
+    /**
+     * Devuelve los anchos de banda {kl, ku} de A.
+     *
+     * @param A Matriz cuadrada.
+     * @return {kl, ku}.
+     */
+    public static int[] anchoBanda(Matriz A) {
+        return anchoBanda(A, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Devuelve los anchos de banda {kl, ku} de A.
+     *
+     * @param A Matriz cuadrada.
+     * @return {kl, ku}.
+     */
+    public static int[] anchoBanda(double[][] A) {
+        return anchoBanda(A, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Indica si la resolución en banda compensa frente a la densa para n incógnitas.
+     */
+    public static boolean convieneBanda(int n, int kl, int ku) {
+        return n >= N_MINIMO && 4L * (2L * kl + ku + 1) <= n;
+    }
+
+    /**
+     * Calcula los anchos de banda, dejando de recorrer en cuanto la suma
+     * 2·kl + ku supera {@code limite} (entonces se devuelve null).
+     */
+    private static int[] anchoBanda(Matriz A, int limite) {
+        int n = A.getFilas();
+        double[] a = A.getDatos();
+        int ld = A.getLd();
+        int kl = 0;
+        int ku = 0;
+
+        for (int i = 0; i < n; i++) {
+            int fila = i * ld;
+            int primera = 0;
+            while (primera < i - kl && a[fila + primera] == 0.0) {
+                primera++;
+            }
+            int ultima = n - 1;
+            while (ultima > i + ku && a[fila + ultima] == 0.0) {
+                ultima--;
+            }
+            kl = Math.max(kl, i - primera);
+            ku = Math.max(ku, ultima - i);
+            if (2L * kl + ku > limite) {
+                return null;
+            }
+        }
+        return new int[]{kl, ku};
+    }
+
+    /**
+     * Igual que {@link #anchoBanda(Matriz, int)} para {@code double[][]}.
+     */
+    private static int[] anchoBanda(double[][] A, int limite) {
+        int n = A.length;
+        int kl = 0;
+        int ku = 0;
+
+        for (int i = 0; i < n; i++) {
+            double[] fila = A[i];
+            int primera = 0;
+            while (primera < i - kl && fila[primera] == 0.0) {
+                primera++;
+            }
+            int ultima = n - 1;
+            while (ultima > i + ku && fila[ultima] == 0.0) {
+                ultima--;
+            }
+            kl = Math.max(kl, i - primera);
+            ku = Math.max(ku, ultima - i);
+            if (2L * kl + ku > limite) {
+                return null;
+            }
+        }
+        return new int[]{kl, ku};
+    }
+
+    /**
+     * Detecta si el sistema es en banda y compensa resolverlo así.
+     * Devuelve null si no compensa o si las dimensiones no son válidas
+     * (en ese caso la resolución densa informa del error).
+     */
+    static int[] detectarBanda(Sistema sistema) {
+        Matriz A = sistema.isContigua() ? sistema.getMatriz() : null;
+        double[][] jagged = A == null ? sistema.getA() : null;
+        Matriz B = sistema.getMatrizB();
+        int n = A != null ? A.getFilas() : (jagged != null ? jagged.length : 0);
+
+        if (n < N_MINIMO || B == null || B.getFilas() != n || B.getColumnas() == 0) {
+            return null;
+        }
+        if (A == null) {
+            for (double[] fila : jagged) {
+                if (fila == null || fila.length != n) {
+                    return null;
+                }
+            }
+        } else if (A.getColumnas() != n) {
+            return null;
+        }
+
+        // 4 (2kl + ku + 1) <= n  <=>  2kl + ku <= n / 4 - 1
+        int limite = n / 4 - 1;
+        int[] banda = A != null ? anchoBanda(A, limite) : anchoBanda(jagged, limite);
+        if (banda == null || !convieneBanda(n, banda[0], banda[1])) {
+            return null;
+        }
+        return banda;
+    }
+
+    /**
+     * Resuelve el sistema suponiendo anchos de banda (kl, ku). Los elementos
+     * fuera de la banda se ignoran.
+     *
+     * @param sistema El sistema (con uno o varios términos independientes).
+     * @param kl Ancho de banda inferior.
+     * @param ku Ancho de banda superior.
+     * @return El resultado, con U y B̃ construidos bajo demanda desde la banda.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static ResultadoGauss solve(Sistema sistema, int kl, int ku) throws MatrixException {
+        Matriz A = sistema.isContigua() ? sistema.getMatriz() : null;
+        double[][] jagged = A == null ? sistema.getA() : null;
+        Matriz B = sistema.getMatrizB();
+        if ((A == null && jagged == null) || B == null) {
+            throw METRICAS.fallo(new MatrixException("La matriz A y el vector b no pueden ser nulos."));
+        }
+        int n = A != null ? A.getFilas() : jagged.length;
+        boolean cuadrada = A != null ? A.getColumnas() == n : esCuadrada(jagged);
+        if (n == 0 || !cuadrada || B.getFilas() != n) {
+            throw METRICAS.fallo(new MatrixException("Dimensiones incompatibles para la resolución en banda."));
+        }
+        if (kl < 0 || ku < 0) {
+            throw new IllegalArgumentException("Anchos de banda no válidos: " + kl + ", " + ku);
+        }
+
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+        try {
+            Banda banda = new Banda(n, B, Math.min(kl, n - 1), Math.min(ku, n - 1));
+            if (A != null) {
+                banda.cargar(A);
+            } else {
+                banda.cargar(jagged);
+            }
+            double[] s = banda.computeScalingFactors();
+
+            int intercambios = 0;    // Thomas no intercambia filas
+            if (banda.kl == 1 && banda.ku == 1 && banda.isDiagonalDominant()) {
+                banda.thomas();
+            } else {
+                intercambios = banda.eliminar(s);
+            }
+
+            banda.checkSingularity();
+
+            ResultadoGauss resultado = new ResultadoGauss(banda, banda.backSubstitution());
+            METRICAS.resuelto(n, t0);
+            evento.terminar(n, B.getColumnas(), SolverBanda.class, intercambios);
+            return resultado;
+        } catch (MatrixException ex) {
+            evento.fallar(n, B.getColumnas(), SolverBanda.class, ex);
+            throw ex;
+        }
+    }
+
+    private static boolean esCuadrada(double[][] A) {
+        for (double[] fila : A) {
+            if (fila == null || fila.length != A.length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Matriz en banda junto con sus términos independientes. Una vez
+     * eliminada no se modifica, y sirve de origen de U y B̃ para el resultado.
+     */
+    private static final class Banda implements FuenteTriangular {
+
+        private final int n;
+        private final int kl;
+        private final int ku;
+        private final int w;          // posiciones por fila: 2kl + ku + 1
+        private final double[] a;     // filas en formato banda
+        private final Matriz bm;      // términos independientes (n x k), se transforman en B̃
+        private double umbralNulo;    // umbral absoluto de singularidad, fijado con las escalas
+
+        Banda(int n, Matriz B, int kl, int ku) {
+            this.n = n;
+            this.kl = kl;
+            this.ku = ku;
+            this.w = 2 * kl + ku + 1;
+            this.a = new double[Math.multiplyExact(n, w)];
+            this.bm = B.copiar();
+        }
+
+        void cargar(Matriz A) {
+            for (int i = 0; i < n; i++) {
+                int hasta = Math.min(n - 1, i + ku);
+                for (int j = Math.max(0, i - kl); j <= hasta; j++) {
+                    a[idx(i, j)] = A.get(i, j);
+                }
+            }
+        }
+
+        void cargar(double[][] A) {
+            for (int i = 0; i < n; i++) {
+                int hasta = Math.min(n - 1, i + ku);
+                for (int j = Math.max(0, i - kl); j <= hasta; j++) {
+                    a[idx(i, j)] = A[i][j];
+                }
+            }
+        }
+
+        private int idx(int i, int j) {
+            return i * w + j - i + kl;
+        }
+
+        /**
+         * Última columna de la fila i que puede ser no nula en U.
+         */
+        private int ultimaColumna(int i) {
+            return Math.min(n - 1, i + kl + ku);
+        }
+
+        double[] computeScalingFactors() throws MatrixException {
+            double[] s = new double[n];
+            for (int i = 0; i < n; i++) {
+                double max = 0.0;
+                int hasta = Math.min(n - 1, i + ku);
+                for (int j = Math.max(0, i - kl); j <= hasta; j++) {
+                    max = Math.max(max, Math.abs(a[idx(i, j)]));
+                }
+                GaussSolver.checkScalingFactor(max, i);
+                s[i] = max;
+            }
+            umbralNulo = GaussSolver.umbralNulo(s, n);
+            return s;
+        }
+
+        boolean isDiagonalDominant() {
+            for (int i = 0; i < n; i++) {
+                double fuera = (i > 0 ? Math.abs(a[idx(i, i - 1)]) : 0.0)
+                        + (i < n - 1 ? Math.abs(a[idx(i, i + 1)]) : 0.0);
+                if (Math.abs(a[idx(i, i)]) <= fuera) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Eliminación en banda con pivotaje parcial escalado. Solo las kl filas bajo
+         * el pivote pueden tener elementos no nulos en la columna k.
+         *
+         * @return El número de intercambios de filas.
+         */
+        int eliminar(double[] s) throws MatrixException {
+            double[] b = bm.getDatos();
+            int k = bm.getColumnas();
+            int intercambios = 0;
+
+            for (int c = 0; c < n - 1; c++) {
+                int ultimaFila = Math.min(n - 1, c + kl);
+
+                // 1 Seleccionar fila pivote usando los factores de escala
+                int pivotRow = c;
+                double maxRatio = Math.abs(a[idx(c, c)]) / s[c];
+                for (int i = c + 1; i <= ultimaFila; i++) {
+                    double ratio = Math.abs(a[idx(i, c)]) / s[i];
+                    if (ratio > maxRatio) {
+                        maxRatio = ratio;
+                        pivotRow = i;
+                    }
+                }
+
+                // 2 Comprobar pivote casi nulo
+                GaussSolver.checkPivot(a[idx(pivotRow, c)], umbralNulo, c);
+
+                // 3 Intercambiar filas (columnas vivas c..c+kl+ku, B y s)
+                int ultimaCol = ultimaColumna(c);
+                if (pivotRow != c) {
+                    for (int j = c; j <= ultimaCol; j++) {
+                        int p = idx(c, j);
+                        int q = idx(pivotRow, j);
+                        double tmp = a[p];
+                        a[p] = a[q];
+                        a[q] = tmp;
+                    }
+                    bm.swapRows(c, pivotRow);
+                    double tmpS = s[c];
+                    s[c] = s[pivotRow];
+                    s[pivotRow] = tmpS;
+                    METRICAS.intercambio();
+                    intercambios++;
+                }
+
+                // 4 Eliminación por debajo del pivote
+                double pivote = a[idx(c, c)];
+                int len = ultimaCol - c;
+                for (int i = c + 1; i <= ultimaFila; i++) {
+                    double factor = a[idx(i, c)] / pivote;
+                    if (factor == 0.0) {
+                        continue;
+                    }
+                    a[idx(i, c)] = 0.0;
+                    NUCLEOS.axpy(factor, a, idx(c, c + 1), a, idx(i, c + 1), len);
+                    NUCLEOS.axpy(factor, b, c * k, b, i * k, k);
+                }
+            }
+            return intercambios;
+        }
+
+        /**
+         * Algoritmo de Thomas para tridiagonales con diagonal dominante.
+         */
+        void thomas() throws MatrixException {
+            double[] b = bm.getDatos();
+            int k = bm.getColumnas();
+
+            for (int c = 0; c < n - 1; c++) {
+                double pivote = a[idx(c, c)];
+                GaussSolver.checkPivot(pivote, umbralNulo, c);
+
+                double factor = a[idx(c + 1, c)] / pivote;
+                a[idx(c + 1, c)] = 0.0;
+                a[idx(c + 1, c + 1)] -= factor * a[idx(c, c + 1)];
+                NUCLEOS.axpy(factor, b, c * k, b, (c + 1) * k, k);
+            }
+        }
+
+        /**
+         * Misma comprobación que {@code checkSingularityInUpperMatrix}, sobre la banda.
+         */
+        void checkSingularity() throws MatrixException {
+            double[] b = bm.getDatos();
+            int k = bm.getColumnas();
+
+            for (int i = 0; i < n; i++) {
+                boolean filaNula = true;
+                for (int j = i; j <= ultimaColumna(i); j++) {
+                    if (!GaussSolver.isNegligible(a[idx(i, j)], umbralNulo)) {
+                        filaNula = false;
+                        break;
+                    }
+                }
+                if (filaNula) {
+                    int c = 0;
+                    while (c < k && GaussSolver.isNegligible(b[i * k + c], umbralNulo)) {
+                        c++;
+                    }
+                    GaussSolver.reportNullRow(i, c < k ? b[i * k + c] : 0.0, umbralNulo);
+                }
+            }
+
+            GaussSolver.checkLastPivot(a[idx(n - 1, n - 1)], umbralNulo);
+        }
+
+        Matriz backSubstitution() {
+            double[] b = bm.getDatos();
+            int k = bm.getColumnas();
+            Matriz X = new Matriz(n, k);
+            double[] x = X.getDatos();
+
+            for (int i = n - 1; i >= 0; i--) {
+                int ultima = ultimaColumna(i);
+                double pivote = a[idx(i, i)];
+                if (k == 1) {
+                    double suma = b[i] - NUCLEOS.dot(a, idx(i, i + 1), x, i + 1, ultima - i);
+                    x[i] = suma / pivote;
+                    continue;
+                }
+                System.arraycopy(b, i * k, x, i * k, k);
+                for (int j = i + 1; j <= ultima; j++) {
+                    double u = a[idx(i, j)];
+                    if (u != 0.0) {
+                        NUCLEOS.axpy(u, x, j * k, x, i * k, k);
+                    }
+                }
+                for (int c = 0; c < k; c++) {
+                    x[i * k + c] /= pivote;
+                }
+            }
+            return X;
+        }
+
+        @Override
+        public Matriz extraerU() {
+            Matriz U = new Matriz(n, n);
+            for (int i = 0; i < n; i++) {
+                for (int j = i; j <= ultimaColumna(i); j++) {
+                    U.set(i, j, a[idx(i, j)]);
+                }
+            }
+            return U;
+        }
+
+        @Override
+        public Matriz extraerBMod() {
+            return bm.copiar();
+        }
+    }
+}
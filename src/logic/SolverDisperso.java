@@ -0,0 +1,417 @@
+package logic;
+
+import exception.MatrixException;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+
+import java.util.Arrays;
+
+/**
+ * Factorización LU dispersa para sistemas con A en CSR.
+ *
+ * Las columnas se eliminan en el orden que da {@link OrdenacionMinimoGrado}
+ * para reducir el relleno. Cada columna de L y U se obtiene con una resolución
+ * triangular dispersa (método de Gilbert-Peierls): primero se calcula por
+ * búsqueda en profundidad el conjunto de filas que pueden ser no nulas y
+ * después solo se opera sobre ellas, de modo que el coste es proporcional al
+ * número de operaciones en coma flotante y no a n².
+ *
+ * El pivote se elige con pivotaje umbral escalado: entre las filas aún no
+ * usadas se toma la de mayor |x_i| / s_i, salvo que la fila diagonal de la
+ * columna alcance al menos {@code umbral} veces ese valor; entonces se prefiere
+ * la diagonal, que conserva la ordenación y produce menos relleno.
+ *
+ * La detección de singularidad e incompatibilidad es la misma que en la vía
+ * densa ({@link GaussSolver#checkPivot}, {@link GaussSolver#reportNullRow},
+ * {@link GaussSolver#checkLastPivot}).
+ *
+ * @author Anabel Diaz
+ * @version 1.3 - 17/10/2026
+ */
+public final class SolverDisperso {
+
+    /** Umbral de pivotaje por defecto (como en UMFPACK y SuperLU). */
+    public static final double UMBRAL_POR_DEFECTO = 0.1;
+
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    private SolverDisperso() {}
+
+    /**
+     * Resuelve el sistema con ordenación de grado mínimo y el umbral por defecto.
+     */
+    public static ResultadoGauss solve(SistemaDisperso sistema) throws MatrixException {
+        return solve(sistema, UMBRAL_POR_DEFECTO, true);
+    }
+
+    /**
+     * Resuelve el sistema disperso.
+     *
+     * @param sistema El sistema (uno o varios términos independientes).
+     * @param umbral Umbral de pivotaje en (0, 1]; con 1 equivale al pivotaje parcial escalado.
+     * @param reordenar Si se aplica la ordenación de grado mínimo (si no, el orden natural).
+     * @return El resultado. U se expresa en el orden de columnas de la
+     *         ordenación y sus filas en el orden de los pivotes.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public static ResultadoGauss solve(SistemaDisperso sistema, double umbral, boolean reordenar)
+            throws MatrixException {
+
+        if (!(umbral > 0.0 && umbral <= 1.0)) {
+            throw new IllegalArgumentException("El umbral de pivotaje debe estar en (0, 1]: " + umbral);
+        }
+        MatrizDispersa A = sistema.getMatrizDispersa();
+        Matriz B = sistema.getMatrizB();
+        validateDimensions(A, B);
+
+        int n = A.getFilas();
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+        try {
+            int[] q = reordenar ? OrdenacionMinimoGrado.ordenar(A) : GaussSolver.identityPermutation(n);
+
+            LU lu = new LU(n, A.getNnz());
+            lu.factorizar(A, q, computeScalingFactors(A), umbral);
+
+            Matriz bMod = lu.forwardSubstitution(B);
+            lu.checkSingularity(bMod);
+
+            ResultadoGauss resultado = new ResultadoGauss(lu, lu.backSubstitution(bMod));
+            METRICAS.resuelto(n, t0);
+            evento.terminar(n, B.getColumnas(), SolverDisperso.class, null);
+            return resultado;
+        } catch (MatrixException ex) {
+            evento.fallar(n, B.getColumnas(), SolverDisperso.class, ex);
+            throw ex;
+        }
+    }
+
+    private static void validateDimensions(MatrizDispersa A, Matriz B) throws MatrixException {
+        if (A == null || B == null) {
+            throw METRICAS.fallo(new MatrixException("La matriz A y el vector b no pueden ser nulos."));
+        }
+        int n = A.getFilas();
+        if (n == 0) {
+            throw METRICAS.fallo(new MatrixException("La matriz A no puede estar vacía."));
+        }
+        if (A.getColumnas() != n) {
+            throw METRICAS.fallo(new MatrixException("La matriz A debe ser cuadrada de tamaño " + n + "x" + n + "."));
+        }
+        if (B.getFilas() != n || B.getColumnas() == 0) {
+            throw METRICAS.fallo(new MatrixException(
+                    "Dimensiones incompatibles: A es de " + n + "x" + n +
+                            " pero B es de " + B.getFilas() + "x" + B.getColumnas() + "."
+            ));
+        }
+    }
+
+    /**
+     * Factores de escala s_i = max_j |a_ij| recorriendo solo los no nulos.
+     */
+    private static double[] computeScalingFactors(MatrizDispersa A) throws MatrixException {
+        int n = A.getFilas();
+        int[] ap = A.getFilaPtr();
+        double[] ax = A.getValores();
+        double[] s = new double[n];
+        for (int i = 0; i < n; i++) {
+            double max = 0.0;
+            for (int p = ap[i]; p < ap[i + 1]; p++) {
+                max = Math.max(max, Math.abs(ax[p]));
+            }
+            GaussSolver.checkScalingFactor(max, i);
+            s[i] = max;
+        }
+        return s;
+    }
+
+    /**
+     * Factores L y U en formato CSC. L tiene diagonal unidad (guardada como
+     * primer elemento de cada columna) y U guarda el pivote como último
+     * elemento de cada columna. Tras la factorización, las filas de ambos
+     * están en el orden de los pivotes.
+     */
+    private static final class LU implements FuenteTriangular {
+
+        private final int n;
+        private final int[] lp;
+        private int[] li;
+        private double[] lx;
+        private final int[] up;
+        private int[] ui;
+        private double[] ux;
+        private final int[] pinv;   // fila original -> paso en que fue pivote (-1 si aún no)
+        private int[] q;            // paso -> columna original
+        private Matriz bMod;        // B̃, para extraerBMod
+        private double umbralNulo;  // umbral absoluto de singularidad
+
+        LU(int n, int nnz) {
+            this.n = n;
+            int capacidad = Math.max(4 * nnz + n, 16);
+            this.lp = new int[n + 1];
+            this.li = new int[capacidad];
+            this.lx = new double[capacidad];
+            this.up = new int[n + 1];
+            this.ui = new int[capacidad];
+            this.ux = new double[capacidad];
+            this.pinv = new int[n];
+        }
+
+        void factorizar(MatrizDispersa A, int[] q, double[] s, double umbral) throws MatrixException {
+            this.q = q;
+            this.umbralNulo = GaussSolver.umbralNulo(s, n);
+            MatrizDispersa columnas = A.traspuesta();   // fila j = columna j de A
+            int[] cp = columnas.getFilaPtr();
+            int[] ci = columnas.getIndicesColumna();
+            double[] cx = columnas.getValores();
+
+            double[] x = new double[n];
+            int[] patron = new int[n];
+            int[] pila = new int[n];
+            int[] posicion = new int[n];
+            int[] marca = new int[n];
+            Arrays.fill(pinv, -1);
+
+            int lnz = 0;
+            int unz = 0;
+            for (int k = 0; k < n; k++) {
+                int col = q[k];
+                lp[k] = lnz;
+                up[k] = unz;
+                int sello = k + 1;
+
+                // Espacio para, como mucho, n entradas más en cada factor
+                if (lnz + n > li.length) {
+                    int c = Math.max(2 * li.length, lnz + n);
+                    li = Arrays.copyOf(li, c);
+                    lx = Arrays.copyOf(lx, c);
+                }
+                if (unz + n > ui.length) {
+                    int c = Math.max(2 * ui.length, unz + n);
+                    ui = Arrays.copyOf(ui, c);
+                    ux = Arrays.copyOf(ux, c);
+                }
+
+                // x = L \ A(:, col), con patrón en patron[top..n)
+                int top = alcance(ci, cp[col], cp[col + 1], patron, pila, posicion, marca, sello);
+                for (int p = top; p < n; p++) {
+                    x[patron[p]] = 0.0;
+                }
+                for (int p = cp[col]; p < cp[col + 1]; p++) {
+                    x[ci[p]] = cx[p];
+                }
+                for (int p = top; p < n; p++) {
+                    int j = patron[p];
+                    int jj = pinv[j];
+                    if (jj < 0) {
+                        continue;
+                    }
+                    double xj = x[j];
+                    for (int t = lp[jj] + 1; t < lp[jj + 1]; t++) {
+                        x[li[t]] -= lx[t] * xj;
+                    }
+                }
+
+                // Elección del pivote (umbral escalado) y columna k de U
+                int ipiv = -1;
+                double mejor = -1.0;
+                for (int p = top; p < n; p++) {
+                    int i = patron[p];
+                    if (pinv[i] < 0) {
+                        double r = Math.abs(x[i]) / s[i];
+                        if (r > mejor) {
+                            mejor = r;
+                            ipiv = i;
+                        }
+                    } else {
+                        ui[unz] = pinv[i];
+                        ux[unz++] = x[i];
+                    }
+                }
+                if (marca[col] == sello && pinv[col] < 0
+                        && Math.abs(x[col]) / s[col] >= umbral * mejor) {
+                    ipiv = col;
+                }
+
+                double pivote;
+                if (ipiv < 0) {
+                    // Ninguna fila libre en el patrón: la columna es nula bajo la diagonal
+                    if (k < n - 1) {
+                        GaussSolver.checkPivot(0.0, umbralNulo, k);
+                    }
+                    ipiv = filaLibre();
+                    pivote = 0.0;
+                } else {
+                    pivote = x[ipiv];
+                    if (k < n - 1) {
+                        GaussSolver.checkPivot(pivote, umbralNulo, k);
+                    }
+                }
+                ui[unz] = k;
+                ux[unz++] = pivote;
+                pinv[ipiv] = k;
+
+                li[lnz] = ipiv;
+                lx[lnz++] = 1.0;
+                for (int p = top; p < n; p++) {
+                    int i = patron[p];
+                    if (pinv[i] < 0) {
+                        li[lnz] = i;
+                        lx[lnz++] = x[i] / pivote;
+                    }
+                    x[i] = 0.0;
+                }
+            }
+            lp[n] = lnz;
+            up[n] = unz;
+
+            for (int p = 0; p < lnz; p++) {
+                li[p] = pinv[li[p]];
+            }
+        }
+
+        /**
+         * Filas alcanzables desde las filas no nulas de la columna en el grafo
+         * de L, en orden topológico en patron[top..n).
+         */
+        private int alcance(int[] ci, int desde, int hasta, int[] patron, int[] pila,
+                            int[] posicion, int[] marca, int sello) {
+            int top = n;
+            for (int p = desde; p < hasta; p++) {
+                int raiz = ci[p];
+                if (marca[raiz] == sello) {
+                    continue;
+                }
+                // Búsqueda en profundidad no recursiva desde raiz
+                int cabeza = 0;
+                pila[0] = raiz;
+                while (cabeza >= 0) {
+                    int j = pila[cabeza];
+                    int jj = pinv[j];
+                    if (marca[j] != sello) {
+                        marca[j] = sello;
+                        posicion[cabeza] = jj < 0 ? 0 : lp[jj] + 1;
+                    }
+                    boolean terminado = true;
+                    int fin = jj < 0 ? 0 : lp[jj + 1];
+                    for (int t = posicion[cabeza]; t < fin; t++) {
+                        int i = li[t];
+                        if (marca[i] == sello) {
+                            continue;
+                        }
+                        posicion[cabeza] = t + 1;
+                        pila[++cabeza] = i;
+                        terminado = false;
+                        break;
+                    }
+                    if (terminado) {
+                        cabeza--;
+                        patron[--top] = j;
+                    }
+                }
+            }
+            return top;
+        }
+
+        private int filaLibre() {
+            for (int i = 0; i < n; i++) {
+                if (pinv[i] < 0) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("No quedan filas sin pivote.");
+        }
+
+        /**
+         * B̃ = L⁻¹·P·B, en el orden de los pivotes.
+         */
+        Matriz forwardSubstitution(Matriz B) {
+            int k = B.getColumnas();
+            Matriz Y = new Matriz(n, k);
+            double[] y = new double[n];
+            for (int c = 0; c < k; c++) {
+                for (int i = 0; i < n; i++) {
+                    y[pinv[i]] = B.get(i, c);
+                }
+                for (int j = 0; j < n; j++) {
+                    double yj = y[j];
+                    if (yj == 0.0) {
+                        continue;
+                    }
+                    for (int t = lp[j] + 1; t < lp[j + 1]; t++) {
+                        y[li[t]] -= lx[t] * yj;
+                    }
+                }
+                for (int i = 0; i < n; i++) {
+                    Y.set(i, c, y[i]);
+                }
+            }
+            this.bMod = Y;
+            return Y;
+        }
+
+        /**
+         * Filas nulas de U y último pivote, con los mismos mensajes que la vía densa.
+         */
+        void checkSingularity(Matriz bMod) throws MatrixException {
+            boolean[] filaViva = new boolean[n];
+            for (int p = 0; p < up[n]; p++) {
+                if (!GaussSolver.isNegligible(ux[p], umbralNulo)) {
+                    filaViva[ui[p]] = true;
+                }
+            }
+            int k = bMod.getColumnas();
+            for (int i = 0; i < n; i++) {
+                if (!filaViva[i]) {
+                    int c = 0;  // primer término independiente no nulo de la fila, si lo hay
+                    while (c < k && GaussSolver.isNegligible(bMod.get(i, c), umbralNulo)) {
+                        c++;
+                    }
+                    GaussSolver.reportNullRow(i, c < k ? bMod.get(i, c) : 0.0, umbralNulo);
+                }
+            }
+            GaussSolver.checkLastPivot(ux[up[n] - 1], umbralNulo);
+        }
+
+        /**
+         * Resuelve U·z = B̃ y deshace la ordenación de columnas: x[q[j]] = z[j].
+         */
+        Matriz backSubstitution(Matriz bMod) {
+            int k = bMod.getColumnas();
+            Matriz X = new Matriz(n, k);
+            double[] y = new double[n];
+            for (int c = 0; c < k; c++) {
+                for (int i = 0; i < n; i++) {
+                    y[i] = bMod.get(i, c);
+                }
+                for (int j = n - 1; j >= 0; j--) {
+                    int diag = up[j + 1] - 1;
+                    double zj = y[j] / ux[diag];
+                    X.set(q[j], c, zj);
+                    if (zj == 0.0) {
+                        continue;
+                    }
+                    for (int t = up[j]; t < diag; t++) {
+                        y[ui[t]] -= ux[t] * zj;
+                    }
+                }
+            }
+            return X;
+        }
+
+        @Override
+        public Matriz extraerU() {
+            Matriz U = new Matriz(n, n);
+            for (int j = 0; j < n; j++) {
+                for (int t = up[j]; t < up[j + 1]; t++) {
+                    U.set(ui[t], j, ux[t]);
+                }
+            }
+            return U;
+        }
+
+        @Override
+        public Matriz extraerBMod() {
+            return bMod.copiar();
+        }
+    }
+}
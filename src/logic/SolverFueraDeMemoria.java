@@ -0,0 +1,663 @@
+package logic;
+
+import config.LoggerFichero;
+import exception.InputException;
+import exception.MatrixException;
+import io.FormatoBinario;
+import io.LectorBinario;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Resolución fuera de memoria de sistemas densos que no caben en el heap (ni
+ * en la memoria física), leídos de un fichero en {@link FormatoBinario}.
+ *
+ * La matriz aumentada [A | B] se copia a un fichero temporal proyectado en
+ * memoria, dividida en paneles de {@code anchoPanel} columnas y cada panel en
+ * teselas de {@code filasTesela} filas, contiguas en el fichero. La
+ * eliminación es por paneles de izquierda a derecha (left-looking): el panel J
+ * se carga entero, se le aplican las actualizaciones de todos los paneles ya
+ * factorizados, que se leen tesela a tesela, y se factoriza con el mismo
+ * pivotaje parcial escalado que {@link GaussSolver}, con los mismos pivotes y
+ * la misma comprobación de singularidad. Los paneles de términos
+ * independientes solo se actualizan, así que al final quedan U y B̃ en el
+ * fichero, y la sustitución regresiva recorre los paneles de derecha a izquierda.
+ *
+ * Los intercambios de filas no mueven datos en el fichero: la permutación se
+ * guarda aparte y cada fila física conserva sus multiplicadores de L, de modo
+ * que los paneles ya escritos no se vuelven a tocar.
+ *
+ * Las teselas de los paneles anteriores pasan por una caché LRU acotada, y un
+ * hilo en segundo plano precarga las del panel siguiente mientras se usan las
+ * del actual. En memoria solo están el panel en curso (n·anchoPanel doubles),
+ * la caché y vectores de longitud n. Cada panel vuelve a leer los anteriores,
+ * así que la lectura total es de unos n³/(2·anchoPanel) doubles: conviene
+ * que los paneles sean tan anchos como permita la memoria, que es lo que hace
+ * {@link #SolverFueraDeMemoria(long)}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class SolverFueraDeMemoria {
+
+    private static final LoggerFichero log = LoggerFichero.getInstance();
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    /** Tamaño aproximado de las teselas cuando se eligen automáticamente. */
+    private static final int BYTES_TESELA = 1 << 20;
+    /** Bytes del fichero temporal que se proyectan de una vez. */
+    private static final long BYTES_PROYECCION = 1L << 30;
+    /** Doubles como máximo del panel en curso (el límite de un array). */
+    private static final long MAX_PANEL = Integer.MAX_VALUE - 8;
+
+    /**
+     * Fases de la resolución que se notifican al {@link Progreso}.
+     */
+    public enum Fase {
+        /** Copia del sistema al fichero temporal, por filas. */
+        COPIA,
+        /** Eliminación, por paneles. */
+        ELIMINACION,
+        /** Sustitución regresiva, por paneles. */
+        SUSTITUCION
+    }
+
+    /**
+     * Recibe el avance de una resolución desde el hilo que la ejecuta.
+     */
+    @FunctionalInterface
+    public interface Progreso {
+
+        /** Sin notificaciones. */
+        Progreso NINGUNO = (fase, hecho, total) -> {};
+
+        /**
+         * @param fase La fase en curso.
+         * @param hecho Unidades terminadas de la fase (filas o paneles).
+         * @param total Unidades de la fase.
+         */
+        void avance(Fase fase, int hecho, int total);
+    }
+
+    private final long memoria;
+    private final int anchoPanel;
+    private final int filasTesela;
+    private final long memoriaCache;
+
+    /**
+     * Usa la mitad del heap máximo.
+     */
+    public SolverFueraDeMemoria() {
+        this(Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * Reparte {@code memoria} bytes a partes iguales entre el panel en curso y
+     * la caché de teselas; el ancho de los paneles se deduce de n.
+     *
+     * @param memoria Bytes de heap que puede usar la resolución (positivo).
+     */
+    public SolverFueraDeMemoria(long memoria) {
+        if (memoria <= 0) {
+            throw new IllegalArgumentException("La memoria debe ser positiva: " + memoria);
+        }
+        this.memoria = memoria;
+        this.anchoPanel = 0;
+        this.filasTesela = 0;
+        this.memoriaCache = memoria / 2;
+    }
+
+    /**
+     * Fija la geometría de los paneles y la caché.
+     *
+     * @param anchoPanel Columnas de cada panel (positivo).
+     * @param filasTesela Filas de cada tesela (positivo).
+     * @param memoriaCache Bytes de la caché de teselas; siempre caben al menos dos.
+     */
+    public SolverFueraDeMemoria(int anchoPanel, int filasTesela, long memoriaCache) {
+        if (anchoPanel <= 0 || filasTesela <= 0 || memoriaCache < 0) {
+            throw new IllegalArgumentException("Geometría no válida: panel " + anchoPanel
+                    + ", tesela " + filasTesela + ", caché " + memoriaCache);
+        }
+        if ((long) anchoPanel * filasTesela * Double.BYTES > BYTES_PROYECCION) {
+            throw new IllegalArgumentException("Una tesela no puede superar " + BYTES_PROYECCION + " bytes.");
+        }
+        this.memoria = 0;
+        this.anchoPanel = anchoPanel;
+        this.filasTesela = filasTesela;
+        this.memoriaCache = memoriaCache;
+    }
+
+    /**
+     * Resuelve el sistema del fichero, con el fichero temporal en su mismo
+     * directorio (que tiene sitio para una copia, y no suele estar en memoria
+     * como puede estarlo el directorio temporal del sistema).
+     *
+     * @see #resolver(Path, Path, Progreso)
+     */
+    public Matriz resolver(Path sistema, Progreso progreso)
+            throws IOException, InputException, MatrixException {
+        Path directorio = sistema.toAbsolutePath().getParent();
+        return resolver(sistema, directorio, progreso);
+    }
+
+    /**
+     * Resuelve el sistema [A | B] de un fichero en {@link FormatoBinario}.
+     *
+     * @param sistema Fichero con el sistema, con al menos un término independiente.
+     * @param directorio Directorio del fichero temporal, que ocupa algo más que el sistema.
+     * @param progreso Receptor del avance.
+     * @return La solución X (n x k).
+     * @throws IOException Si falla la lectura o el fichero temporal.
+     * @throws InputException Si el fichero no es un sistema válido.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    public Matriz resolver(Path sistema, Path directorio, Progreso progreso)
+            throws IOException, InputException, MatrixException {
+
+        FormatoBinario.Cabecera c = LectorBinario.leerCabecera(sistema);
+        if (c.contenido() != FormatoBinario.CONTENIDO_SISTEMA || c.k() == 0) {
+            throw new InputException("El fichero " + sistema + " no contiene un sistema con términos independientes.");
+        }
+        int n = c.n();
+        int k = c.k();
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+
+        Path temporal = Files.createTempFile(directorio, "gaussiana-", ".lu");
+        try (Resolucion r = new Resolucion(c, temporal, progreso)) {
+            r.copiar(sistema);
+            r.eliminar();
+            Matriz X = r.sustituir();
+            METRICAS.resuelto(n, t0);
+            evento.terminar(n, k, SolverFueraDeMemoria.class, r.perm);
+            return X;
+        } catch (MatrixException ex) {
+            evento.fallar(n, k, SolverFueraDeMemoria.class, ex);
+            throw ex;
+        } finally {
+            try {
+                Files.deleteIfExists(temporal);
+            } catch (IOException ex) {
+                // En algunos sistemas no se puede borrar mientras siga proyectado
+                log.warn("No se pudo borrar el fichero temporal {}: {}", temporal, ex.getMessage());
+                temporal.toFile().deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * Estado de una resolución: la geometría, el fichero temporal y la caché.
+     *
+     * La tesela b del panel p es la t = p·teselasPanel + b; guarda las filas
+     * [b·filas, (b+1)·filas) de las columnas del panel, por filas y con
+     * {@code ancho} posiciones cada una aunque el último panel sea más estrecho.
+     */
+    private final class Resolucion implements AutoCloseable {
+
+        private final int n;
+        private final int k;
+        private final int columnas;
+        private final int ancho;
+        private final int filas;
+        private final int paneles;
+        private final int panelesA;          // paneles con alguna columna de A
+        private final int teselasPanel;
+        private final int tamTesela;          // doubles por tesela
+        private final int teselasTrozo;       // teselas por proyección
+        private final ByteOrder orden;
+        private final Progreso progreso;
+
+        private final FileChannel canal;
+        private final DoubleBuffer[] trozos;
+        private final CacheTeselas cache;
+        private final int ventana;            // teselas que se precargan por delante
+
+        private final double[] s;
+        final int[] perm;                     // perm[i]: fila física en la posición i
+        private final int[] posicion;         // inversa de perm
+        private double umbralNulo;
+        private double ultimoPivote;
+
+        Resolucion(FormatoBinario.Cabecera c, Path temporal, Progreso progreso) throws IOException {
+            this.n = c.n();
+            this.k = c.k();
+            this.columnas = n + k;
+            this.orden = c.orden();
+            this.progreso = progreso;
+
+            int w = anchoPanel;
+            int f = filasTesela;
+            long bytesCache = memoriaCache;
+            if (memoria > 0) {
+                w = (int) Math.max(1, Math.min(columnas, memoria / 2 / ((long) n * Double.BYTES)));
+                f = Math.max(1, Math.min(n, BYTES_TESELA / (w * Double.BYTES)));
+                bytesCache = memoria - (long) n * w * Double.BYTES;
+            }
+            this.filas = Math.min(f, n);
+            this.teselasPanel = (n + filas - 1) / filas;
+            this.ancho = (int) Math.min(Math.min(w, columnas), MAX_PANEL / ((long) teselasPanel * filas));
+            this.paneles = (columnas + ancho - 1) / ancho;
+            this.panelesA = (n + ancho - 1) / ancho;
+            this.tamTesela = filas * ancho;
+            this.teselasTrozo = (int) Math.max(1, BYTES_PROYECCION / ((long) tamTesela * Double.BYTES));
+
+            int capacidad = (int) Math.max(2, Math.min(Integer.MAX_VALUE,
+                    bytesCache / ((long) tamTesela * Double.BYTES)));
+            this.ventana = Math.max(1, Math.min(teselasPanel, capacidad / 2));
+
+            this.s = new double[n];
+            this.perm = GaussSolver.identityPermutation(n);
+            this.posicion = GaussSolver.identityPermutation(n);
+
+            long teselas = (long) paneles * teselasPanel;
+            this.canal = FileChannel.open(temporal, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.trozos = new DoubleBuffer[(int) ((teselas + teselasTrozo - 1) / teselasTrozo)];
+            long bytesTrozo = (long) teselasTrozo * tamTesela * Double.BYTES;
+            for (int i = 0; i < trozos.length; i++) {
+                long inicio = i * bytesTrozo;
+                long bytes = Math.min(bytesTrozo, teselas * tamTesela * Double.BYTES - inicio);
+                trozos[i] = canal.map(FileChannel.MapMode.READ_WRITE, inicio, bytes)
+                        .order(ByteOrder.nativeOrder()).asDoubleBuffer();
+            }
+            this.cache = new CacheTeselas(capacidad);
+
+            log.info("Resolución fuera de memoria: n={}, k={}, paneles de {} columnas, teselas de {} filas, "
+                    + "caché de {} teselas.", n, k, ancho, filas, capacidad);
+        }
+
+        /**
+         * Copia el sistema al fichero temporal por filas, calculando los
+         * factores de escala y el umbral de singularidad.
+         */
+        void copiar(Path sistema) throws IOException, MatrixException {
+            double[] fila = new double[columnas];
+            ByteBuffer buf = ByteBuffer.allocateDirect(columnas * Double.BYTES).order(orden);
+            double max = 0.0;
+
+            try (FileChannel entrada = FileChannel.open(sistema, StandardOpenOption.READ)) {
+                long inicio = FormatoBinario.TAM_CABECERA;
+                for (int i = 0; i < n; i++) {
+                    buf.clear();
+                    while (buf.hasRemaining()) {
+                        if (entrada.read(buf, inicio + buf.position()) < 0) {
+                            throw new IOException("Fin de fichero inesperado en la fila " + i + " de " + sistema);
+                        }
+                    }
+                    buf.flip();
+                    buf.asDoubleBuffer().get(fila);
+                    inicio += (long) columnas * Double.BYTES;
+
+                    double si = 0.0;
+                    for (int j = 0; j < n; j++) {   // solo columnas de A, no las de B
+                        si = Math.max(si, Math.abs(fila[j]));
+                    }
+                    GaussSolver.checkScalingFactor(si, i);
+                    s[i] = si;
+                    max = Math.max(max, si);
+
+                    int b = i / filas;
+                    int desplazamiento = (i % filas) * ancho;
+                    for (int p = 0; p < paneles; p++) {
+                        int t = p * teselasPanel + b;
+                        int p0 = p * ancho;
+                        trozo(t).put(inicioTesela(t) + desplazamiento, fila, p0, Math.min(ancho, columnas - p0));
+                    }
+                    if ((i + 1) % filas == 0 || i == n - 1) {
+                        progreso.avance(Fase.COPIA, i + 1, n);
+                    }
+                }
+            }
+            umbralNulo = GaussSolver.umbralNulo(max);
+        }
+
+        /**
+         * Eliminación left-looking: cada panel recibe las actualizaciones de
+         * los anteriores y, si tiene columnas de A, se factoriza.
+         */
+        void eliminar() throws MatrixException {
+            double[] panel = new double[teselasPanel * tamTesela];
+            double[] diagonal = new double[ancho * ancho];
+
+            for (int J = 0; J < paneles; J++) {
+                leerPanel(J, panel);
+                int anteriores = Math.min(J, panelesA);
+                for (int p = 0; p < anteriores; p++) {
+                    actualizar(panel, J, p, anteriores, diagonal);
+                }
+                if (J < panelesA) {
+                    factorizarPanel(panel, J);
+                }
+                escribirPanel(J, panel);
+                progreso.avance(Fase.ELIMINACION, J + 1, paneles);
+            }
+        }
+
+        /**
+         * Aplica al panel J las actualizaciones del panel factorizado p: primero
+         * U12 = L11⁻¹·A12 en las filas de los pivotes de p y después
+         * A22 -= L21·U12 en las filas que aún no han sido pivote.
+         *
+         * @param anteriores Paneles que se recorren para actualizar J (para la precarga).
+         */
+        private void actualizar(double[] panel, int J, int p, int anteriores, double[] diagonal) {
+            int p0 = p * ancho;
+            int pe = Math.min(p0 + ancho, n);
+            int w = Math.min(ancho, columnas - J * ancho);
+            int base = p * teselasPanel;
+            precargarInicio(p);
+
+            // U12 con las filas de los pivotes de p (L11 por debajo de su diagonal)
+            copiarFilasPivote(p, p0, pe, diagonal);
+            for (int c = p0; c < pe; c++) {
+                int filaU = perm[c] * ancho;
+                for (int c2 = c + 1; c2 < pe; c2++) {
+                    double factor = diagonal[(c2 - p0) * ancho + c - p0];
+                    if (factor != 0.0) {
+                        NUCLEOS.axpy(factor, panel, filaU, panel, perm[c2] * ancho, w);
+                    }
+                }
+            }
+
+            // A22 -= L21·U12, recorriendo las teselas de p en orden
+            for (int b = 0; b < teselasPanel; b++) {
+                int t = base + b;
+                double[] tesela = cache.leer(t);
+                precargarPorDelante(p, b, 1, anteriores);
+                int i1 = Math.min((b + 1) * filas, n);
+                for (int i = b * filas; i < i1; i++) {
+                    if (posicion[i] < pe) {
+                        continue;
+                    }
+                    int fila = (i - b * filas) * ancho;
+                    for (int c = p0; c < pe; c++) {
+                        double factor = tesela[fila + c - p0];
+                        if (factor != 0.0) {
+                            NUCLEOS.axpy(factor, panel, perm[c] * ancho, panel, i * ancho, w);
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Factoriza las columnas de A del panel J, ya actualizado, con pivotaje
+         * parcial escalado sobre las filas que aún no han sido pivote.
+         */
+        private void factorizarPanel(double[] panel, int J) throws MatrixException {
+            int J0 = J * ancho;
+            int w = Math.min(ancho, columnas - J0);
+            int fin = Math.min(J0 + ancho, n);
+
+            for (int c = J0; c < fin; c++) {
+                int cc = c - J0;
+
+                // 1 Seleccionar fila pivote usando los factores de escala
+                int pivotPos = c;
+                double maxRatio = Math.abs(panel[perm[c] * ancho + cc]) / s[perm[c]];
+                for (int q = c + 1; q < n; q++) {
+                    int i = perm[q];
+                    double ratio = Math.abs(panel[i * ancho + cc]) / s[i];
+                    if (ratio > maxRatio) {
+                        maxRatio = ratio;
+                        pivotPos = q;
+                    }
+                }
+                if (c == n - 1) {
+                    // El último pivote se comprueba con los términos independientes ya eliminados
+                    ultimoPivote = panel[perm[c] * ancho + cc];
+                    break;
+                }
+
+                // 2 Comprobar pivote casi nulo
+                GaussSolver.checkPivot(panel[perm[pivotPos] * ancho + cc], umbralNulo, c);
+
+                // 3 Intercambiar las posiciones (las filas no se mueven)
+                if (pivotPos != c) {
+                    METRICAS.intercambio();
+                    int tmp = perm[c];
+                    perm[c] = perm[pivotPos];
+                    perm[pivotPos] = tmp;
+                    posicion[perm[c]] = c;
+                    posicion[perm[pivotPos]] = pivotPos;
+                }
+
+                // 4 Multiplicadores y actualización dentro del panel
+                int filaK = perm[c] * ancho;
+                double pivote = panel[filaK + cc];
+                for (int q = c + 1; q < n; q++) {
+                    int filaI = perm[q] * ancho;
+                    double factor = panel[filaI + cc] / pivote;
+                    panel[filaI + cc] = factor;
+                    NUCLEOS.axpy(factor, panel, filaK + cc + 1, panel, filaI + cc + 1, w - cc - 1);
+                }
+            }
+        }
+
+        /**
+         * Comprueba la singularidad como {@link GaussSolver} y calcula X por
+         * sustitución regresiva, recorriendo los paneles de A de derecha a izquierda.
+         */
+        Matriz sustituir() throws MatrixException {
+            double[] y = terminosEliminados();
+
+            // Los pivotes anteriores ya se comprobaron: solo la última fila de U puede ser nula
+            if (GaussSolver.isNegligible(ultimoPivote, umbralNulo)) {
+                int filaY = perm[n - 1] * k;
+                int j = 0;
+                while (j < k && GaussSolver.isNegligible(y[filaY + j], umbralNulo)) {
+                    j++;
+                }
+                GaussSolver.reportNullRow(n - 1, j < k ? y[filaY + j] : 0.0, umbralNulo);
+            }
+
+            double[] x = new double[n * k];
+            double[] diagonal = new double[ancho * ancho];
+            for (int P = panelesA - 1; P >= 0; P--) {
+                int p0 = P * ancho;
+                int pe = Math.min(p0 + ancho, n);
+                int base = P * teselasPanel;
+                precargarInicio(P);
+
+                // Bloque diagonal de U
+                copiarFilasPivote(P, p0, pe, diagonal);
+                for (int c = pe - 1; c >= p0; c--) {
+                    int fila = (c - p0) * ancho;
+                    System.arraycopy(y, perm[c] * k, x, c * k, k);
+                    for (int c2 = c + 1; c2 < pe; c2++) {
+                        NUCLEOS.axpy(diagonal[fila + c2 - p0], x, c2 * k, x, c * k, k);
+                    }
+                    double pivote = diagonal[fila + c - p0];
+                    for (int j = 0; j < k; j++) {
+                        x[c * k + j] /= pivote;
+                    }
+                }
+
+                // Términos de las filas de U por encima del panel
+                for (int b = 0; b < teselasPanel; b++) {
+                    int t = base + b;
+                    double[] tesela = cache.leer(t);
+                    precargarPorDelante(P, b, -1, panelesA);
+                    int i1 = Math.min((b + 1) * filas, n);
+                    for (int i = b * filas; i < i1; i++) {
+                        if (posicion[i] >= p0) {
+                            continue;
+                        }
+                        int fila = (i - b * filas) * ancho;
+                        for (int c = p0; c < pe; c++) {
+                            double u = tesela[fila + c - p0];
+                            if (u != 0.0) {
+                                NUCLEOS.axpy(u, x, c * k, y, i * k, k);
+                            }
+                        }
+                    }
+                }
+                progreso.avance(Fase.SUSTITUCION, panelesA - P, panelesA);
+            }
+            return new Matriz(n, k, k, x);
+        }
+
+        /**
+         * B̃ por filas físicas (n x k), leído de los paneles de términos independientes.
+         */
+        private double[] terminosEliminados() {
+            double[] y = new double[n * k];
+            for (int j = n; j < columnas; j++) {
+                int p = j / ancho;
+                int cj = j - p * ancho;
+                for (int b = 0; b < teselasPanel; b++) {
+                    double[] tesela = cache.leer(p * teselasPanel + b);
+                    int i1 = Math.min((b + 1) * filas, n);
+                    for (int i = b * filas; i < i1; i++) {
+                        y[i * k + j - n] = tesela[(i - b * filas) * ancho + cj];
+                    }
+                }
+            }
+            return y;
+        }
+
+        /**
+         * Copia a diagonal las filas de los pivotes [p0, pe) del panel p, que
+         * forman su bloque diagonal (L11 y U11) en la posición de cada pivote.
+         */
+        private void copiarFilasPivote(int p, int p0, int pe, double[] diagonal) {
+            for (int c = p0; c < pe; c++) {
+                int i = perm[c];
+                int b = i / filas;
+                double[] tesela = cache.leer(p * teselasPanel + b);
+                System.arraycopy(tesela, (i - b * filas) * ancho, diagonal, (c - p0) * ancho, pe - p0);
+            }
+        }
+
+        /**
+         * Precarga la tesela que va {@code ventana} posiciones por delante de
+         * la b del panel p, recorriendo las teselas de cada panel en orden y
+         * los paneles en sentido paso (1 o -1) sin salir de [0, limite).
+         */
+        private void precargarPorDelante(int p, int b, int paso, int limite) {
+            int siguiente = b + ventana;
+            if (siguiente >= teselasPanel) {
+                siguiente -= teselasPanel;
+                p += paso;
+            }
+            if (p >= 0 && p < limite) {
+                cache.precargar(p * teselasPanel + siguiente);
+            }
+        }
+
+        /**
+         * Precarga las primeras teselas del panel p, si no lo están ya.
+         */
+        private void precargarInicio(int p) {
+            for (int b = 0; b < ventana; b++) {
+                cache.precargar(p * teselasPanel + b);
+            }
+        }
+
+        private void leerPanel(int J, double[] panel) {
+            for (int b = 0; b < teselasPanel; b++) {
+                int t = J * teselasPanel + b;
+                trozo(t).get(inicioTesela(t), panel, b * tamTesela, tamTesela);
+            }
+        }
+
+        private void escribirPanel(int J, double[] panel) {
+            for (int b = 0; b < teselasPanel; b++) {
+                int t = J * teselasPanel + b;
+                trozo(t).put(inicioTesela(t), panel, b * tamTesela, tamTesela);
+            }
+        }
+
+        private DoubleBuffer trozo(int t) {
+            return trozos[t / teselasTrozo];
+        }
+
+        private int inicioTesela(int t) {
+            return (t % teselasTrozo) * tamTesela;
+        }
+
+        /**
+         * Lee una tesela del fichero a un array nuevo.
+         */
+        private double[] cargar(int t) {
+            double[] tesela = new double[tamTesela];
+            trozo(t).duplicate().get(inicioTesela(t), tesela, 0, tamTesela);
+            return tesela;
+        }
+
+        @Override
+        public void close() throws IOException {
+            cache.cerrar();
+            canal.close();
+        }
+
+        /**
+         * Caché LRU de teselas de solo lectura. Una tesela ausente se carga en
+         * el hilo que la pide o, si se precarga, en el hilo de precarga; quien
+         * la pida mientras tanto espera a que termine.
+         */
+        private final class CacheTeselas {
+
+            private final Map<Integer, CompletableFuture<double[]>> teselas;
+            private final ExecutorService precarga = Executors.newSingleThreadExecutor(r -> {
+                Thread t = new Thread(r, "gauss-precarga");
+                t.setDaemon(true);
+                return t;
+            });
+
+            CacheTeselas(int capacidad) {
+                this.teselas = new LinkedHashMap<>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Integer, CompletableFuture<double[]>> e) {
+                        return size() > capacidad;
+                    }
+                };
+            }
+
+            double[] leer(int t) {
+                CompletableFuture<double[]> tesela;
+                boolean cargarAqui = false;
+                synchronized (this) {
+                    tesela = teselas.get(t);
+                    if (tesela == null) {
+                        tesela = new CompletableFuture<>();
+                        teselas.put(t, tesela);
+                        cargarAqui = true;
+                    }
+                }
+                if (cargarAqui) {
+                    tesela.complete(cargar(t));
+                }
+                return tesela.join();
+            }
+
+            void precargar(int t) {
+                synchronized (this) {
+                    if (teselas.containsKey(t)) {
+                        return;
+                    }
+                    teselas.put(t, CompletableFuture.supplyAsync(() -> cargar(t), precarga));
+                }
+            }
+
+            void cerrar() {
+                precarga.shutdownNow();
+            }
+        }
+    }
+}
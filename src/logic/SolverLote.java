@@ -0,0 +1,512 @@
+package logic;
+
+import exception.MatrixException;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Resolución de lotes de muchos sistemas pequeños.
+ *
+ * Los sistemas se agrupan de {@value #CARRILES} en {@value #CARRILES} y cada
+ * grupo se guarda intercalado (estructura de arrays): el elemento (i, j) del
+ * sistema t del grupo está en {@code a[(i·(n+1) + j)·CARRILES + t]}. Así la
+ * eliminación recorre los sistemas del grupo en el bucle interior, con
+ * accesos contiguos que se vectorizan ({@link NucleosCalculo#axpyIntercalado}),
+ * y solo la elección del pivote y el intercambio de filas son propios de cada
+ * sistema. Los grupos se reparten entre los hilos del pool común.
+ *
+ * Cada sistema sigue el mismo pivotaje parcial escalado y las mismas
+ * comprobaciones que {@link GaussSolver}; un sistema singular no detiene el
+ * lote, sino que queda registrado en el {@link ResultadoLote}.
+ *
+ * @author Anabel Diaz
+ * @version 1.5 - 17/10/2026
+ */
+public final class SolverLote {
+
+    /** Sistemas por grupo intercalado. */
+    static final int CARRILES = 16;
+
+    /** Tamaño máximo de sistema que se resuelve intercalado; los mayores, uno a uno. */
+    public static final int N_MAX_INTERCALADO = 16;
+
+    /** Grupos que resuelve una tarea del pool sin dividirse. */
+    private static final int GRUPOS_POR_TAREA = 8;
+
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    private SolverLote() {}
+
+    /**
+     * Resuelve count sistemas de n incógnitas empaquetados uno tras otro:
+     * A del sistema s en packedA[s·n² ..] por filas y b en packedB[s·n ..].
+     *
+     * @throws MatrixException Si las dimensiones del lote no son coherentes;
+     *         los fallos de cada sistema se devuelven en el resultado.
+     */
+    public static ResultadoLote solve(double[] packedA, double[] packedB, int n, int count) throws MatrixException {
+        if (packedA == null || packedB == null) {
+            throw METRICAS.fallo(new MatrixException("Los arrays del lote no pueden ser nulos."));
+        }
+        if (n <= 0 || count < 0) {
+            throw METRICAS.fallo(new MatrixException(
+                    "Dimensiones de lote no válidas: n = " + n + ", count = " + count + "."));
+        }
+        if ((long) n * n * count > packedA.length || (long) n * count > packedB.length) {
+            throw METRICAS.fallo(new MatrixException("El lote de " + count + " sistemas de " + n + "x" + n
+                    + " necesita " + (long) n * n * count + " coeficientes y " + (long) n * count
+                    + " términos, y hay " + packedA.length + " y " + packedB.length + "."));
+        }
+        EventoResolucion evento = EventoResolucion.empezar();
+        double[] x = new double[n * count];
+        MatrixException[] errores = new MatrixException[count];
+        int intercambios = resolver(packedA, packedB, n, count, x, errores);
+        evento.terminar(n, count, SolverLote.class, intercambios);
+        return ResultadoLote.uniforme(n, x, errores);
+    }
+
+    /**
+     * Resuelve una lista de sistemas. Los densos con un único término
+     * independiente y hasta {@value #N_MAX_INTERCALADO} incógnitas se agrupan
+     * por tamaño y se resuelven intercalados; el resto (dispersos, con varios
+     * términos o mayores) se resuelve uno a uno con {@link GaussSolver#solve(Sistema)}.
+     * Los datos no válidos de un sistema se registran como su
+     * {@link MatrixException}; cualquier otra excepción se propaga.
+     */
+    public static ResultadoLote solve(List<Sistema> sistemas) {
+        EventoResolucion evento = EventoResolucion.empezar();
+        int count = sistemas.size();
+        int[] inicio = new int[count + 1];
+        int[] dim = new int[count];
+        MatrixException[] errores = new MatrixException[count];
+        List<List<Integer>> porTamano = new ArrayList<>();
+        for (int n = 0; n <= N_MAX_INTERCALADO; n++) {
+            porTamano.add(new ArrayList<>());
+        }
+        List<Integer> sueltos = new ArrayList<>();
+        int nMax = 0;
+
+        for (int s = 0; s < count; s++) {
+            Sistema si = sistemas.get(s);
+            dim[s] = dimensionIntercalable(si);
+            if (dim[s] > 0) {
+                porTamano.get(dim[s]).add(s);
+            } else if (si == null) {
+                errores[s] = METRICAS.fallo(new MatrixException("El sistema " + s + " del lote es nulo."));
+            } else {
+                sueltos.add(s);
+            }
+            int n = incognitas(si);
+            nMax = Math.max(nMax, n);
+            inicio[s + 1] = inicio[s] + Math.multiplyExact(n, si == null ? 0 : si.getNumTerminos());
+        }
+        double[] x = new double[inicio[count]];
+
+        int intercambios = 0;
+        for (int n = 1; n <= N_MAX_INTERCALADO; n++) {
+            List<Integer> indices = porTamano.get(n);
+            if (!indices.isEmpty()) {
+                intercambios += resolverIntercalables(sistemas, indices, n, inicio, x, errores);
+            }
+        }
+        sueltos.parallelStream().forEach(s -> {
+            try {
+                Matriz X = GaussSolver.solve(sistemas.get(s)).getMatrizX();
+                int k = X.getColumnas();
+                for (int i = 0; i < X.getFilas(); i++) {
+                    for (int j = 0; j < k; j++) {
+                        x[inicio[s] + i * k + j] = X.get(i, j);
+                    }
+                }
+            } catch (MatrixException ex) {
+                errores[s] = ex;
+            }
+        });
+        for (int s = 0; s < count; s++) {
+            if (errores[s] != null) {
+                Arrays.fill(x, inicio[s], inicio[s + 1], Double.NaN);
+            }
+        }
+        evento.terminar(nMax, count, SolverLote.class, intercambios);
+        return new ResultadoLote(inicio, x, errores);
+    }
+
+    /**
+     * n si el sistema es denso, con un único término independiente, bien
+     * formado y de como mucho {@value #N_MAX_INTERCALADO} incógnitas; 0 en otro caso.
+     */
+    private static int dimensionIntercalable(Sistema si) {
+        if (si == null || si instanceof SistemaDisperso || si.getNumTerminos() != 1) {
+            return 0;
+        }
+        double[] b = si.getB();
+        int n = b.length;
+        if (n == 0 || n > N_MAX_INTERCALADO) {
+            return 0;
+        }
+        if (si.isContigua()) {
+            Matriz A = si.getMatriz();
+            return A.getFilas() == n && A.getColumnas() == n ? n : 0;
+        }
+        double[][] A = si.getA();
+        if (A == null || A.length != n) {
+            return 0;
+        }
+        for (double[] fila : A) {
+            if (fila == null || fila.length != n) {
+                return 0;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Número de incógnitas según la forma del sistema (0 si no tiene A).
+     */
+    private static int incognitas(Sistema si) {
+        if (si == null) {
+            return 0;
+        }
+        if (si instanceof SistemaDisperso d) {
+            return d.getMatrizDispersa() == null ? 0 : d.getMatrizDispersa().getFilas();
+        }
+        if (si.isContigua()) {
+            return si.getMatriz().getFilas();
+        }
+        return si.getA() == null ? 0 : si.getA().length;
+    }
+
+    /**
+     * Empaqueta los sistemas de tamaño n, los resuelve intercalados y copia
+     * cada solución y cada error a su posición en el lote.
+     *
+     * @return Los intercambios de filas de la eliminación.
+     */
+    private static int resolverIntercalables(List<Sistema> sistemas, List<Integer> indices, int n,
+                                              int[] inicio, double[] x, MatrixException[] errores) {
+        int count = indices.size();
+        double[] A = new double[n * n * count];
+        double[] B = new double[n * count];
+        for (int q = 0; q < count; q++) {
+            Sistema si = sistemas.get(indices.get(q));
+            if (si.isContigua()) {
+                Matriz M = si.getMatriz();
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(M.getDatos(), i * M.getLd(), A, (q * n + i) * n, n);
+                }
+            } else {
+                double[][] M = si.getA();
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(M[i], 0, A, (q * n + i) * n, n);
+                }
+            }
+            System.arraycopy(si.getB(), 0, B, q * n, n);
+        }
+
+        double[] xLote = new double[n * count];
+        MatrixException[] erroresLote = new MatrixException[count];
+        int intercambios = resolver(A, B, n, count, xLote, erroresLote);
+
+        for (int q = 0; q < count; q++) {
+            int s = indices.get(q);
+            System.arraycopy(xLote, q * n, x, inicio[s], n);
+            errores[s] = erroresLote[q];
+        }
+        return intercambios;
+    }
+
+    /**
+     * Resuelve el lote empaquetado, en paralelo si tiene varios grupos por tarea.
+     *
+     * @return Los intercambios de filas de los sistemas eliminados intercalados.
+     */
+    private static int resolver(double[] A, double[] B, int n, int count, double[] x, MatrixException[] errores) {
+        int grupos = (count + CARRILES - 1) / CARRILES;
+        Tarea tarea = new Tarea(A, B, n, count, x, errores, 0, grupos);
+        if (grupos <= GRUPOS_POR_TAREA) {
+            return tarea.compute();
+        }
+        return ForkJoinPool.commonPool().invoke(tarea);
+    }
+
+    /**
+     * Resuelve los grupos [desde, hasta), dividiéndose mientras haya más de
+     * {@link #GRUPOS_POR_TAREA}. Cada hoja usa sus propios buffers y devuelve
+     * los intercambios de filas de sus grupos.
+     */
+    private static final class Tarea extends RecursiveTask<Integer> {
+
+        private final double[] A;
+        private final double[] B;
+        private final int n;
+        private final int count;
+        private final double[] x;
+        private final MatrixException[] errores;
+        private final int desde;
+        private final int hasta;
+
+        Tarea(double[] A, double[] B, int n, int count, double[] x, MatrixException[] errores,
+              int desde, int hasta) {
+            this.A = A;
+            this.B = B;
+            this.n = n;
+            this.count = count;
+            this.x = x;
+            this.errores = errores;
+            this.desde = desde;
+            this.hasta = hasta;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (hasta - desde > GRUPOS_POR_TAREA) {
+                int mitad = (desde + hasta) >>> 1;
+                Tarea izquierda = new Tarea(A, B, n, count, x, errores, desde, mitad);
+                Tarea derecha = new Tarea(A, B, n, count, x, errores, mitad, hasta);
+                invokeAll(izquierda, derecha);
+                return izquierda.join() + derecha.join();
+            }
+            int primero = desde * CARRILES;
+            int ultimo = Math.min(hasta * CARRILES, count);
+            if (n > N_MAX_INTERCALADO) {
+                // Cada sistema graba su propio evento con sus intercambios
+                resolverUnoAUno(primero, ultimo);
+                return 0;
+            }
+            Grupo g = new Grupo(n);
+            for (int p = primero; p < ultimo; p += CARRILES) {
+                g.cargar(A, B, p, Math.min(CARRILES, count - p));
+                g.eliminar(errores, p);
+                g.sustituir(x, p);
+            }
+            return g.intercambios;
+        }
+
+        /**
+         * Sistemas grandes: cada uno con {@link GaussSolver#solveInto} sobre el
+         * espacio de trabajo del hilo.
+         */
+        private void resolverUnoAUno(int primero, int ultimo) {
+            SolverWorkspace ws = SolverWorkspace.paraHilo(n);
+            Matriz Ai = new Matriz(n, n);
+            double[] bi = new double[n];
+            double[] xi = new double[n];
+            for (int s = primero; s < ultimo; s++) {
+                System.arraycopy(A, s * n * n, Ai.getDatos(), 0, n * n);
+                System.arraycopy(B, s * n, bi, 0, n);
+                try {
+                    GaussSolver.solveInto(Ai, bi, xi, ws);
+                    System.arraycopy(xi, 0, x, s * n, n);
+                } catch (MatrixException ex) {
+                    errores[s] = ex;
+                    Arrays.fill(x, s * n, (s + 1) * n, Double.NaN);
+                }
+            }
+        }
+    }
+
+    /**
+     * Buffers de un grupo de {@link #CARRILES} sistemas intercalados y la
+     * eliminación sobre ellos.
+     */
+    private static final class Grupo {
+
+        private final int n;
+        private final int c;              // columnas de la matriz aumentada
+        private final double[] a;         // (i·c + j)·CARRILES + t
+        private final double[] s;         // i·CARRILES + t
+        private final double[] f = new double[CARRILES];
+        private final double[] umbralNulo = new double[CARRILES];
+        private final double[] xg;        // i·CARRILES + t
+        private final boolean[] fallido = new boolean[CARRILES];
+        private int carriles;
+        private int intercambios;         // de todos los grupos cargados
+
+        Grupo(int n) {
+            this.n = n;
+            this.c = n + 1;
+            this.a = new double[n * c * CARRILES];
+            this.s = new double[n * CARRILES];
+            this.xg = new double[n * CARRILES];
+        }
+
+        /**
+         * Intercala los sistemas [primero, primero + carriles); los carriles
+         * sobrantes del último grupo se rellenan con la identidad.
+         */
+        void cargar(double[] A, double[] B, int primero, int carriles) {
+            this.carriles = carriles;
+            int nn = n * n;
+            for (int t = 0; t < CARRILES; t++) {
+                fallido[t] = false;
+                int oa = (primero + t) * nn;
+                int ob = (primero + t) * n;
+                for (int i = 0; i < n; i++) {
+                    int fila = i * c * CARRILES + t;
+                    for (int j = 0; j < n; j++) {
+                        a[fila + j * CARRILES] = t < carriles ? A[oa + i * n + j] : (i == j ? 1.0 : 0.0);
+                    }
+                    a[fila + n * CARRILES] = t < carriles ? B[ob + i] : 0.0;
+                }
+            }
+        }
+
+        private void fallar(int t, MatrixException ex, MatrixException[] errores, int primero) {
+            fallido[t] = true;
+            errores[primero + t] = ex;
+        }
+
+        /**
+         * Eliminación con pivotaje parcial escalado de todos los carriles.
+         */
+        void eliminar(MatrixException[] errores, int primero) {
+            final int L = CARRILES;
+
+            // 1 Factores de escala (solo columnas de A)
+            Arrays.fill(s, 0.0);
+            for (int i = 0; i < n; i++) {
+                int os = i * L;
+                for (int j = 0; j < n; j++) {
+                    int o = (i * c + j) * L;
+                    for (int t = 0; t < L; t++) {
+                        s[os + t] = Math.max(s[os + t], Math.abs(a[o + t]));
+                    }
+                }
+            }
+            for (int t = 0; t < carriles; t++) {
+                double max = 0.0;
+                for (int i = 0; i < n; i++) {
+                    max = Math.max(max, s[i * L + t]);
+                }
+                umbralNulo[t] = GaussSolver.umbralNulo(max);
+                try {
+                    for (int i = 0; i < n; i++) {
+                        GaussSolver.checkScalingFactor(s[i * L + t], i);
+                    }
+                } catch (MatrixException ex) {
+                    fallar(t, ex, errores, primero);
+                }
+            }
+
+            for (int k = 0; k < n - 1; k++) {
+                // 2 Pivote y, si hace falta, intercambio de filas en cada carril
+                for (int t = 0; t < carriles; t++) {
+                    if (fallido[t]) {
+                        continue;
+                    }
+                    int pivotRow = k;
+                    double maxRatio = Math.abs(a[(k * c + k) * L + t]) / s[k * L + t];
+                    for (int i = k + 1; i < n; i++) {
+                        double ratio = Math.abs(a[(i * c + k) * L + t]) / s[i * L + t];
+                        if (ratio > maxRatio) {
+                            maxRatio = ratio;
+                            pivotRow = i;
+                        }
+                    }
+                    try {
+                        GaussSolver.checkPivot(a[(pivotRow * c + k) * L + t], umbralNulo[t], k);
+                    } catch (MatrixException ex) {
+                        fallar(t, ex, errores, primero);
+                        continue;
+                    }
+                    if (pivotRow != k) {
+                        intercambiar(t, k, pivotRow);
+                    }
+                }
+
+                // 3 Eliminación bajo el pivote, todos los carriles a la vez
+                int filaK = (k * c + k) * L;
+                for (int i = k + 1; i < n; i++) {
+                    int filaI = (i * c + k) * L;
+                    for (int t = 0; t < L; t++) {
+                        f[t] = a[filaI + t] / a[filaK + t];
+                    }
+                    NUCLEOS.axpyIntercalado(f, 0, a, filaK + L, a, filaI + L, c - k - 1, L);
+                }
+            }
+
+            // 4 Filas nulas y último pivote de U
+            for (int t = 0; t < carriles; t++) {
+                if (!fallido[t]) {
+                    try {
+                        comprobarSingularidad(t);
+                    } catch (MatrixException ex) {
+                        fallar(t, ex, errores, primero);
+                    }
+                }
+            }
+        }
+
+        private void intercambiar(int t, int k, int p) {
+            final int L = CARRILES;
+            for (int j = 0; j < c; j++) {
+                int ok = (k * c + j) * L + t;
+                int op = (p * c + j) * L + t;
+                double tmp = a[ok];
+                a[ok] = a[op];
+                a[op] = tmp;
+            }
+            double tmpS = s[k * L + t];
+            s[k * L + t] = s[p * L + t];
+            s[p * L + t] = tmpS;
+            METRICAS.intercambio();
+            intercambios++;
+        }
+
+        private void comprobarSingularidad(int t) throws MatrixException {
+            final int L = CARRILES;
+            double u = umbralNulo[t];
+            for (int i = 0; i < n; i++) {
+                boolean filaNula = true;
+                for (int j = i; j < n; j++) {
+                    if (!GaussSolver.isNegligible(a[(i * c + j) * L + t], u)) {
+                        filaNula = false;
+                        break;
+                    }
+                }
+                if (filaNula) {
+                    double termino = a[(i * c + n) * L + t];
+                    GaussSolver.reportNullRow(i, GaussSolver.isNegligible(termino, u) ? 0.0 : termino, u);
+                }
+            }
+            GaussSolver.checkLastPivot(a[((n - 1) * c + n - 1) * L + t], u);
+        }
+
+        /**
+         * Sustitución hacia atrás de todos los carriles; copia las soluciones
+         * (NaN en los sistemas fallidos) a x y cuenta las resueltas. Los fallos
+         * ya se cuentan al detectarse; el tiempo no se mide, porque los
+         * sistemas de un grupo no tienen latencias separadas.
+         */
+        void sustituir(double[] x, int primero) {
+            final int L = CARRILES;
+            for (int i = n - 1; i >= 0; i--) {
+                int oi = i * L;
+                System.arraycopy(a, (i * c + n) * L, xg, oi, L);
+                for (int j = i + 1; j < n; j++) {
+                    NUCLEOS.axpyIntercalado(a, (i * c + j) * L, xg, j * L, xg, oi, 1, L);
+                }
+                int diag = (i * c + i) * L;
+                for (int t = 0; t < L; t++) {
+                    xg[oi + t] /= a[diag + t];
+                }
+            }
+            for (int t = 0; t < carriles; t++) {
+                int ox = (primero + t) * n;
+                for (int i = 0; i < n; i++) {
+                    x[ox + i] = fallido[t] ? Double.NaN : xg[i * L + t];
+                }
+                if (!fallido[t]) {
+                    METRICAS.resuelto(n, 0);
+                }
+            }
+        }
+    }
+}
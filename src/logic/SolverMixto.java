@@ -0,0 +1,321 @@
+package logic;
+
+import config.LoggerFichero;
+import exception.MatrixException;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+
+import java.util.Arrays;
+
+/**
+ * Resolución en precisión mixta: A se factoriza en {@code float}, con la mitad
+ * de memoria que recorrer y el doble de carriles SIMD, y la solución se refina
+ * después con residuos calculados en {@code double} sobre el sistema original:
+ *
+ * <pre>
+ *     x₀ = 0,  r₀ = b
+ *     dₖ = (LU)⁻¹ P rₖ          (precisión simple)
+ *     xₖ₊₁ = xₖ + dₖ,  rₖ₊₁ = b - A·xₖ₊₁   (precisión doble)
+ * </pre>
+ *
+ * Se para cuando el error inverso normalizado ‖r‖∞ / (‖A‖∞·‖x‖∞ + ‖b‖∞) baja
+ * de la tolerancia, que por defecto es ε·√n con ε el épsilon de la máquina en
+ * doble, el mismo criterio que usa LAPACK. Cada paso reduce el error en un
+ * factor de en torno a κ(A)·2⁻²⁴, así que con matrices bien condicionadas
+ * bastan dos o tres pasos de O(n²) sobre una eliminación de O(n³) que cuesta
+ * la mitad.
+ *
+ * Si el refinamiento se estanca (un paso no reduce el error al menos a la
+ * mitad, o se agotan los pasos), porque A está demasiado mal condicionada
+ * para la precisión simple, o si A no cabe en {@code float}, se resuelve con
+ * {@link GaussSolver#solve(Sistema)} en precisión doble; un sistema singular
+ * acaba ahí con el mismo error que daría esa resolución.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+public final class SolverMixto {
+
+    private static final LoggerFichero log = LoggerFichero.getInstance();
+    private static final NucleosCalculo NUCLEOS = NucleosCalculo.ACTIVOS;
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    /** Pasos de refinamiento como máximo, como en LAPACK. */
+    public static final int MAX_ITERACIONES = 30;
+
+    private SolverMixto() {}
+
+    /**
+     * Resuelve el sistema con la tolerancia por defecto, ε·√n.
+     *
+     * @param sistema Sistema con un único término independiente.
+     * @return La solución con su error inverso y los pasos que costó.
+     * @throws MatrixException Si el sistema no es válido o es singular.
+     */
+    public static ResultadoMixto solve(Sistema sistema) throws MatrixException {
+        return resolver(sistema, Double.NaN, MAX_ITERACIONES);
+    }
+
+    /**
+     * Resuelve el sistema refinando hasta que el error inverso baje de tolerancia.
+     *
+     * @param sistema Sistema con un único término independiente.
+     * @param tolerancia Error inverso normalizado que se quiere alcanzar (positivo).
+     * @param maxIteraciones Pasos de refinamiento como máximo antes de recurrir a la precisión doble.
+     * @return La solución con su error inverso y los pasos que costó.
+     * @throws MatrixException Si el sistema no es válido o es singular.
+     */
+    public static ResultadoMixto solve(Sistema sistema, double tolerancia, int maxIteraciones)
+            throws MatrixException {
+        if (!(tolerancia > 0) || maxIteraciones < 1) {
+            throw METRICAS.fallo(new MatrixException(
+                    "La tolerancia debe ser positiva y hacer falta al menos un paso de refinamiento."));
+        }
+        return resolver(sistema, tolerancia, maxIteraciones);
+    }
+
+    /**
+     * Factoriza en float y refina; con tolerancia NaN se usa la de por defecto.
+     */
+    private static ResultadoMixto resolver(Sistema sistema, double tolerancia, int maxIteraciones)
+            throws MatrixException {
+
+        if (sistema.getNumTerminos() > 1) {
+            throw METRICAS.fallo(new MatrixException(
+                    "La resolución en precisión mixta admite un único término independiente."));
+        }
+        // La resolución doble da el mismo mensaje que para cualquier otro sistema;
+        // un double[][] irregular se comprueba antes de que getMatriz() lo recorte
+        if (!sistema.isContigua() && !esCuadrada(sistema.getA())) {
+            return enDoble(sistema, null, 0);
+        }
+        Matriz A = sistema.getMatriz();
+        double[] b = sistema.getB();
+        if (A == null || b == null || A.getFilas() == 0 || A.getColumnas() != A.getFilas()
+                || b.length != A.getFilas()) {
+            return enDoble(sistema, A, 0);
+        }
+
+        int n = A.getFilas();
+        if (Double.isNaN(tolerancia)) {
+            tolerancia = Math.ulp(1.0) * Math.sqrt(n);
+        }
+        long t0 = METRICAS.inicio(n);
+        EventoResolucion evento = EventoResolucion.empezar();
+
+        double normaA = normaInfinito(A);
+        LUSimple lu = normaA <= Float.MAX_VALUE ? LUSimple.factorizar(A) : null;
+        if (lu == null) {
+            log.debug("Precisión mixta: A no admite la factorización en float; se resuelve en doble.");
+            return enDoble(sistema, A, 0);
+        }
+
+        double normaB = normaInfinito(b);
+        double[] x = new double[n];
+        double[] r = b.clone();
+        double[] d = new double[n];
+        float[] w = new float[n];
+        double anterior = Double.POSITIVE_INFINITY;
+
+        for (int it = 1; it <= maxIteraciones; it++) {
+            lu.resolver(r, w, d);
+            for (int i = 0; i < n; i++) {
+                x[i] += d[i];
+            }
+            double error = errorInverso(residuo(A, b, x, r), normaA, x, normaB);
+
+            if (error <= tolerancia) {
+                METRICAS.resuelto(n, t0);
+                evento.terminar(n, 1, SolverMixto.class, lu.perm);
+                return new ResultadoMixto(x, it, error, false);
+            }
+            if (!(error <= anterior / 2)) {
+                log.debug("Precisión mixta: el refinamiento se estanca en el paso {}; se resuelve en doble.", it);
+                return enDoble(sistema, A, it);
+            }
+            anterior = error;
+        }
+        log.debug("Precisión mixta: sin converger en {} pasos; se resuelve en doble.", maxIteraciones);
+        return enDoble(sistema, A, maxIteraciones);
+    }
+
+    /**
+     * Indica si todas las filas de A existen y tienen su misma longitud.
+     */
+    private static boolean esCuadrada(double[][] A) {
+        if (A == null) {
+            return false;
+        }
+        for (double[] fila : A) {
+            if (fila == null || fila.length != A.length) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Resuelve el sistema en precisión doble tras iteraciones pasos sin éxito;
+     * si el sistema no es válido, la resolución lanza su error antes de usar A.
+     */
+    private static ResultadoMixto enDoble(Sistema sistema, Matriz A, int iteraciones) throws MatrixException {
+        double[] x = GaussSolver.solve(sistema).getX();
+        double[] b = sistema.getB();
+        double error = errorInverso(residuo(A, b, x, new double[b.length]), normaInfinito(A), x, normaInfinito(b));
+        return new ResultadoMixto(x, iteraciones, error, true);
+    }
+
+    /**
+     * ‖r‖∞ / (‖A‖∞·‖x‖∞ + ‖b‖∞), o 0 si b y x son nulos.
+     */
+    private static double errorInverso(double normaR, double normaA, double[] x, double normaB) {
+        double denominador = normaA * normaInfinito(x) + normaB;
+        return denominador == 0.0 ? normaR : normaR / denominador;
+    }
+
+    /**
+     * Calcula r = b - A·x en precisión doble y devuelve ‖r‖∞.
+     */
+    private static double residuo(Matriz A, double[] b, double[] x, double[] r) {
+        int n = A.getFilas();
+        double[] a = A.getDatos();
+        int ld = A.getLd();
+        double max = 0.0;
+        for (int i = 0; i < n; i++) {
+            r[i] = b[i] - NUCLEOS.dot(a, i * ld, x, 0, n);
+            max = Math.max(max, Math.abs(r[i]));
+        }
+        return max;
+    }
+
+    private static double normaInfinito(Matriz A) {
+        int n = A.getFilas();
+        double[] a = A.getDatos();
+        int ld = A.getLd();
+        double max = 0.0;
+        for (int i = 0; i < n; i++) {
+            double suma = 0.0;
+            for (int j = 0; j < n; j++) {
+                suma += Math.abs(a[i * ld + j]);
+            }
+            max = Math.max(max, suma);
+        }
+        return max;
+    }
+
+    private static double normaInfinito(double[] v) {
+        double max = 0.0;
+        for (double e : v) {
+            max = Math.max(max, Math.abs(e));
+        }
+        return max;
+    }
+
+    /**
+     * Factorización PA = LU en precisión simple, con el mismo pivotaje parcial
+     * escalado que {@link GaussSolver}, en almacenamiento contiguo de n x n.
+     */
+    private static final class LUSimple {
+
+        private final int n;
+        private final float[] lu;
+        private final int[] perm;
+
+        private LUSimple(int n, float[] lu, int[] perm) {
+            this.n = n;
+            this.lu = lu;
+            this.perm = perm;
+        }
+
+        /**
+         * Factoriza A en float, o devuelve null si un pivote es nulo o deja
+         * de ser finito (A es singular en precisión simple o crece demasiado).
+         */
+        static LUSimple factorizar(Matriz A) {
+            int n = A.getFilas();
+            double[] a = A.getDatos();
+            int ld = A.getLd();
+            float[] m = new float[n * n];
+            float[] s = new float[n];
+            for (int i = 0; i < n; i++) {
+                float max = 0.0f;
+                for (int j = 0; j < n; j++) {
+                    float v = (float) a[i * ld + j];
+                    m[i * n + j] = v;
+                    max = Math.max(max, Math.abs(v));
+                }
+                if (max == 0.0f) {
+                    return null;
+                }
+                s[i] = max;
+            }
+            int[] perm = GaussSolver.identityPermutation(n);
+            float[] fila = new float[n];
+
+            for (int k = 0; k < n; k++) {
+                int filaK = k * n;
+                int p = k;
+                float maxRatio = Math.abs(m[filaK + k]) / s[k];
+                for (int i = k + 1; i < n; i++) {
+                    float ratio = Math.abs(m[i * n + k]) / s[i];
+                    if (ratio > maxRatio) {
+                        maxRatio = ratio;
+                        p = i;
+                    }
+                }
+                if (p != k) {
+                    System.arraycopy(m, filaK, fila, 0, n);
+                    System.arraycopy(m, p * n, m, filaK, n);
+                    System.arraycopy(fila, 0, m, p * n, n);
+                    float ts = s[k];
+                    s[k] = s[p];
+                    s[p] = ts;
+                    int tp = perm[k];
+                    perm[k] = perm[p];
+                    perm[p] = tp;
+                    METRICAS.intercambio();
+                }
+
+                float pivote = m[filaK + k];
+                if (pivote == 0.0f || !Float.isFinite(pivote)) {
+                    return null;
+                }
+                for (int i = k + 1; i < n; i++) {
+                    int filaI = i * n;
+                    float factor = m[filaI + k] / pivote;
+                    m[filaI + k] = factor;
+                    NUCLEOS.axpy(factor, m, filaK + k + 1, m, filaI + k + 1, n - k - 1);
+                }
+            }
+            return new LUSimple(n, m, perm);
+        }
+
+        /**
+         * Resuelve A·d = r con la factorización. r se escala a norma 1 antes de
+         * pasar a float para que los residuos pequeños no se pierdan por debajo
+         * del rango de la precisión simple.
+         *
+         * @param w Vector de trabajo de longitud n.
+         */
+        void resolver(double[] r, float[] w, double[] d) {
+            double escala = normaInfinito(r);
+            if (escala == 0.0) {
+                Arrays.fill(d, 0.0);
+                return;
+            }
+            for (int i = 0; i < n; i++) {
+                w[i] = (float) (r[perm[i]] / escala);
+            }
+            for (int i = 1; i < n; i++) {
+                w[i] -= NUCLEOS.dot(lu, i * n, w, 0, i);
+            }
+            for (int i = n - 1; i >= 0; i--) {
+                int fila = i * n;
+                w[i] = (w[i] - NUCLEOS.dot(lu, fila + i + 1, w, i + 1, n - i - 1)) / lu[fila + i];
+            }
+            for (int i = 0; i < n; i++) {
+                d[i] = w[i] * escala;
+            }
+        }
+    }
+}
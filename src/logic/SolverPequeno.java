@@ -0,0 +1,454 @@
+package logic;
+
+import exception.MatrixException;
+import metricas.MetricasSolver;
+
+/**
+ * Resolución especializada de sistemas pequeños (n ≤ {@value #N_MAX}) con
+ * un único término independiente.
+ *
+ * Con n = 4 (el tamaño de la ventana) el coste de la vía general está en los
+ * bucles, las comprobaciones de límites y las llamadas a los núcleos, no en
+ * las operaciones. Para n = 2, 3 y 4 la eliminación está desenrollada a mano
+ * sobre variables locales; para el resto de tamaños pequeños se usan bucles
+ * escalares sobre el array sin pasar por {@link NucleosCalculo}.
+ *
+ * Se mantiene el pivotaje parcial escalado con el mismo criterio de desempate
+ * y las mismas comprobaciones, en el mismo orden, que {@link GaussSolver}, de
+ * modo que los errores coinciden. La matriz aumentada queda como la deja la
+ * vía general (U, b̃ y los multiplicadores de L), así que el resultado puede
+ * construirse sobre ella.
+ *
+ * {@link GaussSolver} lo usa automáticamente con el motor por defecto; puede
+ * desactivarse con {@code -Dgaussiana.pequenos=false}. Los intercambios de
+ * filas se cuentan en {@link MetricasSolver} como en la vía general y se
+ * devuelven para el evento de la resolución.
+ *
+ * @author Anabel Diaz
+ * @version 1.3 - 17/10/2026
+ */
+final class SolverPequeno {
+
+    /** Tamaño máximo que se resuelve por esta vía. */
+    static final int N_MAX = 8;
+
+    /** Indica si la vía especializada está activa. */
+    static final boolean ACTIVO = Boolean.parseBoolean(System.getProperty("gaussiana.pequenos", "true"));
+
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    private SolverPequeno() {}
+
+    /**
+     * Indica si M es una matriz aumentada [A | b] que puede resolverse por esta vía:
+     * n ≤ {@value #N_MAX}, una sola columna de términos y filas consecutivas.
+     */
+    static boolean aplicable(Matriz M) {
+        int n = M.getFilas();
+        return ACTIVO && n <= N_MAX && M.getColumnas() == n + 1 && M.getLd() == n + 1;
+    }
+
+    /**
+     * Elimina la matriz aumentada M (n x (n+1), ld = n+1) y escribe la solución en x.
+     * Los tamaños sin núcleo desenrollado guardan los factores de escala en s
+     * (longitud al menos n).
+     *
+     * @return El número de intercambios de filas.
+     * @throws MatrixException Si el sistema es singular o no tiene solución única.
+     */
+    static int resolver(Matriz M, double[] x, double[] s) throws MatrixException {
+        double[] m = M.getDatos();
+        return switch (M.getFilas()) {
+            case 2 -> resolver2(m, x);
+            case 3 -> resolver3(m, x);
+            case 4 -> resolver4(m, x);
+            default -> resolverBucles(m, M.getFilas(), x, s);
+        };
+    }
+
+    private static int resolver2(double[] m, double[] x) throws MatrixException {
+        int intercambios = 0;
+        double a00 = m[0], a01 = m[1], b0 = m[2];
+        double a10 = m[3], a11 = m[4], b1 = m[5];
+
+        double s0 = escala(a00, a01);
+        GaussSolver.checkScalingFactor(s0, 0);
+        double s1 = escala(a10, a11);
+        GaussSolver.checkScalingFactor(s1, 1);
+        double u = GaussSolver.umbralNulo(mayor(s0, s1));
+        double t;
+
+        // k = 0
+        if (Math.abs(a10) / s1 > Math.abs(a00) / s0) {
+            t = a00; a00 = a10; a10 = t;
+            t = a01; a01 = a11; a11 = t;
+            t = b0; b0 = b1; b1 = t;
+            METRICAS.intercambio();
+            intercambios++;
+        }
+        GaussSolver.checkPivot(a00, u, 0);
+        a10 /= a00;
+        a11 -= a10 * a01;
+        b1 -= a10 * b0;
+
+        if (nulo(a00, u) && nulo(a01, u)) {
+            filaNula(0, b0, u);
+        }
+        if (nulo(a11, u)) {
+            filaNula(1, b1, u);
+        }
+        GaussSolver.checkLastPivot(a11, u);
+
+        m[0] = a00; m[1] = a01; m[2] = b0;
+        m[3] = a10; m[4] = a11; m[5] = b1;
+
+        double x1 = b1 / a11;
+        x[1] = x1;
+        x[0] = (b0 - a01 * x1) / a00;
+        return intercambios;
+    }
+
+    private static int resolver3(double[] m, double[] x) throws MatrixException {
+        int intercambios = 0;
+        double a00 = m[0], a01 = m[1], a02 = m[2], b0 = m[3];
+        double a10 = m[4], a11 = m[5], a12 = m[6], b1 = m[7];
+        double a20 = m[8], a21 = m[9], a22 = m[10], b2 = m[11];
+
+        double s0 = escala(a00, a01, a02);
+        GaussSolver.checkScalingFactor(s0, 0);
+        double s1 = escala(a10, a11, a12);
+        GaussSolver.checkScalingFactor(s1, 1);
+        double s2 = escala(a20, a21, a22);
+        GaussSolver.checkScalingFactor(s2, 2);
+        double u = GaussSolver.umbralNulo(mayor(mayor(s0, s1), s2));
+        double t, r, max;
+        int p;
+
+        // k = 0
+        p = 0;
+        max = Math.abs(a00) / s0;
+        if ((r = Math.abs(a10) / s1) > max) { max = r; p = 1; }
+        if (Math.abs(a20) / s2 > max) { p = 2; }
+        if (p == 1) {
+            t = a00; a00 = a10; a10 = t;
+            t = a01; a01 = a11; a11 = t;
+            t = a02; a02 = a12; a12 = t;
+            t = b0; b0 = b1; b1 = t;
+            t = s0; s0 = s1; s1 = t;
+        } else if (p == 2) {
+            t = a00; a00 = a20; a20 = t;
+            t = a01; a01 = a21; a21 = t;
+            t = a02; a02 = a22; a22 = t;
+            t = b0; b0 = b2; b2 = t;
+            t = s0; s0 = s2; s2 = t;
+        }
+        if (p != 0) {
+            METRICAS.intercambio();
+            intercambios++;
+        }
+        GaussSolver.checkPivot(a00, u, 0);
+        a10 /= a00;
+        a11 -= a10 * a01;
+        a12 -= a10 * a02;
+        b1 -= a10 * b0;
+        a20 /= a00;
+        a21 -= a20 * a01;
+        a22 -= a20 * a02;
+        b2 -= a20 * b0;
+
+        // k = 1 (s ya no se usa después)
+        if (Math.abs(a21) / s2 > Math.abs(a11) / s1) {
+            t = a10; a10 = a20; a20 = t;
+            t = a11; a11 = a21; a21 = t;
+            t = a12; a12 = a22; a22 = t;
+            t = b1; b1 = b2; b2 = t;
+            METRICAS.intercambio();
+            intercambios++;
+        }
+        GaussSolver.checkPivot(a11, u, 1);
+        a21 /= a11;
+        a22 -= a21 * a12;
+        b2 -= a21 * b1;
+
+        if (nulo(a00, u) && nulo(a01, u) && nulo(a02, u)) {
+            filaNula(0, b0, u);
+        }
+        if (nulo(a11, u) && nulo(a12, u)) {
+            filaNula(1, b1, u);
+        }
+        if (nulo(a22, u)) {
+            filaNula(2, b2, u);
+        }
+        GaussSolver.checkLastPivot(a22, u);
+
+        m[0] = a00; m[1] = a01; m[2] = a02; m[3] = b0;
+        m[4] = a10; m[5] = a11; m[6] = a12; m[7] = b1;
+        m[8] = a20; m[9] = a21; m[10] = a22; m[11] = b2;
+
+        double x2 = b2 / a22;
+        double x1 = (b1 - a12 * x2) / a11;
+        x[2] = x2;
+        x[1] = x1;
+        x[0] = (b0 - (a01 * x1 + a02 * x2)) / a00;
+        return intercambios;
+    }
+
+    private static int resolver4(double[] m, double[] x) throws MatrixException {
+        int intercambios = 0;
+        double a00 = m[0], a01 = m[1], a02 = m[2], a03 = m[3], b0 = m[4];
+        double a10 = m[5], a11 = m[6], a12 = m[7], a13 = m[8], b1 = m[9];
+        double a20 = m[10], a21 = m[11], a22 = m[12], a23 = m[13], b2 = m[14];
+        double a30 = m[15], a31 = m[16], a32 = m[17], a33 = m[18], b3 = m[19];
+
+        double s0 = escala(a00, a01, a02, a03);
+        GaussSolver.checkScalingFactor(s0, 0);
+        double s1 = escala(a10, a11, a12, a13);
+        GaussSolver.checkScalingFactor(s1, 1);
+        double s2 = escala(a20, a21, a22, a23);
+        GaussSolver.checkScalingFactor(s2, 2);
+        double s3 = escala(a30, a31, a32, a33);
+        GaussSolver.checkScalingFactor(s3, 3);
+        double u = GaussSolver.umbralNulo(mayor(mayor(s0, s1), mayor(s2, s3)));
+        double t, r, max;
+        int p;
+
+        // k = 0
+        p = 0;
+        max = Math.abs(a00) / s0;
+        if ((r = Math.abs(a10) / s1) > max) { max = r; p = 1; }
+        if ((r = Math.abs(a20) / s2) > max) { max = r; p = 2; }
+        if (Math.abs(a30) / s3 > max) { p = 3; }
+        switch (p) {
+            case 1 -> {
+                t = a00; a00 = a10; a10 = t;
+                t = a01; a01 = a11; a11 = t;
+                t = a02; a02 = a12; a12 = t;
+                t = a03; a03 = a13; a13 = t;
+                t = b0; b0 = b1; b1 = t;
+                t = s0; s0 = s1; s1 = t;
+            }
+            case 2 -> {
+                t = a00; a00 = a20; a20 = t;
+                t = a01; a01 = a21; a21 = t;
+                t = a02; a02 = a22; a22 = t;
+                t = a03; a03 = a23; a23 = t;
+                t = b0; b0 = b2; b2 = t;
+                t = s0; s0 = s2; s2 = t;
+            }
+            case 3 -> {
+                t = a00; a00 = a30; a30 = t;
+                t = a01; a01 = a31; a31 = t;
+                t = a02; a02 = a32; a32 = t;
+                t = a03; a03 = a33; a33 = t;
+                t = b0; b0 = b3; b3 = t;
+                t = s0; s0 = s3; s3 = t;
+            }
+            default -> { }
+        }
+        if (p != 0) {
+            METRICAS.intercambio();
+            intercambios++;
+        }
+        GaussSolver.checkPivot(a00, u, 0);
+        a10 /= a00;
+        a11 -= a10 * a01;
+        a12 -= a10 * a02;
+        a13 -= a10 * a03;
+        b1 -= a10 * b0;
+        a20 /= a00;
+        a21 -= a20 * a01;
+        a22 -= a20 * a02;
+        a23 -= a20 * a03;
+        b2 -= a20 * b0;
+        a30 /= a00;
+        a31 -= a30 * a01;
+        a32 -= a30 * a02;
+        a33 -= a30 * a03;
+        b3 -= a30 * b0;
+
+        // k = 1
+        p = 1;
+        max = Math.abs(a11) / s1;
+        if ((r = Math.abs(a21) / s2) > max) { max = r; p = 2; }
+        if (Math.abs(a31) / s3 > max) { p = 3; }
+        if (p == 2) {
+            t = a10; a10 = a20; a20 = t;
+            t = a11; a11 = a21; a21 = t;
+            t = a12; a12 = a22; a22 = t;
+            t = a13; a13 = a23; a23 = t;
+            t = b1; b1 = b2; b2 = t;
+            t = s1; s1 = s2; s2 = t;
+        } else if (p == 3) {
+            t = a10; a10 = a30; a30 = t;
+            t = a11; a11 = a31; a31 = t;
+            t = a12; a12 = a32; a32 = t;
+            t = a13; a13 = a33; a33 = t;
+            t = b1; b1 = b3; b3 = t;
+            t = s1; s1 = s3; s3 = t;
+        }
+        if (p != 1) {
+            METRICAS.intercambio();
+            intercambios++;
+        }
+        GaussSolver.checkPivot(a11, u, 1);
+        a21 /= a11;
+        a22 -= a21 * a12;
+        a23 -= a21 * a13;
+        b2 -= a21 * b1;
+        a31 /= a11;
+        a32 -= a31 * a12;
+        a33 -= a31 * a13;
+        b3 -= a31 * b1;
+
+        // k = 2 (s ya no se usa después)
+        if (Math.abs(a32) / s3 > Math.abs(a22) / s2) {
+            t = a20; a20 = a30; a30 = t;
+            t = a21; a21 = a31; a31 = t;
+            t = a22; a22 = a32; a32 = t;
+            t = a23; a23 = a33; a33 = t;
+            t = b2; b2 = b3; b3 = t;
+            METRICAS.intercambio();
+            intercambios++;
+        }
+        GaussSolver.checkPivot(a22, u, 2);
+        a32 /= a22;
+        a33 -= a32 * a23;
+        b3 -= a32 * b2;
+
+        if (nulo(a00, u) && nulo(a01, u) && nulo(a02, u) && nulo(a03, u)) {
+            filaNula(0, b0, u);
+        }
+        if (nulo(a11, u) && nulo(a12, u) && nulo(a13, u)) {
+            filaNula(1, b1, u);
+        }
+        if (nulo(a22, u) && nulo(a23, u)) {
+            filaNula(2, b2, u);
+        }
+        if (nulo(a33, u)) {
+            filaNula(3, b3, u);
+        }
+        GaussSolver.checkLastPivot(a33, u);
+
+        m[0] = a00; m[1] = a01; m[2] = a02; m[3] = a03; m[4] = b0;
+        m[5] = a10; m[6] = a11; m[7] = a12; m[8] = a13; m[9] = b1;
+        m[10] = a20; m[11] = a21; m[12] = a22; m[13] = a23; m[14] = b2;
+        m[15] = a30; m[16] = a31; m[17] = a32; m[18] = a33; m[19] = b3;
+
+        double x3 = b3 / a33;
+        double x2 = (b2 - a23 * x3) / a22;
+        double x1 = (b1 - (a12 * x2 + a13 * x3)) / a11;
+        x[3] = x3;
+        x[2] = x2;
+        x[1] = x1;
+        x[0] = (b0 - (a01 * x1 + a02 * x2 + a03 * x3)) / a00;
+        return intercambios;
+    }
+
+    /**
+     * Resto de tamaños pequeños: la misma eliminación que la vía general con
+     * bucles escalares directos sobre m (ld = n+1).
+     */
+    private static int resolverBucles(double[] m, int n, double[] x, double[] s) throws MatrixException {
+        int intercambios = 0;
+        int ld = n + 1;
+
+        for (int i = 0; i < n; i++) {
+            double max = 0.0;
+            for (int j = 0; j < n; j++) {
+                max = mayor(max, Math.abs(m[i * ld + j]));
+            }
+            GaussSolver.checkScalingFactor(max, i);
+            s[i] = max;
+        }
+        double u = GaussSolver.umbralNulo(s, n);
+
+        for (int k = 0; k < n - 1; k++) {
+            int filaK = k * ld;
+            int pivotRow = k;
+            double maxRatio = Math.abs(m[filaK + k]) / s[k];
+            for (int i = k + 1; i < n; i++) {
+                double ratio = Math.abs(m[i * ld + k]) / s[i];
+                if (ratio > maxRatio) {
+                    maxRatio = ratio;
+                    pivotRow = i;
+                }
+            }
+            GaussSolver.checkPivot(m[pivotRow * ld + k], u, k);
+            if (pivotRow != k) {
+                int filaP = pivotRow * ld;
+                for (int j = 0; j < ld; j++) {
+                    double t = m[filaK + j];
+                    m[filaK + j] = m[filaP + j];
+                    m[filaP + j] = t;
+                }
+                double t = s[k];
+                s[k] = s[pivotRow];
+                s[pivotRow] = t;
+                METRICAS.intercambio();
+                intercambios++;
+            }
+
+            double pivote = m[filaK + k];
+            for (int i = k + 1; i < n; i++) {
+                int filaI = i * ld;
+                double factor = m[filaI + k] / pivote;
+                m[filaI + k] = factor;
+                for (int j = k + 1; j < ld; j++) {
+                    m[filaI + j] -= factor * m[filaK + j];
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            int fila = i * ld;
+            int j = i;
+            while (j < n && nulo(m[fila + j], u)) {
+                j++;
+            }
+            if (j == n) {
+                filaNula(i, m[fila + n], u);
+            }
+        }
+        GaussSolver.checkLastPivot(m[(n - 1) * ld + n - 1], u);
+
+        for (int i = n - 1; i >= 0; i--) {
+            int fila = i * ld;
+            double suma = 0.0;
+            for (int j = i + 1; j < n; j++) {
+                suma += m[fila + j] * x[j];
+            }
+            x[i] = (m[fila + n] - suma) / m[fila + i];
+        }
+        return intercambios;
+    }
+
+    /**
+     * Máximo con el mismo criterio que la vía general (un NaN no lo sustituye).
+     */
+    private static double mayor(double max, double v) {
+        return v > max ? v : max;
+    }
+
+    private static double escala(double a, double b) {
+        return mayor(mayor(0.0, Math.abs(a)), Math.abs(b));
+    }
+
+    private static double escala(double a, double b, double c) {
+        return mayor(escala(a, b), Math.abs(c));
+    }
+
+    private static double escala(double a, double b, double c, double d) {
+        return mayor(escala(a, b, c), Math.abs(d));
+    }
+
+    private static boolean nulo(double v, double u) {
+        return GaussSolver.isNegligible(v, u);
+    }
+
+    /**
+     * Fila i de U nula: se informa con su término independiente, o 0 si también es nulo.
+     */
+    private static void filaNula(int i, double termino, double u) throws MatrixException {
+        GaussSolver.reportNullRow(i, nulo(termino, u) ? 0.0 : termino, u);
+    }
+}
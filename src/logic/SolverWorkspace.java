@@ -0,0 +1,79 @@
+package logic;
+
+/**
+ * Espacio de trabajo reutilizable para resolver sistemas sin reservar memoria
+ * en cada llamada. Contiene la matriz aumentada, los factores de escala y la
+ * permutación para sistemas de hasta {@code capacidad} incógnitas.
+ *
+ * Un espacio de trabajo no es seguro entre hilos: cada hilo debe usar el suyo,
+ * ya sea creado por el llamador o tomado de {@link #paraHilo(int)}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class SolverWorkspace {
+
+    private static final ThreadLocal<SolverWorkspace> POR_HILO = new ThreadLocal<>();
+
+    private final int capacidad;
+    private final double[] datos;   // matriz aumentada n x (n+1), compacta
+    private final double[] s;
+    private final int[] perm;
+    private Matriz vista;           // vista de datos para el último n usado
+
+    /**
+     * Reserva los buffers para sistemas de hasta {@code capacidad} incógnitas.
+     *
+     * @param capacidad Tamaño máximo de sistema (mayor que cero).
+     */
+    public SolverWorkspace(int capacidad) {
+        if (capacidad <= 0) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+        }
+        this.capacidad = capacidad;
+        this.datos = new double[Math.multiplyExact(capacidad, capacidad + 1)];
+        this.s = new double[capacidad];
+        this.perm = new int[capacidad];
+    }
+
+    /**
+     * Devuelve el espacio de trabajo del hilo actual, reservando uno nuevo
+     * solo si no existe o si el existente es demasiado pequeño.
+     *
+     * @param n Tamaño del sistema que se va a resolver.
+     * @return Un espacio de trabajo con capacidad al menos n.
+     */
+    public static SolverWorkspace paraHilo(int n) {
+        SolverWorkspace ws = POR_HILO.get();
+        if (ws == null || ws.capacidad < n) {
+            ws = new SolverWorkspace(n);
+            POR_HILO.set(ws);
+        }
+        return ws;
+    }
+
+    public int getCapacidad() {
+        return capacidad;
+    }
+
+    /**
+     * Matriz aumentada n x (n+1) sobre el buffer interno. La vista se
+     * conserva mientras no cambie n.
+     */
+    Matriz matriz(int n) {
+        Matriz m = vista;
+        if (m == null || m.getFilas() != n) {
+            m = new Matriz(n, n + 1, n + 1, datos);
+            vista = m;
+        }
+        return m;
+    }
+
+    double[] escalas() {
+        return s;
+    }
+
+    int[] permutacion() {
+        return perm;
+    }
+}
@@ -0,0 +1,72 @@
+package metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de una fase de una resolución densa ({@link MetricasSolver.Fase}).
+ * Se graba con el mismo umbral por defecto que {@link EventoResolucion}, que se
+ * cambia con el ajuste {@code gaussiana.Fase#threshold}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+@Name(EventoFase.NOMBRE)
+@Label("Fase de una resolución")
+@Category({"Gaussiana"})
+@Description("Escalado, eliminación, comprobación de singularidad o sustitución de una resolución.")
+@StackTrace(false)
+@Threshold(EventoResolucion.UMBRAL)
+public final class EventoFase extends Event {
+
+    public static final String NOMBRE = "gaussiana.Fase";
+
+    @Label("Fase")
+    String fase;
+
+    @Label("Incógnitas")
+    int n;
+
+    private static final EventoFase INACTIVO = new EventoFase();
+
+    /**
+     * Crea el evento y empieza a medir; como en {@link EventoResolucion#empezar()},
+     * sin grabación en marcha se devuelve un evento compartido que se ignora.
+     */
+    public static EventoFase empezar() {
+        if (!GrabacionJfr.activa()) {
+            return INACTIVO;
+        }
+        EventoFase e = new EventoFase();
+        e.begin();
+        return e;
+    }
+
+    /**
+     * Cierra la fase y empieza a medir la siguiente.
+     */
+    public EventoFase siguiente(MetricasSolver.Fase fase, int n) {
+        terminar(fase, n);
+        return empezar();
+    }
+
+    /**
+     * Cierra la fase y la graba si supera el umbral.
+     */
+    public void terminar(MetricasSolver.Fase fase, int n) {
+        if (this == INACTIVO) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            this.fase = fase.etiqueta();
+            this.n = n;
+            commit();
+        }
+    }
+}
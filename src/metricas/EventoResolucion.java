@@ -0,0 +1,153 @@
+package metricas;
+
+import exception.MatrixException;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Evento JFR de una resolución completa, para estudiar las resoluciones lentas
+ * junto con la recolección de basura y las reservas de memoria de la misma
+ * grabación. Por defecto solo se graban las que duran al menos
+ * {@value #UMBRAL}; el umbral se cambia como cualquier otro ajuste de JFR, por
+ * ejemplo {@code -XX:StartFlightRecording:+gaussiana.Resolucion#threshold=1ms}.
+ *
+ * Uso: {@link #empezar()} antes de resolver y {@link #terminar} o
+ * {@link #fallar} al acabar. Mientras no haya ninguna grabación en marcha no
+ * se crea ningún evento: cada resolución solo lee un indicador. Durante una
+ * grabación, los campos solo se rellenan si el evento supera el umbral y se
+ * va a grabar.
+ *
+ * Un lote de {@code SolverLote} graba un único evento en el que n es el tamaño
+ * de sus sistemas (el del mayor si son de varios tamaños), terminos el número
+ * de sistemas e intercambios, los de todos los sistemas que elimina
+ * intercalados. Los que resuelve uno a uno graban además su propio evento, y
+ * los fallos de cada sistema van en el resultado del lote, no en el evento.
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+@Name(EventoResolucion.NOMBRE)
+@Label("Resolución de un sistema")
+@Category({"Gaussiana"})
+@Description("Una resolución de GaussSolver (densa, en banda, dispersa o en lote), con su tamaño, motor, intercambios y resultado.")
+@StackTrace(false)
+@Threshold(EventoResolucion.UMBRAL)
+public final class EventoResolucion extends Event {
+
+    public static final String NOMBRE = "gaussiana.Resolucion";
+    static final String UMBRAL = "10 ms";
+
+    @Label("Incógnitas")
+    int n;
+
+    @Label("Términos independientes")
+    int terminos;
+
+    @Label("Motor")
+    String motor;
+
+    @Label("Intercambios de filas")
+    @Description("-1 si el motor no los cuenta ni deja la permutación.")
+    int intercambios;
+
+    @Label("Resultado")
+    @Description("OK, o la causa del fallo.")
+    String resultado;
+
+    /** Evento compartido que no se graba nunca, para cuando no hay grabación. */
+    private static final EventoResolucion INACTIVO = new EventoResolucion();
+
+    /**
+     * Crea el evento y empieza a medir. Si no hay ninguna grabación en marcha
+     * no se crea nada: se devuelve un evento compartido que se ignora.
+     */
+    public static EventoResolucion empezar() {
+        if (!GrabacionJfr.activa()) {
+            return INACTIVO;
+        }
+        EventoResolucion e = new EventoResolucion();
+        e.begin();
+        return e;
+    }
+
+    /**
+     * Cierra una resolución terminada con éxito.
+     *
+     * @param terminos Términos independientes (0 si solo se factoriza).
+     * @param motor La clase que hizo la eliminación.
+     * @param perm La permutación de filas final, o null si no se conoce.
+     */
+    public void terminar(int n, int terminos, Class<?> motor, int[] perm) {
+        if (this == INACTIVO) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            rellenar(n, terminos, motor, perm == null ? -1 : intercambios(perm, n), "OK");
+            commit();
+        }
+    }
+
+    /**
+     * Cierra una resolución terminada con éxito cuyo motor contó los
+     * intercambios de filas en lugar de dejar la permutación.
+     *
+     * @param intercambios Intercambios de filas de la eliminación.
+     */
+    public void terminar(int n, int terminos, Class<?> motor, int intercambios) {
+        if (this == INACTIVO) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            rellenar(n, terminos, motor, intercambios, "OK");
+            commit();
+        }
+    }
+
+    /**
+     * Cierra una resolución que terminó con el error dado.
+     */
+    public void fallar(int n, int terminos, Class<?> motor, MatrixException ex) {
+        if (this == INACTIVO) {
+            return;
+        }
+        end();
+        if (shouldCommit()) {
+            rellenar(n, terminos, motor, -1, ex.getCausa().name());
+            commit();
+        }
+    }
+
+    private void rellenar(int n, int terminos, Class<?> motor, int intercambios, String resultado) {
+        this.n = n;
+        this.terminos = terminos;
+        this.motor = motor.getSimpleName();
+        this.intercambios = intercambios;
+        this.resultado = resultado;
+    }
+
+    /**
+     * Intercambios que dejaron perm: cada uno del pivotaje parcial une dos
+     * ciclos de la permutación, así que son n menos el número de ciclos.
+     */
+    static int intercambios(int[] perm, int n) {
+        boolean[] visto = new boolean[n];
+        int ciclos = 0;
+        for (int i = 0; i < n; i++) {
+            if (!visto[i]) {
+                ciclos++;
+                for (int j = i; !visto[j]; j = perm[j]) {
+                    visto[j] = true;
+                }
+            }
+        }
+        return n - ciclos;
+    }
+}
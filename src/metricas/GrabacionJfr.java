@@ -0,0 +1,51 @@
+package metricas;
+
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Indica si hay alguna grabación de JFR en marcha, para que los eventos del
+ * solver no se creen cuando nadie los va a grabar. Se mantiene al día con un
+ * {@link FlightRecorderListener}, así que consultarlo es leer un campo volátil.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class GrabacionJfr {
+
+    private static volatile boolean activa;
+
+    static {
+        FlightRecorder.addListener(new FlightRecorderListener() {
+            @Override
+            public void recorderInitialized(FlightRecorder recorder) {
+                actualizar(recorder);
+            }
+
+            @Override
+            public void recordingStateChanged(Recording recording) {
+                actualizar(FlightRecorder.getFlightRecorder());
+            }
+        });
+    }
+
+    private GrabacionJfr() {
+    }
+
+    /**
+     * Si hay alguna grabación en marcha.
+     */
+    static boolean activa() {
+        return activa;
+    }
+
+    private static void actualizar(FlightRecorder recorder) {
+        boolean alguna = false;
+        for (Recording r : recorder.getRecordings()) {
+            alguna |= r.getState() == RecordingState.RUNNING;
+        }
+        activa = alguna;
+    }
+}
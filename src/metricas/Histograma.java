@@ -0,0 +1,134 @@
+package metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de latencias en nanosegundos con cubos log-lineales, al estilo de
+ * HdrHistogram: cada potencia de dos se divide en {@value #SUBCUBOS} cubos, así
+ * que cualquier valor se guarda con un error relativo menor del 3 %. Registrar
+ * un valor cuesta un desplazamiento y un incremento atómico, sin bloqueos ni
+ * memoria nueva. Los valores por encima de unos 18 minutos se acumulan en el
+ * último cubo.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class Histograma {
+
+    private static final int BITS_SUBCUBO = 5;
+    static final int SUBCUBOS = 1 << BITS_SUBCUBO;
+    private static final int MAX_BITS = 40;     // 2^40 ns ≈ 18 min
+    private static final int CUBOS = (MAX_BITS - BITS_SUBCUBO + 1) * SUBCUBOS;
+
+    private final AtomicLongArray cuentas = new AtomicLongArray(CUBOS);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder suma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Registra un valor en nanosegundos (los negativos cuentan como 0).
+     */
+    public void registrar(long nanos) {
+        long v = Math.max(0, nanos);
+        cuentas.incrementAndGet(indice(v));
+        total.increment();
+        suma.add(v);
+        maximo.accumulate(v);
+    }
+
+    /**
+     * Número de valores registrados.
+     */
+    public long getCuenta() {
+        return total.sum();
+    }
+
+    /**
+     * Suma de los valores registrados, en nanosegundos.
+     */
+    public long getSuma() {
+        return suma.sum();
+    }
+
+    /**
+     * Mayor valor registrado, en nanosegundos.
+     */
+    public long getMaximo() {
+        return maximo.get();
+    }
+
+    /**
+     * Valor por debajo del cual queda la fracción q de los registros
+     * (0 ≤ q ≤ 1), con la precisión de los cubos; 0 si no hay registros.
+     */
+    public long percentil(double q) {
+        long[] c = instantanea();
+        long n = 0;
+        for (long v : c) {
+            n += v;
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long objetivo = Math.max(1, (long) Math.ceil(q * n));
+        long acumulado = 0;
+        for (int i = 0; i < c.length; i++) {
+            acumulado += c[i];
+            if (acumulado >= objetivo) {
+                return Math.min(limiteSuperior(i), getMaximo());
+            }
+        }
+        return getMaximo();
+    }
+
+    /**
+     * Vuelve a cero todos los contadores.
+     */
+    public void reiniciar() {
+        for (int i = 0; i < CUBOS; i++) {
+            cuentas.set(i, 0);
+        }
+        total.reset();
+        suma.reset();
+        maximo.reset();
+    }
+
+    private long[] instantanea() {
+        long[] c = new long[CUBOS];
+        for (int i = 0; i < CUBOS; i++) {
+            c[i] = cuentas.get(i);
+        }
+        return c;
+    }
+
+    /**
+     * Cubo de v: los valores menores que {@link #SUBCUBOS} tienen cubo propio;
+     * los demás, el de sus {@value #BITS_SUBCUBO} bits más significativos.
+     */
+    static int indice(long v) {
+        if (v < SUBCUBOS) {
+            return (int) v;
+        }
+        int exponente = 63 - Long.numberOfLeadingZeros(v);
+        if (exponente >= MAX_BITS) {
+            return CUBOS - 1;
+        }
+        int desplazamiento = exponente - BITS_SUBCUBO;
+        int sub = (int) (v >>> desplazamiento) & (SUBCUBOS - 1);
+        return ((desplazamiento + 1) << BITS_SUBCUBO) + sub;
+    }
+
+    /**
+     * Mayor valor que cae en el cubo i.
+     */
+    static long limiteSuperior(int i) {
+        if (i < SUBCUBOS) {
+            return i;
+        }
+        int desplazamiento = (i >> BITS_SUBCUBO) - 1;
+        long base = (long) (SUBCUBOS + (i & (SUBCUBOS - 1))) << desplazamiento;
+        return base + (1L << desplazamiento) - 1;
+    }
+}
@@ -0,0 +1,326 @@
+package metricas;
+
+import config.LoggerFichero;
+import exception.MatrixException;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Registro de métricas del solver: resoluciones y latencias por tamaño de
+ * sistema, tiempo por fase de la eliminación, intercambios de filas y fallos
+ * por {@link MatrixException.Causa}. Se consulta con {@link #texto()} (formato
+ * de texto de Prometheus) o por JMX como {@value #NOMBRE_JMX}.
+ *
+ * Para que medir cueste poco, los contadores son {@link LongAdder} sin bloqueos.
+ * Todas las resoluciones, fallos e intercambios de filas se cuentan; lo que se
+ * muestrea es el reloj. Se mide el tiempo de cada resolución de los sistemas de
+ * al menos {@value #N_SIEMPRE} incógnitas, donde la eliminación tarda decenas de
+ * microsegundos y el reloj cuesta menos del 1 %. De los menores, que se
+ * resuelven en cientos de nanosegundos, se mide uno de cada {@value #MUESTREO}
+ * elegido al azar: sus histogramas y fases son una muestra. El resto solo paga
+ * un número aleatorio del hilo y un incremento.
+ *
+ * Se desactiva del todo con {@code -Dgaussiana.metricas=false}; entonces cada
+ * punto de medida es una comprobación de una constante.
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+public final class MetricasSolver implements MetricasSolverMBean {
+
+    /** Si se registran métricas. */
+    public static final boolean ACTIVAS =
+            Boolean.parseBoolean(System.getProperty("gaussiana.metricas", "true"));
+
+    /** Nombre con el que se publica en el servidor de MBeans de la plataforma. */
+    public static final String NOMBRE_JMX = "gaussiana:type=MetricasSolver";
+
+    /** Tamaño a partir del cual se miden todas las resoluciones. */
+    public static final int N_SIEMPRE = 64;
+    /** De los sistemas menores se mide uno de cada MUESTREO (potencia de dos). */
+    public static final int MUESTREO = 64;
+
+    /** Fases de una resolución densa. */
+    public enum Fase {
+        ESCALADO, ELIMINACION, SINGULARIDAD, SUSTITUCION, EXTRACCION;
+
+        String etiqueta() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Límite superior (incluido) de n de cada grupo de tamaños; el último no tiene límite. */
+    private static final int[] LIMITES_N = {8, 32, 128, 512, 2048};
+
+    private static final LoggerFichero log = LoggerFichero.getInstance();
+    private static final MetricasSolver INSTANCIA = new MetricasSolver();
+
+    private final LongAdder[] resoluciones = nuevos(LIMITES_N.length + 1);
+    private final Histograma[] latencias = new Histograma[LIMITES_N.length + 1];
+    private final LongAdder[] nanosFase = nuevos(Fase.values().length);
+    private final LongAdder[] cuentaFase = nuevos(Fase.values().length);
+    private final LongAdder[] fallos = nuevos(MatrixException.Causa.values().length);
+    private final LongAdder intercambios = new LongAdder();
+
+    private MetricasSolver() {
+        for (int g = 0; g < latencias.length; g++) {
+            latencias[g] = new Histograma();
+        }
+    }
+
+    public static MetricasSolver getInstance() {
+        return INSTANCIA;
+    }
+
+    /**
+     * Publica el registro por JMX; no hace nada si ya estaba publicado.
+     * Un fallo se registra en el log pero no impide seguir.
+     *
+     * @return Si el registro queda publicado.
+     */
+    public static boolean registrarJmx() {
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName nombre = new ObjectName(NOMBRE_JMX);
+            if (!servidor.isRegistered(nombre)) {
+                servidor.registerMBean(INSTANCIA, nombre);
+            }
+            return true;
+        } catch (JMException ex) {
+            log.error("No se pudo publicar {}", NOMBRE_JMX, ex);
+            return false;
+        }
+    }
+
+    /**
+     * Empieza una resolución de n incógnitas; se cuenta al pasar el valor
+     * devuelto a {@link #resuelto}.
+     *
+     * @return El instante de inicio si se mide el tiempo de esta resolución, o 0.
+     */
+    public long inicio(int n) {
+        if (!ACTIVAS) {
+            return 0;
+        }
+        if (n < N_SIEMPRE && (ThreadLocalRandom.current().nextInt() & (MUESTREO - 1)) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * Cierra una fase que empezó en t (devuelto por {@link #inicio} o por la
+     * fase anterior).
+     *
+     * @return El instante de inicio de la fase siguiente, o 0 si no se mide.
+     */
+    public long fase(Fase fase, long t) {
+        if (t == 0) {
+            return 0;
+        }
+        long ahora = System.nanoTime();
+        nanosFase[fase.ordinal()].add(ahora - t);
+        cuentaFase[fase.ordinal()].increment();
+        return ahora;
+    }
+
+    /**
+     * Cuenta una resolución terminada de n incógnitas y, si se midió desde t0
+     * (devuelto por {@link #inicio}), registra su latencia.
+     */
+    public void resuelto(int n, long t0) {
+        if (!ACTIVAS) {
+            return;
+        }
+        int g = grupo(n);
+        resoluciones[g].increment();
+        if (t0 != 0) {
+            latencias[g].registrar(System.nanoTime() - t0);
+        }
+    }
+
+    /**
+     * Cuenta un intercambio de filas durante la eliminación.
+     */
+    public void intercambio() {
+        if (ACTIVAS) {
+            intercambios.increment();
+        }
+    }
+
+    /**
+     * Cuenta un fallo y devuelve la excepción, para poder escribir
+     * {@code throw metricas.fallo(...)}.
+     */
+    public MatrixException fallo(MatrixException ex) {
+        if (ACTIVAS) {
+            fallos[ex.getCausa().ordinal()].increment();
+        }
+        return ex;
+    }
+
+    /**
+     * Histograma de latencias de los sistemas del mismo grupo de tamaños que n.
+     */
+    public Histograma getLatencias(int n) {
+        return latencias[grupo(n)];
+    }
+
+    /**
+     * Resoluciones terminadas de sistemas del mismo grupo de tamaños que n.
+     */
+    public long getResoluciones(int n) {
+        return resoluciones[grupo(n)].sum();
+    }
+
+    /**
+     * Nanosegundos acumulados en la fase, sumando solo las resoluciones medidas.
+     */
+    public long getNanosFase(Fase fase) {
+        return nanosFase[fase.ordinal()].sum();
+    }
+
+    /**
+     * Fallos con la causa dada.
+     */
+    public long getFallos(MatrixException.Causa causa) {
+        return fallos[causa.ordinal()].sum();
+    }
+
+    @Override
+    public long getResoluciones() {
+        return suma(resoluciones);
+    }
+
+    @Override
+    public long getFallos() {
+        return suma(fallos);
+    }
+
+    @Override
+    public long getIntercambiosFilas() {
+        return intercambios.sum();
+    }
+
+    @Override
+    public double getLatenciaMediaMicros() {
+        long cuenta = 0;
+        long nanos = 0;
+        for (Histograma h : latencias) {
+            cuenta += h.getCuenta();
+            nanos += h.getSuma();
+        }
+        return cuenta == 0 ? 0.0 : nanos / 1e3 / cuenta;
+    }
+
+    @Override
+    public String[] getFallosPorCausa() {
+        MatrixException.Causa[] causas = MatrixException.Causa.values();
+        String[] r = new String[causas.length];
+        for (MatrixException.Causa c : causas) {
+            r[c.ordinal()] = c.name() + "=" + fallos[c.ordinal()].sum();
+        }
+        return r;
+    }
+
+    @Override
+    public String getTexto() {
+        return texto();
+    }
+
+    @Override
+    public void reiniciar() {
+        for (LongAdder a : resoluciones) {
+            a.reset();
+        }
+        for (Histograma h : latencias) {
+            h.reiniciar();
+        }
+        for (int f = 0; f < nanosFase.length; f++) {
+            nanosFase[f].reset();
+            cuentaFase[f].reset();
+        }
+        for (LongAdder a : fallos) {
+            a.reset();
+        }
+        intercambios.reset();
+    }
+
+    /**
+     * Vuelca las métricas en el formato de texto de Prometheus.
+     */
+    public String texto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# TYPE gauss_resoluciones_total counter\n");
+        for (int g = 0; g < resoluciones.length; g++) {
+            sb.append("gauss_resoluciones_total{n=\"").append(etiquetaGrupo(g)).append("\"} ")
+                    .append(resoluciones[g].sum()).append('\n');
+        }
+        sb.append("# TYPE gauss_resolucion_segundos summary\n");
+        for (int g = 0; g < latencias.length; g++) {
+            Histograma h = latencias[g];
+            if (h.getCuenta() == 0) {
+                continue;
+            }
+            String n = etiquetaGrupo(g);
+            for (double q : new double[]{0.5, 0.9, 0.99, 0.999}) {
+                sb.append(String.format(Locale.ROOT, "gauss_resolucion_segundos{n=\"%s\",quantile=\"%s\"} %.9f\n",
+                        n, q, h.percentil(q) / 1e9));
+            }
+            sb.append(String.format(Locale.ROOT, "gauss_resolucion_segundos_sum{n=\"%s\"} %.9f\n",
+                    n, h.getSuma() / 1e9));
+            sb.append("gauss_resolucion_segundos_count{n=\"").append(n).append("\"} ")
+                    .append(h.getCuenta()).append('\n');
+        }
+        sb.append("# TYPE gauss_fase_segundos summary\n");
+        for (Fase f : Fase.values()) {
+            sb.append(String.format(Locale.ROOT, "gauss_fase_segundos_sum{fase=\"%s\"} %.9f\n",
+                    f.etiqueta(), nanosFase[f.ordinal()].sum() / 1e9));
+            sb.append("gauss_fase_segundos_count{fase=\"").append(f.etiqueta()).append("\"} ")
+                    .append(cuentaFase[f.ordinal()].sum()).append('\n');
+        }
+        sb.append("# TYPE gauss_intercambios_filas_total counter\n");
+        sb.append("gauss_intercambios_filas_total ").append(intercambios.sum()).append('\n');
+        sb.append("# TYPE gauss_fallos_total counter\n");
+        for (MatrixException.Causa c : MatrixException.Causa.values()) {
+            sb.append("gauss_fallos_total{causa=\"").append(c.name().toLowerCase(Locale.ROOT)).append("\"} ")
+                    .append(fallos[c.ordinal()].sum()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static int grupo(int n) {
+        int g = 0;
+        while (g < LIMITES_N.length && n > LIMITES_N[g]) {
+            g++;
+        }
+        return g;
+    }
+
+    private static String etiquetaGrupo(int g) {
+        int desde = g == 0 ? 1 : LIMITES_N[g - 1] + 1;
+        return g == LIMITES_N.length ? desde + "+" : desde + "-" + LIMITES_N[g];
+    }
+
+    private static LongAdder[] nuevos(int n) {
+        LongAdder[] a = new LongAdder[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = new LongAdder();
+        }
+        return a;
+    }
+
+    private static long suma(LongAdder[] a) {
+        long s = 0;
+        for (LongAdder x : a) {
+            s += x.sum();
+        }
+        return s;
+    }
+}
@@ -0,0 +1,31 @@
+package metricas;
+
+/**
+ * Vista JMX de {@link MetricasSolver}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public interface MetricasSolverMBean {
+
+    /** Resoluciones terminadas, de cualquier tamaño. */
+    long getResoluciones();
+
+    /** Fallos, de cualquier causa. */
+    long getFallos();
+
+    /** Intercambios de filas durante la eliminación. */
+    long getIntercambiosFilas();
+
+    /** Latencia media de las resoluciones medidas, en microsegundos. */
+    double getLatenciaMediaMicros();
+
+    /** Fallos por causa, como {@code CAUSA=cuenta}. */
+    String[] getFallosPorCausa();
+
+    /** Todas las métricas en formato de texto de Prometheus. */
+    String getTexto();
+
+    /** Vuelve a cero todos los contadores. */
+    void reiniciar();
+}
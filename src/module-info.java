@@ -7,4 +7,11 @@
 module Gaussiana {
 	requires java.desktop;
 	requires org.junit.jupiter.api;
-}
\ No newline at end of file
+	requires static jdk.incubator.vector;
+	requires jdk.management;
+	requires jdk.httpserver;
+	requires java.management;
+	requires jdk.jfr;
+
+	exports metricas to java.management;
+}
@@ -0,0 +1,116 @@
+package servidor;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de {@link ServidorGauss}, seguros entre hilos y sin bloqueos:
+ * peticiones por ruta y código, latencia acumulada por ruta, peticiones
+ * rechazadas por saturación, peticiones en curso, bytes recibidos y sistemas
+ * resueltos en lote. {@link #texto()} los vuelca en el formato de texto de
+ * Prometheus para {@code GET /metrics}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+public final class EstadisticasServidor {
+
+    private final int maxConcurrentes;
+    private final Map<String, LongAdder> peticiones = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> latencia = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> cuenta = new ConcurrentHashMap<>();
+    private final LongAdder rechazadas = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder sistemasLote = new LongAdder();
+    private final AtomicInteger enCurso = new AtomicInteger();
+
+    EstadisticasServidor(int maxConcurrentes) {
+        this.maxConcurrentes = maxConcurrentes;
+    }
+
+    /**
+     * Cuenta una petición terminada; código 0 si la conexión se interrumpió.
+     */
+    void registrar(String ruta, int codigo, long nanos) {
+        peticiones.computeIfAbsent(ruta + ' ' + codigo, c -> new LongAdder()).increment();
+        latencia.computeIfAbsent(ruta, c -> new LongAdder()).add(nanos);
+        cuenta.computeIfAbsent(ruta, c -> new LongAdder()).increment();
+    }
+
+    void rechazada() {
+        rechazadas.increment();
+    }
+
+    void empieza() {
+        enCurso.incrementAndGet();
+    }
+
+    void termina() {
+        enCurso.decrementAndGet();
+    }
+
+    void recibidos(long n) {
+        bytes.add(n);
+    }
+
+    void sistemasEnLote(int n) {
+        sistemasLote.add(n);
+    }
+
+    /**
+     * Peticiones a la ruta que terminaron con el código dado.
+     */
+    public long getPeticiones(String ruta, int codigo) {
+        LongAdder a = peticiones.get(ruta + ' ' + codigo);
+        return a == null ? 0 : a.sum();
+    }
+
+    /**
+     * Peticiones rechazadas con 503 por falta de turno.
+     */
+    public long getRechazadas() {
+        return rechazadas.sum();
+    }
+
+    /**
+     * Peticiones que tienen turno en este momento.
+     */
+    public int getEnCurso() {
+        return enCurso.get();
+    }
+
+    /**
+     * Vuelca los contadores, ordenados por nombre.
+     */
+    public String texto() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("# TYPE gauss_peticiones_total counter\n");
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(peticiones).entrySet()) {
+            int sp = e.getKey().lastIndexOf(' ');
+            sb.append("gauss_peticiones_total{ruta=\"").append(e.getKey(), 0, sp)
+                    .append("\",codigo=\"").append(e.getKey(), sp + 1, e.getKey().length())
+                    .append("\"} ").append(e.getValue().sum()).append('\n');
+        }
+        sb.append("# TYPE gauss_latencia_segundos summary\n");
+        for (Map.Entry<String, LongAdder> e : new TreeMap<>(latencia).entrySet()) {
+            sb.append(String.format(Locale.ROOT, "gauss_latencia_segundos_sum{ruta=\"%s\"} %.6f\n",
+                    e.getKey(), e.getValue().sum() / 1e9));
+            sb.append("gauss_latencia_segundos_count{ruta=\"").append(e.getKey()).append("\"} ")
+                    .append(cuenta.get(e.getKey()).sum()).append('\n');
+        }
+        sb.append("# TYPE gauss_rechazadas_total counter\n");
+        sb.append("gauss_rechazadas_total ").append(rechazadas.sum()).append('\n');
+        sb.append("# TYPE gauss_en_curso gauge\n");
+        sb.append("gauss_en_curso ").append(enCurso.get()).append('\n');
+        sb.append("gauss_concurrentes_max ").append(maxConcurrentes).append('\n');
+        sb.append("# TYPE gauss_bytes_recibidos_total counter\n");
+        sb.append("gauss_bytes_recibidos_total ").append(bytes.sum()).append('\n');
+        sb.append("# TYPE gauss_sistemas_lote_total counter\n");
+        sb.append("gauss_sistemas_lote_total ").append(sistemasLote.sum()).append('\n');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,286 @@
+package servidor;
+
+import exception.InputException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lectura y escritura mínimas de JSON para el servidor, sin dependencias.
+ *
+ * Los objetos se leen como {@link Map}, los textos como {@link String}, los
+ * booleanos como {@link Boolean} y null como null. Los arrays formados solo
+ * por números se leen directamente como {@code double[]}, sin crear un
+ * {@link Double} por elemento (las matrices son casi todo el cuerpo de una
+ * petición); el resto de arrays, como {@link List}.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+final class Json {
+
+    /** Anidamiento máximo, para que una entrada maliciosa no agote la pila. */
+    private static final int PROFUNDIDAD_MAX = 64;
+
+    private final String texto;
+    private int pos;
+
+    private Json(String texto) {
+        this.texto = texto;
+    }
+
+    /**
+     * Lee un documento JSON completo.
+     *
+     * @throws InputException Si no es JSON válido; indica la línea y la columna.
+     */
+    static Object leer(String texto) throws InputException {
+        Json p = new Json(texto);
+        p.espacios();
+        Object valor = p.valor(0);
+        p.espacios();
+        if (p.pos < texto.length()) {
+            throw p.error("Contenido inesperado tras el documento JSON.");
+        }
+        return valor;
+    }
+
+    private Object valor(int profundidad) throws InputException {
+        if (profundidad > PROFUNDIDAD_MAX) {
+            throw error("Documento JSON demasiado anidado.");
+        }
+        if (pos >= texto.length()) {
+            throw error("Fin inesperado del documento JSON.");
+        }
+        char c = texto.charAt(pos);
+        return switch (c) {
+            case '{' -> objeto(profundidad);
+            case '[' -> array(profundidad);
+            case '"' -> cadena();
+            case 't' -> literal("true", Boolean.TRUE);
+            case 'f' -> literal("false", Boolean.FALSE);
+            case 'n' -> literal("null", null);
+            default -> {
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    yield numero();
+                }
+                throw error("Carácter inesperado '" + c + "'.");
+            }
+        };
+    }
+
+    private Map<String, Object> objeto(int profundidad) throws InputException {
+        Map<String, Object> m = new LinkedHashMap<>();
+        pos++;
+        espacios();
+        if (consumir('}')) {
+            return m;
+        }
+        do {
+            espacios();
+            if (pos >= texto.length() || texto.charAt(pos) != '"') {
+                throw error("Se esperaba el nombre de un campo.");
+            }
+            String clave = cadena();
+            espacios();
+            esperar(':');
+            espacios();
+            m.put(clave, valor(profundidad + 1));
+            espacios();
+        } while (consumir(','));
+        esperar('}');
+        return m;
+    }
+
+    /**
+     * Mientras los elementos son números se acumulan en un double[]; si
+     * aparece otro tipo de valor, el array pasa a ser una lista.
+     */
+    private Object array(int profundidad) throws InputException {
+        pos++;
+        espacios();
+        if (consumir(']')) {
+            return new double[0];
+        }
+        double[] numeros = new double[16];
+        int cuantos = 0;
+        List<Object> lista = null;
+        do {
+            espacios();
+            if (lista == null && pos < texto.length() && esInicioNumero(texto.charAt(pos))) {
+                if (cuantos == numeros.length) {
+                    numeros = Arrays.copyOf(numeros, cuantos * 2);
+                }
+                numeros[cuantos++] = numero();
+            } else {
+                if (lista == null) {
+                    lista = new ArrayList<>(cuantos + 1);
+                    for (int i = 0; i < cuantos; i++) {
+                        lista.add(numeros[i]);
+                    }
+                }
+                lista.add(valor(profundidad + 1));
+            }
+            espacios();
+        } while (consumir(','));
+        esperar(']');
+        return lista != null ? lista : Arrays.copyOf(numeros, cuantos);
+    }
+
+    private static boolean esInicioNumero(char c) {
+        return c == '-' || (c >= '0' && c <= '9');
+    }
+
+    private double numero() throws InputException {
+        int inicio = pos;
+        while (pos < texto.length()) {
+            char c = texto.charAt(pos);
+            if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+                pos++;
+            } else {
+                break;
+            }
+        }
+        try {
+            return Double.parseDouble(texto.substring(inicio, pos));
+        } catch (NumberFormatException ex) {
+            pos = inicio;
+            throw error("Número no válido.");
+        }
+    }
+
+    private String cadena() throws InputException {
+        StringBuilder sb = new StringBuilder();
+        pos++;
+        while (pos < texto.length()) {
+            char c = texto.charAt(pos++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (pos >= texto.length()) {
+                break;
+            }
+            char e = texto.charAt(pos++);
+            switch (e) {
+                case '"', '\\', '/' -> sb.append(e);
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (pos + 4 > texto.length()) {
+                        throw error("Secuencia \\u incompleta.");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(texto.substring(pos, pos + 4), 16));
+                    } catch (NumberFormatException ex) {
+                        throw error("Secuencia \\u no válida.");
+                    }
+                    pos += 4;
+                }
+                default -> throw error("Secuencia de escape no válida '\\" + e + "'.");
+            }
+        }
+        throw error("Texto sin cerrar.");
+    }
+
+    private Object literal(String palabra, Object valor) throws InputException {
+        if (!texto.startsWith(palabra, pos)) {
+            throw error("Valor JSON no válido.");
+        }
+        pos += palabra.length();
+        return valor;
+    }
+
+    private void espacios() {
+        while (pos < texto.length()) {
+            char c = texto.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    private boolean consumir(char c) {
+        if (pos < texto.length() && texto.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private void esperar(char c) throws InputException {
+        if (!consumir(c)) {
+            throw error("Se esperaba '" + c + "'.");
+        }
+    }
+
+    /**
+     * Error en la posición actual, con la línea y la columna contadas desde 1.
+     */
+    private InputException error(String mensaje) {
+        int linea = 1;
+        int inicioLinea = 0;
+        int hasta = Math.min(pos, texto.length());
+        for (int i = 0; i < hasta; i++) {
+            if (texto.charAt(i) == '\n') {
+                linea++;
+                inicioLinea = i + 1;
+            }
+        }
+        return new InputException(mensaje, linea, hasta - inicioLinea + 1);
+    }
+
+    /**
+     * Escribe un número; NaN e infinito no existen en JSON y se escriben como null.
+     */
+    static void numero(StringBuilder sb, double v) {
+        if (Double.isNaN(v) || Double.isInfinite(v)) {
+            sb.append("null");
+        } else {
+            sb.append(v);
+        }
+    }
+
+    static void array(StringBuilder sb, double[] v, int desde, int hasta) {
+        sb.append('[');
+        for (int i = desde; i < hasta; i++) {
+            if (i > desde) {
+                sb.append(',');
+            }
+            numero(sb, v[i]);
+        }
+        sb.append(']');
+    }
+
+    static void cadena(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
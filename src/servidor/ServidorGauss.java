@@ -0,0 +1,561 @@
+package servidor;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import config.LoggerFichero;
+import exception.InputException;
+import exception.MatrixException;
+import io.EscritorBinario;
+import io.FormatoBinario;
+import io.LectorBinario;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.ResultadoGauss;
+import logic.ResultadoLote;
+import logic.Sistema;
+import metricas.MetricasSolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servicio HTTP local que resuelve sistemas con {@link GaussSolver}, sobre el
+ * servidor del JDK ({@code jdk.httpserver}) con un hilo virtual por petición.
+ *
+ * <ul>
+ *   <li>{@code POST /solve}: un sistema. En JSON,
+ *       {@code {"A": [[..], ..], "b": [..]}} (o {@code "B"} con una fila por
+ *       incógnita y una columna por término) responde {@code {"n", "k", "x"}}
+ *       (o {@code "X"}); en binario ({@code application/octet-stream}), un
+ *       sistema en {@link FormatoBinario} responde el resultado [U | B̃ | X]
+ *       en el mismo formato.</li>
+ *   <li>{@code POST /solveBatch}: {@code {"sistemas": [{"A", "b"}, ..]}} se
+ *       resuelve con {@link GaussSolver#solveBatch(List)}; cada resultado es
+ *       {@code {"x": ..}} o {@code {"error": ..}}.</li>
+ *   <li>{@code GET /metrics}: contadores en texto ({@link EstadisticasServidor}),
+ *       seguidos de los del solver ({@link MetricasSolver}).</li>
+ * </ul>
+ *
+ * Los errores se responden como {@code {"error": mensaje}}: 400 si la entrada
+ * no es válida ({@link InputException}), 422 si el sistema no tiene solución
+ * única ({@link MatrixException}), 413 si el cuerpo supera el límite, 405 y 415
+ * para método o tipo de contenido no admitidos.
+ *
+ * Para que la carga no agote la memoria, como mucho
+ * {@link Configuracion#maxConcurrentes()} peticiones leen y resuelven a la
+ * vez, cada una con un cuerpo de {@link Configuracion#maxBytes()} como máximo.
+ * Una petición que no obtiene turno en {@link Configuracion#esperaMs()} recibe
+ * 503 con {@code Retry-After}, sin leer su cuerpo, y una cuyo cuerpo no llega
+ * en {@link Configuracion#lecturaMs()} recibe 408 y libera su turno.
+ *
+ * @author Anabel Diaz
+ * @version 1.4 - 17/10/2026
+ */
+public final class ServidorGauss {
+
+    static final String JSON = "application/json";
+    static final String BINARIO = "application/octet-stream";
+
+    private static final LoggerFichero log = LoggerFichero.getInstance();
+
+    private final HttpServer http;
+    private final ExecutorService ejecutor;
+    private final ExecutorService lectores;
+    private final Semaphore turnos;
+    private final Configuracion conf;
+    private final EstadisticasServidor estadisticas;
+
+    /**
+     * Configuración del servidor.
+     *
+     * @param direccion Dirección y puerto de escucha (puerto 0: uno libre).
+     * @param maxConcurrentes Peticiones de resolución atendidas a la vez.
+     * @param maxBytes Tamaño máximo del cuerpo de una petición.
+     * @param esperaMs Espera máxima por un turno antes de responder 503.
+     * @param lecturaMs Tiempo máximo para recibir el cuerpo antes de responder 408.
+     */
+    public record Configuracion(InetSocketAddress direccion, int maxConcurrentes, long maxBytes, long esperaMs,
+                                long lecturaMs) {
+
+        public Configuracion {
+            if (maxConcurrentes < 1 || maxBytes < 1 || esperaMs < 0 || lecturaMs < 1) {
+                throw new IllegalArgumentException("Configuración del servidor no válida.");
+            }
+        }
+
+        /** Tiempo por defecto para recibir el cuerpo de una petición. */
+        public static final long LECTURA_POR_DEFECTO_MS = 30_000;
+
+        /**
+         * Memoria que ocupa una petición por cada byte de su cuerpo: el propio
+         * cuerpo, su texto decodificado (hasta 2 bytes por carácter) y los
+         * números leídos (un double de 8 bytes por cada número de al menos 2
+         * caracteres, con separador).
+         */
+        public static final int MEMORIA_POR_BYTE = 8;
+
+        private static final long MAX_BYTES_POR_DEFECTO = 64L << 20;
+        private static final long MIN_BYTES_POR_DEFECTO = 1L << 20;
+
+        /**
+         * Configuración con el tiempo de lectura por defecto.
+         */
+        public Configuracion(InetSocketAddress direccion, int maxConcurrentes, long maxBytes, long esperaMs) {
+            this(direccion, maxConcurrentes, maxBytes, esperaMs, LECTURA_POR_DEFECTO_MS);
+        }
+
+        /**
+         * Escucha solo en la interfaz local, con 100 ms de espera por turno y
+         * {@value #LECTURA_POR_DEFECTO_MS} ms para recibir el cuerpo. Los turnos
+         * y el tamaño del cuerpo se ajustan a la memoria máxima del heap.
+         */
+        public static Configuracion porDefecto(int puerto) {
+            return porDefecto(puerto, Runtime.getRuntime().maxMemory());
+        }
+
+        /**
+         * Configuración por defecto para un heap de {@code memoria} bytes: las
+         * peticiones en curso, a {@value #MEMORIA_POR_BYTE} bytes por byte de
+         * cuerpo, caben en la mitad. Se admiten dos peticiones por procesador
+         * con cuerpos de hasta 64 MB; si no caben, se reduce primero el cuerpo
+         * (hasta 1 MB) y después el número de peticiones.
+         */
+        public static Configuracion porDefecto(int puerto, long memoria) {
+            long presupuesto = Math.max(memoria / 2, 1);
+            int turnos = 2 * Runtime.getRuntime().availableProcessors();
+            long maxBytes = Math.min(MAX_BYTES_POR_DEFECTO, presupuesto / ((long) turnos * MEMORIA_POR_BYTE));
+            if (maxBytes < MIN_BYTES_POR_DEFECTO) {
+                maxBytes = MIN_BYTES_POR_DEFECTO;
+                turnos = (int) Math.max(1, Math.min(turnos, presupuesto / (maxBytes * MEMORIA_POR_BYTE)));
+            }
+            return new Configuracion(new InetSocketAddress(InetAddress.getLoopbackAddress(), puerto),
+                    turnos, maxBytes, 100, LECTURA_POR_DEFECTO_MS);
+        }
+    }
+
+    /**
+     * Error con un código HTTP concreto (método, tipo, tamaño, saturación,
+     * plazo de lectura). Si ya se ha respondido, solo queda registrarlo.
+     */
+    private static final class ErrorHttp extends Exception {
+
+        private final int codigo;
+        private final boolean respondido;
+
+        ErrorHttp(int codigo, String mensaje) {
+            this(codigo, mensaje, false);
+        }
+
+        ErrorHttp(int codigo, String mensaje, boolean respondido) {
+            super(mensaje, null, false, false);
+            this.codigo = codigo;
+            this.respondido = respondido;
+        }
+    }
+
+    private ServidorGauss(HttpServer http, ExecutorService ejecutor, Configuracion conf) {
+        this.http = http;
+        this.ejecutor = ejecutor;
+        this.conf = conf;
+        this.turnos = new Semaphore(conf.maxConcurrentes());
+        this.lectores = Executors.newFixedThreadPool(conf.maxConcurrentes(), hilosLectores());
+        this.estadisticas = new EstadisticasServidor(conf.maxConcurrentes());
+    }
+
+    /**
+     * Crea el servidor y empieza a escuchar.
+     *
+     * @throws IOException Si no se puede abrir el puerto.
+     */
+    public static ServidorGauss iniciar(Configuracion conf) throws IOException {
+        HttpServer http = HttpServer.create(conf.direccion(), 0);
+        ExecutorService ejecutor = Executors.newVirtualThreadPerTaskExecutor();
+        ServidorGauss s = new ServidorGauss(http, ejecutor, conf);
+        http.createContext("/solve", ex -> s.atender(ex, "/solve"));
+        http.createContext("/solveBatch", ex -> s.atender(ex, "/solveBatch"));
+        http.createContext("/metrics", ex -> s.atender(ex, "/metrics"));
+        http.setExecutor(ejecutor);
+        http.start();
+        log.info("Servidor escuchando en {}", http.getAddress());
+        return s;
+    }
+
+    /**
+     * Puerto en el que escucha (útil si se pidió el 0).
+     */
+    public int getPuerto() {
+        return http.getAddress().getPort();
+    }
+
+    /**
+     * Deja de aceptar peticiones y espera como mucho {@code segundos} a que
+     * terminen las que están en curso.
+     */
+    public void detener(int segundos) {
+        http.stop(segundos);
+        ejecutor.shutdown();
+        lectores.shutdownNow();
+        log.info("Servidor detenido");
+    }
+
+    /**
+     * Contadores del servidor.
+     */
+    public EstadisticasServidor getEstadisticas() {
+        return estadisticas;
+    }
+
+    private void atender(HttpExchange ex, String ruta) {
+        long t0 = System.nanoTime();
+        int codigo = 500;
+        try {
+            if (!ex.getRequestURI().getPath().equals(ruta)) {
+                throw new ErrorHttp(404, "Ruta desconocida: " + ex.getRequestURI().getPath());
+            }
+            if (ruta.equals("/metrics")) {
+                exigirMetodo(ex, "GET");
+                codigo = responder(ex, 200, "text/plain; charset=utf-8", estadisticas.texto() + MetricasSolver.getInstance().texto());
+            } else {
+                exigirMetodo(ex, "POST");
+                codigo = conTurno(ex, ruta);
+            }
+        } catch (ErrorHttp e) {
+            if (e.codigo == 503) {
+                estadisticas.rechazada();
+                ex.getResponseHeaders().set("Retry-After", "1");
+            }
+            codigo = e.respondido ? e.codigo : responderError(ex, e.codigo, e.getMessage());
+        } catch (InputException e) {
+            codigo = responderError(ex, 400, e.getMessage());
+        } catch (MatrixException e) {
+            codigo = responderError(ex, 422, e.getMessage());
+        } catch (IOException e) {
+            log.warn("Conexión interrumpida en {}: {}", ruta, e.getMessage());
+            codigo = 0;
+        } catch (RuntimeException e) {
+            log.error("Error inesperado en {}", ruta, e);
+            codigo = responderError(ex, 500, "Error interno del servidor.");
+        } finally {
+            ex.close();
+            estadisticas.registrar(ruta, codigo, System.nanoTime() - t0);
+        }
+    }
+
+    private static void exigirMetodo(HttpExchange ex, String metodo) throws ErrorHttp {
+        if (!ex.getRequestMethod().equals(metodo)) {
+            ex.getResponseHeaders().set("Allow", metodo);
+            throw new ErrorHttp(405, "Método no permitido: " + ex.getRequestMethod());
+        }
+    }
+
+    /**
+     * Lee y resuelve la petición si obtiene turno a tiempo.
+     */
+    private int conTurno(HttpExchange ex, String ruta)
+            throws ErrorHttp, IOException, InputException, MatrixException {
+        boolean conTurno;
+        try {
+            conTurno = turnos.tryAcquire(conf.esperaMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            conTurno = false;
+        }
+        if (!conTurno) {
+            throw new ErrorHttp(503, "Servidor saturado; inténtelo de nuevo más tarde.");
+        }
+        estadisticas.empieza();
+        try {
+            String tipo = tipoContenido(ex);
+            byte[] cuerpo = leerCuerpo(ex);
+            if (ruta.equals("/solve") && tipo.equals(BINARIO)) {
+                return resolverBinario(ex, cuerpo);
+            }
+            if (!tipo.equals(JSON)) {
+                throw new ErrorHttp(415, "Tipo de contenido no admitido: " + tipo);
+            }
+            Object doc = Json.leer(new String(cuerpo, StandardCharsets.UTF_8));
+            return ruta.equals("/solve") ? resolverJson(ex, doc) : resolverLote(ex, doc);
+        } finally {
+            estadisticas.termina();
+            turnos.release();
+        }
+    }
+
+    /**
+     * Tipo de contenido sin parámetros; sin cabecera se supone JSON.
+     */
+    private static String tipoContenido(HttpExchange ex) {
+        String tipo = ex.getRequestHeaders().getFirst("Content-Type");
+        if (tipo == null) {
+            return JSON;
+        }
+        int pc = tipo.indexOf(';');
+        return (pc < 0 ? tipo : tipo.substring(0, pc)).trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Lee el cuerpo sin pasar de {@link Configuracion#maxBytes()}: se rechaza
+     * antes de leer si lo declara más grande, y al leer si no lo declara.
+     *
+     * En JDK 21 los flujos de entrada de {@code jdk.httpserver} leen dentro de
+     * un bloque {@code synchronized}, que fija el hilo virtual a su hilo
+     * portador: unos pocos clientes lentos bastarían para ocupar todos los
+     * portadores. Por eso la lectura se hace en un pool de hilos de plataforma
+     * con tantos hilos como turnos (nunca hay cola) y el hilo virtual solo
+     * espera, como mucho {@link Configuracion#lecturaMs()}.
+     */
+    private byte[] leerCuerpo(HttpExchange ex) throws IOException, ErrorHttp {
+        String declarado = ex.getRequestHeaders().getFirst("Content-Length");
+        if (declarado != null) {
+            long longitud;
+            try {
+                longitud = Long.parseLong(declarado.trim());
+            } catch (NumberFormatException e) {
+                longitud = -1;
+            }
+            if (longitud > conf.maxBytes()) {
+                throw demasiadoGrande();
+            }
+        }
+        int limite = (int) Math.min(conf.maxBytes(), Integer.MAX_VALUE - 8);
+        Future<byte[]> lectura = lectores.submit(() -> {
+            try (InputStream in = ex.getRequestBody()) {
+                byte[] cuerpo = in.readNBytes(limite);
+                return cuerpo.length == limite && in.read() >= 0 ? null : cuerpo;
+            }
+        });
+        byte[] cuerpo;
+        try {
+            cuerpo = lectura.get(conf.lecturaMs(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw plazoVencido(ex, lectura);
+        } catch (InterruptedException e) {
+            lectura.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IOException("Lectura del cuerpo interrumpida.", e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        }
+        if (cuerpo == null) {
+            throw demasiadoGrande();
+        }
+        estadisticas.recibidos(cuerpo.length);
+        return cuerpo;
+    }
+
+    private static ThreadFactory hilosLectores() {
+        AtomicInteger contador = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "gauss-lector-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Responde 408 a una petición cuyo cuerpo no ha llegado a tiempo y corta
+     * la lectura. La respuesta se envía sin cerrar el flujo, porque cerrarlo
+     * intentaría leer el resto del cuerpo; al interrumpir al lector se cierra
+     * el canal, su hilo queda libre y la conexión se cierra al terminar.
+     */
+    private ErrorHttp plazoVencido(HttpExchange ex, Future<byte[]> lectura) {
+        String mensaje = "El cuerpo no ha llegado completo en " + conf.lecturaMs() + " ms.";
+        StringBuilder sb = new StringBuilder("{\"error\":");
+        Json.cadena(sb, mensaje);
+        byte[] bytes = sb.append('}').toString().getBytes(StandardCharsets.UTF_8);
+        boolean respondido;
+        try {
+            ex.getResponseHeaders().set("Content-Type", JSON + "; charset=utf-8");
+            ex.getResponseHeaders().set("Connection", "close");
+            ex.sendResponseHeaders(408, bytes.length);
+            OutputStream out = ex.getResponseBody();
+            out.write(bytes);
+            out.flush();
+            respondido = true;
+        } catch (IOException e) {
+            respondido = false;
+        }
+        lectura.cancel(true);
+        return new ErrorHttp(respondido ? 408 : 0, mensaje, true);
+    }
+
+    private ErrorHttp demasiadoGrande() {
+        return new ErrorHttp(413, "El cuerpo supera el máximo de " + conf.maxBytes() + " bytes.");
+    }
+
+    private int resolverBinario(HttpExchange ex, byte[] cuerpo)
+            throws IOException, InputException, MatrixException {
+        Matriz M = LectorBinario.leerAumentada(ByteBuffer.wrap(cuerpo));
+        if (M.getColumnas() == M.getFilas()) {
+            throw new InputException("El sistema no tiene términos independientes.");
+        }
+        ResultadoGauss r = GaussSolver.solveInPlace(M);
+        long n = M.getFilas();
+        long k = r.getNumTerminos();
+        ex.getResponseHeaders().set("Content-Type", BINARIO);
+        ex.sendResponseHeaders(200, FormatoBinario.TAM_CABECERA + n * (n + 2 * k) * Double.BYTES);
+        try (OutputStream out = ex.getResponseBody()) {
+            EscritorBinario.escribir(out, r);
+        }
+        return 200;
+    }
+
+    private int resolverJson(HttpExchange ex, Object doc) throws IOException, InputException, MatrixException {
+        Sistema s = sistema(doc, "");
+        ResultadoGauss r = GaussSolver.solve(s);
+        Matriz X = r.getMatrizX();
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"n\":").append(X.getFilas()).append(",\"k\":").append(X.getColumnas()).append(',');
+        solucion(sb, X.getDatos(), 0, X.getFilas(), X.getColumnas());
+        sb.append('}');
+        return responder(ex, 200, JSON + "; charset=utf-8", sb.toString());
+    }
+
+    private int resolverLote(HttpExchange ex, Object doc) throws IOException, InputException {
+        Object lista = campo(doc, "sistemas", "");
+        List<Sistema> sistemas = new ArrayList<>();
+        if (lista instanceof List<?> l) {
+            for (int i = 0; i < l.size(); i++) {
+                sistemas.add(sistema(l.get(i), "sistemas[" + i + "]."));
+            }
+        } else if (!(lista instanceof double[] v && v.length == 0)) {
+            throw new InputException("El campo sistemas debe ser un array de objetos.");
+        }
+
+        ResultadoLote r = GaussSolver.solveBatch(sistemas);
+        estadisticas.sistemasEnLote(sistemas.size());
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"fallidos\":").append(r.getNumFallidos()).append(",\"resultados\":[");
+        double[] x = r.getSoluciones();
+        for (int i = 0; i < sistemas.size(); i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('{');
+            if (r.isResuelto(i)) {
+                int k = sistemas.get(i).getNumTerminos();
+                int n = (r.getInicio(i + 1) - r.getInicio(i)) / k;
+                solucion(sb, x, r.getInicio(i), n, k);
+            } else {
+                sb.append("\"error\":");
+                Json.cadena(sb, r.getError(i).getMessage());
+            }
+            sb.append('}');
+        }
+        sb.append("]}");
+        return responder(ex, 200, JSON + "; charset=utf-8", sb.toString());
+    }
+
+    /**
+     * Escribe {@code "x": [..]} con un término, o {@code "X": [[..], ..]} por filas con varios.
+     */
+    private static void solucion(StringBuilder sb, double[] x, int desde, int n, int k) {
+        if (k == 1) {
+            sb.append("\"x\":");
+            Json.array(sb, x, desde, desde + n);
+            return;
+        }
+        sb.append("\"X\":[");
+        for (int i = 0; i < n; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            Json.array(sb, x, desde + i * k, desde + (i + 1) * k);
+        }
+        sb.append(']');
+    }
+
+    /**
+     * Sistema a partir de un objeto {@code {"A": .., "b": ..}} o {@code {"A": .., "B": ..}}.
+     */
+    private static Sistema sistema(Object doc, String prefijo) throws InputException {
+        double[][] A = matriz(campo(doc, "A", prefijo), prefijo + "A");
+        Map<?, ?> m = (Map<?, ?>) doc;
+        if (m.containsKey("B")) {
+            double[][] B = matriz(m.get("B"), prefijo + "B");
+            if (B.length == 0 || B[0].length == 0) {
+                throw new InputException("El campo " + prefijo + "B debe tener al menos una fila y una columna.");
+            }
+            return new Sistema(A, B);
+        }
+        if (campo(doc, "b", prefijo) instanceof double[] b) {
+            return new Sistema(A, b);
+        }
+        throw new InputException("El campo " + prefijo + "b debe ser un array de números.");
+    }
+
+    private static Object campo(Object doc, String nombre, String prefijo) throws InputException {
+        if (!(doc instanceof Map<?, ?> m)) {
+            throw new InputException("Se esperaba un objeto JSON" + (prefijo.isEmpty() ? "" : " en " + prefijo) + ".");
+        }
+        if (!m.containsKey(nombre)) {
+            throw new InputException("Falta el campo " + prefijo + nombre + ".");
+        }
+        return m.get(nombre);
+    }
+
+    /**
+     * Matriz a partir de un array de filas, todas de la misma longitud.
+     */
+    private static double[][] matriz(Object valor, String nombre) throws InputException {
+        if (valor instanceof double[] v && v.length == 0) {
+            return new double[0][];
+        }
+        if (valor instanceof List<?> filas) {
+            double[][] M = new double[filas.size()][];
+            for (int i = 0; i < M.length; i++) {
+                if (!(filas.get(i) instanceof double[] fila)) {
+                    throw new InputException("La fila " + (i + 1) + " de " + nombre + " debe ser un array de números.");
+                }
+                if (i > 0 && fila.length != M[0].length) {
+                    throw new InputException("La fila " + (i + 1) + " de " + nombre + " tiene " + fila.length
+                            + " elementos y la primera " + M[0].length + ".");
+                }
+                M[i] = fila;
+            }
+            return M;
+        }
+        throw new InputException("El campo " + nombre + " debe ser una matriz (array de filas de números).");
+    }
+
+    private static int responderError(HttpExchange ex, int codigo, String mensaje) {
+        StringBuilder sb = new StringBuilder("{\"error\":");
+        Json.cadena(sb, mensaje == null ? "" : mensaje);
+        sb.append('}');
+        try {
+            return responder(ex, codigo, JSON + "; charset=utf-8", sb.toString());
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static int responder(HttpExchange ex, int codigo, String tipo, String cuerpo) throws IOException {
+        byte[] bytes = cuerpo.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", tipo);
+        ex.sendResponseHeaders(codigo, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+        return codigo;
+    }
+}
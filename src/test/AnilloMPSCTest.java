@@ -0,0 +1,80 @@
+package test;
+
+import config.AnilloMPSC;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la cola sin bloqueos que usa el logger asíncrono.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class AnilloMPSCTest {
+
+    @Test
+    void rejectsOffersWhenFullAndRoundsCapacity() {
+        AnilloMPSC<Integer> anillo = new AnilloMPSC<>(3);
+
+        assertEquals(4, anillo.capacidad());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(anillo.offer(i));
+        }
+        assertFalse(anillo.offer(4));
+
+        assertEquals(0, anillo.poll());
+        assertTrue(anillo.offer(4));
+        assertEquals(4, anillo.size());
+    }
+
+    /**
+     * Con varios productores concurrentes no se pierde ni se duplica ningún
+     * elemento, y los de cada productor salen en el orden en que entraron.
+     */
+    @Test
+    void deliversEveryElementOnceInProducerOrder() throws InterruptedException {
+        int productores = 4;
+        int porProductor = 100_000;
+        AnilloMPSC<long[]> anillo = new AnilloMPSC<>(1024);
+
+        List<Thread> hilos = new ArrayList<>();
+        for (int p = 0; p < productores; p++) {
+            int id = p;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < porProductor; i++) {
+                    long[] e = {id, i};
+                    while (!anillo.offer(e)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            hilos.add(t);
+            t.start();
+        }
+
+        int[] siguiente = new int[productores];
+        long recibidos = 0;
+        while (recibidos < (long) productores * porProductor) {
+            long[] e = anillo.poll();
+            if (e == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int id = (int) e[0];
+            assertEquals(siguiente[id], e[1]);
+            siguiente[id]++;
+            recibidos++;
+        }
+        for (Thread t : hilos) {
+            t.join();
+        }
+
+        assertNull(anillo.poll());
+        assertTrue(anillo.isEmpty());
+    }
+}
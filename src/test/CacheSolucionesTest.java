@@ -0,0 +1,195 @@
+package test;
+
+import exception.MatrixException;
+import logic.CacheSoluciones;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.ResultadoGauss;
+import logic.Sistema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.cuadrada;
+import static test.MatricesAleatorias.vector;
+
+/**
+ * Clase de prueba para la caché de factorizaciones y resultados.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+class CacheSolucionesTest {
+
+    /**
+     * La misma A con otro b, en otra representación, reutiliza la factorización
+     * y da el mismo resultado (X, U y b̃) que la eliminación completa.
+     */
+    @Test
+    void reusesFactorizationForRepeatedMatrix() throws MatrixException {
+        Random rnd = new Random(1);
+        double[][] A = cuadrada(rnd, 12, 12);
+        CacheSoluciones cache = new CacheSoluciones(1 << 20);
+
+        for (int i = 0; i < 3; i++) {
+            double[] b = vector(rnd, 12);
+            Sistema sistema = i == 1 ? new Sistema(Matriz.desde(A), b) : new Sistema(A, b);
+            ResultadoGauss esperado = GaussSolver.solve(new Sistema(A, b));
+            ResultadoGauss r = cache.solve(sistema);
+
+            assertArrayEquals(esperado.getX(), r.getX(), 1e-12);
+            assertArrayEquals(esperado.getbMod(), r.getbMod(), 1e-12);
+            for (int f = 0; f < 12; f++) {
+                assertArrayEquals(esperado.getU()[f], r.getU()[f], 1e-12);
+            }
+        }
+
+        double[][] B = {{1, 2}, {3, 4}, {5, 6}, {7, 8}, {9, 10}, {11, 12},
+                {13, 14}, {15, 16}, {17, 18}, {19, 20}, {21, 22}, {23, 24}};
+        double[][] esperado = GaussSolver.solveGaussian(A, B).getSoluciones();
+        double[][] X = cache.solve(new Sistema(A, B)).getSoluciones();
+        for (int f = 0; f < 12; f++) {
+            assertArrayEquals(esperado[f], X[f], 1e-12);
+        }
+
+        CacheSoluciones.Estadisticas e = cache.getEstadisticas();
+        assertEquals(3, e.aciertos());
+        assertEquals(1, e.fallos());
+        assertEquals(1, e.entradas());
+        assertEquals(0.75, e.tasaAciertos());
+    }
+
+    /**
+     * Con los términos en la clave, un sistema idéntico devuelve el mismo resultado.
+     */
+    @Test
+    void cachesResultsWhenKeyIncludesRightHandSide() throws MatrixException {
+        Random rnd = new Random(2);
+        double[][] A = cuadrada(rnd, 10, 10);
+        double[] b = vector(rnd, 10);
+        CacheSoluciones cache = new CacheSoluciones(1 << 20, true);
+
+        ResultadoGauss r = cache.solve(new Sistema(A, b));
+        assertSame(r, cache.solve(new Sistema(A, b.clone())));
+        assertNotSame(r, cache.solve(new Sistema(A, vector(rnd, 10))));
+
+        CacheSoluciones.Estadisticas e = cache.getEstadisticas();
+        assertEquals(2, e.aciertos());
+        assertEquals(1, e.fallos());
+        assertEquals(3, e.entradas());
+    }
+
+    /**
+     * Al superar el máximo en bytes se expulsa la matriz usada hace más tiempo.
+     */
+    @Test
+    void evictsLeastRecentlyUsedWhenOverBudget() throws MatrixException {
+        Random rnd = new Random(3);
+        int n = 20;
+        double[][][] As = {cuadrada(rnd, n, n), cuadrada(rnd, n, n), cuadrada(rnd, n, n)};
+        double[] b = vector(rnd, n);
+        long porEntrada = 64 + 8L * n * n + 12L * n;
+        CacheSoluciones cache = new CacheSoluciones(2 * porEntrada);
+
+        cache.solve(new Sistema(As[0], b));
+        cache.solve(new Sistema(As[1], b));
+        cache.solve(new Sistema(As[0], b));     // As[1] pasa a ser la más antigua
+        cache.solve(new Sistema(As[2], b));
+
+        CacheSoluciones.Estadisticas e = cache.getEstadisticas();
+        assertEquals(1, e.expulsiones());
+        assertEquals(2, e.entradas());
+        assertTrue(e.bytes() <= 2 * porEntrada);
+
+        cache.solve(new Sistema(As[0], b));
+        assertEquals(2, cache.getEstadisticas().aciertos());
+        cache.solve(new Sistema(As[1], b));
+        assertEquals(4, cache.getEstadisticas().fallos());
+    }
+
+    /**
+     * Un sistema singular falla con el mismo mensaje que sin caché y no se guarda.
+     */
+    @Test
+    void reportsSingularSystemsLikeSolver() {
+        double[][] A = {{1, 2, 3}, {2, 4, 6}, {1, 0, 1}};
+        double[] b = {1, 3, 1};
+        CacheSoluciones cache = new CacheSoluciones(1 << 20);
+
+        MatrixException esperada = assertThrows(MatrixException.class,
+                () -> GaussSolver.solve(new Sistema(A, b)));
+        MatrixException ex = assertThrows(MatrixException.class, () -> cache.solve(new Sistema(A, b)));
+        assertEquals(esperada.getMessage(), ex.getMessage());
+        assertEquals(0, cache.getEstadisticas().entradas());
+    }
+
+    /**
+     * Una A irregular falla como sin caché, ni al resolver ni al factorizar, y no se guarda.
+     */
+    @Test
+    void reportsMalformedMatrixLikeSolver() {
+        CacheSoluciones cache = new CacheSoluciones(1 << 20);
+        for (double[][] A : new double[][][]{{{2, 1}, {1, 3, 99}}, {{2, 1}, {1}}, {{2, 1}, null}}) {
+            Sistema sistema = new Sistema(A, new double[]{3, 5});
+            MatrixException esperada = assertThrows(MatrixException.class, () -> GaussSolver.solve(sistema));
+            MatrixException ex = assertThrows(MatrixException.class, () -> cache.solve(sistema));
+            assertEquals(esperada.getMessage(), ex.getMessage());
+            assertEquals(esperada.getCausa(), ex.getCausa());
+            assertThrows(MatrixException.class, () -> cache.factorizar(sistema));
+        }
+        assertEquals(0, cache.getEstadisticas().entradas());
+    }
+
+    /**
+     * Varios hilos resolviendo las mismas matrices obtienen siempre su solución.
+     */
+    @Test
+    void isSafeUnderConcurrentAccess() throws Exception {
+        Random rnd = new Random(4);
+        int n = 16;
+        double[][][] As = new double[4][][];
+        for (int i = 0; i < As.length; i++) {
+            As[i] = cuadrada(rnd, n, n);
+        }
+        double[] b = vector(rnd, n);
+        double[][] esperadas = new double[As.length][];
+        for (int i = 0; i < As.length; i++) {
+            esperadas[i] = GaussSolver.solve(new Sistema(As[i], b)).getX();
+        }
+        long porEntrada = 64 + 8L * n * n + 12L * n;
+        CacheSoluciones cache = new CacheSoluciones(3 * porEntrada);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int semilla = t;
+                tareas.add(pool.submit(() -> {
+                    Random r = new Random(semilla);
+                    for (int i = 0; i < 500; i++) {
+                        int a = r.nextInt(As.length);
+                        assertArrayEquals(esperadas[a], cache.solve(new Sistema(As[a], b)).getX(), 1e-12);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : tareas) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        CacheSoluciones.Estadisticas e = cache.getEstadisticas();
+        assertEquals(4000, e.aciertos() + e.fallos());
+        assertTrue(e.bytes() <= 3 * porEntrada);
+        assertTrue(e.entradas() <= 3);
+    }
+}
@@ -0,0 +1,167 @@
+package test;
+
+import exception.MatrixException;
+import logic.Factorizacion;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.MatrizDispersa;
+import logic.ResultadoGauss;
+import logic.Sistema;
+import logic.SistemaDisperso;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.matriz;
+
+/**
+ * Clase de prueba para los diagnósticos de precisión: la estimación del
+ * número de condición, el residuo y el umbral de singularidad relativo.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class DiagnosticosTest {
+
+    private static double[][] hilbert(int n) {
+        double[][] H = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                H[i][j] = 1.0 / (i + j + 1);
+            }
+        }
+        return H;
+    }
+
+    /**
+     * κ₁(A) exacto, con la inversa calculada columna a columna.
+     */
+    private static double condicionExacta(double[][] A) throws MatrixException {
+        int n = A.length;
+        double[][] I = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            I[i][i] = 1.0;
+        }
+        double[][] inv = GaussSolver.factorizar(new Sistema(A)).solve(I);
+        return norma1(A) * norma1(inv);
+    }
+
+    private static double norma1(double[][] A) {
+        double max = 0.0;
+        for (int j = 0; j < A.length; j++) {
+            double suma = 0.0;
+            for (double[] fila : A) {
+                suma += Math.abs(fila[j]);
+            }
+            max = Math.max(max, suma);
+        }
+        return max;
+    }
+
+    private static void assertEstimacion(double exacta, double estimada) {
+        assertTrue(estimada <= exacta * (1 + 1e-6) && estimada >= exacta / 3,
+                "estimada " + estimada + ", exacta " + exacta);
+    }
+
+    /**
+     * La estimación es una cota inferior cercana al valor exacto, tanto en
+     * la vía general como en la de sistemas pequeños y en la factorización.
+     */
+    @Test
+    void estimatesConditionNumber() throws MatrixException {
+        for (double[][] A : new double[][][]{matriz(60, 60, 1), matriz(3, 3, 2), hilbert(8)}) {
+            int n = A.length;
+            ResultadoGauss r = GaussSolver.solveGaussian(A, new double[n]);
+            double exacta = condicionExacta(A);
+
+            assertEstimacion(exacta, r.getCondicion());
+            assertEquals(r.getCondicion(), GaussSolver.factorizar(new Sistema(A)).getCondicion(),
+                    r.getCondicion() * 1e-12);
+        }
+        assertTrue(GaussSolver.solveGaussian(hilbert(8), new double[8]).getCondicion() > 1e9);
+    }
+
+    /**
+     * Los resultados que no conservan la factorización no estiman la condición.
+     */
+    @Test
+    void conditionIsUnavailableWithoutFactors() throws MatrixException {
+        int n = 64;
+        double[][] T = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            T[i][i] = 4;
+            if (i > 0) {
+                T[i][i - 1] = 1;
+            }
+            if (i < n - 1) {
+                T[i][i + 1] = 1;
+            }
+        }
+        assertTrue(Double.isNaN(GaussSolver.solve(new Sistema(T, new double[n])).getCondicion()));
+        assertTrue(Double.isNaN(new ResultadoGauss(new double[][]{{1}}, new double[]{1}, new double[]{1}).getCondicion()));
+    }
+
+    /**
+     * El residuo es del orden del redondeo con la solución y grande con otro sistema.
+     */
+    @Test
+    void computesResidualAgainstOriginalSystem() throws MatrixException {
+        int n = 80;
+        double[][] A = matriz(n, n, 3);
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = i % 3 - 1;
+        }
+        Sistema sistema = new Sistema(A, b);
+        ResultadoGauss r = GaussSolver.solve(sistema);
+        assertTrue(r.getResiduo(sistema) < 1e-12);
+
+        double[] otro = b.clone();
+        otro[0] += 1;
+        assertEquals(1.0, r.getResiduo(new Sistema(A, otro)), 1e-9);
+
+        double[][] B = {{1, 2}, {3, 4}};
+        Sistema varios = new Sistema(new double[][]{{2, 1}, {1, 3}}, B);
+        assertTrue(GaussSolver.solve(varios).getResiduo(varios) < 1e-14);
+
+        MatrizDispersa D = MatrizDispersa.desde(Matriz.desde(A));
+        SistemaDisperso disperso = new SistemaDisperso(D, b);
+        assertTrue(GaussSolver.solve(disperso).getResiduo(disperso) < 1e-12);
+
+        assertThrows(IllegalArgumentException.class, () -> r.getResiduo(new Sistema(new double[][]{{1}}, new double[]{1})));
+    }
+
+    /**
+     * El umbral de singularidad es relativo a la escala de A y configurable.
+     */
+    @Test
+    void singularityThresholdIsRelativeAndConfigurable() throws MatrixException {
+        // Bien condicionada pero diminuta: antes se rechazaba
+        double[][] pequena = {{1e-13, 2e-14, 0}, {0, 3e-13, 1e-14}, {1e-14, 0, 2e-13}};
+        double[] x = GaussSolver.solveGaussian(pequena, new double[]{1e-13, 3e-13, 2e-13}).getX();
+        assertArrayEquals(new double[]{0.8, 1.0, 0.96}, x, 0.05);
+
+        // Singular salvo por el redondeo, a gran escala: antes se aceptaba
+        double[][] grande = {{1e20, 2e20, 3e20}, {4e20, 5e20, 6e20}, {7e20, 8e20, 9e20}};
+        MatrixException ex = assertThrows(MatrixException.class,
+                () -> GaussSolver.solveGaussian(grande, new double[]{1, 2, 3}));
+        assertNotNull(ex.getCausa());
+
+        double[][] casi = {{1, 0}, {0, 1e-3}};
+        GaussSolver.solveGaussian(casi, new double[]{1, 1});
+        double anterior = GaussSolver.getUmbralSingularidad();
+        try {
+            GaussSolver.setUmbralSingularidad(1e-2);
+            ex = assertThrows(MatrixException.class, () -> GaussSolver.solveGaussian(casi, new double[]{1, 1}));
+            // La última fila de U queda por debajo del umbral y su término no
+            assertEquals(MatrixException.Causa.INCOMPATIBLE, ex.getCausa());
+            Factorizacion f = GaussSolver.factorizar(new Sistema(new double[][]{{1, 0}, {0, 0.5}}));
+            assertEquals(2.0, f.getCondicion(), 1e-12);
+        } finally {
+            GaussSolver.setUmbralSingularidad(anterior);
+        }
+        assertEquals(GaussSolver.UMBRAL_SINGULARIDAD, GaussSolver.getUmbralSingularidad());
+        assertThrows(IllegalArgumentException.class, () -> GaussSolver.setUmbralSingularidad(-1));
+        assertThrows(IllegalArgumentException.class, () -> GaussSolver.setUmbralSingularidad(Double.NaN));
+    }
+}
@@ -0,0 +1,166 @@
+package test;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.MatrizDispersa;
+import logic.Sistema;
+import logic.SistemaDisperso;
+import logic.SolverWorkspace;
+import metricas.EventoFase;
+import metricas.EventoResolucion;
+import metricas.MetricasSolver;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.matriz;
+
+/**
+ * Clase de prueba para los eventos JFR de las resoluciones.
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+class EventosJfrTest {
+
+    @TempDir
+    Path dir;
+
+    private List<RecordedEvent> grabar(Duration umbral, Ejecucion ejecucion) throws Exception {
+        try (Recording r = new Recording()) {
+            r.enable(EventoResolucion.NOMBRE).withThreshold(umbral);
+            r.enable(EventoFase.NOMBRE).withThreshold(umbral);
+            r.start();
+            ejecucion.ejecutar();
+            r.stop();
+            Path fichero = dir.resolve("grabacion.jfr");
+            r.dump(fichero);
+            return RecordingFile.readAllEvents(fichero).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("gaussiana."))
+                    .toList();
+        }
+    }
+
+    private interface Ejecucion {
+        void ejecutar() throws Exception;
+    }
+
+    /**
+     * Cada resolución graba su evento, con sus intercambios de filas, y uno por fase.
+     */
+    @Test
+    void recordsSolveAndPhaseEvents() throws Exception {
+        int n = 120;
+        double[][] A = matriz(n, n, n);
+        double[] b = new double[n];
+        long[] intercambios = new long[1];
+
+        List<RecordedEvent> eventos = grabar(Duration.ZERO, () -> {
+            long antes = MetricasSolver.getInstance().getIntercambiosFilas();
+            GaussSolver.solveGaussian(A, b);
+            intercambios[0] = MetricasSolver.getInstance().getIntercambiosFilas() - antes;
+        });
+
+        List<RecordedEvent> resoluciones = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(EventoResolucion.NOMBRE)).toList();
+        assertEquals(1, resoluciones.size());
+        RecordedEvent r = resoluciones.get(0);
+        assertEquals(n, r.getInt("n"));
+        assertEquals(1, r.getInt("terminos"));
+        assertEquals("EliminacionClasica", r.getString("motor"));
+        assertEquals("OK", r.getString("resultado"));
+        assertTrue(intercambios[0] > 0);
+        assertEquals(intercambios[0], r.getInt("intercambios"));
+
+        List<String> fases = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(EventoFase.NOMBRE))
+                .map(e -> e.getString("fase")).toList();
+        assertEquals(List.of("escalado", "eliminacion", "singularidad", "sustitucion"), fases);
+    }
+
+    /**
+     * Las resoluciones en banda, dispersas y en lote graban su evento con su motor.
+     */
+    @Test
+    void recordsBandedSparseAndBatchSolves() throws Exception {
+        int n = 100;
+        double[][] tridiagonal = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            tridiagonal[i][i] = 4;
+            if (i > 0) {
+                tridiagonal[i][i - 1] = -1;
+                tridiagonal[i - 1][i] = -1;
+            }
+        }
+        MatrizDispersa diagonal = MatrizDispersa.desdeTripletas(3, 3,
+                new int[]{0, 1, 2}, new int[]{0, 1, 2}, new double[]{1, 2, 3}, 3);
+        MatrizDispersa singular = MatrizDispersa.desdeTripletas(2, 2,
+                new int[]{0, 1}, new int[]{0, 0}, new double[]{1, 1}, 2);
+
+        List<RecordedEvent> eventos = grabar(Duration.ZERO, () -> {
+            GaussSolver.solve(new Sistema(tridiagonal, new double[n]));
+            GaussSolver.solve(new SistemaDisperso(diagonal, new double[]{1, 1, 1}));
+            assertThrows(MatrixException.class,
+                    () -> GaussSolver.solve(new SistemaDisperso(singular, new double[]{1, 1})));
+            GaussSolver.solveBatch(new double[]{2, 0, 0, 1, 0, 1, 1, 0}, new double[]{1, 1, 1, 1}, 2, 2);
+        });
+
+        List<String> resoluciones = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(EventoResolucion.NOMBRE))
+                .map(e -> e.getString("motor") + " " + e.getInt("n") + " " + e.getInt("terminos")
+                        + " " + e.getInt("intercambios") + " " + e.getString("resultado"))
+                .toList();
+        assertEquals(List.of("SolverBanda 100 1 0 OK", "SolverDisperso 3 1 -1 OK",
+                "SolverDisperso 2 1 -1 " + MatrixException.Causa.PIVOTE_NULO.name(), "SolverLote 2 2 1 OK"),
+                resoluciones);
+    }
+
+    /**
+     * Los sistemas pequeños (como los de la ventana) graban sus intercambios
+     * de filas igual que la vía general.
+     */
+    @Test
+    void recordsRowSwapsOfSmallSystems() throws Exception {
+        double[][] antidiagonal = {{0, 0, 0, 1}, {0, 0, 1, 0}, {0, 1, 0, 0}, {1, 0, 0, 0}};
+        List<RecordedEvent> eventos = grabar(Duration.ZERO, () -> {
+            GaussSolver.solve(new Sistema(antidiagonal, new double[]{1, 2, 3, 4}));
+            GaussSolver.solveInto(antidiagonal, new double[]{1, 2, 3, 4}, new double[4], new SolverWorkspace(4));
+        });
+
+        List<RecordedEvent> resoluciones = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(EventoResolucion.NOMBRE)).toList();
+        assertEquals(2, resoluciones.size());
+        for (RecordedEvent r : resoluciones) {
+            assertEquals(4, r.getInt("n"));
+            assertEquals(2, r.getInt("intercambios"));
+        }
+    }
+
+    /**
+     * Un fallo se graba con su causa; con el umbral, las resoluciones rápidas no.
+     */
+    @Test
+    void recordsFailuresAndHonoursThreshold() throws Exception {
+        List<RecordedEvent> eventos = grabar(Duration.ZERO, () -> assertThrows(MatrixException.class,
+                () -> GaussSolver.solve(new Sistema(new double[][]{{1, 2}, {0, 0}}, new double[]{1, 1}))));
+        RecordedEvent fallo = eventos.stream()
+                .filter(e -> e.getEventType().getName().equals(EventoResolucion.NOMBRE)).findFirst().orElseThrow();
+        assertEquals(2, fallo.getInt("n"));
+        assertEquals(MatrixException.Causa.FILA_NULA.name(), fallo.getString("resultado"));
+
+        eventos = grabar(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 100; i++) {
+                GaussSolver.solveGaussian(matriz(8, 8, 8), new double[8]);
+            }
+        });
+        assertTrue(eventos.isEmpty());
+    }
+}
@@ -0,0 +1,102 @@
+package test;
+
+import exception.MatrixException;
+import logic.EliminacionPorBloques;
+import logic.Factorizacion;
+import logic.GaussSolver;
+import logic.Sistema;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la factorización LU reutilizable.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+class FactorizacionTest {
+
+    private static final double[][] A = {
+            {1e-12, 1, 0, 0},
+            {1,     4, 1, 0},
+            {0,     1, 4, 1},
+            {0,     0, 1, 3}
+    };
+
+    /**
+     * Una misma factorización resuelve varios términos independientes
+     * con el mismo resultado que la eliminación completa.
+     */
+    @Test
+    void solvesSeveralRightHandSidesWithOneFactorization() throws MatrixException {
+        Factorizacion f = GaussSolver.factorizar(new Sistema(A));
+
+        double[][] bs = {
+                {2 + 1e-12, 12, 18, 15},
+                {1, 0, 0, 0},
+                {-3, 5, 7, 2.5}
+        };
+        for (double[] b : bs) {
+            assertArrayEquals(GaussSolver.solveGaussian(A, b).getX(), f.solve(b), 1e-9);
+        }
+    }
+
+    /**
+     * La versión matricial coincide columna a columna con la vectorial.
+     */
+    @Test
+    void solvesMatrixOfRightHandSides() throws MatrixException {
+        Factorizacion f = GaussSolver.factorizar(new Sistema(A), new EliminacionPorBloques(2));
+
+        double[][] B = {
+                {2 + 1e-12, 1},
+                {12,        0},
+                {18,        0},
+                {15,        0}
+        };
+        double[][] X = f.solve(B);
+
+        assertArrayEquals(new double[]{1, 2, 3, 4},
+                new double[]{X[0][0], X[1][0], X[2][0], X[3][0]}, 1e-6);
+        double[] x1 = f.solve(new double[]{1, 0, 0, 0});
+        for (int i = 0; i < 4; i++) {
+            assertEquals(x1[i], X[i][1], 1e-12);
+        }
+    }
+
+    @Test
+    void throwsExceptionForSingularMatrix() {
+        double[][] singular = {
+                {1, 2},
+                {2, 4}
+        };
+        assertThrows(MatrixException.class, () -> GaussSolver.factorizar(new Sistema(singular)));
+    }
+
+    /**
+     * Una A irregular se rechaza como en la resolución, sin recortar ni salirse de las filas.
+     */
+    @Test
+    void rejectsRaggedMatrix() {
+        double[][][] irregulares = {
+                {{2, 1}, {1, 3, 99}},
+                {{2, 1, 0}, {1, 3}, {0, 1, 2}},
+                {{2, 1}, null}
+        };
+        for (double[][] A : irregulares) {
+            assertThrows(MatrixException.class, () -> GaussSolver.solve(new Sistema(A, new double[A.length])));
+            assertThrows(MatrixException.class, () -> GaussSolver.factorizar(new Sistema(A)));
+        }
+    }
+
+    @Test
+    void throwsExceptionForMismatchedRightHandSide() throws MatrixException {
+        Factorizacion f = GaussSolver.factorizar(new Sistema(A));
+        assertThrows(MatrixException.class, () -> f.solve(new double[]{1, 2, 3}));
+        assertThrows(MatrixException.class, () -> f.solve(new double[][]{null, {1}, {2}, {3}}));
+        assertThrows(MatrixException.class, () -> f.solve(new double[][]{{1}, null, {2}, {3}}));
+        assertThrows(MatrixException.class, () -> f.solve(new double[][]{{1}, {1, 2}, {2}, {3}}));
+    }
+}
@@ -0,0 +1,132 @@
+package test;
+
+import exception.InputException;
+import exception.MatrixException;
+import io.EscritorBinario;
+import io.FormatoBinario;
+import io.LectorBinario;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.ResultadoGauss;
+import logic.Sistema;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la lectura y escritura del formato binario.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class FormatoBinarioTest {
+
+    @TempDir
+    Path dir;
+
+    private final double[][] A = {
+            {2, 1, -1, 3},
+            {-3, -1, 2, 1},
+            {-2, 1, 2, 0},
+            {1, 2, 3, 4}
+    };
+    private final double[][] B = {
+            {8, 5},
+            {-11, -1},
+            {-3, 1},
+            {4, 10}
+    };
+
+    @Test
+    void writesAndReadsSystemAsAugmentedMatrix() throws IOException, InputException, MatrixException {
+        Path f = dir.resolve("sistema.gaus");
+        EscritorBinario.escribir(f, new Sistema(A, B));
+
+        FormatoBinario.Cabecera c = LectorBinario.leerCabecera(f);
+        assertEquals(4, c.n());
+        assertEquals(2, c.k());
+        assertEquals(FormatoBinario.TAM_CABECERA + 4 * 6 * 8, Files.size(f));
+
+        Matriz M = LectorBinario.leerAumentada(f);
+        assertArrayEquals(new double[]{2, 1, -1, 3, 8, 5}, M.toArray()[0]);
+
+        ResultadoGauss enSitio = GaussSolver.solveInPlace(M);
+        ResultadoGauss esperado = GaussSolver.solveGaussian(A, B);
+        double[][] x = esperado.getSoluciones();
+        double[][] obtenida = enSitio.getSoluciones();
+        for (int i = 0; i < 4; i++) {
+            assertArrayEquals(x[i], obtenida[i], 1e-12);
+        }
+    }
+
+    @Test
+    void readsSystemWithRightHandSides() throws IOException, InputException {
+        Path f = dir.resolve("sistema.gaus");
+        EscritorBinario.escribir(f, new Sistema(A, B));
+
+        Sistema s = LectorBinario.leerSistema(f);
+
+        assertEquals(2, s.getNumTerminos());
+        assertArrayEquals(A[3], s.getA()[3]);
+        assertArrayEquals(new double[]{8, -11, -3, 4}, s.getB());
+    }
+
+    @Test
+    void writesAndReadsResult() throws IOException, InputException, MatrixException {
+        ResultadoGauss r = GaussSolver.solveGaussian(A, B);
+        Path f = dir.resolve("resultado.gaus");
+
+        EscritorBinario.escribir(f, r);
+        ResultadoGauss leido = LectorBinario.leerResultado(f);
+
+        for (int i = 0; i < 4; i++) {
+            assertArrayEquals(r.getU()[i], leido.getU()[i]);
+            assertArrayEquals(r.getSoluciones()[i], leido.getSoluciones()[i]);
+        }
+        assertArrayEquals(r.getbMod(), leido.getbMod());
+    }
+
+    /**
+     * Un fichero escrito en big endian se lee igual en cualquier máquina.
+     */
+    @Test
+    void readsBigEndianFile() throws IOException, InputException {
+        ByteBuffer buf = ByteBuffer.allocate(FormatoBinario.TAM_CABECERA + 2 * 3 * 8)
+                .order(ByteOrder.BIG_ENDIAN);
+        buf.put(new byte[]{'G', 'A', 'U', 'S', 1, 'B', 8, 0});
+        buf.putInt(2).putInt(1);
+        buf.position(FormatoBinario.TAM_CABECERA);
+        buf.putDouble(1).putDouble(2).putDouble(3).putDouble(4).putDouble(5).putDouble(6);
+        Path f = dir.resolve("be.gaus");
+        Files.write(f, buf.array());
+
+        Matriz M = LectorBinario.leerAumentada(f);
+
+        assertArrayEquals(new double[]{4, 5, 6}, M.toArray()[1]);
+    }
+
+    @Test
+    void rejectsWrongSignatureAndTruncatedFile() throws IOException {
+        Path f = dir.resolve("sistema.gaus");
+        EscritorBinario.escribir(f, new Sistema(A, B));
+        byte[] bytes = Files.readAllBytes(f);
+
+        Path truncado = dir.resolve("truncado.gaus");
+        Files.write(truncado, Arrays.copyOf(bytes, bytes.length - 8));
+        assertThrows(InputException.class, () -> LectorBinario.leerAumentada(truncado));
+
+        bytes[0] = 'X';
+        Path firma = dir.resolve("firma.gaus");
+        Files.write(firma, bytes);
+        assertThrows(InputException.class, () -> LectorBinario.leerAumentada(firma));
+    }
+}
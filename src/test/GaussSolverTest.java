@@ -3,6 +3,7 @@ package test;
 import exception.MatrixException;
 import logic.GaussSolver;
 import logic.ResultadoGauss;
+import logic.Sistema;
 
 import org.junit.jupiter.api.Test;
 
@@ -178,5 +179,78 @@ class GaussSolverTest {
 	    assertThrows(MatrixException.class, () -> GaussSolver.solveGaussian(A, b));
 	}
 
-}
+    /**
+     * Prueba la resolución de AX = B con varios términos independientes
+     * en una sola eliminación.
+     *
+     * CE-08: Varios términos independientes.
+     *
+     * @throws MatrixException
+     */
+    @Test
+    void solves4x4SystemWithSeveralRightHandSides() throws MatrixException {
+        double[][] A = {
+                {4, 1, 0, 0},
+                {1, 4, 1, 0},
+                {0, 1, 4, 1},
+                {0, 0, 1, 3}
+        };
+        double[][] B = {
+                {6,  5},
+                {12, 6},
+                {18, 6},
+                {15, 4}
+        };
+
+        ResultadoGauss result = GaussSolver.solveGaussian(A, B);
+        double[][] X = result.getSoluciones();
 
+        assertEquals(2, result.getNumTerminos());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i + 1, X[i][0], 1e-6);
+            assertEquals(1, X[i][1], 1e-6);
+        }
+        assertArrayEquals(new double[]{1, 2, 3, 4}, result.getX(), 1e-6);
+    }
+
+    /**
+     * Prueba que se detecta un sistema incompatible en cualquiera de los
+     * términos independientes.
+     *
+     * CE-08: Varios términos independientes.
+     */
+    @Test
+    void throwsExceptionForIncompatibleRightHandSideColumn() {
+        double[][] A = {
+                {1, 1},
+                {1, 1}
+        };
+        double[][] B = {
+                {2, 1},
+                {2, 3}
+        };
+
+        assertThrows(MatrixException.class, () -> GaussSolver.solveGaussian(A, B));
+    }
+
+    /**
+     * Prueba que una A o una B irregulares se rechazan en lugar de recortarse.
+     *
+     * CE-08: Varios términos independientes.
+     */
+    @Test
+    void rejectsRaggedMatricesWithSeveralRightHandSides() {
+        double[][] B = {{3, 1}, {5, 2}};
+        assertThrows(MatrixException.class,
+                () -> GaussSolver.solve(new Sistema(new double[][]{{2, 1}, {1, 3, 99}}, B)));
+        assertThrows(MatrixException.class,
+                () -> GaussSolver.solve(new Sistema(new double[][]{{2, 1}, {1}}, B)));
+
+        double[][] A = {{2, 1}, {1, 3}};
+        for (double[][] irregular : new double[][][]{{{3}, {5, 9}}, {{3, 1}, {5}}, {{3}, null}}) {
+            assertThrows(IllegalArgumentException.class, () -> new Sistema(A, irregular));
+            assertThrows(MatrixException.class, () -> GaussSolver.solveGaussian(A, irregular));
+        }
+    }
+
+}
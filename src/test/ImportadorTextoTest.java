@@ -0,0 +1,240 @@
+package test;
+
+import exception.InputException;
+import exception.MatrixException;
+import io.EscritorBinario;
+import io.ImportadorTexto;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.Sistema;
+import logic.SistemaDisperso;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la importación de ficheros CSV y MatrixMarket.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class ImportadorTextoTest {
+
+    @TempDir
+    Path dir;
+
+    private Path fichero(String nombre, String contenido) throws IOException {
+        Path f = dir.resolve(nombre);
+        Files.writeString(f, contenido, StandardCharsets.US_ASCII);
+        return f;
+    }
+
+    @Test
+    void readsCsvWithMixedSeparatorsAndComments() throws IOException, InputException, MatrixException {
+        Path f = dir.resolve("sistema.csv");
+        byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+        String texto = "# sistema de prueba\r\n"
+                + "2, 1, -1, 8\r\n"
+                + "\r\n"
+                + "-3;-1;2;-11\r\n"
+                + "  -2\t1 2   -3\r\n";
+        Files.write(f, bom);
+        Files.writeString(f, texto, StandardCharsets.US_ASCII, java.nio.file.StandardOpenOption.APPEND);
+
+        Sistema s = ImportadorTexto.leerCsv(f);
+
+        assertArrayEquals(new double[]{-3, -1, 2}, s.getA()[1]);
+        assertArrayEquals(new double[]{8, -11, -3}, s.getB());
+        double[] x = GaussSolver.solve(s).getX();
+        assertArrayEquals(new double[]{2, 3, -1}, x, 1e-12);
+    }
+
+    /**
+     * Los números escritos con {@link Double#toString} se leen sin perder ningún bit.
+     */
+    @Test
+    void roundTripsDoublesExactly() throws IOException, InputException {
+        Random r = new Random(7);
+        int n = 60;
+        double[][] A = new double[n][n + 1];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j <= n; j++) {
+                A[i][j] = switch ((i + j) % 4) {
+                    case 0 -> r.nextGaussian();
+                    case 1 -> r.nextDouble() * Math.pow(10, r.nextInt(80) - 40);
+                    case 2 -> Double.longBitsToDouble(r.nextLong() & 0x7FEF_FFFF_FFFF_FFFFL);
+                    default -> -r.nextInt(1000) / 8.0;
+                };
+                sb.append(j == 0 ? "" : ",").append(A[i][j]);
+            }
+            sb.append('\n');
+        }
+
+        Matriz M = ImportadorTexto.leerCsvAumentada(fichero("exacto.csv", sb.toString()));
+
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(A[i], M.toArray()[i]);
+        }
+    }
+
+    @Test
+    void reportsLineAndColumnOfInvalidNumber() throws IOException {
+        Path f = fichero("malo.csv", "1,2,3\n# comentario\n4, 5x,6\n");
+
+        InputException ex = assertThrows(InputException.class, () -> ImportadorTexto.leerCsv(f));
+
+        assertEquals(3, ex.getLinea());
+        assertEquals(4, ex.getColumna());
+        assertTrue(ex.getMessage().contains("5x"), ex.getMessage());
+    }
+
+    @Test
+    void rejectsRowsWithDifferentLengthAndEmptyFields() throws IOException {
+        Path cortas = fichero("cortas.csv", "1,2,3\n4,5\n");
+        InputException ex = assertThrows(InputException.class, () -> ImportadorTexto.leerCsv(cortas));
+        assertEquals(2, ex.getLinea());
+
+        Path vacio = fichero("vacio.csv", "1,2,3\n4,,6\n");
+        ex = assertThrows(InputException.class, () -> ImportadorTexto.leerCsv(vacio));
+        assertEquals(2, ex.getLinea());
+        assertEquals(3, ex.getColumna());
+
+        Path ancha = fichero("ancha.csv", "1,2\n3,4\n5,6\n");
+        assertThrows(InputException.class, () -> ImportadorTexto.leerCsv(ancha));
+    }
+
+    /**
+     * Un fichero de varios trozos se junta en orden y los errores de un trozo
+     * posterior llevan la línea absoluta.
+     */
+    @Test
+    void parsesSeveralChunksInOrder() throws IOException, InputException, MatrixException {
+        int n = 400;
+        Random r = new Random(3);
+        double[][] A = new double[n][n];
+        double[] b = new double[n];
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                A[i][j] = r.nextDouble() + (i == j ? n : 0);
+                sb.append(A[i][j]).append(',');
+            }
+            b[i] = r.nextDouble();
+            sb.append(b[i]).append('\n');
+        }
+        assertTrue(sb.length() > 1 << 21, "el fichero debe ocupar varios trozos");
+
+        Sistema s = ImportadorTexto.leerCsv(fichero("grande.csv", sb.toString()));
+        assertArrayEquals(A[n - 1], s.getA()[n - 1]);
+        assertArrayEquals(b, s.getB());
+        assertArrayEquals(GaussSolver.solveGaussian(A, b).getX(), GaussSolver.solve(s).getX(), 1e-12);
+
+        int corte = sb.length() - 3 * (sb.length() / n);      // principio de una de las últimas filas
+        int inicioFila = sb.lastIndexOf("\n", corte) + 1;
+        sb.replace(inicioFila, inicioFila + 1, "?");
+        Path malo = fichero("grande-malo.csv", sb.toString());
+        long linea = sb.substring(0, inicioFila).chars().filter(c -> c == '\n').count() + 1;
+
+        InputException ex = assertThrows(InputException.class, () -> ImportadorTexto.leerCsv(malo));
+        assertEquals(linea, ex.getLinea());
+        assertEquals(1, ex.getColumna());
+    }
+
+    @Test
+    void readsSymmetricCoordinateMatrixMarketAsSparse() throws IOException, InputException, MatrixException {
+        Path f = fichero("a.mtx", """
+                %%MatrixMarket matrix coordinate real symmetric
+                % solo el triangulo inferior
+                3 3 5
+                1 1 4.0
+                2 1 -1
+                2 2 4
+                3 2 -1
+                3 3 4
+                """);
+        Path b = fichero("b.mtx", """
+                %%MatrixMarket matrix array real general
+                3 1
+                0
+                0
+                1e1
+                """);
+
+        Sistema s = ImportadorTexto.leerMatrixMarket(f, b);
+
+        SistemaDisperso d = assertInstanceOf(SistemaDisperso.class, s);
+        assertEquals(7, d.getMatrizDispersa().getNnz());
+        assertArrayEquals(new double[]{-1, 4, -1}, s.getA()[1]);
+        assertArrayEquals(new double[]{0, 0, 10}, s.getB());
+        double[] esperado = GaussSolver.solveGaussian(s.getA(), s.getB()).getX();
+        assertArrayEquals(esperado, GaussSolver.solve(s).getX(), 1e-12);
+    }
+
+    @Test
+    void readsArrayMatrixMarketWithSeparateRightHandSide() throws IOException, InputException {
+        Path a = fichero("a.mtx", """
+                %%MatrixMarket matrix array real general
+                2 2
+                1
+                3
+                2
+                4
+                """);
+        Path b = fichero("b.csv", "5\n6\n");
+
+        Sistema s = ImportadorTexto.leerMatrixMarket(a, b);
+
+        assertArrayEquals(new double[]{1, 2}, s.getA()[0]);
+        assertArrayEquals(new double[]{3, 4}, s.getA()[1]);
+        assertArrayEquals(new double[]{5, 6}, s.getB());
+    }
+
+    @Test
+    void reportsMatrixMarketErrors() throws IOException {
+        Path indice = fichero("indice.mtx", """
+                %%MatrixMarket matrix coordinate real general
+                2 2 2
+                1 1 1.0
+                1  3 2.0
+                """);
+        InputException ex = assertThrows(InputException.class, () -> ImportadorTexto.leerMatrixMarket(indice));
+        assertEquals(4, ex.getLinea());
+        assertEquals(4, ex.getColumna());
+
+        Path cuenta = fichero("cuenta.mtx", """
+                %%MatrixMarket matrix coordinate real general
+                2 2 3
+                1 1 1.0
+                2 2 2.0
+                """);
+        assertThrows(InputException.class, () -> ImportadorTexto.leerMatrixMarket(cuenta));
+
+        Path complejo = fichero("complejo.mtx", "%%MatrixMarket matrix coordinate complex general\n1 1 0\n");
+        ex = assertThrows(InputException.class, () -> ImportadorTexto.leerMatrixMarket(complejo));
+        assertEquals(1, ex.getLinea());
+    }
+
+    @Test
+    void importDetectsFormatFromContent() throws IOException, InputException {
+        double[][] A = {{4, 1}, {1, 3}};
+        double[] b = {1, 2};
+        Path bin = dir.resolve("sistema.dat");
+        EscritorBinario.escribir(bin, new Sistema(A, b));
+        Path mm = fichero("sistema.txt", "%%MatrixMarket matrix array real symmetric\n2 3\n4\n1\n3\n");
+        Path csv = fichero("sistema.mtx", "4 1 1\n1 3 2\n");
+
+        assertArrayEquals(b, ImportadorTexto.importar(bin).getB());
+        assertThrows(InputException.class, () -> ImportadorTexto.importar(mm));
+        assertArrayEquals(A[1], ImportadorTexto.importar(csv).getA()[1]);
+        assertArrayEquals(b, ImportadorTexto.importar(csv).getB());
+    }
+}
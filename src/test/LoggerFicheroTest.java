@@ -0,0 +1,155 @@
+package test;
+
+import config.LoggerFichero;
+import config.LoggerFichero.Nivel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para los niveles del logger.
+ *
+ * @author Anabel Diaz
+ * @version 1.3 - 17/10/2026
+ */
+class LoggerFicheroTest {
+
+    private final LoggerFichero log = LoggerFichero.getInstance();
+    private Nivel nivelOriginal;
+
+    @BeforeEach
+    void guardarNivel() {
+        nivelOriginal = log.getNivel();
+    }
+
+    @AfterEach
+    void restaurarNivel() {
+        log.setNivel(nivelOriginal);
+    }
+
+    @Test
+    void enablesOnlyLevelsAtOrAboveThreshold() {
+        log.setNivel(Nivel.WARN);
+
+        assertFalse(log.isEnabled(Nivel.DEBUG));
+        assertFalse(log.isEnabled(Nivel.INFO));
+        assertTrue(log.isEnabled(Nivel.WARN));
+        assertTrue(log.isEnabled(Nivel.ERROR));
+
+        log.setNivel(Nivel.OFF);
+        assertFalse(log.isEnabled(Nivel.ERROR));
+        assertFalse(log.isEnabled(Nivel.OFF));
+    }
+
+    /**
+     * Un mensaje de un nivel desactivado no llega a construirse.
+     */
+    @Test
+    void doesNotEvaluateSupplierForDisabledLevel() {
+        AtomicInteger llamadas = new AtomicInteger();
+        log.setNivel(Nivel.ERROR);
+
+        log.info(() -> "info " + llamadas.incrementAndGet());
+        log.debug(() -> "debug " + llamadas.incrementAndGet());
+        assertEquals(0, llamadas.get());
+
+        log.error(() -> "error " + llamadas.incrementAndGet());
+        assertEquals(1, llamadas.get());
+    }
+
+    /**
+     * Una plantilla con dos argumentos rellena ambos huecos, y en un nivel
+     * desactivado no los formatea.
+     */
+    @Test
+    void formatsTwoArgumentTemplatesOnlyWhenEnabled() throws InterruptedException {
+        CountDownLatch formateados = new CountDownLatch(2);
+        AtomicInteger llamadas = new AtomicInteger();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                llamadas.incrementAndGet();
+                formateados.countDown();
+                return "arg";
+            }
+        };
+
+        log.setNivel(Nivel.WARN);
+        log.info("{} ficheros con {} hilos", arg, arg);
+        log.debug("{} y {}", arg, arg);
+
+        log.setNivel(Nivel.INFO);
+        log.info("{} ficheros con {} hilos", arg, arg);
+        assertTrue(formateados.await(5, TimeUnit.SECONDS));
+        assertEquals(2, llamadas.get());
+    }
+
+    /**
+     * Una plantilla con un argumento y una excepción registra ambos, y en un
+     * nivel desactivado no formatea ninguno.
+     */
+    @Test
+    void formatsTemplateWithExceptionOnlyWhenEnabled() throws InterruptedException {
+        CountDownLatch formateados = new CountDownLatch(2);
+        AtomicInteger llamadas = new AtomicInteger();
+        Object arg = new Object() {
+            @Override
+            public String toString() {
+                llamadas.incrementAndGet();
+                formateados.countDown();
+                return "arg";
+            }
+        };
+        Exception error = new Exception() {
+            @Override
+            public String getMessage() {
+                llamadas.incrementAndGet();
+                formateados.countDown();
+                return "causa";
+            }
+        };
+
+        log.setNivel(Nivel.OFF);
+        log.error("Error al resolver {}", arg, error);
+        assertEquals(0, llamadas.get());
+
+        log.setNivel(Nivel.INFO);
+        log.error("Error al resolver {}", arg, error);
+        assertTrue(formateados.await(5, TimeUnit.SECONDS));
+        assertEquals(2, llamadas.get());
+    }
+
+    /**
+     * Un argumento cuyo toString() lanza una excepción no detiene al escritor:
+     * las líneas siguientes se siguen formateando.
+     */
+    @Test
+    void keepsWritingAfterArgumentFailsToFormat() throws InterruptedException {
+        log.setNivel(Nivel.INFO);
+        CountDownLatch formateado = new CountDownLatch(1);
+        Object roto = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("roto");
+            }
+        };
+        Object siguiente = new Object() {
+            @Override
+            public String toString() {
+                formateado.countDown();
+                return "siguiente";
+            }
+        };
+
+        assertDoesNotThrow(() -> log.info("argumento {}", roto));
+        log.info("argumento {}", siguiente);
+        assertTrue(formateado.await(5, TimeUnit.SECONDS));
+    }
+}
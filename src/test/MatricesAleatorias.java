@@ -0,0 +1,59 @@
+package test;
+
+import java.util.Random;
+
+/**
+ * Matrices y vectores pseudoaleatorios para las pruebas: los coeficientes
+ * están en [-1, 1) y los términos independientes en [-5, 5). Con la misma
+ * semilla se obtienen siempre los mismos valores.
+ *
+ * Las variantes con {@code desplazamiento} lo suman a la diagonal; con un
+ * desplazamiento del orden de n la matriz es diagonal dominante y está bien
+ * condicionada.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+final class MatricesAleatorias {
+
+    private MatricesAleatorias() {
+    }
+
+    static double[][] matriz(Random rnd, int filas, int columnas) {
+        double[][] A = new double[filas][columnas];
+        for (int i = 0; i < filas; i++) {
+            for (int j = 0; j < columnas; j++) {
+                A[i][j] = rnd.nextDouble() * 2 - 1;
+            }
+        }
+        return A;
+    }
+
+    static double[][] matriz(int filas, int columnas, long semilla) {
+        return matriz(new Random(semilla), filas, columnas);
+    }
+
+    static double[][] cuadrada(Random rnd, int n, double desplazamiento) {
+        double[][] A = matriz(rnd, n, n);
+        for (int i = 0; i < n; i++) {
+            A[i][i] += desplazamiento;
+        }
+        return A;
+    }
+
+    static double[][] cuadrada(int n, long semilla, double desplazamiento) {
+        return cuadrada(new Random(semilla), n, desplazamiento);
+    }
+
+    static double[] vector(Random rnd, int n) {
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = rnd.nextDouble() * 10 - 5;
+        }
+        return b;
+    }
+
+    static double[] vector(int n, long semilla) {
+        return vector(new Random(semilla), n);
+    }
+}
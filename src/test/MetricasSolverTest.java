@@ -0,0 +1,213 @@
+package test;
+
+import exception.MatrixException;
+import logic.Factorizacion;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.MatrizDispersa;
+import logic.Sistema;
+import logic.SistemaDisperso;
+import logic.SolverBanda;
+import metricas.Histograma;
+import metricas.MetricasSolver;
+import metricas.MetricasSolver.Fase;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el registro de métricas del solver. El registro es
+ * global, así que se comprueban incrementos y no valores absolutos.
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+class MetricasSolverTest {
+
+    private static final MetricasSolver METRICAS = MetricasSolver.getInstance();
+
+    /**
+     * Los percentiles se obtienen con un error relativo menor del 3 %.
+     */
+    @Test
+    void histogramReportsPercentilesWithinBucketPrecision() {
+        Histograma h = new Histograma();
+        for (long v = 1; v <= 100_000; v++) {
+            h.registrar(v * 10);
+        }
+
+        assertEquals(100_000, h.getCuenta());
+        assertEquals(1_000_000, h.getMaximo());
+        assertEquals(500_000, h.percentil(0.5), 500_000 * 0.03);
+        assertEquals(990_000, h.percentil(0.99), 990_000 * 0.03);
+        assertEquals(1_000_000, h.percentil(1.0));
+        assertEquals(10, h.percentil(0.0));
+
+        h.reiniciar();
+        assertEquals(0, h.getCuenta());
+        assertEquals(0, h.percentil(0.5));
+    }
+
+    /**
+     * Una resolución grande se cuenta, se mide por fases y cuenta sus intercambios.
+     */
+    @Test
+    void recordsSolvesPhasesAndRowSwaps() throws MatrixException {
+        int n = MetricasSolver.N_SIEMPRE + 36;
+        Random rnd = new Random(5);
+        double[][] A = new double[n][n];
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = rnd.nextDouble();
+            for (int j = 0; j < n; j++) {
+                A[i][j] = rnd.nextDouble();
+            }
+        }
+
+        long resoluciones = METRICAS.getResoluciones(n);
+        long medidas = METRICAS.getLatencias(n).getCuenta();
+        long eliminacion = METRICAS.getNanosFase(Fase.ELIMINACION);
+        long intercambios = METRICAS.getIntercambiosFilas();
+
+        GaussSolver.solveGaussian(A, b).getMatrizU();
+
+        assertEquals(resoluciones + 1, METRICAS.getResoluciones(n));
+        assertEquals(medidas + 1, METRICAS.getLatencias(n).getCuenta());
+        assertTrue(METRICAS.getNanosFase(Fase.ELIMINACION) > eliminacion);
+        assertTrue(METRICAS.getIntercambiosFilas() > intercambios);
+        assertTrue(METRICAS.texto().contains("gauss_fase_segundos_count{fase=\"extraccion\"}"));
+    }
+
+    /**
+     * Los sistemas pequeños se cuentan uno a uno, aunque solo se mida el tiempo
+     * de algunos, y sus intercambios de filas se cuentan como en la vía general.
+     */
+    @Test
+    void countsEverySmallSolveAndItsRowSwaps() throws MatrixException {
+        // Dos intercambios por resolución: filas 0 y 3, y después 1 y 2
+        double[][] A = {{0, 0, 0, 1}, {0, 0, 1, 0}, {0, 1, 0, 0}, {1, 0, 0, 0}};
+        double[] b = {1, 2, 3, 4};
+        int veces = 100;
+
+        long resoluciones = METRICAS.getResoluciones(4);
+        long medidas = METRICAS.getLatencias(4).getCuenta();
+        long intercambios = METRICAS.getIntercambiosFilas();
+        for (int i = 0; i < veces; i++) {
+            GaussSolver.solveGaussian(A, b);
+        }
+
+        assertEquals(resoluciones + veces, METRICAS.getResoluciones(4));
+        assertEquals(intercambios + 2L * veces, METRICAS.getIntercambiosFilas());
+        assertTrue(METRICAS.getLatencias(4).getCuenta() - medidas <= veces);
+    }
+
+    /**
+     * Las resoluciones en banda, dispersas y en lote se cuentan como las densas,
+     * y también los fallos de sus comprobaciones.
+     */
+    @Test
+    void countsBandedSparseAndBatchSolves() {
+        int n = 100;
+        double[][] tridiagonal = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            tridiagonal[i][i] = 4;
+            if (i > 0) {
+                tridiagonal[i][i - 1] = -1;
+                tridiagonal[i - 1][i] = -1;
+            }
+        }
+        long resoluciones = METRICAS.getResoluciones(n);
+        assertDoesNotThrow(() -> GaussSolver.solve(new Sistema(tridiagonal, new double[n])));
+        assertEquals(resoluciones + 1, METRICAS.getResoluciones(n));
+
+        MatrizDispersa diagonal = MatrizDispersa.desdeTripletas(3, 3,
+                new int[]{0, 1, 2}, new int[]{0, 1, 2}, new double[]{1, 2, 3}, 3);
+        resoluciones = METRICAS.getResoluciones(3);
+        assertDoesNotThrow(() -> GaussSolver.solve(new SistemaDisperso(diagonal, new double[]{1, 1, 1})));
+        assertEquals(resoluciones + 1, METRICAS.getResoluciones(3));
+
+        int count = 20;
+        double[] packedA = new double[4 * count];
+        double[] packedB = new double[2 * count];
+        for (int s = 0; s < count; s++) {
+            packedA[4 * s] = 2;
+            packedA[4 * s + 3] = 1;
+            packedB[2 * s] = s;
+        }
+        resoluciones = METRICAS.getResoluciones(2);
+        assertDoesNotThrow(() -> GaussSolver.solveBatch(packedA, packedB, 2, count));
+        assertEquals(resoluciones + count, METRICAS.getResoluciones(2));
+
+        long datos = METRICAS.getFallos(MatrixException.Causa.DATOS_NO_VALIDOS);
+        assertThrows(MatrixException.class, () -> SolverBanda.solve(new Sistema(new Matriz(2, 2), (Matriz) null), 1, 1));
+        assertThrows(MatrixException.class, () -> GaussSolver.solve(new SistemaDisperso(
+                MatrizDispersa.desdeTripletas(2, 3, new int[]{0}, new int[]{0}, new double[]{1}, 1), new double[2])));
+        assertThrows(MatrixException.class, () -> GaussSolver.solveBatch(null, packedB, 2, count));
+        assertEquals(datos + 3, METRICAS.getFallos(MatrixException.Causa.DATOS_NO_VALIDOS));
+    }
+
+    /**
+     * Cada fallo se cuenta con su causa.
+     */
+    @Test
+    void countsFailuresByCause() {
+        long datos = METRICAS.getFallos(MatrixException.Causa.DATOS_NO_VALIDOS);
+        long incompatibles = METRICAS.getFallos(MatrixException.Causa.INCOMPATIBLE);
+        long filasNulas = METRICAS.getFallos(MatrixException.Causa.FILA_NULA);
+
+        MatrixException ex = assertThrows(MatrixException.class,
+                () -> GaussSolver.solveGaussian((double[][]) null, new double[1]));
+        assertEquals(MatrixException.Causa.DATOS_NO_VALIDOS, ex.getCausa());
+
+        ex = assertThrows(MatrixException.class, () -> GaussSolver.solve(new Sistema(
+                new double[][]{{1, 2, 3}, {2, 4, 6}, {1, 0, 1}}, new double[]{1, 3, 1})));
+        assertEquals(MatrixException.Causa.INCOMPATIBLE, ex.getCausa());
+
+        ex = assertThrows(MatrixException.class, () -> GaussSolver.solve(new Sistema(
+                new double[][]{{1, 2}, {0, 0}}, new double[]{1, 1})));
+        assertEquals(MatrixException.Causa.FILA_NULA, ex.getCausa());
+
+        assertEquals(datos + 1, METRICAS.getFallos(MatrixException.Causa.DATOS_NO_VALIDOS));
+        assertEquals(incompatibles + 1, METRICAS.getFallos(MatrixException.Causa.INCOMPATIBLE));
+        assertEquals(filasNulas + 1, METRICAS.getFallos(MatrixException.Causa.FILA_NULA));
+    }
+
+    /**
+     * Los errores de dimensiones al resolver con una factorización se cuentan
+     * igual que los de la eliminación.
+     */
+    @Test
+    void countsFactorizationFailures() throws MatrixException {
+        Factorizacion lu = GaussSolver.factorizar(new Sistema(new double[][]{{2, 1}, {1, 3}}, new double[2]));
+        long datos = METRICAS.getFallos(MatrixException.Causa.DATOS_NO_VALIDOS);
+
+        assertThrows(MatrixException.class, () -> lu.solve(new double[3]));
+        assertThrows(MatrixException.class, () -> lu.solve(new double[1][1]));
+        assertThrows(MatrixException.class, () -> lu.solve(new double[][]{null, {1}}));
+        assertThrows(MatrixException.class, () -> lu.solve(new double[][]{{1}, {1, 2}}));
+
+        assertEquals(datos + 4, METRICAS.getFallos(MatrixException.Causa.DATOS_NO_VALIDOS));
+    }
+
+    /**
+     * El registro se publica por JMX con sus atributos y su volcado de texto.
+     */
+    @Test
+    void isPublishedAsMBean() throws Exception {
+        assertTrue(MetricasSolver.registrarJmx());
+        assertTrue(MetricasSolver.registrarJmx());
+
+        MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nombre = new ObjectName(MetricasSolver.NOMBRE_JMX);
+        assertEquals(METRICAS.getFallos(), (Long) servidor.getAttribute(nombre, "Fallos"));
+        String[] porCausa = (String[]) servidor.getAttribute(nombre, "FallosPorCausa");
+        assertEquals(MatrixException.Causa.values().length, porCausa.length);
+        assertTrue(((String) servidor.getAttribute(nombre, "Texto")).startsWith("# TYPE gauss_resoluciones_total"));
+    }
+}
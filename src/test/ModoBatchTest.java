@@ -0,0 +1,131 @@
+package test;
+
+import app.ModoBatch;
+import exception.InputException;
+import io.EscritorBinario;
+import io.LectorBinario;
+import logic.Sistema;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el modo batch sin interfaz gráfica.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class ModoBatchTest {
+
+    @TempDir
+    Path dir;
+
+    private final ByteArrayOutputStream salida = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream errores = new ByteArrayOutputStream();
+
+    private final double[][] A = {{4, 1, 0}, {1, 3, 1}, {0, 1, 2}};
+    private final double[] b = {5, 5, 3};
+
+    private int ejecutar(InputStream in, String... args) {
+        return ModoBatch.ejecutar(args, in,
+                new PrintStream(salida, true, StandardCharsets.UTF_8),
+                new PrintStream(errores, true, StandardCharsets.UTF_8));
+    }
+
+    private String out() {
+        return salida.toString(StandardCharsets.UTF_8);
+    }
+
+    private String err() {
+        return errores.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void solvesEveryFileInDirectoryAndReportsTimings() throws IOException {
+        Path entrada = Files.createDirectory(dir.resolve("entrada"));
+        Path salidaDir = dir.resolve("salida");
+        Files.writeString(entrada.resolve("denso.csv"), "4,1,0,5\n1,3,1,5\n0,1,2,3\n");
+        EscritorBinario.escribir(entrada.resolve("binario.gaus"), new Sistema(A, b));
+        Files.writeString(entrada.resolve("disperso.mtx"), """
+                %%MatrixMarket matrix coordinate real general
+                3 4 10
+                1 1 4
+                1 2 1
+                2 1 1
+                2 2 3
+                2 3 1
+                3 2 1
+                3 3 2
+                1 4 5
+                2 4 5
+                3 4 3
+                """);
+
+        int codigo = ejecutar(InputStream.nullInputStream(), "--batch", entrada.toString(), salidaDir.toString(),
+                "--hilos", "2");
+
+        assertEquals(ModoBatch.OK, codigo, err());
+        for (String nombre : new String[]{"denso", "binario", "disperso"}) {
+            List<String> x = Files.readAllLines(salidaDir.resolve(nombre + ".sol.csv"));
+            assertEquals(3, x.size());
+            for (String valor : x) {
+                assertEquals(1.0, Double.parseDouble(valor), 1e-12);
+            }
+            assertTrue(out().contains("OK    " + nombre), out());
+        }
+        assertTrue(out().contains("3 ficheros, 0 con errores"), out());
+    }
+
+    @Test
+    void writesBinaryResultsAndKeepsGoingAfterAFailure() throws IOException, InputException {
+        Path entrada = Files.createDirectory(dir.resolve("entrada"));
+        Path salidaDir = dir.resolve("salida");
+        Files.writeString(entrada.resolve("bueno.csv"), "4,1,0,5\n1,3,1,5\n0,1,2,3\n");
+        Files.writeString(entrada.resolve("malo.csv"), "1,2,3\n4,x,6\n");
+        Files.writeString(entrada.resolve("singular.csv"), "1,2,3\n2,4,6\n");
+
+        int codigo = ejecutar(InputStream.nullInputStream(), "--batch", entrada.toString(), salidaDir.toString(),
+                "--formato", "binario");
+
+        assertEquals(ModoBatch.CON_ERRORES, codigo);
+        assertArrayEquals(new double[]{1, 1, 1},
+                LectorBinario.leerResultado(salidaDir.resolve("bueno.sol.gaus")).getX(), 1e-12);
+        assertTrue(out().contains("ERROR malo.csv: Línea 2, columna 3"), out());
+        assertTrue(out().contains("ERROR singular.csv"), out());
+        assertFalse(Files.exists(salidaDir.resolve("malo.sol.gaus")));
+    }
+
+    @Test
+    void readsStandardInputAndWritesSolutionToStandardOutput() {
+        InputStream in = new ByteArrayInputStream("4 1 0 5\n1 3 1 5\n0 1 2 3\n".getBytes(StandardCharsets.US_ASCII));
+
+        int codigo = ejecutar(in, "--batch", "-", "-");
+
+        assertEquals(ModoBatch.OK, codigo, err());
+        assertEquals("# stdin\n1.0\n1.0\n1.0\n", out());
+        assertTrue(err().contains("OK    stdin  n=3 k=1"), err());
+    }
+
+    @Test
+    void rejectsWrongArguments() {
+        assertEquals(ModoBatch.USO_INCORRECTO, ejecutar(InputStream.nullInputStream(), "--batch", "solo-entrada"));
+        assertEquals(ModoBatch.USO_INCORRECTO,
+                ejecutar(InputStream.nullInputStream(), "--batch", "a", "b", "--hilos", "0"));
+        assertEquals(ModoBatch.USO_INCORRECTO,
+                ejecutar(InputStream.nullInputStream(), "--batch", "a", "-", "--formato", "binario"));
+        assertTrue(err().contains("Uso: --batch"), err());
+        assertFalse(ModoBatch.esModoBatch(new String[0]));
+    }
+}
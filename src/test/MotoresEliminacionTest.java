@@ -0,0 +1,134 @@
+package test;
+
+import exception.MatrixException;
+import logic.EliminacionClasica;
+import logic.EliminacionParalela;
+import logic.EliminacionPorBloques;
+import logic.GaussSolver;
+import logic.MotorEliminacion;
+import logic.ResultadoGauss;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.matriz;
+import static test.MatricesAleatorias.vector;
+
+/**
+ * Clase de prueba para los motores de eliminación alternativos.
+ * Comprueba que producen la misma solución y la misma matriz triangular
+ * que el motor clásico, y que respetan las reglas de pivotaje escalado.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class MotoresEliminacionTest {
+
+    private static void assertMismoResultado(MotorEliminacion motor, int n) throws MatrixException {
+        double[][] A = matriz(n, n, 42 + n);
+        double[] b = vector(n, 7 + n);
+
+        ResultadoGauss esperado = GaussSolver.solveGaussian(A, b, new EliminacionClasica());
+        ResultadoGauss obtenido = GaussSolver.solveGaussian(A, b, motor);
+
+        assertArrayEquals(esperado.getX(), obtenido.getX(), 1e-8);
+        assertArrayEquals(esperado.getbMod(), obtenido.getbMod(), 1e-8);
+        double[][] uEsperada = esperado.getU();
+        double[][] uObtenida = obtenido.getU();
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(uEsperada[i], uObtenida[i], 1e-8);
+        }
+    }
+
+    /**
+     * El motor por bloques coincide con el clásico para tamaños que no son
+     * múltiplo del bloque, incluidos bloques mayores que la matriz.
+     */
+    @Test
+    void blockedEngineMatchesClassic() throws MatrixException {
+        for (int n : new int[]{1, 2, 5, 17, 64, 130}) {
+            assertMismoResultado(new EliminacionPorBloques(8), n);
+            assertMismoResultado(new EliminacionPorBloques(), n);
+        }
+    }
+
+    /**
+     * El motor por bloques aplica el pivotaje parcial escalado entre paneles.
+     */
+    @Test
+    void blockedEngineHandlesSmallPivot() throws MatrixException {
+        double[][] A = {
+                {1e-12, 1, 0, 0},
+                {1,     4, 1, 0},
+                {0,     1, 4, 1},
+                {0,     0, 1, 3}
+        };
+        double[] b = {2 + 1e-12, 12, 18, 15};
+
+        ResultadoGauss result = GaussSolver.solveGaussian(A, b, new EliminacionPorBloques(2));
+
+        assertArrayEquals(new double[]{1, 2, 3, 4}, result.getX(), 1e-6);
+    }
+
+    /**
+     * El motor por bloques detecta sistemas singulares.
+     */
+    @Test
+    void blockedEngineThrowsForSingularMatrix() {
+        double[][] A = {
+                {1, 2, 3, 4},
+                {2, 4, 6, 8},
+                {3, 6, 9, 12},
+                {4, 8, 12, 16}
+        };
+        double[] b = {10, 20, 30, 40};
+
+        assertThrows(MatrixException.class,
+                () -> GaussSolver.solveGaussian(A, b, new EliminacionPorBloques(2)));
+    }
+
+    /**
+     * El motor paralelo coincide con el clásico, tanto por encima como por
+     * debajo del umbral de paralelización.
+     */
+    @Test
+    void parallelEngineMatchesClassic() throws MatrixException {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int n : new int[]{1, 3, 40, 300}) {
+                assertMismoResultado(new EliminacionParalela(pool, 1), n);
+                assertMismoResultado(new EliminacionParalela(pool, 100), n);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * El motor paralelo propaga la excepción de pivote casi nulo.
+     */
+    @Test
+    void parallelEngineThrowsForSingularMatrix() {
+        double[][] A = {
+                {1, 2, 3, 4},
+                {2, 4, 6, 8},
+                {3, 6, 9, 12},
+                {4, 8, 12, 16}
+        };
+        double[] b = {10, 20, 30, 40};
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            assertThrows(MatrixException.class,
+                    () -> GaussSolver.solveGaussian(A, b, new EliminacionParalela(pool, 1)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void blockedEngineRejectsNonPositiveBlockSize() {
+        assertThrows(IllegalArgumentException.class, () -> new EliminacionPorBloques(0));
+    }
+}
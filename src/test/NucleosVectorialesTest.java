@@ -0,0 +1,160 @@
+package test;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Clase de prueba para los núcleos SIMD: dan el mismo resultado que los
+ * escalares (salvo el redondeo de la FMA y el orden de las sumas) con
+ * longitudes por debajo y por encima del ancho del vector, longitudes impares
+ * y desplazamientos distintos de cero, y no tocan nada fuera del rango.
+ *
+ * Los núcleos son internos del paquete {@code logic}, así que se instancian
+ * por reflexión, como hace {@code NucleosCalculo.Seleccion}. Si la JVM no
+ * tiene el módulo {@code jdk.incubator.vector}, las pruebas se omiten.
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+class NucleosVectorialesTest {
+
+    /** Longitudes: cortas (vía escalar), alrededor de 2, 4 y 8 vectores de hasta 16 carriles, e impares. */
+    private static final int[] LONGITUDES = {0, 1, 2, 3, 5, 7, 8, 9, 15, 16, 17, 31, 32, 33, 63, 64, 65, 100, 129, 257};
+    private static final int[] DESPLAZAMIENTOS = {0, 1, 3};
+
+    private static Object escalares;
+    private static Object vectoriales;
+
+    @BeforeAll
+    static void crearNucleos() throws ReflectiveOperationException {
+        assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+                "La JVM no tiene el módulo jdk.incubator.vector");
+        escalares = crear("logic.NucleosEscalares");
+        vectoriales = crear("logic.NucleosVectoriales");
+    }
+
+    private static Object crear(String clase) throws ReflectiveOperationException {
+        Constructor<?> c = Class.forName(clase).getDeclaredConstructor();
+        c.setAccessible(true);
+        return c.newInstance();
+    }
+
+    private static Object invocar(Object nucleos, String metodo, Class<?>[] tipos, Object... args) {
+        try {
+            Method m = Class.forName("logic.NucleosCalculo").getDeclaredMethod(metodo, tipos);
+            m.setAccessible(true);
+            return m.invoke(nucleos, args);
+        } catch (InvocationTargetException ex) {
+            throw new AssertionError(ex.getCause());
+        } catch (ReflectiveOperationException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    private static double[] aleatorio(Random rnd, int n) {
+        double[] v = new double[n];
+        for (int i = 0; i < n; i++) {
+            v[i] = rnd.nextDouble() * 2 - 1;
+        }
+        return v;
+    }
+
+    private static float[] aleatorioF(Random rnd, int n) {
+        float[] v = new float[n];
+        for (int i = 0; i < n; i++) {
+            v[i] = rnd.nextFloat() * 2 - 1;
+        }
+        return v;
+    }
+
+    @Test
+    void axpyMatchesScalar() {
+        Class<?>[] tipos = {double.class, double[].class, int.class, double[].class, int.class, int.class};
+        Random rnd = new Random(1);
+        for (int len : LONGITUDES) {
+            for (int ox : DESPLAZAMIENTOS) {
+                for (int oy : DESPLAZAMIENTOS) {
+                    double a = rnd.nextDouble() * 2 - 1;
+                    double[] x = aleatorio(rnd, ox + len + 2);
+                    double[] esperado = aleatorio(rnd, oy + len + 2);
+                    double[] y = esperado.clone();
+                    invocar(escalares, "axpy", tipos, a, x, ox, esperado, oy, len);
+                    invocar(vectoriales, "axpy", tipos, a, x, ox, y, oy, len);
+                    assertArrayEquals(esperado, y, 1e-14, "len = " + len + ", ox = " + ox + ", oy = " + oy);
+                }
+            }
+        }
+    }
+
+    @Test
+    void dotMatchesScalar() {
+        Class<?>[] tipos = {double[].class, int.class, double[].class, int.class, int.class};
+        Random rnd = new Random(2);
+        for (int len : LONGITUDES) {
+            for (int ox : DESPLAZAMIENTOS) {
+                for (int oy : DESPLAZAMIENTOS) {
+                    double[] x = aleatorio(rnd, ox + len + 2);
+                    double[] y = aleatorio(rnd, oy + len + 2);
+                    double esperado = (double) invocar(escalares, "dot", tipos, x, ox, y, oy, len);
+                    double obtenido = (double) invocar(vectoriales, "dot", tipos, x, ox, y, oy, len);
+                    assertEquals(esperado, obtenido, 1e-12, "len = " + len + ", ox = " + ox + ", oy = " + oy);
+                }
+            }
+        }
+    }
+
+    @Test
+    void interleavedAxpyMatchesScalar() {
+        Class<?>[] tipos = {double[].class, int.class, double[].class, int.class, double[].class, int.class,
+                int.class, int.class};
+        Random rnd = new Random(3);
+        for (int ancho : new int[]{1, 3, 4, 7, 8, 16, 17}) {
+            for (int bloques : new int[]{1, 2, 5}) {
+                for (int o : DESPLAZAMIENTOS) {
+                    int total = bloques * ancho;
+                    double[] a = aleatorio(rnd, o + ancho + 1);
+                    double[] x = aleatorio(rnd, o + total + 1);
+                    double[] esperado = aleatorio(rnd, o + total + 1);
+                    double[] y = esperado.clone();
+                    invocar(escalares, "axpyIntercalado", tipos, a, o, x, o, esperado, o, bloques, ancho);
+                    invocar(vectoriales, "axpyIntercalado", tipos, a, o, x, o, y, o, bloques, ancho);
+                    assertArrayEquals(esperado, y, 1e-14,
+                            "ancho = " + ancho + ", bloques = " + bloques + ", desplazamiento = " + o);
+                }
+            }
+        }
+    }
+
+    @Test
+    void floatKernelsMatchScalar() {
+        Class<?>[] tiposAxpy = {float.class, float[].class, int.class, float[].class, int.class, int.class};
+        Class<?>[] tiposDot = {float[].class, int.class, float[].class, int.class, int.class};
+        Random rnd = new Random(4);
+        for (int len : LONGITUDES) {
+            for (int ox : DESPLAZAMIENTOS) {
+                for (int oy : DESPLAZAMIENTOS) {
+                    String caso = "len = " + len + ", ox = " + ox + ", oy = " + oy;
+                    float a = rnd.nextFloat() * 2 - 1;
+                    float[] x = aleatorioF(rnd, ox + len + 2);
+                    float[] esperado = aleatorioF(rnd, oy + len + 2);
+                    float[] y = esperado.clone();
+                    invocar(escalares, "axpy", tiposAxpy, a, x, ox, esperado, oy, len);
+                    invocar(vectoriales, "axpy", tiposAxpy, a, x, ox, y, oy, len);
+                    assertArrayEquals(esperado, y, 1e-6f, caso);
+
+                    float dotEsperado = (float) invocar(escalares, "dot", tiposDot, x, ox, y, oy, len);
+                    float dotObtenido = (float) invocar(vectoriales, "dot", tiposDot, x, ox, y, oy, len);
+                    assertEquals(dotEsperado, dotObtenido, 1e-4f, caso);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package test;
+
+import exception.InputException;
+import io.EscritorBinario;
+import io.LectorBinario;
+import logic.Sistema;
+import servidor.ServidorGauss;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para el servicio HTTP de resolución.
+ *
+ * @author Anabel Diaz
+ * @version 1.2 - 17/10/2026
+ */
+class ServidorGaussTest {
+
+    @TempDir
+    Path dir;
+
+    private ServidorGauss servidor;
+
+    private record Respuesta(int codigo, String tipo, String reintentar, byte[] cuerpo) {
+        String texto() {
+            return new String(cuerpo, StandardCharsets.UTF_8);
+        }
+    }
+
+    private void iniciar(int concurrentes, long maxBytes, long esperaMs) throws IOException {
+        iniciar(concurrentes, maxBytes, esperaMs, ServidorGauss.Configuracion.LECTURA_POR_DEFECTO_MS);
+    }
+
+    private void iniciar(int concurrentes, long maxBytes, long esperaMs, long lecturaMs) throws IOException {
+        servidor = ServidorGauss.iniciar(new ServidorGauss.Configuracion(
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), concurrentes, maxBytes, esperaMs,
+                lecturaMs));
+    }
+
+    @AfterEach
+    void detener() {
+        if (servidor != null) {
+            servidor.detener(0);
+        }
+    }
+
+    private Respuesta peticion(String metodo, String ruta, String tipo, byte[] cuerpo) throws IOException {
+        HttpURLConnection c = (HttpURLConnection) URI.create(
+                "http://127.0.0.1:" + servidor.getPuerto() + ruta).toURL().openConnection();
+        c.setRequestMethod(metodo);
+        if (cuerpo != null) {
+            c.setDoOutput(true);
+            c.setRequestProperty("Content-Type", tipo);
+            c.setFixedLengthStreamingMode(cuerpo.length);
+            try (OutputStream out = c.getOutputStream()) {
+                out.write(cuerpo);
+            }
+        }
+        int codigo = c.getResponseCode();
+        try (InputStream in = codigo < 400 ? c.getInputStream() : c.getErrorStream()) {
+            return new Respuesta(codigo, c.getContentType(), c.getHeaderField("Retry-After"),
+                    in == null ? new byte[0] : in.readAllBytes());
+        }
+    }
+
+    private Respuesta json(String ruta, String cuerpo) throws IOException {
+        return peticion("POST", ruta, "application/json", cuerpo.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Un sistema en JSON devuelve su solución; con varios términos, X por filas.
+     */
+    @Test
+    void solvesJsonSystems() throws IOException {
+        iniciar(4, 1 << 20, 100);
+
+        Respuesta r = json("/solve", "{\"A\": [[4, 1, 0], [1, 3, 1], [0, 1, 2]], \"b\": [5, 5, 3]}");
+        assertEquals(200, r.codigo(), r.texto());
+        assertTrue(r.tipo().startsWith("application/json"));
+        assertEquals("{\"n\":3,\"k\":1,\"x\":[1.0,1.0,1.0]}", r.texto());
+
+        r = json("/solve", "{\"A\": [[2, 0], [0, 4]], \"B\": [[2, 4], [4, 8]]}");
+        assertEquals(200, r.codigo(), r.texto());
+        assertEquals("{\"n\":2,\"k\":2,\"X\":[[1.0,2.0],[1.0,2.0]]}", r.texto());
+    }
+
+    /**
+     * Los errores de entrada, de sistema, de método y de tipo tienen su código.
+     */
+    @Test
+    void mapsErrorsToClientStatusCodes() throws IOException {
+        iniciar(4, 1 << 20, 100);
+
+        Respuesta r = json("/solve", "{\"A\": [[1, 2], [2, 4]], \"b\": [1, 2]}");
+        assertEquals(422, r.codigo());
+        assertTrue(r.texto().startsWith("{\"error\":\""), r.texto());
+
+        r = json("/solve", "{\"A\": [[1, 2],\n [2, x]], \"b\": [1, 2]}");
+        assertEquals(400, r.codigo());
+        assertTrue(r.texto().contains("Línea 2, columna 6"), r.texto());
+
+        r = json("/solve", "{\"A\": [[1, 2], [2, 4]]}");
+        assertEquals(400, r.codigo());
+        assertTrue(r.texto().contains("Falta el campo b"), r.texto());
+
+        // Matrices irregulares o sin columnas de términos: 400, también dentro de un lote
+        for (String B : new String[]{"[[3], [5, 9]]", "[[3, 1], [5]]", "[[], []]", "[]"}) {
+            r = json("/solve", "{\"A\": [[2, 1], [1, 3]], \"B\": " + B + "}");
+            assertEquals(400, r.codigo(), B + ": " + r.texto());
+            r = json("/solveBatch", "{\"sistemas\": [{\"A\": [[2, 1], [1, 3]], \"B\": " + B + "}]}");
+            assertEquals(400, r.codigo(), B + ": " + r.texto());
+        }
+        r = json("/solve", "{\"A\": [[2, 1], [1, 3, 99]], \"b\": [3, 5]}");
+        assertEquals(400, r.codigo(), r.texto());
+        assertTrue(r.texto().contains("La fila 2 de A tiene 3 elementos"), r.texto());
+
+        assertEquals(405, peticion("GET", "/solve", null, null).codigo());
+        assertEquals(415, peticion("POST", "/solve", "text/csv", "1,2,3\n".getBytes(StandardCharsets.US_ASCII))
+                .codigo());
+        assertEquals(404, json("/solve/otro", "{}").codigo());
+        assertEquals(1, servidor.getEstadisticas().getPeticiones("/solve", 422));
+    }
+
+    /**
+     * Un sistema en binario devuelve el resultado completo en binario.
+     */
+    @Test
+    void solvesBinarySystems() throws IOException, InputException {
+        iniciar(4, 1 << 20, 100);
+        Path sistema = dir.resolve("s.gaus");
+        EscritorBinario.escribir(sistema, new Sistema(new double[][]{{4, 1, 0}, {1, 3, 1}, {0, 1, 2}},
+                new double[]{5, 5, 3}));
+
+        Respuesta r = peticion("POST", "/solve", "application/octet-stream", Files.readAllBytes(sistema));
+
+        assertEquals(200, r.codigo(), r.texto());
+        assertEquals("application/octet-stream", r.tipo());
+        Path resultado = Files.write(dir.resolve("r.gaus"), r.cuerpo());
+        assertArrayEquals(new double[]{1, 1, 1}, LectorBinario.leerResultado(resultado).getX(), 1e-12);
+
+        r = peticion("POST", "/solve", "application/octet-stream", new byte[]{'G', 'A', 'U', 'S'});
+        assertEquals(400, r.codigo());
+    }
+
+    /**
+     * Un lote informa del fallo de cada sistema sin que falle la petición.
+     */
+    @Test
+    void solvesBatchesReportingFailuresPerSystem() throws IOException {
+        iniciar(4, 1 << 20, 100);
+
+        Respuesta r = json("/solveBatch", """
+                {"sistemas": [
+                  {"A": [[2, 0], [0, 4]], "b": [2, 4]},
+                  {"A": [[1, 2], [2, 4]], "b": [1, 2]},
+                  {"A": [[1]], "B": [[3, 4]]}
+                ]}""");
+
+        assertEquals(200, r.codigo(), r.texto());
+        assertTrue(r.texto().startsWith("{\"fallidos\":1,\"resultados\":[{\"x\":[1.0,1.0]},{\"error\":"),
+                r.texto());
+        assertTrue(r.texto().endsWith("{\"X\":[[3.0,4.0]]}]}"), r.texto());
+        assertTrue(peticion("GET", "/metrics", null, null).texto().contains("gauss_sistemas_lote_total 3"));
+    }
+
+    /**
+     * Los cuerpos que superan el límite se rechazan con 413.
+     */
+    @Test
+    void rejectsOversizedBodies() throws IOException {
+        iniciar(4, 256, 100);
+        String grande = "{\"A\": [[" + "1,".repeat(200) + "1]], \"b\": [1]}";
+
+        assertEquals(413, json("/solve", grande).codigo());
+
+        HttpURLConnection c = (HttpURLConnection) URI.create(
+                "http://127.0.0.1:" + servidor.getPuerto() + "/solve").toURL().openConnection();
+        c.setRequestMethod("POST");
+        c.setDoOutput(true);
+        c.setChunkedStreamingMode(64);
+        try (OutputStream out = c.getOutputStream()) {
+            out.write(grande.getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException ex) {
+            // el servidor puede cerrar antes de recibirlo todo
+        }
+        assertEquals(413, c.getResponseCode());
+    }
+
+    /**
+     * Sin turnos libres, las peticiones se rechazan con 503 y Retry-After en
+     * lugar de acumularse; al liberarse el turno se vuelve a atender.
+     */
+    @Test
+    void rejectsWithServiceUnavailableWhenSaturated() throws Exception {
+        iniciar(1, 1 << 20, 0);
+        String cuerpo = "{\"A\": [[2]], \"b\": [4]}";
+
+        try (Socket lenta = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto())) {
+            OutputStream out = lenta.getOutputStream();
+            out.write(("POST /solve HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Content-Length: " + cuerpo.length() + "\r\nConnection: close\r\n\r\n{\"A\"")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            long limite = System.nanoTime() + 5_000_000_000L;
+            while (servidor.getEstadisticas().getEnCurso() == 0 && System.nanoTime() < limite) {
+                Thread.sleep(5);
+            }
+
+            Respuesta r = json("/solve", cuerpo);
+            assertEquals(503, r.codigo());
+            assertEquals("1", r.reintentar());
+            assertEquals(1, servidor.getEstadisticas().getRechazadas());
+
+            out.write(cuerpo.substring(4).getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            String respuesta = new String(lenta.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(respuesta.startsWith("HTTP/1.1 200"), respuesta);
+            assertTrue(respuesta.endsWith("\"x\":[2.0]}"), respuesta);
+        }
+
+        assertEquals(200, json("/solve", cuerpo).codigo());
+        String metricas = peticion("GET", "/metrics", null, null).texto();
+        assertTrue(metricas.contains("gauss_peticiones_total{ruta=\"/solve\",codigo=\"503\"} 1"), metricas);
+        assertTrue(metricas.contains("gauss_rechazadas_total 1"), metricas);
+    }
+
+    /**
+     * Un cuerpo que no llega a tiempo recibe 408 y su turno vuelve a quedar libre.
+     */
+    @Test
+    void timesOutSlowBodies() throws Exception {
+        iniciar(1, 1 << 20, 1000, 200);
+        String cuerpo = "{\"A\": [[2]], \"b\": [4]}";
+
+        try (Socket lenta = new Socket(InetAddress.getLoopbackAddress(), servidor.getPuerto())) {
+            OutputStream out = lenta.getOutputStream();
+            out.write(("POST /solve HTTP/1.1\r\nHost: localhost\r\nContent-Type: application/json\r\n"
+                    + "Content-Length: " + cuerpo.length() + "\r\n\r\n{\"A\"")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            lenta.setSoTimeout(5000);
+            String respuesta = new String(lenta.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(respuesta.startsWith("HTTP/1.1 408"), respuesta);
+        }
+
+        assertEquals(200, json("/solve", cuerpo).codigo());
+        assertEquals(200, json("/solve", cuerpo).codigo());
+    }
+
+    /**
+     * Por defecto, las peticiones en curso caben en la mitad del heap.
+     */
+    @Test
+    void sizesDefaultsToHeap() {
+        long mb = 1L << 20;
+        for (long memoria : new long[]{16 * mb, 256 * mb, 4096 * mb, Long.MAX_VALUE}) {
+            ServidorGauss.Configuracion conf = ServidorGauss.Configuracion.porDefecto(0, memoria);
+            assertTrue(conf.maxBytes() >= mb && conf.maxBytes() <= 64 * mb);
+            assertTrue(conf.maxConcurrentes() >= 1);
+            if (memoria >= 256 * mb) {
+                assertTrue(conf.maxConcurrentes() * conf.maxBytes()
+                        * ServidorGauss.Configuracion.MEMORIA_POR_BYTE <= memoria / 2);
+            }
+        }
+        assertEquals(64 * mb, ServidorGauss.Configuracion.porDefecto(0, Long.MAX_VALUE).maxBytes());
+    }
+}
@@ -0,0 +1,134 @@
+package test;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.ResultadoGauss;
+import logic.Sistema;
+import logic.SolverBanda;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la resolución de sistemas en banda.
+ * Compara el resultado con la eliminación densa sobre la misma matriz.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class SolverBandaTest {
+
+    /**
+     * Matriz en banda aleatoria; con {@code dominante} la diagonal domina la fila.
+     */
+    private static double[][] matrizBanda(int n, int kl, int ku, boolean dominante, long semilla) {
+        Random r = new Random(semilla);
+        double[][] A = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            double suma = 0;
+            for (int j = Math.max(0, i - kl); j <= Math.min(n - 1, i + ku); j++) {
+                A[i][j] = r.nextDouble() * 2 - 1;
+                suma += Math.abs(A[i][j]);
+            }
+            if (dominante) {
+                A[i][i] = suma + 1;
+            }
+        }
+        return A;
+    }
+
+    private static double[] vector(int n) {
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = i % 7 - 3;
+        }
+        return b;
+    }
+
+    private static void assertMismoResultado(ResultadoGauss esperado, ResultadoGauss obtenido) {
+        assertArrayEquals(esperado.getX(), obtenido.getX(), 1e-9);
+        assertArrayEquals(esperado.getbMod(), obtenido.getbMod(), 1e-9);
+        double[][] uEsperada = esperado.getU();
+        double[][] uObtenida = obtenido.getU();
+        for (int i = 0; i < uEsperada.length; i++) {
+            assertArrayEquals(uEsperada[i], uObtenida[i], 1e-9);
+        }
+    }
+
+    @Test
+    void detectsBandwidth() {
+        double[][] A = matrizBanda(10, 2, 3, false, 1);
+        A[9][7] = 5;  // asegurar que se alcanza kl = 2
+        A[0][3] = 5;  // y ku = 3
+
+        assertArrayEquals(new int[]{2, 3}, SolverBanda.anchoBanda(A));
+    }
+
+    /**
+     * Un sistema con pivotaje dentro de la banda da el mismo U, b̃ y x que la vía densa.
+     */
+    @Test
+    void bandedSolveMatchesDenseElimination() throws MatrixException {
+        int n = 60;
+        double[][] A = matrizBanda(n, 3, 2, false, 7);
+        double[] b = vector(n);
+
+        ResultadoGauss banda = SolverBanda.solve(new Sistema(A, b), 3, 2);
+
+        assertMismoResultado(GaussSolver.solveGaussian(A, b), banda);
+    }
+
+    /**
+     * Un sistema tridiagonal dominante se despacha automáticamente (Thomas).
+     */
+    @Test
+    void solveDispatchesTridiagonalSystems() throws MatrixException {
+        int n = 200;
+        double[][] A = matrizBanda(n, 1, 1, true, 3);
+        double[] b = vector(n);
+
+        ResultadoGauss result = GaussSolver.solve(new Sistema(A, b));
+
+        assertArrayEquals(GaussSolver.solveGaussian(A, b).getX(), result.getX(), 1e-9);
+    }
+
+    /**
+     * La resolución en banda acepta varios términos independientes.
+     */
+    @Test
+    void bandedSolveWithSeveralRightHandSides() throws MatrixException {
+        int n = 40;
+        double[][] A = matrizBanda(n, 2, 2, false, 11);
+        double[][] B = new double[n][3];
+        for (int i = 0; i < n; i++) {
+            B[i][0] = i;
+            B[i][1] = 1;
+            B[i][2] = -i % 5;
+        }
+
+        ResultadoGauss banda = SolverBanda.solve(new Sistema(A, B), 2, 2);
+        double[][] esperada = GaussSolver.solveGaussian(A, B).getSoluciones();
+        double[][] obtenida = banda.getSoluciones();
+
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(esperada[i], obtenida[i], 1e-9);
+        }
+    }
+
+    /**
+     * Las filas nulas se detectan igual que en la vía densa.
+     */
+    @Test
+    void bandedSolveThrowsForZeroRow() {
+        int n = 40;
+        double[][] A = matrizBanda(n, 1, 1, true, 5);
+        A[20][19] = 0;
+        A[20][20] = 0;
+        A[20][21] = 0;
+
+        assertThrows(MatrixException.class, () -> GaussSolver.solve(new Sistema(A, vector(n))));
+    }
+}
@@ -0,0 +1,146 @@
+package test;
+
+import exception.MatrixException;
+import logic.EliminacionClasica;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.MatrizDispersa;
+import logic.ResultadoGauss;
+import logic.SistemaDisperso;
+import logic.SolverDisperso;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para la resolución de sistemas dispersos.
+ * Compara el resultado con la eliminación densa sobre la misma matriz.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class SolverDispersoTest {
+
+    /**
+     * Malla m x m con el operador de 5 puntos más un término de convección
+     * (no simétrico) y algunos acoplamientos aleatorios.
+     */
+    private static MatrizDispersa malla(int m, long semilla) {
+        Random r = new Random(semilla);
+        int n = m * m;
+        int[] fi = new int[6 * n];
+        int[] cj = new int[6 * n];
+        double[] v = new double[6 * n];
+        int t = 0;
+        for (int i = 0; i < m; i++) {
+            for (int j = 0; j < m; j++) {
+                int k = i * m + j;
+                fi[t] = k; cj[t] = k; v[t++] = 4.0;
+                if (j > 0)     { fi[t] = k; cj[t] = k - 1; v[t++] = -1.3; }
+                if (j < m - 1) { fi[t] = k; cj[t] = k + 1; v[t++] = -0.7; }
+                if (i > 0)     { fi[t] = k; cj[t] = k - m; v[t++] = -1.0; }
+                if (i < m - 1) { fi[t] = k; cj[t] = k + m; v[t++] = -1.0; }
+                fi[t] = k; cj[t] = r.nextInt(n); v[t++] = r.nextDouble() - 0.5;
+            }
+        }
+        return MatrizDispersa.desdeTripletas(n, n, fi, cj, v, t);
+    }
+
+    private static double[] vector(int n) {
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = i % 5 - 2;
+        }
+        return b;
+    }
+
+    @Test
+    void buildsCsrFromTripletsSummingDuplicates() {
+        int[] fi = {1, 0, 1, 0};
+        int[] cj = {0, 1, 0, 0};
+        double[] v = {2, 3, 5, 7};
+
+        MatrizDispersa A = MatrizDispersa.desdeTripletas(2, 2, fi, cj, v, 4);
+
+        assertEquals(3, A.getNnz());
+        assertArrayEquals(new double[]{7, 3}, A.toDensa().toArray()[0]);
+        assertArrayEquals(new double[]{7, 0}, A.toDensa().toArray()[1]);
+    }
+
+    /**
+     * La LU dispersa da la misma solución que la vía densa.
+     */
+    @Test
+    void sparseSolveMatchesDenseElimination() throws MatrixException {
+        MatrizDispersa A = malla(12, 3);
+        double[] b = vector(A.getFilas());
+
+        ResultadoGauss disperso = GaussSolver.solve(new SistemaDisperso(A, b));
+        ResultadoGauss denso = GaussSolver.solveGaussian(A.toDensa(), b);
+
+        assertArrayEquals(denso.getX(), disperso.getX(), 1e-9);
+    }
+
+    /**
+     * Sin reordenar y con umbral 1 (pivotaje parcial escalado) se cumple A·x = b
+     * y U es triangular superior en la numeración de los pivotes.
+     */
+    @Test
+    void upperFactorAndModifiedRhsAreConsistent() throws MatrixException {
+        MatrizDispersa A = malla(6, 5);
+        double[] b = vector(A.getFilas());
+
+        ResultadoGauss result = SolverDisperso.solve(new SistemaDisperso(A, b), 1.0, false);
+        double[] residuo = A.multiplicar(result.getX());
+
+        assertArrayEquals(b, residuo, 1e-9);
+        Matriz U = result.getMatrizU();
+        for (int i = 1; i < U.getFilas(); i++) {
+            for (int j = 0; j < i; j++) {
+                assertEquals(0.0, U.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    void sparseSolveWithSeveralRightHandSides() throws MatrixException {
+        MatrizDispersa A = malla(8, 7);
+        int n = A.getFilas();
+        Matriz B = new Matriz(n, 2);
+        for (int i = 0; i < n; i++) {
+            B.set(i, 0, i);
+            B.set(i, 1, 1);
+        }
+
+        double[][] X = GaussSolver.solve(new SistemaDisperso(A, B)).getSoluciones();
+        double[][] esperada = GaussSolver.solveGaussian(A.toDensa(), B, new EliminacionClasica())
+                .getSoluciones();
+
+        for (int i = 0; i < n; i++) {
+            assertArrayEquals(esperada[i], X[i], 1e-9);
+        }
+    }
+
+    /**
+     * Filas proporcionales con términos distintos: incompatible, como en la vía densa.
+     */
+    @Test
+    void sparseSolveReportsIncompatibleSystem() {
+        MatrizDispersa A = MatrizDispersa.desde(Matriz.desde(new double[][]{{1, 2}, {2, 4}}));
+
+        MatrixException ex = assertThrows(MatrixException.class,
+                () -> SolverDisperso.solve(new SistemaDisperso(A, new double[]{1, 3})));
+        assertTrue(ex.getMessage().contains("incompatible"));
+    }
+
+    @Test
+    void sparseSolveThrowsForZeroRow() {
+        MatrizDispersa A = MatrizDispersa.desde(Matriz.desde(new double[][]{{1, 2}, {0, 0}}));
+
+        assertThrows(MatrixException.class,
+                () -> SolverDisperso.solve(new SistemaDisperso(A, new double[]{1, 0})));
+    }
+}
@@ -0,0 +1,151 @@
+package test;
+
+import exception.InputException;
+import exception.MatrixException;
+import io.EscritorBinario;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.Sistema;
+import logic.SolverFueraDeMemoria;
+import logic.SolverFueraDeMemoria.Fase;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.matriz;
+
+/**
+ * Clase de prueba para la resolución fuera de memoria.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class SolverFueraDeMemoriaTest {
+
+    @TempDir
+    Path dir;
+
+    private Path escribir(Sistema sistema) throws IOException {
+        Path fichero = dir.resolve("sistema.gaus");
+        EscritorBinario.escribir(fichero, sistema);
+        return fichero;
+    }
+
+    private static void assertMismaSolucion(Matriz esperada, Matriz X) {
+        assertEquals(esperada.getFilas(), X.getFilas());
+        assertEquals(esperada.getColumnas(), X.getColumnas());
+        for (int i = 0; i < X.getFilas(); i++) {
+            for (int j = 0; j < X.getColumnas(); j++) {
+                assertEquals(esperada.get(i, j), X.get(i, j), 1e-9, "X[" + i + "][" + j + "]");
+            }
+        }
+    }
+
+    /**
+     * Con paneles, teselas y caché pequeños (y que no dividen n) la solución
+     * es la de la eliminación en memoria, y el fichero temporal se borra.
+     */
+    @Test
+    void solvesLikeInCoreSolver() throws Exception {
+        int n = 150;
+        Sistema sistema = new Sistema(matriz(n, n, 1), matriz(n, 3, 2));
+        Path fichero = escribir(sistema);
+        Matriz esperada = GaussSolver.solve(sistema).getMatrizX();
+
+        int[][] geometrias = {{16, 7, 0}, {16, 7, 1 << 20}, {40, 150, 2 * 40 * 150 * 8}, {1, 1, 64}, {500, 200, 0}};
+        for (int[] g : geometrias) {
+            SolverFueraDeMemoria solver = new SolverFueraDeMemoria(g[0], g[1], g[2]);
+            assertMismaSolucion(esperada, solver.resolver(fichero, SolverFueraDeMemoria.Progreso.NINGUNO));
+        }
+        try (Stream<Path> ficheros = Files.list(dir)) {
+            assertEquals(List.of(fichero), ficheros.toList());
+        }
+    }
+
+    /**
+     * El avance llega por fases, en orden y hasta el total de cada una.
+     */
+    @Test
+    void reportsProgress() throws Exception {
+        int n = 100;
+        Path fichero = escribir(new Sistema(matriz(n, n, 3), new double[n]));
+        List<String> avances = new ArrayList<>();
+        new SolverFueraDeMemoria(32, 10, 0).resolver(fichero, dir,
+                (fase, hecho, total) -> avances.add(fase + " " + hecho + "/" + total));
+
+        // 101 columnas en 4 paneles, de los que 4 tienen columnas de A
+        assertEquals("COPIA 10/100", avances.get(0));
+        assertTrue(avances.contains("COPIA 100/100"));
+        assertEquals(List.of("ELIMINACION 1/4", "ELIMINACION 2/4", "ELIMINACION 3/4", "ELIMINACION 4/4"),
+                avances.stream().filter(a -> a.startsWith("ELIMINACION")).toList());
+        assertEquals("SUSTITUCION 4/4", avances.get(avances.size() - 1));
+        assertEquals(10 + 4 + 4, avances.size());
+    }
+
+    /**
+     * Con solo un límite de memoria, los paneles se ajustan a él.
+     */
+    @Test
+    void fitsPanelsToMemory() throws Exception {
+        int n = 200;
+        Sistema sistema = new Sistema(matriz(n, n, 4), matriz(n, 1, 5));
+        Path fichero = escribir(sistema);
+        Matriz esperada = GaussSolver.solve(sistema).getMatrizX();
+
+        int[] paneles = new int[1];
+        Matriz X = new SolverFueraDeMemoria(2L * n * 24 * Double.BYTES).resolver(fichero, (fase, hecho, total) -> {
+            if (fase == Fase.ELIMINACION) {
+                paneles[0] = total;
+            }
+        });
+        assertMismaSolucion(esperada, X);
+        assertEquals((n + 1 + 23) / 24, paneles[0]);
+    }
+
+    /**
+     * Los sistemas singulares fallan con la misma causa que en memoria.
+     */
+    @Test
+    void reportsSingularityLikeInCoreSolver() throws Exception {
+        double[][] singular = matriz(30, 30, 6);
+        singular[29] = singular[3].clone();
+        double[][] nula = matriz(30, 30, 7);
+        nula[12] = new double[30];
+        double[][] dependiente = matriz(30, 30, 8);
+        for (int j = 0; j < 30; j++) {
+            dependiente[5][j] = 2 * dependiente[20][j];
+        }
+        double[] b = new double[30];
+        b[5] = 1;
+
+        for (double[][] A : new double[][][]{singular, nula, dependiente}) {
+            Sistema sistema = new Sistema(A, b);
+            MatrixException esperada = assertThrows(MatrixException.class, () -> GaussSolver.solve(sistema));
+            Path fichero = escribir(sistema);
+            MatrixException ex = assertThrows(MatrixException.class,
+                    () -> new SolverFueraDeMemoria(8, 5, 0).resolver(fichero, SolverFueraDeMemoria.Progreso.NINGUNO));
+            assertEquals(esperada.getCausa(), ex.getCausa());
+        }
+    }
+
+    /**
+     * Rechaza ficheros sin términos independientes y geometrías no válidas.
+     */
+    @Test
+    void rejectsInvalidInput() throws Exception {
+        Path fichero = escribir(new Sistema(new Matriz(2, 2), (Matriz) null));
+        assertThrows(InputException.class,
+                () -> new SolverFueraDeMemoria(1L << 20).resolver(fichero, SolverFueraDeMemoria.Progreso.NINGUNO));
+        assertThrows(IllegalArgumentException.class, () -> new SolverFueraDeMemoria(0));
+        assertThrows(IllegalArgumentException.class, () -> new SolverFueraDeMemoria(0, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SolverFueraDeMemoria(1 << 16, 1 << 12, 0));
+    }
+}
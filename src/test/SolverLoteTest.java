@@ -0,0 +1,156 @@
+package test;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.Matriz;
+import logic.MatrizDispersa;
+import logic.ResultadoLote;
+import logic.Sistema;
+import logic.SistemaDisperso;
+import logic.SolverLote;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.cuadrada;
+import static test.MatricesAleatorias.vector;
+
+/**
+ * Clase de prueba para la resolución de lotes de sistemas intercalados.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class SolverLoteTest {
+
+    /**
+     * Cada sistema del lote empaquetado coincide con su resolución individual,
+     * también con un número de sistemas que no es múltiplo del grupo.
+     */
+    @Test
+    void packedBatchMatchesIndividualSolves() throws MatrixException {
+        Random rnd = new Random(17);
+        for (int n : new int[]{1, 3, 8, 16, 20}) {
+            int count = 203;
+            double[] A = new double[n * n * count];
+            double[] B = new double[n * count];
+            double[][][] As = new double[count][][];
+            double[][] Bs = new double[count][];
+            for (int s = 0; s < count; s++) {
+                As[s] = cuadrada(rnd, n, n);
+                Bs[s] = vector(rnd, n);
+                for (int i = 0; i < n; i++) {
+                    System.arraycopy(As[s][i], 0, A, (s * n + i) * n, n);
+                }
+                System.arraycopy(Bs[s], 0, B, s * n, n);
+            }
+
+            ResultadoLote r = GaussSolver.solveBatch(A, B, n, count);
+
+            assertEquals(count, r.getNumSistemas());
+            assertEquals(0, r.getNumFallidos());
+            for (int s = 0; s < count; s++) {
+                assertArrayEquals(GaussSolver.solveGaussian(As[s], Bs[s]).getX(), r.getSolucion(s), 1e-10,
+                        "n = " + n + ", sistema " + s);
+                assertEquals(s * n, r.getInicio(s));
+            }
+        }
+    }
+
+    /**
+     * Un sistema singular o incompatible no detiene el lote: su error es el
+     * mismo que daría la resolución individual y su solución queda a NaN.
+     */
+    @Test
+    void reportsFailuresPerSystem() throws MatrixException {
+        int n = 3;
+        double[][][] As = {
+                {{4, 1, 0}, {1, 3, 1}, {0, 1, 2}},
+                {{1, 2, 3}, {2, 4, 6}, {1, 1, 1}},
+                {{0, 0, 0}, {1, 1, 1}, {1, 2, 3}},
+                {{1, 1, 1}, {1, 1, 1}, {1, 2, 3}},
+                {{2, 0, 0}, {0, 2, 0}, {0, 0, 2}}
+        };
+        double[][] Bs = {{5, 5, 3}, {1, 2, 3}, {1, 2, 3}, {1, 2, 3}, {2, 4, 6}};
+        double[] A = new double[n * n * As.length];
+        double[] B = new double[n * As.length];
+        for (int s = 0; s < As.length; s++) {
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(As[s][i], 0, A, (s * n + i) * n, n);
+            }
+            System.arraycopy(Bs[s], 0, B, s * n, n);
+        }
+
+        ResultadoLote r = SolverLote.solve(A, B, n, As.length);
+
+        assertEquals(3, r.getNumFallidos());
+        assertArrayEquals(new double[]{1, 1, 1}, r.getSolucion(0), 1e-12);
+        assertArrayEquals(new double[]{1, 2, 3}, r.getSolucion(4), 1e-12);
+        for (int s = 1; s <= 3; s++) {
+            assertFalse(r.isResuelto(s));
+            int sistema = s;
+            MatrixException esperado = assertThrows(MatrixException.class,
+                    () -> GaussSolver.solveGaussian(As[sistema], Bs[sistema]));
+            assertEquals(esperado.getMessage(), r.getError(s).getMessage());
+            assertSame(r.getError(s), assertThrows(MatrixException.class, () -> r.getSolucion(sistema)));
+            assertTrue(Double.isNaN(r.getSoluciones()[s * n]));
+        }
+    }
+
+    /**
+     * La lista admite sistemas de varios tamaños, dispersos, con varios
+     * términos independientes y nulos; cada uno se resuelve o falla por separado.
+     */
+    @Test
+    void solvesMixedListOfSystems() throws MatrixException {
+        Random rnd = new Random(5);
+        List<Sistema> sistemas = new ArrayList<>();
+        List<double[]> esperadas = new ArrayList<>();
+        for (int s = 0; s < 40; s++) {
+            int n = 2 + s % 5;
+            double[][] A = cuadrada(rnd, n, n);
+            double[] b = vector(rnd, n);
+            sistemas.add(s % 2 == 0 ? new Sistema(A, b) : new Sistema(Matriz.desde(A), b));
+            esperadas.add(GaussSolver.solveGaussian(A, b).getX());
+        }
+        double[][] grande = cuadrada(rnd, 30, 30);
+        double[] bGrande = vector(rnd, 30);
+        sistemas.add(new Sistema(grande, bGrande));
+        esperadas.add(GaussSolver.solveGaussian(grande, bGrande).getX());
+
+        double[][] A = {{4, 1, 0}, {1, 3, 1}, {0, 1, 2}};
+        sistemas.add(new SistemaDisperso(MatrizDispersa.desde(Matriz.desde(A)), new double[]{5, 5, 3}));
+        esperadas.add(new double[]{1, 1, 1});
+        sistemas.add(new Sistema(A, new double[][]{{5, 1}, {5, 1}, {3, 1}}));
+        esperadas.add(GaussSolver.solveGaussian(A, new double[][]{{5, 1}, {5, 1}, {3, 1}}).getMatrizX().getDatos());
+        sistemas.add(null);
+        sistemas.add(new Sistema(new double[][]{{1, 2}, {2, 4}}, new double[]{1, 2}));
+
+        ResultadoLote r = GaussSolver.solveBatch(sistemas);
+
+        assertEquals(sistemas.size(), r.getNumSistemas());
+        assertEquals(2, r.getNumFallidos());
+        for (int s = 0; s < esperadas.size(); s++) {
+            assertArrayEquals(esperadas.get(s), r.getSolucion(s), 1e-10, "sistema " + s);
+        }
+        assertEquals(6, r.getSolucion(esperadas.size() - 1).length);
+        assertNotNull(r.getError(sistemas.size() - 2));
+        assertNotNull(r.getError(sistemas.size() - 1));
+        assertEquals(0, GaussSolver.solveBatch(List.of()).getNumSistemas());
+    }
+
+    /**
+     * Las dimensiones incoherentes del lote empaquetado se rechazan de entrada.
+     */
+    @Test
+    void rejectsInconsistentPackedDimensions() {
+        assertThrows(MatrixException.class, () -> SolverLote.solve(new double[8], new double[4], 2, 3));
+        assertThrows(MatrixException.class, () -> SolverLote.solve(new double[8], new double[4], 0, 1));
+        assertThrows(MatrixException.class, () -> SolverLote.solve(null, new double[4], 2, 1));
+        assertDoesNotThrow(() -> SolverLote.solve(new double[0], new double[0], 4, 0));
+    }
+}
@@ -0,0 +1,108 @@
+package test;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.ResultadoMixto;
+import logic.Sistema;
+import logic.SolverMixto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static test.MatricesAleatorias.cuadrada;
+
+/**
+ * Clase de prueba para la resolución en precisión mixta. Compara la solución
+ * con la eliminación en precisión doble sobre el mismo sistema.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+class SolverMixtoTest {
+
+    private static double[] vector(int n) {
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = i % 5 - 2;
+        }
+        return b;
+    }
+
+    /**
+     * Con una matriz bien condicionada, unos pocos pasos de refinamiento sobre
+     * la factorización en float dan la precisión de la eliminación en doble.
+     */
+    @Test
+    void refinesToDoublePrecision() throws MatrixException {
+        int n = 200;
+        Sistema sistema = new Sistema(cuadrada(n, 3, 4), vector(n));
+
+        ResultadoMixto r = SolverMixto.solve(sistema);
+        double[] esperado = GaussSolver.solve(sistema).getX();
+
+        assertFalse(r.isPrecisionDoble());
+        assertTrue(r.getIteraciones() >= 2 && r.getIteraciones() <= 5, "pasos: " + r.getIteraciones());
+        assertTrue(r.getErrorInverso() <= Math.ulp(1.0) * Math.sqrt(n));
+        assertArrayEquals(esperado, r.getX(), 1e-12);
+    }
+
+    /**
+     * Con una tolerancia holgada basta la solución en precisión simple.
+     */
+    @Test
+    void stopsAtRequestedTolerance() throws MatrixException {
+        int n = 100;
+        ResultadoMixto r = SolverMixto.solve(new Sistema(cuadrada(n, 4, 4), vector(n)), 1e-5, 10);
+
+        assertFalse(r.isPrecisionDoble());
+        assertEquals(1, r.getIteraciones());
+        assertTrue(r.getErrorInverso() <= 1e-5);
+    }
+
+    /**
+     * Una matriz de Hilbert está demasiado mal condicionada para la precisión
+     * simple: el refinamiento se estanca y se resuelve en doble.
+     */
+    @Test
+    void fallsBackToDoubleWhenRefinementStagnates() throws MatrixException {
+        int n = 10;
+        double[][] H = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                H[i][j] = 1.0 / (i + j + 1);
+            }
+        }
+        Sistema sistema = new Sistema(H, vector(n));
+
+        ResultadoMixto r = GaussSolver.solveMixto(sistema);
+
+        assertTrue(r.isPrecisionDoble());
+        assertArrayEquals(GaussSolver.solve(sistema).getX(), r.getX());
+        assertTrue(r.getErrorInverso() <= 1e-14);
+    }
+
+    /**
+     * Los errores son los de la resolución en doble.
+     */
+    @Test
+    void reportsSameErrorsAsDoublePrecision() {
+        Sistema singular = new Sistema(new double[][]{{1, 2, 3}, {2, 4, 6}, {1, 0, 1}}, new double[]{1, 2, 1});
+        MatrixException esperada = assertThrows(MatrixException.class, () -> GaussSolver.solve(singular));
+        MatrixException ex = assertThrows(MatrixException.class, () -> SolverMixto.solve(singular));
+        assertEquals(esperada.getMessage(), ex.getMessage());
+        assertEquals(esperada.getCausa(), ex.getCausa());
+
+        for (double[][] A : new double[][][]{{{2, 1}, {1, 3, 99}}, {{2, 1}, {1}}, {{2, 1}, null}}) {
+            Sistema irregular = new Sistema(A, new double[]{3, 5});
+            esperada = assertThrows(MatrixException.class, () -> GaussSolver.solve(irregular));
+            ex = assertThrows(MatrixException.class, () -> SolverMixto.solve(irregular));
+            assertEquals(esperada.getMessage(), ex.getMessage());
+        }
+
+        assertThrows(MatrixException.class, () -> SolverMixto.solve(new Sistema(new double[][]{{1}}, (double[]) null)));
+        assertThrows(MatrixException.class, () -> SolverMixto.solve(
+                new Sistema(new double[][]{{1, 0}, {0, 1}}, new double[][]{{1, 2}, {3, 4}})));
+        assertThrows(MatrixException.class, () -> SolverMixto.solve(
+                new Sistema(new double[][]{{1}}, new double[]{1}), 0, 10));
+    }
+}
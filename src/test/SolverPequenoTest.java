@@ -0,0 +1,110 @@
+package test;
+
+import exception.MatrixException;
+import logic.EliminacionClasica;
+import logic.GaussSolver;
+import logic.MotorEliminacion;
+import logic.ResultadoGauss;
+import logic.SolverWorkspace;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de prueba para los núcleos desenrollados de sistemas pequeños.
+ * La vía por defecto (especializada para n ≤ 8) se compara con la general,
+ * que se obtiene pasando explícitamente el motor clásico.
+ *
+ * @author Anabel Diaz
+ * @version 1.0 - 17/10/2026
+ */
+class SolverPequenoTest {
+
+    private static final MotorEliminacion GENERAL = new EliminacionClasica();
+
+    /**
+     * Para cada n ≤ 8 (y alguno mayor), U, b̃ y x coinciden con la vía general,
+     * incluidos sistemas que obligan a intercambiar filas.
+     */
+    @Test
+    void matchesGeneralPathForRandomSystems() throws MatrixException {
+        Random rnd = new Random(18);
+        for (int n = 1; n <= 10; n++) {
+            for (int rep = 0; rep < 200; rep++) {
+                double[][] A = new double[n][n];
+                double[] b = new double[n];
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        A[i][j] = (rnd.nextDouble() * 2 - 1) * Math.pow(10, rnd.nextInt(5) - 2);
+                    }
+                    b[i] = rnd.nextDouble() * 10 - 5;
+                }
+
+                ResultadoGauss esperado;
+                try {
+                    esperado = GaussSolver.solveGaussian(A, b, GENERAL);
+                } catch (MatrixException ex) {
+                    continue;
+                }
+                ResultadoGauss r = GaussSolver.solveGaussian(A, b);
+
+                String caso = "n = " + n + ", repetición " + rep;
+                assertArrayEquals(esperado.getX(), r.getX(), 1e-9 * norma(esperado.getX()), caso);
+                assertArrayEquals(esperado.getbMod(), r.getbMod(), 1e-9 * norma(esperado.getbMod()), caso);
+                for (int i = 0; i < n; i++) {
+                    assertArrayEquals(esperado.getU()[i], r.getU()[i], 1e-9 * norma(esperado.getU()[i]), caso);
+                }
+
+                double[] x = new double[n];
+                GaussSolver.solveInto(A, b, x, new SolverWorkspace(n));
+                assertArrayEquals(esperado.getX(), x, 1e-9 * norma(x), caso);
+            }
+        }
+    }
+
+    /**
+     * Los sistemas singulares o incompatibles dan el mismo error que la vía general.
+     */
+    @Test
+    void reportsSameErrorsAsGeneralPath() {
+        double[][][] As = {
+                {{1, 2}, {2, 4}},
+                {{0, 0}, {1, 1}},
+                {{1, 2, 3}, {2, 4, 6}, {1, 1, 1}},
+                {{1, 1, 1}, {1, 1, 1}, {1, 2, 3}},
+                {{1, 0, 0, 0}, {0, 1, 0, 0}, {0, 0, 1, 1}, {0, 0, 2, 2}},
+                {{1, 1, 0, 0}, {1, 1, 0, 0}, {0, 0, 1, 0}, {0, 0, 0, 1}},
+                {{1, 0, 0, 0}, {0, 1, 0, 0}, {0, 0, 1, 0}, {0, 0, 0, 1e-14}},
+                {{0, 0, 0, 0, 0}, {0, 1, 0, 0, 0}, {0, 0, 1, 0, 0}, {0, 0, 0, 1, 0}, {0, 0, 0, 0, 1}},
+                {{1, 2, 0, 0, 0, 0}, {2, 4, 0, 0, 0, 0}, {0, 0, 1, 0, 0, 0},
+                        {0, 0, 0, 1, 0, 0}, {0, 0, 0, 0, 1, 0}, {0, 0, 0, 0, 0, 1}}
+        };
+        for (double[][] A : As) {
+            for (double[] b : new double[][]{new double[A.length], uno(A.length)}) {
+                MatrixException general = assertThrows(MatrixException.class,
+                        () -> GaussSolver.solveGaussian(A, b, GENERAL));
+                MatrixException pequeno = assertThrows(MatrixException.class,
+                        () -> GaussSolver.solveGaussian(A, b));
+                assertEquals(general.getMessage(), pequeno.getMessage());
+            }
+        }
+    }
+
+    private static double[] uno(int n) {
+        double[] b = new double[n];
+        Arrays.fill(b, 1.0);
+        return b;
+    }
+
+    private static double norma(double[] v) {
+        double max = 1.0;
+        for (double e : v) {
+            max = Math.max(max, Math.abs(e));
+        }
+        return max;
+    }
+}
@@ -0,0 +1,80 @@
+package test;
+
+import exception.MatrixException;
+import logic.GaussSolver;
+import logic.SolverWorkspace;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Clase de prueba para la resolución sin reserva de memoria con SolverWorkspace.
+ *
+ * @author Anabel Diaz
+ * @version 1.1 - 17/10/2026
+ */
+class SolverWorkspaceTest {
+
+    private static final double[][] A = {
+            {4, 1, 0, 0},
+            {1, 4, 1, 0},
+            {0, 1, 4, 1},
+            {0, 0, 1, 3}
+    };
+    private static final double[] B = {6, 12, 18, 15};
+
+    /**
+     * La solución coincide con la de solveGaussian.
+     */
+    @Test
+    void solvesIntoCallerSuppliedArray() throws MatrixException {
+        double[] x = new double[4];
+
+        GaussSolver.solveInto(A, B, x, new SolverWorkspace(8));
+
+        assertArrayEquals(GaussSolver.solveGaussian(A, B).getX(), x, 1e-12);
+    }
+
+    /**
+     * Tras el calentamiento, el camino de resolución no reserva memoria.
+     */
+    @Test
+    void hotPathDoesNotAllocate() throws MatrixException {
+        ThreadMXBean mx = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(mx.isThreadAllocatedMemorySupported());
+        mx.setThreadAllocatedMemoryEnabled(true);
+
+        double[] x = new double[4];
+        SolverWorkspace ws = SolverWorkspace.paraHilo(4);
+        // Calentamiento largo: hasta que C2 termina de compilar el camino puede
+        // aparecer alguna reserva aislada del propio JIT
+        for (int i = 0; i < 400_000; i++) {
+            GaussSolver.solveInto(A, B, x, ws);
+        }
+
+        // Coste de la propia medición, que se descuenta
+        long base0 = mx.getCurrentThreadAllocatedBytes();
+        long base1 = mx.getCurrentThreadAllocatedBytes();
+
+        long antes = mx.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 10_000; i++) {
+            GaussSolver.solveInto(A, B, x, ws);
+        }
+        long despues = mx.getCurrentThreadAllocatedBytes();
+
+        assertEquals(0, (despues - antes) - (base1 - base0));
+        assertArrayEquals(new double[]{1, 2, 3, 4}, x, 1e-6);
+    }
+
+    @Test
+    void rejectsTooSmallWorkspace() {
+        assertThrows(MatrixException.class,
+                () -> GaussSolver.solveInto(A, B, new double[4], new SolverWorkspace(2)));
+    }
+}